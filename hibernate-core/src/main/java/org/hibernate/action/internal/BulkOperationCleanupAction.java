@@ -8,6 +8,7 @@ package org.hibernate.action.internal;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -69,29 +70,73 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				}
 			}
 
-			if ( persister.hasNaturalIdentifier() && persister.hasNaturalIdCache() ) {
-				naturalIdCleanups.add(
-						new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session )
-				);
-			}
+			addNaturalIdAndCollectionCleanups( persister, factory, session );
+		}
 
-			final Set<String> roles = factory.getMetamodel().getCollectionRolesByEntityParticipant( persister.getEntityName() );
-			if ( roles != null ) {
-				for ( String role : roles ) {
-					final CollectionPersister collectionPersister = factory.getMetamodel().collectionPersister( role );
-					if ( collectionPersister.hasCache() ) {
-						collectionCleanups.add(
-								new CollectionCleanup(
-										collectionPersister.getCacheAccessStrategy(),
-										session
-								)
-						);
-					}
+		this.affectedTableSpaces = spacesList.toArray( new String[ spacesList.size() ] );
+	}
+
+	/**
+	 * Constructs an action to cleanup the cached entries of just the given
+	 * entities, rather than the whole region of the entity persister.  The
+	 * natural-id region and the collection regions in which the entity
+	 * persister participates are still cleaned up as a whole, since the
+	 * affected entries of these cannot be determined from the entity ids.
+	 *
+	 * @param session The session to which this request is tied.
+	 * @param affectedQueryable The affected entity persister.
+	 * @param affectedIds The ids of the affected entities.
+	 */
+	public BulkOperationCleanupAction(
+			SharedSessionContractImplementor session,
+			Queryable affectedQueryable,
+			Collection<?> affectedIds) {
+		final SessionFactoryImplementor factory = session.getFactory();
+
+		if ( affectedQueryable.canWriteToCache() ) {
+			final EntityDataAccess entityDataAccess = affectedQueryable.getCacheAccessStrategy();
+			if ( entityDataAccess != null ) {
+				for ( Object id : affectedIds ) {
+					final Object cacheKey = entityDataAccess.generateCacheKey(
+							id,
+							affectedQueryable,
+							factory,
+							session.getTenantIdentifier()
+					);
+					entityCleanups.add( new EntityCleanup( entityDataAccess, cacheKey, session ) );
 				}
 			}
 		}
 
-		this.affectedTableSpaces = spacesList.toArray( new String[ spacesList.size() ] );
+		addNaturalIdAndCollectionCleanups( affectedQueryable, factory, session );
+
+		this.affectedTableSpaces = affectedQueryable.getQuerySpaces();
+	}
+
+	private void addNaturalIdAndCollectionCleanups(
+			Queryable persister,
+			SessionFactoryImplementor factory,
+			SharedSessionContractImplementor session) {
+		if ( persister.hasNaturalIdentifier() && persister.hasNaturalIdCache() ) {
+			naturalIdCleanups.add(
+					new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session )
+			);
+		}
+
+		final Set<String> roles = factory.getMetamodel().getCollectionRolesByEntityParticipant( persister.getEntityName() );
+		if ( roles != null ) {
+			for ( String role : roles ) {
+				final CollectionPersister collectionPersister = factory.getMetamodel().collectionPersister( role );
+				if ( collectionPersister.hasCache() ) {
+					collectionCleanups.add(
+							new CollectionCleanup(
+									collectionPersister.getCacheAccessStrategy(),
+									session
+							)
+					);
+				}
+			}
+		}
 	}
 
 	/**
@@ -183,7 +228,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 			@Override
 			public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
 				for ( EntityCleanup cleanup : entityCleanups ) {
-					cleanup.release();
+					cleanup.release( session );
 				}
 				entityCleanups.clear();
 
@@ -213,18 +258,35 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 
 	private static class EntityCleanup implements Serializable {
 		private final EntityDataAccess cacheAccess;
+		private final Object cacheKey;
 		private final SoftLock cacheLock;
 
 		private EntityCleanup(
 				EntityDataAccess cacheAccess,
 				SharedSessionContractImplementor session) {
 			this.cacheAccess = cacheAccess;
+			this.cacheKey = null;
 			this.cacheLock = cacheAccess.lockRegion();
 			cacheAccess.removeAll( session );
 		}
 
-		private void release() {
-			cacheAccess.unlockRegion( cacheLock );
+		private EntityCleanup(
+				EntityDataAccess cacheAccess,
+				Object cacheKey,
+				SharedSessionContractImplementor session) {
+			this.cacheAccess = cacheAccess;
+			this.cacheKey = cacheKey;
+			this.cacheLock = cacheAccess.lockItem( session, cacheKey, null );
+			cacheAccess.remove( session, cacheKey );
+		}
+
+		private void release(SharedSessionContractImplementor session) {
+			if ( cacheKey == null ) {
+				cacheAccess.unlockRegion( cacheLock );
+			}
+			else {
+				cacheAccess.unlockItem( session, cacheKey, cacheLock );
+			}
 		}
 	}
 
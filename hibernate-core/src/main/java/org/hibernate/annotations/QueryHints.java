@@ -144,4 +144,14 @@ public class QueryHints {
 	 */
 	public static final String PASS_DISTINCT_THROUGH = "hibernate.query.passDistinctThrough";
 
+	/**
+	 * Hint defining how a multi-valued parameter used as the single element of an {@code IN} predicate is
+	 * rendered.  See {@link org.hibernate.query.InClauseParameterExpansion} for the supported values.
+	 * If the value is {@code null}, the {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING}
+	 * setting is used instead.
+	 *
+	 * @since 6.0
+	 */
+	public static final String IN_CLAUSE_PARAMETER_EXPANSION = "hibernate.query.inClauseParameterExpansion";
+
 }
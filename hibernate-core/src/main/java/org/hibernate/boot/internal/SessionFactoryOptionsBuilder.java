@@ -103,14 +103,20 @@ import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERT_SIZE;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_SCHEMA_QUALIFICATION;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_METAMODEL_INITIALIZATION;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_LOAD_TIMEOUT;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_SERVE_STALE_WHILE_LOADING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_PLAN_CACHE_PRECOMPILE_NAMED_QUERIES;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
@@ -121,7 +127,10 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.TARGETED_BULK_EVICTION_LIMIT;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.USE_GENERATED_PROPERTY_ACCESSORS;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
 import static org.hibernate.cfg.AvailableSettings.USE_MINIMAL_PUTS;
@@ -202,12 +211,15 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean orderInsertsEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean enhancementAsProxyEnabled;
+	private boolean parallelMetamodelInitializationEnabled;
+	private boolean generatedPropertyAccessorsEnabled;
 
 	// JPA callbacks
 	private boolean callbacksEnabled;
 
 	// multi-tenancy
 	private MultiTenancyStrategy multiTenancyStrategy;
+	private boolean multiTenantSchemaQualificationEnabled;
 	private CurrentTenantIdentifierResolver currentTenantIdentifierResolver;
 
 	// Queries
@@ -218,6 +230,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private Boolean useOfJdbcNamedParametersEnabled;
 	private Map querySubstitutions;
 	private boolean namedQueryStartupCheckingEnabled;
+	private boolean namedQueryPrecompilationEnabled;
 	private boolean conventionalJavaConstants;
 	private final boolean procedureParameterNullPassingEnabled;
 	private final boolean collectionJoinSubqueryRewriteEnabled;
@@ -230,8 +243,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private int targetedBulkEvictionLimit;
+	private int queryCacheLoadTimeout;
+	private boolean queryCacheServeStaleWhileLoadingEnabled;
 
 	// Schema tooling
 	private SchemaAutoTooling schemaAutoTooling;
@@ -240,6 +257,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private int multiRowInsertSize;
 	private Integer jdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
@@ -337,6 +355,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.initializeLazyStateOutsideTransactions = cfgService.getSetting( ENABLE_LAZY_LOAD_NO_TRANS, BOOLEAN, false );
 
 		this.multiTenancyStrategy = MultiTenancyStrategy.determineMultiTenancyStrategy( configurationSettings );
+		this.multiTenantSchemaQualificationEnabled = cfgService.getSetting(
+				MULTI_TENANT_SCHEMA_QUALIFICATION,
+				BOOLEAN,
+				false
+		);
 		this.currentTenantIdentifierResolver = strategySelector.resolveStrategy(
 				CurrentTenantIdentifierResolver.class,
 				configurationSettings.get( MULTI_TENANT_IDENTIFIER_RESOLVER )
@@ -353,6 +376,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
 		this.enhancementAsProxyEnabled = ConfigurationHelper.getBoolean( ALLOW_ENHANCEMENT_AS_PROXY, configurationSettings );
+		this.parallelMetamodelInitializationEnabled = cfgService.getSetting(
+				PARALLEL_METAMODEL_INITIALIZATION,
+				BOOLEAN,
+				false
+		);
+		this.generatedPropertyAccessorsEnabled = cfgService.getSetting(
+				USE_GENERATED_PROPERTY_ACCESSORS,
+				BOOLEAN,
+				true
+		);
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -406,6 +439,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 		this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.namedQueryPrecompilationEnabled = cfgService.getSetting(
+				QUERY_PLAN_CACHE_PRECOMPILE_NAMED_QUERIES,
+				BOOLEAN,
+				false
+		);
 		this.conventionalJavaConstants = cfgService.getSetting(
 				CONVENTIONAL_JAVA_CONSTANTS, BOOLEAN, true );
 		this.procedureParameterNullPassingEnabled = cfgService.getSetting( PROCEDURE_NULL_PARAM_PASSING, BOOLEAN, false );
@@ -431,12 +469,28 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = cfgService.getSetting( USE_COMPACT_CACHE, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
 					false
 			);
 			this.autoEvictCollectionCache = cfgService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
+			this.targetedBulkEvictionLimit = ConfigurationHelper.getInt(
+					TARGETED_BULK_EVICTION_LIMIT,
+					configurationSettings,
+					0
+			);
+			this.queryCacheLoadTimeout = ConfigurationHelper.getInt(
+					QUERY_CACHE_LOAD_TIMEOUT,
+					configurationSettings,
+					0
+			);
+			this.queryCacheServeStaleWhileLoadingEnabled = cfgService.getSetting(
+					QUERY_CACHE_SERVE_STALE_WHILE_LOADING,
+					BOOLEAN,
+					false
+			);
 		}
 		else {
 			this.secondLevelCacheEnabled = false;
@@ -445,8 +499,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
+			this.targetedBulkEvictionLimit = 0;
+			this.queryCacheLoadTimeout = 0;
+			this.queryCacheServeStaleWhileLoadingEnabled = false;
 		}
 
 		try {
@@ -475,6 +533,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.multiRowInsertSize = ConfigurationHelper.getInt( MULTI_ROW_INSERT_SIZE, configurationSettings, 0 );
 		this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -967,6 +1026,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return multiTenancyStrategy;
 	}
 
+	@Override
+	public boolean isMultiTenantSchemaQualificationEnabled() {
+		return multiTenantSchemaQualificationEnabled;
+	}
+
 	@Override
 	public CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver() {
 		return currentTenantIdentifierResolver;
@@ -1032,6 +1096,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1042,6 +1111,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return autoEvictCollectionCache;
 	}
 
+	@Override
+	public int getTargetedBulkEvictionLimit() {
+		return targetedBulkEvictionLimit;
+	}
+
+	@Override
+	public int getQueryCacheLoadTimeout() {
+		return queryCacheLoadTimeout;
+	}
+
+	@Override
+	public boolean isQueryCacheServeStaleWhileLoadingEnabled() {
+		return queryCacheServeStaleWhileLoadingEnabled;
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return schemaAutoTooling;
@@ -1057,6 +1141,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public int getMultiRowInsertSize() {
+		return multiRowInsertSize;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1187,6 +1276,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return omitJoinOfSuperclassTablesEnabled;
 	}
 
+	@Override
+	public boolean isParallelMetamodelInitializationEnabled() {
+		return parallelMetamodelInitializationEnabled;
+	}
+
+	@Override
+	public boolean isGeneratedPropertyAccessorsEnabled() {
+		return generatedPropertyAccessorsEnabled;
+	}
+
+	@Override
+	public boolean isNamedQueryPrecompilationEnabled() {
+		return namedQueryPrecompilationEnabled;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
@@ -218,6 +218,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getCurrentTenantIdentifierResolver();
 	}
 
+	@Override
+	public boolean isMultiTenantSchemaQualificationEnabled() {
+		return delegate.isMultiTenantSchemaQualificationEnabled();
+	}
+
 	@Override
 	public boolean isJtaTrackByThread() {
 		return delegate.isJtaTrackByThread();
@@ -288,6 +293,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -298,6 +308,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isAutoEvictCollectionCache();
 	}
 
+	@Override
+	public int getTargetedBulkEvictionLimit() {
+		return delegate.getTargetedBulkEvictionLimit();
+	}
+
+	@Override
+	public int getQueryCacheLoadTimeout() {
+		return delegate.getQueryCacheLoadTimeout();
+	}
+
+	@Override
+	public boolean isQueryCacheServeStaleWhileLoadingEnabled() {
+		return delegate.isQueryCacheServeStaleWhileLoadingEnabled();
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return delegate.getSchemaAutoTooling();
@@ -313,6 +338,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public int getMultiRowInsertSize() {
+		return delegate.getMultiRowInsertSize();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -459,6 +489,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isEnhancementAsProxyEnabled();
 	}
 
+	@Override
+	public boolean isParallelMetamodelInitializationEnabled() {
+		return delegate.isParallelMetamodelInitializationEnabled();
+	}
+
+	@Override
+	public boolean isGeneratedPropertyAccessorsEnabled() {
+		return delegate.isGeneratedPropertyAccessorsEnabled();
+	}
+
+	@Override
+	public boolean isNamedQueryPrecompilationEnabled() {
+		return delegate.isNamedQueryPrecompilationEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
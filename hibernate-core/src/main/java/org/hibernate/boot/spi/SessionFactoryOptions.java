@@ -186,6 +186,15 @@ public interface SessionFactoryOptions {
 
 	CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
 
+	/**
+	 * Should the rendered SQL be qualified with the schema of the current tenant?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_TENANT_SCHEMA_QUALIFICATION
+	 */
+	default boolean isMultiTenantSchemaQualificationEnabled() {
+		return false;
+	}
+
 	boolean isJtaTrackByThread();
 
 	Map getQuerySubstitutions();
@@ -215,16 +224,60 @@ public interface SessionFactoryOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
 
+	/**
+	 * The maximum number of rows for which bulk HQL operations evict just the cache entries of the affected
+	 * entities, or {@code 0} to always evict the whole region.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#TARGETED_BULK_EVICTION_LIMIT
+	 */
+	default int getTargetedBulkEvictionLimit() {
+		return 0;
+	}
+
+	/**
+	 * The number of milliseconds a query cache miss waits for a concurrent execution of the same query
+	 * to cache its results, or {@code 0} to never wait.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_LOAD_TIMEOUT
+	 */
+	default int getQueryCacheLoadTimeout() {
+		return 0;
+	}
+
+	/**
+	 * Whether a stale query cache result is returned while a concurrent execution of the same query
+	 * is refreshing it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_SERVE_STALE_WHILE_LOADING
+	 */
+	default boolean isQueryCacheServeStaleWhileLoadingEnabled() {
+		return false;
+	}
+
 	SchemaAutoTooling getSchemaAutoTooling();
 
 	int getJdbcBatchSize();
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * The maximum number of rows per multi-row insert statement used for batched entity inserts, or
+	 * {@code 0} (or {@code 1}) to insert one row per statement.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 */
+	default int getMultiRowInsertSize() {
+		return 0;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isWrapResultSetsEnabled();
@@ -325,6 +378,35 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	/**
+	 * Should the persisters and the mapping model be built concurrently?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_METAMODEL_INITIALIZATION
+	 */
+	default boolean isParallelMetamodelInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the attributes of entities be accessed through generated accessors?  Only applies
+	 * when the {@link org.hibernate.cfg.AvailableSettings#USE_REFLECTION_OPTIMIZER reflection optimizer},
+	 * which takes precedence, is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_GENERATED_PROPERTY_ACCESSORS
+	 */
+	default boolean isGeneratedPropertyAccessorsEnabled() {
+		return true;
+	}
+
+	/**
+	 * Should the plans of the named HQL queries be built at startup?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_PRECOMPILE_NAMED_QUERIES
+	 */
+	default boolean isNamedQueryPrecompilationEnabled() {
+		return false;
+	}
+
 	SqmFunctionRegistry getSqmFunctionRegistry();
 
 	/**
@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
+
+/**
+ * ReflectionOptimizer accessing the properties through {@link MethodHandle}s.  Used when the
+ * {@link org.hibernate.bytecode.spi.BytecodeProvider} is not able to generate an accessor class
+ * for an entity, typically because some of its properties are private fields.
+ */
+public class MethodHandleReflectionOptimizerImpl implements ReflectionOptimizer, ReflectionOptimizer.AccessOptimizer {
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+	/**
+	 * Build the optimizer for the given property accesses
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyAccessMap The property accesses, keyed by property name.
+	 *
+	 * @return The optimizer, or {@code null} if some of the properties use a custom access
+	 */
+	public static MethodHandleReflectionOptimizerImpl from(
+			Class<?> clazz,
+			Map<String, PropertyAccess> propertyAccessMap) {
+		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
+		final Class<?>[] types = new Class<?>[propertyNames.length];
+		final MethodHandle[] getters = new MethodHandle[propertyNames.length];
+		final MethodHandle[] setters = new MethodHandle[propertyNames.length];
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		int i = 0;
+		try {
+			for ( PropertyAccess propertyAccess : propertyAccessMap.values() ) {
+				final Getter getter = propertyAccess.getGetter();
+				final Setter setter = propertyAccess.getSetter();
+				if ( getter.getClass() == GetterFieldImpl.class && setter.getClass() == SetterFieldImpl.class ) {
+					final Field field = (Field) getter.getMember();
+					field.setAccessible( true );
+					getters[i] = lookup.unreflectGetter( field );
+					setters[i] = lookup.unreflectSetter( field );
+				}
+				else if ( getter.getClass() == GetterMethodImpl.class && setter.getClass() == SetterMethodImpl.class ) {
+					final Method getterMethod = getter.getMethod();
+					final Method setterMethod = setter.getMethod();
+					getterMethod.setAccessible( true );
+					setterMethod.setAccessible( true );
+					getters[i] = lookup.unreflect( getterMethod );
+					setters[i] = lookup.unreflect( setterMethod );
+				}
+				else {
+					// some custom access
+					return null;
+				}
+
+				types[i] = getter.getReturnType();
+				getters[i] = getters[i].asType( GETTER_TYPE );
+				setters[i] = setters[i].asType( SETTER_TYPE );
+				i++;
+			}
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			// e.g. final fields or a security manager denying access
+			return null;
+		}
+
+		return new MethodHandleReflectionOptimizerImpl( clazz, propertyNames, types, getters, setters );
+	}
+
+	private final Class<?> clazz;
+	private final String[] propertyNames;
+	private final Class<?>[] types;
+	private final MethodHandle[] getters;
+	private final MethodHandle[] setters;
+
+	private MethodHandleReflectionOptimizerImpl(
+			Class<?> clazz,
+			String[] propertyNames,
+			Class<?>[] types,
+			MethodHandle[] getters,
+			MethodHandle[] setters) {
+		this.clazz = clazz;
+		this.propertyNames = propertyNames;
+		this.types = types;
+		this.getters = getters;
+		this.setters = setters;
+	}
+
+	@Override
+	public InstantiationOptimizer getInstantiationOptimizer() {
+		return null;
+	}
+
+	@Override
+	public AccessOptimizer getAccessOptimizer() {
+		return this;
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	@Override
+	public Object[] getPropertyValues(Object object) {
+		final Object[] values = new Object[getters.length];
+		for ( int i = 0; i < getters.length; i++ ) {
+			try {
+				values[i] = getters[i].invokeExact( object );
+			}
+			catch (Throwable t) {
+				throw new PropertyAccessException(
+						t,
+						String.format(
+								Locale.ROOT,
+								"Could not get value by method handle : [%s.%s]",
+								clazz.getName(),
+								propertyNames[i]
+						),
+						false,
+						clazz,
+						propertyNames[i]
+				);
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		for ( int i = 0; i < setters.length; i++ ) {
+			try {
+				setters[i].invokeExact( object, values[i] );
+			}
+			catch (Throwable t) {
+				throw new PropertyAccessException(
+						t,
+						values[i] == null && types[i].isPrimitive()
+								? String.format(
+										Locale.ROOT,
+										"Null value was assigned to a property [%s.%s] of primitive type",
+										clazz.getName(),
+										propertyNames[i]
+								)
+								: String.format(
+										Locale.ROOT,
+										"Could not set value [%s] by method handle : [%s.%s]",
+										values[i],
+										clazz.getName(),
+										propertyNames[i]
+								),
+						true,
+						clazz,
+						propertyNames[i]
+				);
+			}
+		}
+	}
+}
@@ -7,8 +7,12 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
 import org.hibernate.HibernateException;
@@ -18,9 +22,17 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.NamedElement;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
@@ -40,10 +52,10 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
-	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
-	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
-	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
-	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
+	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named( "newInstance" );
+	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
+	private static final ElementMatcher.Junction<NamedElement> setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
+	private static final ElementMatcher.Junction<NamedElement> getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -109,6 +121,105 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
+		final Member[] getters = new Member[propertyNames.length];
+		final Member[] setters = new Member[propertyNames.length];
+
+		int i = 0;
+		for ( PropertyAccess propertyAccess : propertyAccessMap.values() ) {
+			final Getter getter = propertyAccess.getGetter();
+			final Setter setter = propertyAccess.getSetter();
+			if ( getter.getClass() == GetterFieldImpl.class && setter.getClass() == SetterFieldImpl.class ) {
+				final Field field = (Field) getter.getMember();
+				if ( Modifier.isFinal( field.getModifiers() ) ) {
+					return null;
+				}
+				getters[i] = field;
+				setters[i] = field;
+			}
+			else if ( getter.getClass() == GetterMethodImpl.class && setter.getClass() == SetterMethodImpl.class ) {
+				getters[i] = getter.getMethod();
+				setters[i] = setter.getMethod();
+			}
+			else {
+				// some custom access
+				return null;
+			}
+
+			if ( !isAccessible( clazz, getters[i], getter.getReturnType() )
+					|| !isAccessible( clazz, setters[i], getter.getReturnType() ) ) {
+				return null;
+			}
+			i++;
+		}
+
+		final Class<?> bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( OPTIMIZER_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( ReflectionOptimizer.AccessOptimizer.class )
+				.method( getPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new GetPropertyValues( clazz, getters ) ) )
+				.method( setPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new SetPropertyValues( clazz, setters ) ) )
+				.method( getPropertyNamesMethodName )
+						.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
+		);
+
+		try {
+			return new ReflectionOptimizerImpl(
+					null,
+					(ReflectionOptimizer.AccessOptimizer) bulkAccessor.newInstance()
+			);
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	/**
+	 * Can the member, and its type, be accessed by a class generated in the package of the given class?
+	 */
+	private static boolean isAccessible(Class<?> clazz, Member member, Class<?> type) {
+		if ( !isAccessible( clazz, type ) ) {
+			return false;
+		}
+
+		final int modifiers = member.getModifiers();
+		if ( Modifier.isPrivate( modifiers ) ) {
+			return false;
+		}
+
+		final Class<?> declaringClass = member.getDeclaringClass();
+		if ( Modifier.isPublic( modifiers ) && Modifier.isPublic( declaringClass.getModifiers() ) ) {
+			return true;
+		}
+
+		// package-private or protected member: only accessible from the same runtime package
+		return isSameRuntimePackage( declaringClass, clazz );
+	}
+
+	private static boolean isAccessible(Class<?> clazz, Class<?> type) {
+		if ( type.isArray() ) {
+			return isAccessible( clazz, type.getComponentType() );
+		}
+		return type.isPrimitive()
+				|| Modifier.isPublic( type.getModifiers() )
+				|| isSameRuntimePackage( type, clazz );
+	}
+
+	private static boolean isSameRuntimePackage(Class<?> class1, Class<?> class2) {
+		return class1.getClassLoader() == class2.getClassLoader()
+				&& Objects.equals( packageName( class1 ), packageName( class2 ) );
+	}
+
+	private static String packageName(Class<?> clazz) {
+		final String className = clazz.getName();
+		final int lastDot = className.lastIndexOf( '.' );
+		return lastDot == -1 ? "" : className.substring( 0, lastDot );
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -117,9 +228,9 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 		private final Class clazz;
 
-		private final Method[] getters;
+		private final Member[] getters;
 
-		public GetPropertyValues(Class clazz, Method[] getters) {
+		public GetPropertyValues(Class clazz, Member[] getters) {
 			this.clazz = clazz;
 			this.getters = getters;
 		}
@@ -132,20 +243,33 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			methodVisitor.visitLdcInsn( getters.length );
 			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
 			int index = 0;
-			for ( Method getter : getters ) {
+			for ( Member getter : getters ) {
 				methodVisitor.visitInsn( Opcodes.DUP );
 				methodVisitor.visitLdcInsn( index++ );
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
 				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
-				methodVisitor.visitMethodInsn(
-						Opcodes.INVOKEVIRTUAL,
-						Type.getInternalName( clazz ),
-						getter.getName(),
-						Type.getMethodDescriptor( getter ),
-						false
-				);
-				if ( getter.getReturnType().isPrimitive() ) {
-					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( getter.getReturnType() ) )
+				final Class<?> type;
+				if ( getter instanceof Method ) {
+					type = ( (Method) getter ).getReturnType();
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( clazz ),
+							getter.getName(),
+							Type.getMethodDescriptor( (Method) getter ),
+							false
+					);
+				}
+				else {
+					type = ( (Field) getter ).getType();
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							Type.getInternalName( getter.getDeclaringClass() ),
+							getter.getName(),
+							Type.getDescriptor( type )
+					);
+				}
+				if ( type.isPrimitive() ) {
+					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( type ) )
 							.assignBoxedTo(
 									TypeDescription.Generic.OBJECT,
 									ReferenceTypeAwareAssigner.INSTANCE,
@@ -164,9 +288,9 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 		private final Class clazz;
 
-		private final Method[] setters;
+		private final Member[] setters;
 
-		public SetPropertyValues(Class clazz, Method[] setters) {
+		public SetPropertyValues(Class clazz, Member[] setters) {
 			this.clazz = clazz;
 			this.setters = setters;
 		}
@@ -177,31 +301,44 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				Implementation.Context implementationContext,
 				MethodDescription instrumentedMethod) {
 			int index = 0;
-			for ( Method setter : setters ) {
+			for ( Member setter : setters ) {
+				final Class<?> type = setter instanceof Method
+						? ( (Method) setter ).getParameterTypes()[0]
+						: ( (Field) setter ).getType();
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
 				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
 				methodVisitor.visitLdcInsn( index++ );
 				methodVisitor.visitInsn( Opcodes.AALOAD );
-				if ( setter.getParameterTypes()[0].isPrimitive() ) {
+				if ( type.isPrimitive() ) {
 					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
 							.assignUnboxedTo(
-									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( setter.getParameterTypes()[0] ),
+									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( type ),
 									ReferenceTypeAwareAssigner.INSTANCE,
 									Assigner.Typing.DYNAMIC
 							)
 							.apply( methodVisitor, implementationContext );
 				}
 				else {
-					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( setter.getParameterTypes()[0] ) );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( type ) );
+				}
+				if ( setter instanceof Method ) {
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( clazz ),
+							setter.getName(),
+							Type.getMethodDescriptor( (Method) setter ),
+							false
+					);
+				}
+				else {
+					methodVisitor.visitFieldInsn(
+							Opcodes.PUTFIELD,
+							Type.getInternalName( setter.getDeclaringClass() ),
+							setter.getName(),
+							Type.getDescriptor( type )
+					);
 				}
-				methodVisitor.visitMethodInsn(
-						Opcodes.INVOKEVIRTUAL,
-						Type.getInternalName( clazz ),
-						setter.getName(),
-						Type.getMethodDescriptor( setter ),
-						false
-				);
 			}
 			methodVisitor.visitInsn( Opcodes.RETURN );
 			return new Size( 4, instrumentedMethod.getStackSize() );
@@ -6,8 +6,11 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.util.Map;
+
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.property.access.spi.PropertyAccess;
 
 /**
  * Contract for providers of bytecode services to Hibernate.
@@ -40,6 +43,22 @@ public interface BytecodeProvider {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider
+	 * capable of generating reflection optimization components, which
+	 * directly access the fields or methods used by the given property
+	 * accesses.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyAccessMap The property accesses, keyed by property name, in the
+	 * order of the values handled by the {@link ReflectionOptimizer.AccessOptimizer}.
+	 * @return The reflection optimization delegate, or {@code null} if this provider cannot
+	 * access all of the properties.
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -98,7 +98,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					sessionFactory.getSessionFactoryOptions().getQueryCacheLoadTimeout(),
+					sessionFactory.getSessionFactoryOptions().isQueryCacheServeStaleWhileLoadingEnabled()
 			);
 		}
 		else {
@@ -512,7 +514,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				sessionFactory.getSessionFactoryOptions().getQueryCacheLoadTimeout(),
+				sessionFactory.getSessionFactoryOptions().isQueryCacheServeStaleWhileLoadingEnabled()
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
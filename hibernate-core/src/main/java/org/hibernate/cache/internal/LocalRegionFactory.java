@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_TIME_TO_LIVE;
+import static org.hibernate.stat.CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+
+/**
+ * A RegionFactory keeping the second-level cache in the heap of the running JVM,
+ * for applications which want caching without depending on an external cache
+ * provider.  Select it by naming this class as
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}.
+ * <p/>
+ * Entity, collection, natural-id and query results regions hold at most
+ * {@value org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_MAX_ENTRIES} entries
+ * each, optionally expiring after
+ * {@value org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_TIME_TO_LIVE} seconds.
+ * The timestamps region is never bounded, as dropping a timestamp could let
+ * stale query results be served.  All access types are supported; cached data is
+ * not shared with other JVMs.
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private int maxEntries;
+	private long timeToLive;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		maxEntries = ConfigurationHelper.getInt( LOCAL_CACHE_MAX_ENTRIES, configValues, DEFAULT_MAX_ENTRIES );
+		timeToLive = ConfigurationHelper.getLong( LOCAL_CACHE_TIME_TO_LIVE, configValues, 0 );
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new LocalDomainDataRegion(
+				regionConfig,
+				this,
+				LocalStorageAccess.bounded( maxEntries, timeToLive ),
+				buildingContext
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		// not through the template, the region exposes the statistics of its storage
+		return new LocalQueryResultsRegion(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected LocalStorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return LocalStorageAccess.bounded( maxEntries, timeToLive );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return LocalStorageAccess.unbounded();
+	}
+
+	@Override
+	protected void releaseFromUse() {
+	}
+
+	private static class LocalDomainDataRegion extends DomainDataRegionImpl implements ExtendedStatisticsSupport {
+		private final LocalStorageAccess storageAccess;
+
+		private LocalDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactoryTemplate regionFactory,
+				LocalStorageAccess storageAccess,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, DefaultCacheKeysFactory.INSTANCE, buildingContext );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCount();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return NO_EXTENDED_STAT_SUPPORT_RETURN;
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return storageAccess.getEvictionCount();
+		}
+	}
+
+	private static class LocalQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+		private final LocalStorageAccess storageAccess;
+
+		private LocalQueryResultsRegion(String name, RegionFactory regionFactory, LocalStorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCount();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return NO_EXTENDED_STAT_SUPPORT_RETURN;
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return storageAccess.getEvictionCount();
+		}
+	}
+}
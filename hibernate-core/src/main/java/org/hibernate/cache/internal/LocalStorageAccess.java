@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentMap;
+
+/**
+ * StorageAccess used by {@link LocalRegionFactory}, keeping the cached data in
+ * a concurrent map on the heap.
+ * <p/>
+ * A bounded storage evicts entries according to the replacement policy of
+ * {@link BoundedConcurrentMap}, whose reads never take a lock.  When a time-to-live is configured, values
+ * are wrapped together with their expiration time and expired values are
+ * dropped when they are next read; otherwise values are stored as-is.
+ */
+public class LocalStorageAccess implements DomainDataStorageAccess {
+	private final ConcurrentMap<Object, Object> data;
+	private final long timeToLiveNanos;
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Creates a storage holding at most {@code maxEntries} entries, each expiring
+	 * {@code timeToLiveSeconds} after being written ({@code 0} meaning never).
+	 */
+	public static LocalStorageAccess bounded(int maxEntries, long timeToLiveSeconds) {
+		return new LocalStorageAccess( maxEntries, timeToLiveSeconds );
+	}
+
+	/**
+	 * Creates a storage which never evicts nor expires its entries.
+	 */
+	public static LocalStorageAccess unbounded() {
+		return new LocalStorageAccess( 0, 0 );
+	}
+
+	private LocalStorageAccess(int maxEntries, long timeToLiveSeconds) {
+		if ( maxEntries > 0 ) {
+			this.data = new BoundedConcurrentMap<>( maxEntries, (key, value) -> evictionCount.increment() );
+		}
+		else {
+			this.data = new ConcurrentHashMap<>();
+		}
+		this.timeToLiveNanos = TimeUnit.SECONDS.toNanos( timeToLiveSeconds );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object value = data.get( key );
+		if ( value instanceof ExpiringValue ) {
+			final ExpiringValue expiringValue = (ExpiringValue) value;
+			if ( expiringValue.isExpired( System.nanoTime() ) ) {
+				if ( data.remove( key, value ) ) {
+					evictionCount.increment();
+				}
+				return null;
+			}
+			return expiringValue.value;
+		}
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( timeToLiveNanos > 0 ) {
+			data.put( key, new ExpiringValue( value, System.nanoTime() + timeToLiveNanos ) );
+		}
+		else {
+			data.put( key, value );
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getFromCache( key, null ) != null;
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		data.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		data.clear();
+	}
+
+	@Override
+	public void evictData() {
+		data.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		data.remove( key );
+	}
+
+	@Override
+	public void release() {
+		data.clear();
+	}
+
+	/**
+	 * The number of entries currently held, including expired entries which
+	 * have not been read since they expired.
+	 */
+	public long getElementCount() {
+		return data.size();
+	}
+
+	/**
+	 * The number of entries dropped to respect the size bound or the time-to-live.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	private static class ExpiringValue {
+		private final Object value;
+		private final long expiresAt;
+
+		private ExpiringValue(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+}
@@ -10,6 +10,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
@@ -25,6 +30,13 @@ import org.hibernate.internal.CoreMessageLogger;
  * The standard implementation of the Hibernate QueryCache interface.  Works
  * hind-in-hand with {@link TimestampsCache} to help in recognizing
  * stale query results.
+ * <p/>
+ * When a load timeout is configured, a miss registers the calling session as
+ * the one loading the results for that key (provided it will put them), and
+ * concurrent misses for the same key wait (at most for the timeout) until its
+ * results are {@link #put put} or its load is {@link #releaseLoad released},
+ * rather than all executing the same query.  Optionally, sessions which found
+ * a stale result are returned that result instead of waiting.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -35,11 +47,20 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
 
+	private final long loadTimeoutNanos;
+	private final boolean serveStaleWhileLoading;
+	private final ConcurrentMap<QueryKey, PendingLoad> pendingLoads;
+
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			int loadTimeout,
+			boolean serveStaleWhileLoading) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.loadTimeoutNanos = TimeUnit.MILLISECONDS.toNanos( loadTimeout );
+		this.serveStaleWhileLoading = serveStaleWhileLoading;
+		this.pendingLoads = loadTimeout > 0 ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -68,6 +89,8 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		}
 		finally {
 			session.getEventListenerManager().cachePutEnd();
+			// only the load of this session - another one may be loading the results too, e.g. after a wait timed out
+			releaseLoad( key, session );
 		}
 
 		return true;
@@ -83,6 +106,49 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			final QueryKey key,
 			final Set<String> spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, spaces, true, session );
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked" })
+	public List get(
+			final QueryKey key,
+			final String[] spaces,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, cacheItem -> timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ), true, session );
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked" })
+	public List get(
+			final QueryKey key,
+			final Set<String> spaces,
+			final boolean putEnabled,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, cacheItem -> timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ), putEnabled, session );
+	}
+
+	@Override
+	public void releaseLoad(QueryKey key, SharedSessionContractImplementor session) {
+		if ( pendingLoads != null ) {
+			pendingLoads.computeIfPresent(
+					key,
+					(k, existing) -> {
+						if ( existing.owner != session ) {
+							return existing;
+						}
+						existing.complete();
+						return null;
+					}
+			);
+		}
+	}
+
+	private List get(
+			QueryKey key,
+			Predicate<CacheItem> upToDateCheck,
+			boolean putEnabled,
+			SharedSessionContractImplementor session) {
 		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
 			SecondLevelCacheLogger.INSTANCE.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
@@ -92,14 +158,14 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
 				SecondLevelCacheLogger.INSTANCE.debug( "Query results were not found in cache" );
 			}
-			return null;
+			return pendingLoads == null ? null : awaitPendingLoad( key, null, upToDateCheck, putEnabled, session );
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !upToDateCheck.test( cacheItem ) ) {
 			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
 				SecondLevelCacheLogger.INSTANCE.debug( "Cached query results were not up-to-date" );
 			}
-			return null;
+			return pendingLoads == null ? null : awaitPendingLoad( key, cacheItem, upToDateCheck, putEnabled, session );
 		}
 
 		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
@@ -109,33 +175,70 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return deepCopy( cacheItem.results );
 	}
 
-	@Override
-	@SuppressWarnings({ "unchecked" })
-	public List get(
-			final QueryKey key,
-			final String[] spaces,
-			final SharedSessionContractImplementor session) throws HibernateException {
-		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-			SecondLevelCacheLogger.INSTANCE.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
-		}
+	/**
+	 * Handles a miss when loads are coordinated: either registers the calling session as the
+	 * one loading the results (returning {@code null} so that it executes the query), or
+	 * waits for the session already loading them and returns what it cached.  A session which
+	 * will not put the results never registers itself, as the others would wait for nothing, and
+	 * a session which is itself loading the results never waits for them.
+	 */
+	private List awaitPendingLoad(
+			QueryKey key,
+			CacheItem staleItem,
+			Predicate<CacheItem> upToDateCheck,
+			boolean putEnabled,
+			SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final PendingLoad pendingLoad;
+		if ( putEnabled ) {
+			final PendingLoad ownLoad = new PendingLoad( session, now + loadTimeoutNanos );
+			pendingLoad = pendingLoads.compute(
+					key,
+					(k, existing) -> {
+						if ( existing == null ) {
+							return ownLoad;
+						}
+						if ( existing.owner == session ) {
+							return existing;
+						}
+						if ( existing.isAbandoned( now ) ) {
+							// the loading session did not release its load, e.g. an unclosed scroll
+							existing.complete();
+							return ownLoad;
+						}
+						return existing;
+					}
+			);
 
-		final CacheItem cacheItem = getCachedData( key, session );
-		if ( cacheItem == null ) {
-			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-				SecondLevelCacheLogger.INSTANCE.debug( "Query results were not found in cache" );
+			if ( pendingLoad == ownLoad || pendingLoad.owner == session ) {
+				return null;
+			}
+		}
+		else {
+			pendingLoad = pendingLoads.get( key );
+			if ( pendingLoad == null || pendingLoad.owner == session || pendingLoad.isAbandoned( now ) ) {
+				return null;
 			}
-			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( staleItem != null && serveStaleWhileLoading ) {
 			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-				SecondLevelCacheLogger.INSTANCE.debug( "Cached query results were not up-to-date" );
+				SecondLevelCacheLogger.INSTANCE.debug( "Returning stale cached query results while they are being reloaded" );
 			}
-			return null;
+			return deepCopy( staleItem.results );
 		}
 
 		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-			SecondLevelCacheLogger.INSTANCE.debug( "Returning cached query results" );
+			SecondLevelCacheLogger.INSTANCE.debug( "Waiting for query results being loaded by another session" );
+		}
+
+		if ( !pendingLoad.await() ) {
+			return null;
+		}
+
+		final CacheItem cacheItem = getCachedData( key, session );
+		if ( cacheItem == null || !upToDateCheck.test( cacheItem ) ) {
+			return null;
 		}
 
 		return deepCopy( cacheItem.results );
@@ -158,6 +261,35 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
 	}
 
+	private static class PendingLoad {
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+		private final SharedSessionContractImplementor owner;
+		private final long deadline;
+
+		private PendingLoad(SharedSessionContractImplementor owner, long deadline) {
+			this.owner = owner;
+			this.deadline = deadline;
+		}
+
+		private boolean isAbandoned(long now) {
+			return now - deadline >= 0;
+		}
+
+		private void complete() {
+			latch.countDown();
+		}
+
+		private boolean await() {
+			try {
+				return latch.await( deadline - System.nanoTime(), TimeUnit.NANOSECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
 		private final List results;
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.stat.CacheRegionStatistics;
+
 /**
  * Optional Region contract defining support for extra statistic information
  *
@@ -17,4 +19,13 @@ public interface ExtendedStatisticsSupport {
 	long getElementCountOnDisk();
 
 	long getSizeInMemory();
+
+	/**
+	 * The number of elements the provider has evicted from the region to respect its
+	 * size bounds or expiration policy.  Providers that do not track evictions return
+	 * {@link CacheRegionStatistics#NO_EXTENDED_STAT_SUPPORT_RETURN}.
+	 */
+	default long getEvictionCount() {
+		return CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
 }
@@ -75,6 +75,42 @@ public interface QueryResultsCache {
 			String[] spaces,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Get results from the cache, for a caller which will {@link #put} the results
+	 * if they are missing or not up-to-date, or not.  Implementations coordinating
+	 * concurrent loads of the same results only let the former be the one loading them.
+	 *
+	 * @param key The cache key
+	 * @param spaces The query spaces (used in invalidation plus validation checks)
+	 * @param putEnabled Whether the caller will put the results it loads on a miss
+	 * @param session The originating session
+	 *
+	 * @return The cached results; may be null.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see #releaseLoad
+	 */
+	default List get(
+			QueryKey key,
+			Set<String> spaces,
+			boolean putEnabled,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, spaces, session );
+	}
+
+	/**
+	 * Signals that the session which got a miss for the key from
+	 * {@link #get(QueryKey, Set, boolean, SharedSessionContractImplementor)}
+	 * will not put the results, e.g. because executing the query failed.
+	 *
+	 * @param key The cache key
+	 * @param session The originating session
+	 */
+	default void releaseLoad(QueryKey key, SharedSessionContractImplementor session) {
+		// nothing to do by default
+	}
+
 	/**
 	 * Clear items from the query cache.
 	 *
@@ -0,0 +1,472 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Compact CacheEntry format for entities.  Used to store the entry into the second-level cache
+ * as a {@code byte[]} which is much smaller, and much cheaper to (de)serialize, than the Java
+ * serialized form of the disassembled state - which matters for caches storing their values
+ * remotely or off-heap.
+ * <p/>
+ * Each entry starts with a header made of the format version and of a fingerprint of the entity's
+ * "cache schema" (property names and types), followed by the entity name, the version and the
+ * disassembled state values.  The common value types are written using a type tag followed by a
+ * compact binary form; other values fall back to Java serialization.
+ * <p/>
+ * Entries written using another format version or for a different entity schema (e.g. by another
+ * version of the application sharing the same remote cache) are treated as cache misses.
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final Logger log = Logger.getLogger( CompactCacheEntry.class );
+
+	/**
+	 * The version of the binary format, bumped on any incompatible change
+	 */
+	public static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BIG_INTEGER = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte BYTES = 14;
+	private static final byte ARRAY = 15;
+	private static final byte ENUM = 16;
+	private static final byte UTIL_DATE = 17;
+	private static final byte SQL_DATE = 18;
+	private static final byte SQL_TIME = 19;
+	private static final byte SQL_TIMESTAMP = 20;
+	private static final byte LOCAL_DATE = 21;
+	private static final byte LOCAL_TIME = 22;
+	private static final byte LOCAL_DATE_TIME = 23;
+	private static final byte INSTANT = 24;
+	private static final byte UNFETCHED_PROPERTY = 25;
+	private static final byte UNKNOWN_BACKREF = 26;
+	private static final byte SERIALIZED = 127;
+
+	private final EntityPersister persister;
+	private final Map<String, Integer> schemaFingerprints = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final EntityPersister subclassPersister = persister.getFactory().getEntityPersister( entry.getSubclass() );
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeByte( FORMAT_VERSION );
+			out.writeInt( schemaFingerprint( subclassPersister ) );
+			writeString( out, entry.getSubclass() );
+			writeValue( out, entry.getVersion() );
+
+			final Serializable[] state = entry.getDisassembledState();
+			writeVarInt( out, state.length );
+			for ( Serializable value : state ) {
+				writeValue( out, value );
+			}
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to encode cache entry for " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return The CacheEntry, or {@code null} if the structured form was written using
+	 * an incompatible format or entity schema.
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// not written by this strategy
+			return structured instanceof CacheEntry ? structured : null;
+		}
+
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			final byte formatVersion = in.readByte();
+			if ( formatVersion != FORMAT_VERSION ) {
+				log.debugf( "Ignoring cache entry written using format version %s", formatVersion );
+				return null;
+			}
+
+			final int fingerprint = in.readInt();
+			final String subclass = readString( in );
+			final EntityPersister subclassPersister = factory.getEntityPersister( subclass );
+			if ( fingerprint != schemaFingerprint( subclassPersister ) ) {
+				log.debugf( "Ignoring cache entry written for a different schema of entity %s", subclass );
+				return null;
+			}
+
+			final Object version = readValue( in, factory );
+
+			final Serializable[] state = new Serializable[ readVarInt( in ) ];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) readValue( in, factory );
+			}
+
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to decode cache entry", e );
+		}
+	}
+
+	private int schemaFingerprint(EntityPersister subclassPersister) {
+		return schemaFingerprints.computeIfAbsent(
+				subclassPersister.getEntityName(),
+				entityName -> {
+					int result = entityName.hashCode();
+					final String[] names = subclassPersister.getPropertyNames();
+					final Type[] types = subclassPersister.getPropertyTypes();
+					for ( int i = 0; i < names.length; i++ ) {
+						result = 31 * result + names[i].hashCode();
+						result = 31 * result + types[i].getName().hashCode();
+					}
+					return result;
+				}
+		);
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			out.writeByte( UNFETCHED_PROPERTY );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			out.writeByte( UNKNOWN_BACKREF );
+		}
+		else {
+			final Class<?> valueClass = value.getClass();
+			if ( valueClass == String.class ) {
+				out.writeByte( STRING );
+				writeString( out, (String) value );
+			}
+			else if ( valueClass == Integer.class ) {
+				out.writeByte( INTEGER );
+				writeVarInt( out, ( (Integer) value << 1 ) ^ ( (Integer) value >> 31 ) );
+			}
+			else if ( valueClass == Long.class ) {
+				out.writeByte( LONG );
+				writeVarLong( out, ( (Long) value << 1 ) ^ ( (Long) value >> 63 ) );
+			}
+			else if ( valueClass == Boolean.class ) {
+				out.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( valueClass == Short.class ) {
+				out.writeByte( SHORT );
+				out.writeShort( (Short) value );
+			}
+			else if ( valueClass == Byte.class ) {
+				out.writeByte( BYTE );
+				out.writeByte( (Byte) value );
+			}
+			else if ( valueClass == Double.class ) {
+				out.writeByte( DOUBLE );
+				out.writeDouble( (Double) value );
+			}
+			else if ( valueClass == Float.class ) {
+				out.writeByte( FLOAT );
+				out.writeFloat( (Float) value );
+			}
+			else if ( valueClass == Character.class ) {
+				out.writeByte( CHARACTER );
+				out.writeChar( (Character) value );
+			}
+			else if ( valueClass == BigDecimal.class ) {
+				out.writeByte( BIG_DECIMAL );
+				writeVarInt( out, ( (BigDecimal) value ).scale() );
+				writeBytes( out, ( (BigDecimal) value ).unscaledValue().toByteArray() );
+			}
+			else if ( valueClass == BigInteger.class ) {
+				out.writeByte( BIG_INTEGER );
+				writeBytes( out, ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( valueClass == UUID.class ) {
+				out.writeByte( UUID_VALUE );
+				out.writeLong( ( (UUID) value ).getMostSignificantBits() );
+				out.writeLong( ( (UUID) value ).getLeastSignificantBits() );
+			}
+			else if ( valueClass == byte[].class ) {
+				out.writeByte( BYTES );
+				writeBytes( out, (byte[]) value );
+			}
+			else if ( valueClass == Serializable[].class || valueClass == Object[].class ) {
+				// disassembled embeddables, composite identifiers, ...
+				final Object[] values = (Object[]) value;
+				out.writeByte( ARRAY );
+				out.writeBoolean( valueClass == Serializable[].class );
+				writeVarInt( out, values.length );
+				for ( Object element : values ) {
+					writeValue( out, element );
+				}
+			}
+			else if ( value instanceof Enum ) {
+				out.writeByte( ENUM );
+				writeString( out, ( (Enum) value ).getDeclaringClass().getName() );
+				writeVarInt( out, ( (Enum) value ).ordinal() );
+			}
+			else if ( valueClass == java.sql.Timestamp.class ) {
+				out.writeByte( SQL_TIMESTAMP );
+				out.writeLong( ( (java.sql.Timestamp) value ).getTime() );
+				writeVarInt( out, ( (java.sql.Timestamp) value ).getNanos() );
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				out.writeByte( SQL_DATE );
+				out.writeLong( ( (java.sql.Date) value ).getTime() );
+			}
+			else if ( valueClass == java.sql.Time.class ) {
+				out.writeByte( SQL_TIME );
+				out.writeLong( ( (java.sql.Time) value ).getTime() );
+			}
+			else if ( valueClass == java.util.Date.class ) {
+				out.writeByte( UTIL_DATE );
+				out.writeLong( ( (java.util.Date) value ).getTime() );
+			}
+			else if ( valueClass == LocalDate.class ) {
+				out.writeByte( LOCAL_DATE );
+				writeVarLong( out, ( (LocalDate) value ).toEpochDay() );
+			}
+			else if ( valueClass == LocalTime.class ) {
+				out.writeByte( LOCAL_TIME );
+				writeVarLong( out, ( (LocalTime) value ).toNanoOfDay() );
+			}
+			else if ( valueClass == LocalDateTime.class ) {
+				out.writeByte( LOCAL_DATE_TIME );
+				writeVarLong( out, ( (LocalDateTime) value ).toLocalDate().toEpochDay() );
+				writeVarLong( out, ( (LocalDateTime) value ).toLocalTime().toNanoOfDay() );
+			}
+			else if ( valueClass == Instant.class ) {
+				out.writeByte( INSTANT );
+				out.writeLong( ( (Instant) value ).getEpochSecond() );
+				writeVarInt( out, ( (Instant) value ).getNano() );
+			}
+			else {
+				out.writeByte( SERIALIZED );
+				writeBytes( out, SerializationHelper.serialize( (Serializable) value ) );
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream in, SessionFactoryImplementor factory) throws IOException {
+		final byte tag = in.readByte();
+		switch ( tag ) {
+			case NULL: {
+				return null;
+			}
+			case UNFETCHED_PROPERTY: {
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
+			case UNKNOWN_BACKREF: {
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			}
+			case STRING: {
+				return readString( in );
+			}
+			case INTEGER: {
+				final int zigzag = readVarInt( in );
+				return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+			}
+			case LONG: {
+				final long zigzag = readVarLong( in );
+				return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+			}
+			case TRUE: {
+				return Boolean.TRUE;
+			}
+			case FALSE: {
+				return Boolean.FALSE;
+			}
+			case SHORT: {
+				return in.readShort();
+			}
+			case BYTE: {
+				return in.readByte();
+			}
+			case DOUBLE: {
+				return in.readDouble();
+			}
+			case FLOAT: {
+				return in.readFloat();
+			}
+			case CHARACTER: {
+				return in.readChar();
+			}
+			case BIG_DECIMAL: {
+				final int scale = readVarInt( in );
+				return new BigDecimal( new BigInteger( readBytes( in ) ), scale );
+			}
+			case BIG_INTEGER: {
+				return new BigInteger( readBytes( in ) );
+			}
+			case UUID_VALUE: {
+				return new UUID( in.readLong(), in.readLong() );
+			}
+			case BYTES: {
+				return readBytes( in );
+			}
+			case ARRAY: {
+				final boolean serializableArray = in.readBoolean();
+				final int length = readVarInt( in );
+				final Object[] values = serializableArray ? new Serializable[length] : new Object[length];
+				for ( int i = 0; i < length; i++ ) {
+					values[i] = readValue( in, factory );
+				}
+				return values;
+			}
+			case ENUM: {
+				final Class<?> enumClass = factory.getServiceRegistry()
+						.getService( ClassLoaderService.class )
+						.classForName( readString( in ) );
+				return enumClass.getEnumConstants()[ readVarInt( in ) ];
+			}
+			case SQL_TIMESTAMP: {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( in.readLong() );
+				timestamp.setNanos( readVarInt( in ) );
+				return timestamp;
+			}
+			case SQL_DATE: {
+				return new java.sql.Date( in.readLong() );
+			}
+			case SQL_TIME: {
+				return new java.sql.Time( in.readLong() );
+			}
+			case UTIL_DATE: {
+				return new java.util.Date( in.readLong() );
+			}
+			case LOCAL_DATE: {
+				return LocalDate.ofEpochDay( readVarLong( in ) );
+			}
+			case LOCAL_TIME: {
+				return LocalTime.ofNanoOfDay( readVarLong( in ) );
+			}
+			case LOCAL_DATE_TIME: {
+				return LocalDateTime.of(
+						LocalDate.ofEpochDay( readVarLong( in ) ),
+						LocalTime.ofNanoOfDay( readVarLong( in ) )
+				);
+			}
+			case INSTANT: {
+				return Instant.ofEpochSecond( in.readLong(), readVarInt( in ) );
+			}
+			case SERIALIZED: {
+				return SerializationHelper.deserialize( readBytes( in ) );
+			}
+			default: {
+				throw new HibernateException( "Unexpected value tag in cache entry : " + tag );
+			}
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		writeBytes( out, value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return new String( readBytes( in ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+		writeVarInt( out, value.length );
+		out.write( value );
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		final byte[] value = new byte[ readVarInt( in ) ];
+		in.readFully( value );
+		return value;
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ( ( value & ~0x7F ) != 0 ) {
+			out.writeByte( ( value & 0x7F ) | 0x80 );
+			value >>>= 7;
+		}
+		out.writeByte( value );
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+		for ( int shift = 0; shift < 32; shift += 7 ) {
+			final byte b = in.readByte();
+			value |= ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return value;
+			}
+		}
+		throw new HibernateException( "Malformed variable-length integer in cache entry" );
+	}
+
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ( ( value & ~0x7FL ) != 0 ) {
+			out.writeByte( (int) ( ( value & 0x7F ) | 0x80 ) );
+			value >>>= 7;
+		}
+		out.writeByte( (int) value );
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for ( int shift = 0; shift < 64; shift += 7 ) {
+			final byte b = in.readByte();
+			value |= (long) ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return value;
+			}
+		}
+		throw new HibernateException( "Malformed variable-length integer in cache entry" );
+	}
+}
@@ -784,6 +784,16 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * The maximum number of rows inserted by a single {@code insert ... values (...), (...), ...} statement
+	 * when batching entity inserts, for dialects supporting such statements.  Rows are grouped into statements
+	 * of a power-of-two number of rows so that only a few distinct statements are prepared.  Only applies
+	 * when JDBC batching is enabled; at most {@link #STATEMENT_BATCH_SIZE} rows are buffered before execution.
+	 * <p/>
+	 * Default is {@code 0}, which inserts one row per statement.
+	 */
+	String MULTI_ROW_INSERT_SIZE = "hibernate.jdbc.multi_row_insert_size";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -843,10 +853,28 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	String USE_IDENTIFIER_ROLLBACK = "hibernate.use_identifier_rollback";
 
 	/**
-	 * Use bytecode libraries optimized property access
+	 * Use bytecode libraries optimized property access.  When enabled, it takes precedence over
+	 * {@link #USE_GENERATED_PROPERTY_ACCESSORS} for entities without custom property access; when
+	 * disabled (the default), attribute access is governed by {@link #USE_GENERATED_PROPERTY_ACCESSORS}.
 	 */
 	String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
+	/**
+	 * Should the attributes of entities which are not bytecode enhanced be accessed in bulk through
+	 * generated classes (or method handles when generated classes cannot access the attributes),
+	 * rather than through reflection?  Default is {@code true}.
+	 * <p/>
+	 * Entities using custom property access strategies always use reflection.
+	 * <p/>
+	 * This setting is independent of {@link #USE_REFLECTION_OPTIMIZER}: disabling the reflection optimizer
+	 * (its default) does not disable the generated accessors, this setting must be disabled as well to use
+	 * reflection only.  When the reflection optimizer is enabled, it is used instead of the generated
+	 * accessors.
+	 *
+	 * @see org.hibernate.bytecode.spi.BytecodeProvider#getReflectionOptimizer(Class, java.util.Map)
+	 */
+	String USE_GENERATED_PROPERTY_ACCESSORS = "hibernate.bytecode.use_generated_property_accessors";
+
 	/**
 	 * Configure the global BytecodeProvider implementation to generate class names matching the
 	 * existing naming patterns.
@@ -1182,6 +1210,26 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * The maximum number of milliseconds a query cache miss waits for another session which is already
+	 * executing the same query (same {@link org.hibernate.cache.spi.QueryKey}) to put its results into the
+	 * cache.  Only one session then executes the query after an expiration or invalidation of a cached
+	 * result; the others read its results from the cache, or execute the query themselves when the wait
+	 * times out.
+	 * <p/>
+	 * Default is {@code 0}, which disables waiting: every session missing the cache executes the query.
+	 */
+	String QUERY_CACHE_LOAD_TIMEOUT = "hibernate.cache.query_cache_load_timeout";
+
+	/**
+	 * When {@link #QUERY_CACHE_LOAD_TIMEOUT} is enabled, should sessions missing the query cache because
+	 * the cached result became stale be served that stale result while another session is re-executing
+	 * the query, instead of waiting for it?
+	 * <p/>
+	 * Default is {@code false}.
+	 */
+	String QUERY_CACHE_SERVE_STALE_WHILE_LOADING = "hibernate.cache.query_cache_serve_stale_while_loading";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -1197,6 +1245,14 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of compact, binary encoded second-level cache entries.  Takes precedence
+	 * over {@link #USE_STRUCTURED_CACHE}.
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 */
+	String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1209,6 +1265,32 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of rows for which a single-table HQL UPDATE or DELETE evicts the second-level cache
+	 * entries of just the affected entities.  The identifiers of the affected rows are selected before the
+	 * statement is executed; if more rows match, the whole entity region is evicted.
+	 * <p/>
+	 * Default is {@code 0}, which always evicts the whole region.
+	 */
+	String TARGETED_BULK_EVICTION_LIMIT = "hibernate.cache.targeted_bulk_eviction_limit";
+
+	/**
+	 * The maximum number of entries held by each entity, collection, natural-id or query results region
+	 * of the {@link org.hibernate.cache.internal.LocalRegionFactory}.  Least valuable entries are evicted
+	 * once a region grows past this size.
+	 * <p/>
+	 * Default is {@code 10000}.
+	 */
+	String LOCAL_CACHE_MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+	/**
+	 * The number of seconds an entry stays in a region of the {@link org.hibernate.cache.internal.LocalRegionFactory}
+	 * after it was written.  The timestamps region never expires its entries.
+	 * <p/>
+	 * Default is {@code 0}, meaning entries do not expire.
+	 */
+	String LOCAL_CACHE_TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
 
 
 
@@ -1291,6 +1373,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * Should the plans of the named HQL queries be built, in parallel, and put in the
+	 * Query Plan Cache while the SessionFactory is built, rather than on their first
+	 * execution?  Default is {@code false}.
+	 * <p/>
+	 * Has no effect if the Query Plan Cache is disabled.
+	 *
+	 * @see #QUERY_PLAN_CACHE_ENABLED
+	 */
+	String QUERY_PLAN_CACHE_PRECOMPILE_NAMED_QUERIES = "hibernate.query.plan_cache_precompile_named_queries";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -1633,6 +1726,22 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String MULTI_TENANT_IDENTIFIER_RESOLVER = "hibernate.tenant_identifier_resolver";
 
+	/**
+	 * When using {@link org.hibernate.MultiTenancyStrategy#SCHEMA}, should the SQL rendered
+	 * from the SQL AST (queries and entity loading) qualify the tables mapped without an explicit
+	 * schema or catalog with the schema named by the current tenant identifier?  The rendered SQL
+	 * is cached as part of the query plan with a placeholder for the schema, and a variant of it
+	 * is resolved and kept per tenant.  Tenant identifiers which are not plain SQL identifiers are
+	 * rendered quoted.
+	 * <p/>
+	 * The SQL generated by the persisters to insert, update and delete entities is not qualified, so
+	 * the {@link org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider} must still
+	 * set the schema of the tenant on each acquired Connection.  Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String MULTI_TENANT_SCHEMA_QUALIFICATION = "hibernate.multi_tenant.schema_qualification";
+
 	/**
 	 * Names a {@link org.hibernate.Interceptor} implementation to be applied to the
 	 * {@link org.hibernate.SessionFactory} and propagated to each Session created from the SessionFactory.
@@ -1681,6 +1790,15 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String STATEMENT_INSPECTOR = "hibernate.session_factory.statement_inspector";
 
+	/**
+	 * Should the entity and collection persisters, and then the mapping model, be built concurrently
+	 * (using all available processors) while the {@link org.hibernate.SessionFactory} is being built?
+	 * Useful to reduce the startup time of applications mapping a large number of entities.
+	 * <p/>
+	 * Custom persisters must be safe to instantiate concurrently when enabled.  Default is {@code false}.
+	 */
+	String PARALLEL_METAMODEL_INITIALIZATION = "hibernate.session_factory.parallel_metamodel_initialization";
+
 	String ENABLE_LAZY_LOAD_NO_TRANS = "hibernate.enable_lazy_load_no_trans";
 
 	/**
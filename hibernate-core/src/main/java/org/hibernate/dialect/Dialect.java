@@ -6,8 +6,11 @@
  */
 package org.hibernate.dialect;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.Clob;
@@ -64,6 +67,7 @@ import org.hibernate.dialect.unique.UniqueDelegate;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.engine.jdbc.StreamUtils;
 import org.hibernate.engine.jdbc.env.internal.DefaultSchemaNameResolver;
 import org.hibernate.engine.jdbc.env.spi.AnsiSqlKeywords;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
@@ -548,24 +552,28 @@ public abstract class Dialect implements ConversionContext {
 	};
 
 	/**
-	 * Merge strategy based on transferring contents based on streams.
+	 * Merge strategy based on transferring contents based on streams.  The detached state is copied into
+	 * the managed LOB chunk by chunk, so the contents are never held in memory as a whole.
 	 */
 	@SuppressWarnings( {"UnusedDeclaration"})
 	protected static final LobMergeStrategy STREAM_XFER_LOB_MERGE_STRATEGY = new LobMergeStrategy() {
 		@Override
 		public Blob mergeBlob(Blob original, Blob target, SharedSessionContractImplementor session) {
 			if ( original != target ) {
-				try {
-					// the BLOB just read during the load phase of merge
-					final OutputStream connectedStream = target.setBinaryStream( 1L );
-					// the BLOB from the detached state
-					final InputStream detachedStream = original.getBinaryStream();
+				try (
+						// the BLOB just read during the load phase of merge
+						final OutputStream connectedStream = target.setBinaryStream( 1L );
+						// the BLOB from the detached state
+						final InputStream detachedStream = original.getBinaryStream() ) {
 					StreamCopier.copy( detachedStream, connectedStream );
 					return target;
 				}
 				catch (SQLException e ) {
 					throw session.getFactory().getSQLExceptionHelper().convert( e, "unable to merge BLOB data" );
 				}
+				catch (IOException e ) {
+					throw new HibernateException( "Unable to merge BLOB data", e );
+				}
 			}
 			else {
 				return NEW_LOCATOR_LOB_MERGE_STRATEGY.mergeBlob( original, target, session );
@@ -575,17 +583,20 @@ public abstract class Dialect implements ConversionContext {
 		@Override
 		public Clob mergeClob(Clob original, Clob target, SharedSessionContractImplementor session) {
 			if ( original != target ) {
-				try {
-					// the CLOB just read during the load phase of merge
-					final OutputStream connectedStream = target.setAsciiStream( 1L );
-					// the CLOB from the detached state
-					final InputStream detachedStream = original.getAsciiStream();
-					StreamCopier.copy( detachedStream, connectedStream );
+				try (
+						// the CLOB just read during the load phase of merge
+						final Writer connectedStream = target.setCharacterStream( 1L );
+						// the CLOB from the detached state
+						final Reader detachedStream = original.getCharacterStream() ) {
+					StreamUtils.copy( detachedStream, connectedStream );
 					return target;
 				}
 				catch (SQLException e ) {
 					throw session.getFactory().getSQLExceptionHelper().convert( e, "unable to merge CLOB data" );
 				}
+				catch (IOException e ) {
+					throw new HibernateException( "Unable to merge CLOB data", e );
+				}
 			}
 			else {
 				return NEW_LOCATOR_LOB_MERGE_STRATEGY.mergeClob( original, target, session );
@@ -595,17 +606,20 @@ public abstract class Dialect implements ConversionContext {
 		@Override
 		public NClob mergeNClob(NClob original, NClob target, SharedSessionContractImplementor session) {
 			if ( original != target ) {
-				try {
-					// the NCLOB just read during the load phase of merge
-					final OutputStream connectedStream = target.setAsciiStream( 1L );
-					// the NCLOB from the detached state
-					final InputStream detachedStream = original.getAsciiStream();
-					StreamCopier.copy( detachedStream, connectedStream );
+				try (
+						// the NCLOB just read during the load phase of merge
+						final Writer connectedStream = target.setCharacterStream( 1L );
+						// the NCLOB from the detached state
+						final Reader detachedStream = original.getCharacterStream() ) {
+					StreamUtils.copy( detachedStream, connectedStream );
 					return target;
 				}
 				catch (SQLException e ) {
 					throw session.getFactory().getSQLExceptionHelper().convert( e, "unable to merge NCLOB data" );
 				}
+				catch (IOException e ) {
+					throw new HibernateException( "Unable to merge NCLOB data", e );
+				}
 			}
 			else {
 				return NEW_LOCATOR_LOB_MERGE_STRATEGY.mergeNClob( original, target, session );
@@ -2737,6 +2751,46 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * The template used to render an {@code IN} predicate whose values are bound as a single
+	 * JDBC {@link java.sql.Array} parameter (see {@link #bindArrayParameter}), where {@code ?1}
+	 * is replaced by the tested expression and {@code ?2} by the parameter marker.  For
+	 * example {@code ?1 = any(?2)}.
+	 *
+	 * @param elementSqlType The {@link Types} typecode of the array elements
+	 *
+	 * @return The template, or {@code null} to indicate that array parameters of that type are not
+	 * supported and multi-valued parameters should be expanded instead.
+	 */
+	public String getInArrayPredicateTemplate(int elementSqlType) {
+		return null;
+	}
+
+	/**
+	 * Bind the given values as a single JDBC {@link java.sql.Array} parameter for an
+	 * {@code IN} predicate rendered using {@link #getInArrayPredicateTemplate(int)}.
+	 *
+	 * @param statement The statement to bind the array to
+	 * @param position The parameter position
+	 * @param values The (JDBC-level) element values
+	 * @param elementSqlType The {@link Types} typecode of the elements
+	 *
+	 * @throws SQLException Indicates a problem creating or binding the array
+	 */
+	public void bindArrayParameter(
+			PreparedStatement statement,
+			int position,
+			Object[] values,
+			int elementSqlType) throws SQLException {
+		String elementTypeName = getTypeName( elementSqlType );
+		final int paren = elementTypeName.indexOf( '(' );
+		if ( paren > 0 ) {
+			// strip any length/precision placeholders, e.g. `varchar($l)`
+			elementTypeName = elementTypeName.substring( 0, paren );
+		}
+		statement.setArray( position, statement.getConnection().createArrayOf( elementTypeName, values ) );
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -2997,6 +3051,21 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * The maximum number of rows a single {@code insert ... values (...), (...), ...} statement may insert,
+	 * given the number of JDBC parameters bound for each row.  A result of {@code 1} indicates that
+	 * multi-row inserts are not supported.
+	 *
+	 * @param parametersPerRow The number of JDBC parameters of each row
+	 *
+	 * @return The maximum number of rows per statement
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 */
+	public int getMultiRowInsertMaxRows(int parametersPerRow) {
+		return 1;
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
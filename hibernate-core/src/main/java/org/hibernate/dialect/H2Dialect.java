@@ -412,6 +412,11 @@ public class H2Dialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public int getMultiRowInsertMaxRows(int parametersPerRow) {
+		return Integer.MAX_VALUE;
+	}
+
 	@Override
 	public boolean requiresParensForTupleDistinctCounts() {
 		return true;
@@ -440,6 +445,12 @@ public class H2Dialect extends Dialect {
 		return new H2IdentityColumnSupport();
 	}
 
+	@Override
+	public String getInArrayPredicateTemplate(int elementSqlType) {
+		// `= any(?)` is only supported as of 1.4.197, use the (older) TABLE function instead
+		return "?1 in (select x from table(x " + getCastTypeName( elementSqlType ) + " = ?2))";
+	}
+
 	@Override
 	public String getQueryHintString(String query, String hints) {
 		return IndexQueryHintHandler.INSTANCE.addQueryHints( query, hints );
@@ -667,6 +667,11 @@ public class HSQLDialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public int getMultiRowInsertMaxRows(int parametersPerRow) {
+		return hsqldbVersion >= 200 ? Integer.MAX_VALUE : 1;
+	}
+
 	@Override
 	public String toBooleanValueString(boolean bool) {
 		return String.valueOf( bool );
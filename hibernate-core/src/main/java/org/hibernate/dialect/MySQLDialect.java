@@ -520,6 +520,12 @@ public class MySQLDialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public int getMultiRowInsertMaxRows(int parametersPerRow) {
+		// bounded by max_allowed_packet rather than by a number of rows or parameters
+		return Integer.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsSubqueryOnMutatingTable() {
 		return false;
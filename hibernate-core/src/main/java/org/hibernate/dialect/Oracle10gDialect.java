@@ -7,8 +7,10 @@
 package org.hibernate.dialect;
 
 import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 
 import org.hibernate.LockOptions;
 import org.hibernate.sql.ANSIJoinFragment;
@@ -90,4 +92,58 @@ public class Oracle10gDialect extends Oracle9iDialect {
 	public boolean supportsSkipLocked() {
 		return true;
 	}
+
+	@Override
+	public String getInArrayPredicateTemplate(int elementSqlType) {
+		if ( getOdciCollectionTypeName( elementSqlType ) == null ) {
+			return null;
+		}
+		return "?1 in (select column_value from table(?2))";
+	}
+
+	@Override
+	public void bindArrayParameter(
+			PreparedStatement statement,
+			int position,
+			Object[] values,
+			int elementSqlType) throws SQLException {
+		statement.setArray(
+				position,
+				OracleTypesHelper.INSTANCE.createOracleArray(
+						statement.getConnection(),
+						getOdciCollectionTypeName( elementSqlType ),
+						values
+				)
+		);
+	}
+
+	/**
+	 * Oracle has no anonymous array type, so we bind the values as one of the
+	 * predefined {@code SYS.ODCI*LIST} collection types.
+	 */
+	private static String getOdciCollectionTypeName(int elementSqlType) {
+		switch ( elementSqlType ) {
+			case Types.TINYINT:
+			case Types.SMALLINT:
+			case Types.INTEGER:
+			case Types.BIGINT:
+			case Types.NUMERIC:
+			case Types.DECIMAL:
+			case Types.FLOAT:
+			case Types.REAL:
+			case Types.DOUBLE: {
+				return "SYS.ODCINUMBERLIST";
+			}
+			case Types.CHAR:
+			case Types.VARCHAR: {
+				return "SYS.ODCIVARCHAR2LIST";
+			}
+			case Types.DATE: {
+				return "SYS.ODCIDATELIST";
+			}
+			default: {
+				return null;
+			}
+		}
+	}
 }
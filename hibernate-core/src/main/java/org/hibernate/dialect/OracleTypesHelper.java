@@ -6,6 +6,12 @@
  */
 package org.hibernate.dialect;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+
 import org.hibernate.HibernateException;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -27,6 +33,7 @@ public class OracleTypesHelper {
 
 	private static final String ORACLE_TYPES_CLASS_NAME = "oracle.jdbc.OracleTypes";
 	private static final String DEPRECATED_ORACLE_TYPES_CLASS_NAME = "oracle.jdbc.driver.OracleTypes";
+	private static final String ORACLE_CONNECTION_CLASS_NAME = "oracle.jdbc.OracleConnection";
 
 	private final int oracleCursorTypeSqlType;
 
@@ -50,7 +57,7 @@ public class OracleTypesHelper {
 		}
 	}
 
-	private Class locateOracleTypesClass() {
+	private Class<?> locateOracleTypesClass() {
 		try {
 			return ReflectHelper.classForName( ORACLE_TYPES_CLASS_NAME );
 		}
@@ -75,6 +82,35 @@ public class OracleTypesHelper {
 		return oracleCursorTypeSqlType;
 	}
 
+	/**
+	 * Create an array of the named Oracle collection type, via {@code OracleConnection#createOracleArray}
+	 * (as Oracle does not support {@link Connection#createArrayOf}).
+	 */
+	public Array createOracleArray(Connection connection, String typeName, Object[] elements) throws SQLException {
+		final Class<?> oracleConnectionClass;
+		final Method createOracleArray;
+		try {
+			oracleConnectionClass = ReflectHelper.classForName( ORACLE_CONNECTION_CLASS_NAME );
+			createOracleArray = oracleConnectionClass.getMethod( "createOracleArray", String.class, Object.class );
+		}
+		catch (ClassNotFoundException | NoSuchMethodException e) {
+			throw new HibernateException( "Unable to locate OracleConnection#createOracleArray", e );
+		}
+
+		try {
+			return (Array) createOracleArray.invoke( connection.unwrap( oracleConnectionClass ), typeName, elements );
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getTargetException() instanceof SQLException ) {
+				throw (SQLException) e.getTargetException();
+			}
+			throw new HibernateException( "Unable to create Oracle array of type " + typeName, e.getTargetException() );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to create Oracle array of type " + typeName, e );
+		}
+	}
+
 // initial code as copied from Oracle8iDialect
 //
 //	private int oracleCursorTypeSqlType = INIT_ORACLETYPES_CURSOR_VALUE;
@@ -647,4 +647,9 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
 	}
+
+	@Override
+	public String getInArrayPredicateTemplate(int elementSqlType) {
+		return "?1 = any(?2)";
+	}
 }
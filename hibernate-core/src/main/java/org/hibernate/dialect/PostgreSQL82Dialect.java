@@ -66,6 +66,12 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertMaxRows(int parametersPerRow) {
+		// the protocol limits the number of parameters of a statement to 32767
+		return Math.max( 1, Short.MAX_VALUE / Math.max( 1, parametersPerRow ) );
+	}
+
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
 	}
@@ -61,4 +61,10 @@ public class SQLServer2008Dialect extends SQLServer2005Dialect {
 	public boolean supportsValuesList() {
 		return true;
 	}
+
+	@Override
+	public int getMultiRowInsertMaxRows(int parametersPerRow) {
+		// at most 1000 rows per VALUES clause, and 2100 parameters per statement
+		return Math.max( 1, Math.min( 1000, 2100 / Math.max( 1, parametersPerRow ) ) );
+	}
 }
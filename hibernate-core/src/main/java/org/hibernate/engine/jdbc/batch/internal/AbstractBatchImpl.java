@@ -140,7 +140,7 @@ public abstract class AbstractBatchImpl implements Batch {
 	@Override
 	public final void execute() {
 		notifyObserversExplicitExecution();
-		if ( getStatements().isEmpty() ) {
+		if ( isEmpty() ) {
 			return;
 		}
 
@@ -152,6 +152,15 @@ public abstract class AbstractBatchImpl implements Batch {
 		}
 	}
 
+	/**
+	 * Is there nothing to execute?  By default, whether no statement was added to this batch.
+	 *
+	 * @return {@code true} if {@link #execute()} has nothing to do
+	 */
+	protected boolean isEmpty() {
+		return getStatements().isEmpty();
+	}
+
 	protected void releaseStatements() {
 		final LinkedHashMap<String, PreparedStatement> statements = getStatements();
 		final ResourceRegistry resourceRegistry = jdbcCoordinator.getResourceRegistry();
@@ -66,6 +66,9 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				this.jdbcBatchSize :
 				sessionJdbcBatchSize;
+		if ( jdbcBatchSizeToUse > 1 && key instanceof MultiRowInsertBatchKey ) {
+			return new MultiRowInsertBatch( (MultiRowInsertBatchKey) key, jdbcCoordinator, jdbcBatchSizeToUse );
+		}
 		return jdbcBatchSizeToUse > 1
 				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
 				: new NonBatchingBatch( key, jdbcCoordinator );
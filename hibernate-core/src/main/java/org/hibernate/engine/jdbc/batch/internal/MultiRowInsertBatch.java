@@ -0,0 +1,260 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which groups the rows of batched
+ * single-row inserts into multi-row {@code insert ... values (...), (...), ...} statements.
+ * <p/>
+ * Rows are not bound to statements handed out by {@link #getBatchStatement}, but {@link #addRow added}
+ * along with a {@link RowBinder} binding their values, and with the means to render the statement inserting
+ * several of them.  When the batch size is reached, or the batch is executed, the rows of each insert are
+ * bound to statements inserting a power-of-two number of rows (bounded by the configured multi-row insert
+ * size and by the {@link Dialect#getMultiRowInsertMaxRows dialect}), so that only a few distinct statements
+ * are ever prepared.  Statements of the same shape are executed as a JDBC batch, and each is verified to
+ * have inserted all its rows.
+ */
+public class MultiRowInsertBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatch.class.getName()
+	);
+
+	private final int batchSize;
+	private final int multiRowInsertSize;
+	private final Dialect dialect;
+
+	// the pending rows per single-row insert, in the order the inserts were first used
+	private final LinkedHashMap<String, PendingRows> pendingRows = new LinkedHashMap<>();
+	private final Map<Integer, Expectation> expectations = new HashMap<>();
+	private int pendingRowCount;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The maximum number of rows pending before they are executed
+	 */
+	public MultiRowInsertBatch(
+			MultiRowInsertBatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		this.multiRowInsertSize = key.getMultiRowInsertSize();
+		this.dialect = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect();
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		throw new HibernateException( "Rows are added to a multi-row insert batch through #addRow : " + sql );
+	}
+
+	@Override
+	public void addToBatch() {
+		throw new HibernateException( "Rows are added to a multi-row insert batch through #addRow" );
+	}
+
+	/**
+	 * Add a row to insert.
+	 *
+	 * @param sql The SQL inserting a single row, the rows of the same SQL being inserted together
+	 * @param multiRowSqlRenderer Renders the SQL inserting the given number of rows
+	 * @param parameterCount The number of JDBC parameters bound for each row
+	 * @param rowBinder Binds the values of the row
+	 */
+	public void addRow(String sql, IntFunction<String> multiRowSqlRenderer, int parameterCount, RowBinder rowBinder) {
+		PendingRows rows = pendingRows.get( sql );
+		if ( rows == null ) {
+			rows = new PendingRows( sql, multiRowSqlRenderer, parameterCount );
+			pendingRows.put( sql, rows );
+		}
+		rows.binders.add( rowBinder );
+		pendingRowCount++;
+		if ( pendingRowCount >= batchSize ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	@Override
+	protected boolean isEmpty() {
+		return super.isEmpty() && pendingRows.isEmpty();
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		if ( pendingRowCount == 0 ) {
+			LOG.debug( "No batched statements to execute" );
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	@Override
+	public void release() {
+		clearPendingRows();
+		super.release();
+	}
+
+	private void performExecution() {
+		LOG.debugf( "Executing multi-row insert batch of %s rows", pendingRowCount );
+		try {
+			// in order: the rows of the first table of an entity must be inserted before those of the others
+			for ( PendingRows rows : pendingRows.values() ) {
+				execute( rows );
+			}
+		}
+		finally {
+			clearPendingRows();
+		}
+	}
+
+	private void clearPendingRows() {
+		pendingRows.clear();
+		pendingRowCount = 0;
+	}
+
+	private void execute(PendingRows rows) {
+		final int parametersPerRow = rows.parameterCount;
+		final int maxRowsPerStatement = Integer.highestOneBit(
+				Math.max( 1, Math.min( multiRowInsertSize, dialect.getMultiRowInsertMaxRows( parametersPerRow ) ) )
+		);
+
+		// the statement for each number of rows, largest first
+		final LinkedHashMap<Integer, PreparedStatement> statements = new LinkedHashMap<>();
+		String sql = rows.sql;
+		try {
+			int position = 0;
+			while ( position < rows.binders.size() ) {
+				final int rowCount = Math.min( maxRowsPerStatement, Integer.highestOneBit( rows.binders.size() - position ) );
+				sql = rows.getSql( rowCount );
+				final PreparedStatement statement = getMultiRowStatement( sql );
+				for ( int i = 0; i < rowCount; i++ ) {
+					rows.binders.get( position + i ).bind( statement, 1 + i * parametersPerRow );
+				}
+				statement.addBatch();
+				statements.put( rowCount, statement );
+				position += rowCount;
+			}
+
+			for ( Map.Entry<Integer, PreparedStatement> entry : statements.entrySet() ) {
+				sql = rows.getSql( entry.getKey() );
+				final PreparedStatement statement = entry.getValue();
+				final int[] rowCounts;
+				try {
+					getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+				}
+				final Expectation expectation = expectation( entry.getKey() );
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					expectation.verifyOutcome( rowCounts[i], statement, i );
+				}
+			}
+		}
+		catch ( SQLException e ) {
+			abortBatch();
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+		}
+		catch ( RuntimeException re ) {
+			abortBatch();
+			LOG.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+	}
+
+	private PreparedStatement getMultiRowStatement(String sql) {
+		PreparedStatement statement = getStatements().get( sql );
+		if ( statement == null ) {
+			// not through StatementPreparer#prepareStatement(String, boolean), which would execute this batch
+			statement = getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+			getStatements().put( sql, statement );
+		}
+		return statement;
+	}
+
+	private Expectation expectation(int rowCount) {
+		if ( rowCount == 1 ) {
+			return getKey().getExpectation();
+		}
+		return expectations.computeIfAbsent( rowCount, count -> new Expectations.BasicExpectation( count ) {} );
+	}
+
+	/**
+	 * Binds the values of a row added to a multi-row insert batch
+	 */
+	@FunctionalInterface
+	public interface RowBinder {
+		/**
+		 * Bind the values of the row, starting at the given parameter position
+		 *
+		 * @param statement The statement inserting the row
+		 * @param position The position of the first parameter of the row
+		 *
+		 * @return The position following the last parameter of the row
+		 *
+		 * @throws SQLException Indicates a problem binding the values
+		 */
+		int bind(PreparedStatement statement, int position) throws SQLException;
+	}
+
+	/**
+	 * The pending rows of one single-row insert
+	 */
+	private static class PendingRows {
+		private final String sql;
+		private final IntFunction<String> multiRowSqlRenderer;
+		private final int parameterCount;
+		private final List<RowBinder> binders = new ArrayList<>();
+		private final Map<Integer, String> multiRowSql = new HashMap<>();
+
+		private PendingRows(String sql, IntFunction<String> multiRowSqlRenderer, int parameterCount) {
+			this.sql = sql;
+			this.multiRowSqlRenderer = multiRowSqlRenderer;
+			this.parameterCount = parameterCount;
+		}
+
+		private String getSql(int rowCount) {
+			if ( rowCount == 1 ) {
+				return sql;
+			}
+			return multiRowSql.computeIfAbsent( rowCount, multiRowSqlRenderer::apply );
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * BatchKey for batched inserts which may be grouped into multi-row {@code insert ... values (...), (...)}
+ * statements by a {@link MultiRowInsertBatch}.
+ * <p/>
+ * The rows added to such a batch must be inserted by plain, non-callable statements expecting a row count
+ * of one, whose owner can render the statement inserting several rows - see {@link MultiRowInsertBatch#addRow}.
+ */
+public class MultiRowInsertBatchKey extends BasicBatchKey {
+	private final int multiRowInsertSize;
+
+	/**
+	 * Constructs a MultiRowInsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for each inserted row
+	 * @param multiRowInsertSize The maximum number of rows per statement
+	 */
+	public MultiRowInsertBatchKey(String comparison, Expectation expectation, int multiRowInsertSize) {
+		super( comparison, expectation );
+		this.multiRowInsertSize = multiRowInsertSize;
+	}
+
+	public int getMultiRowInsertSize() {
+		return multiRowInsertSize;
+	}
+}
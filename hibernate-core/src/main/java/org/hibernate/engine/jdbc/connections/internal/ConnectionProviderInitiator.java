@@ -418,6 +418,10 @@ public class ConnectionProviderInitiator implements StandardServiceInitiator<Con
 		SPECIAL_PROPERTIES.add( AvailableSettings.DRIVER );
 		SPECIAL_PROPERTIES.add( AvailableSettings.USER );
 		SPECIAL_PROPERTIES.add( AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT );
+		SPECIAL_PROPERTIES.add( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT );
+		SPECIAL_PROPERTIES.add( DriverManagerConnectionProviderImpl.MAX_WAITING );
+		SPECIAL_PROPERTIES.add( DriverManagerConnectionProviderImpl.IDLE_TIMEOUT );
+		SPECIAL_PROPERTIES.add( DriverManagerConnectionProviderImpl.LEAK_DETECTION_THRESHOLD );
 
 		ISOLATION_VALUE_MAP = new ConcurrentHashMap<String, Integer>();
 		ISOLATION_VALUE_MAP.put( "TRANSACTION_NONE", Connection.TRANSACTION_NONE );
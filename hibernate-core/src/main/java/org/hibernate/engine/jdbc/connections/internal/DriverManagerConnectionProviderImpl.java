@@ -6,16 +6,22 @@
  */
 package org.hibernate.engine.jdbc.connections.internal;
 
+import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -33,12 +39,18 @@ import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.ConnectionPoolStatistics;
+import org.hibernate.stat.internal.ConnectionPoolStatisticsImpl;
 
 /**
  * A connection provider that uses the {@link java.sql.DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a lightweight connection pool.
  * <p/>
- * IMPL NOTE : not intended for production use!
+ * The pool hands a Connection released by a thread back to that same thread first, falls back to the most
+ * recently released idle Connection otherwise, and lets callers wait (fairly, and for a bounded time) when
+ * it is exhausted.  Idle Connections above the minimum size are evicted after {@link #IDLE_TIMEOUT}, and
+ * Connections held longer than {@link #LEAK_DETECTION_THRESHOLD} are reported.  Acquisition statistics are
+ * exposed through {@link org.hibernate.stat.Statistics#getConnectionPoolStatistics()}.
  * <p/>
  * Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent} package, from
  * which much of the pooling code here is derived.  See http://ovaraksin.blogspot.com/2013/08/simple-and-lightweight-pool.html
@@ -55,6 +67,14 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// negative for no limit
+	public static final String MAX_WAITING = "hibernate.connection.pool_max_waiting";
+	// in TimeUnit.SECONDS, zero to disable
+	public static final String IDLE_TIMEOUT = "hibernate.connection.pool_idle_timeout";
+	// in TimeUnit.SECONDS, zero to disable
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 
 	private volatile PoolState state;
 
@@ -85,6 +105,11 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30_000 );
+		final int maxWaiting = ConfigurationHelper.getInt( MAX_WAITING, configurationValues, -1 );
+		final long idleTimeout = ConfigurationHelper.getLong( IDLE_TIMEOUT, configurationValues, 600 );
+		final long leakDetectionThreshold = ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
+		log.connectionPoolSettings( acquisitionTimeout, maxWaiting, idleTimeout, leakDetectionThreshold );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -94,6 +119,10 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout( acquisitionTimeout );
+		pooledConnectionBuilder.maxWaiting( maxWaiting );
+		pooledConnectionBuilder.idleTimeout( idleTimeout );
+		pooledConnectionBuilder.leakDetectionThreshold( leakDetectionThreshold );
 
 		return pooledConnectionBuilder.build();
 	}
@@ -215,6 +244,15 @@ public class DriverManagerConnectionProviderImpl
 	}
 	//CHECKSTYLE:END_ALLOW_FINALIZER
 
+	/**
+	 * Statistics about Connection acquisition from this pool
+	 *
+	 * @return The pool statistics
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return state.pool.getStatistics();
+	}
+
 	/**
 	 * Exposed to facilitate testing only.
 	 * @return
@@ -227,15 +265,30 @@ public class DriverManagerConnectionProviderImpl
 
 	public static class PooledConnections {
 
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<Connection>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<Connection>();
-
 		private static final CoreMessageLogger log = CoreLogging.messageLogger( DriverManagerConnectionProviderImpl.class );
 
+		private final ConcurrentHashMap<Connection, PooledConnection> allConnections = new ConcurrentHashMap<>();
+		// LIFO: recently released (hot) Connections are handed out first, so that cold ones age out
+		// at the tail and become candidates for idle eviction
+		private final ConcurrentLinkedDeque<PooledConnection> availableConnections = new ConcurrentLinkedDeque<>();
+		// the Connection last released by each thread, for fast re-acquisition by that same thread
+		private final ThreadLocal<WeakReference<PooledConnection>> lastReleased = new ThreadLocal<>();
+
+		// one permit per Connection which may be handed out; the (fair) queue of this semaphore
+		// is the wait queue for callers when the pool is exhausted
+		private final Semaphore permits;
+		private final AtomicInteger totalSize = new AtomicInteger();
+
 		private final ConnectionCreator connectionCreator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+		private final int maxWaiting;
+		private final long idleTimeoutNanos;
+		private final long leakDetectionThresholdNanos;
+
+		private final ConnectionPoolStatisticsImpl statistics;
 
 		private volatile boolean primed;
 
@@ -246,6 +299,16 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
+			maxWaiting = builder.maxWaiting;
+			idleTimeoutNanos = TimeUnit.SECONDS.toNanos( builder.idleTimeout );
+			leakDetectionThresholdNanos = TimeUnit.SECONDS.toNanos( builder.leakDetectionThreshold );
+			permits = new Semaphore( maxSize, true );
+			statistics = new ConnectionPoolStatisticsImpl(
+					() -> maxSize - permits.availablePermits(),
+					() -> Math.max( 0, size() - ( maxSize - permits.availablePermits() ) ),
+					permits::getQueueLength
+			);
 			log.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
@@ -260,77 +323,239 @@ public class DriverManagerConnectionProviderImpl
 				primed = true;
 			}
 
-			if ( size < minSize && primed ) {
-				int numberToBeAdded = minSize - size;
+			if ( idleTimeoutNanos > 0 ) {
+				removeIdleConnections();
+			}
+
+			if ( leakDetectionThresholdNanos > 0 ) {
+				detectLeaks();
+			}
+
+			if ( size() < minSize && primed ) {
+				int numberToBeAdded = minSize - size();
 				log.debugf( "Adding %s Connections to the pool", numberToBeAdded );
 				addConnections( numberToBeAdded );
 			}
-			else if ( size > maxSize ) {
-				int numberToBeRemoved = size - maxSize;
-				log.debugf( "Removing %s Connections from the pool", numberToBeRemoved );
-				removeConnections( numberToBeRemoved );
-			}
 		}
 
 		public void add(Connection conn) throws SQLException {
-			conn.setAutoCommit( true );
-			conn.clearWarnings();
-			availableConnections.offer( conn );
+			final PooledConnection pooledConnection = allConnections.get( conn );
+			if ( pooledConnection == null ) {
+				// not (or no longer) managed by this pool
+				conn.close();
+				return;
+			}
+
+			try {
+				conn.setAutoCommit( true );
+				conn.clearWarnings();
+			}
+			catch (SQLException e) {
+				destroy( pooledConnection );
+				permits.release();
+				throw e;
+			}
+
+			if ( !pooledConnection.release() ) {
+				log.debug( "Connection returned to the pool more than once; ignoring" );
+				return;
+			}
+			lastReleased.set( pooledConnection.reference );
+			if ( pooledConnection.enqueue() ) {
+				availableConnections.offerFirst( pooledConnection );
+			}
+			permits.release();
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn = availableConnections.poll();
-			if ( conn == null ) {
-				synchronized (allConnections) {
-					if(allConnections.size() < maxSize) {
-						addConnections( 1 );
-						return poll();
+			final long start = System.nanoTime();
+			final PooledConnection pooledConnection = acquire();
+			statistics.connectionAcquired( TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - start ) );
+
+			final Connection conn = pooledConnection.connection;
+			try {
+				conn.setAutoCommit( autoCommit );
+			}
+			catch (SQLException e) {
+				destroy( pooledConnection );
+				permits.release();
+				throw e;
+			}
+			return conn;
+		}
+
+		private PooledConnection acquire() {
+			if ( maxWaiting >= 0 && permits.availablePermits() == 0 && permits.getQueueLength() >= maxWaiting ) {
+				statistics.acquisitionTimedOut();
+				throw new HibernateException(
+						"The internal connection pool has reached its maximum size and " + maxWaiting
+								+ " threads are already waiting for a connection!"
+				);
+			}
+
+			try {
+				if ( !permits.tryAcquire( acquisitionTimeout, TimeUnit.MILLISECONDS ) ) {
+					statistics.acquisitionTimedOut();
+					throw new HibernateException(
+							"The internal connection pool has reached its maximum size and no connection became available within "
+									+ acquisitionTimeout + " ms!"
+					);
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+
+			try {
+				final PooledConnection pooledConnection = claim();
+				pooledConnection.acquired( leakDetectionThresholdNanos > 0 );
+				return pooledConnection;
+			}
+			catch (RuntimeException e) {
+				permits.release();
+				throw e;
+			}
+		}
+
+		/**
+		 * Claim an idle Connection, or create a new one.  Must only be called while holding a permit,
+		 * which guarantees that either an idle Connection exists or the pool may grow.
+		 */
+		private PooledConnection claim() {
+			// fast path : the Connection this thread released last is most likely still idle
+			final WeakReference<PooledConnection> reference = lastReleased.get();
+			if ( reference != null ) {
+				final PooledConnection candidate = reference.get();
+				if ( candidate != null && candidate.claim() ) {
+					return candidate;
+				}
+			}
+
+			while ( true ) {
+				PooledConnection candidate;
+				while ( ( candidate = availableConnections.pollFirst() ) != null ) {
+					candidate.dequeued();
+					if ( candidate.claim() ) {
+						return candidate;
+					}
+					// otherwise it was claimed through the fast path, or removed; either way it is
+					// re-queued on release, if needed
+				}
+
+				final int currentSize = totalSize.get();
+				if ( currentSize < maxSize ) {
+					if ( totalSize.compareAndSet( currentSize, currentSize + 1 ) ) {
+						final PooledConnection created = createConnection();
+						created.claim();
+						return created;
 					}
 				}
-				throw new HibernateException( "The internal connection pool has reached its maximum size and no connection is currently available!" );
+				else {
+					// an idle Connection is just being re-queued by a concurrent release
+					Thread.yield();
+				}
+			}
+		}
+
+		/**
+		 * Creates a new pooled Connection; the caller must already have reserved room for it in {@link #totalSize}
+		 */
+		private PooledConnection createConnection() {
+			try {
+				final PooledConnection pooledConnection = new PooledConnection( connectionCreator.createConnection() );
+				allConnections.put( pooledConnection.connection, pooledConnection );
+				return pooledConnection;
+			}
+			catch (RuntimeException e) {
+				totalSize.decrementAndGet();
+				throw e;
+			}
+		}
+
+		private void destroy(PooledConnection pooledConnection) {
+			pooledConnection.remove();
+			if ( allConnections.remove( pooledConnection.connection ) != null ) {
+				totalSize.decrementAndGet();
+			}
+			availableConnections.removeFirstOccurrence( pooledConnection );
+			try {
+				pooledConnection.connection.close();
+			}
+			catch (SQLException e) {
+				log.unableToCloseConnection( e );
 			}
-			conn.setAutoCommit( autoCommit );
-			return conn;
 		}
 
 		public void close() throws SQLException {
 			try {
-				int allocationCount = allConnections.size() - availableConnections.size();
-				if(allocationCount > 0) {
-					log.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
+				int allocationCount = 0;
+				for ( PooledConnection pooledConnection : allConnections.values() ) {
+					if ( pooledConnection.isInUse() ) {
+						allocationCount++;
+					}
+				}
+				if ( allocationCount > 0 ) {
+					log.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl() );
 				}
 			}
 			finally {
-				for ( Connection connection : allConnections ) {
-					connection.close();
+				for ( PooledConnection pooledConnection : allConnections.values() ) {
+					pooledConnection.connection.close();
 				}
 			}
 		}
 
+		/**
+		 * The total number of Connections held by the pool, whether idle or in use
+		 */
 		public int size() {
-			return availableConnections.size();
+			return totalSize.get();
 		}
 
-		protected void removeConnections(int numberToBeRemoved) {
-			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
-				try {
-					if ( connection != null ) {
-						connection.close();
-					}
-					allConnections.remove( connection );
+		protected void removeIdleConnections() {
+			final long now = System.nanoTime();
+			// walk from the tail : the least recently used Connections
+			final Iterator<PooledConnection> iterator = availableConnections.descendingIterator();
+			while ( iterator.hasNext() && size() > minSize ) {
+				final PooledConnection pooledConnection = iterator.next();
+				if ( now - pooledConnection.releasedAt > idleTimeoutNanos && pooledConnection.evict() ) {
+					log.debug( "Removing idle Connection from the pool" );
+					destroy( pooledConnection );
+					statistics.idleConnectionEvicted();
 				}
-				catch (SQLException e) {
-					log.unableToCloseConnection( e );
+			}
+		}
+
+		protected void detectLeaks() {
+			final long now = System.nanoTime();
+			for ( PooledConnection pooledConnection : allConnections.values() ) {
+				if ( pooledConnection.isInUse()
+						&& !pooledConnection.leakReported
+						&& now - pooledConnection.acquiredAt > leakDetectionThresholdNanos ) {
+					pooledConnection.leakReported = true;
+					statistics.leakDetected();
+					DriverManagerConnectionProviderImpl.log.connectionLeakDetected(
+							TimeUnit.NANOSECONDS.toSeconds( leakDetectionThresholdNanos ),
+							pooledConnection.acquisitionTrace
+					);
 				}
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+				final int currentSize = totalSize.get();
+				if ( currentSize >= maxSize ) {
+					return;
+				}
+				if ( !totalSize.compareAndSet( currentSize, currentSize + 1 ) ) {
+					i--;
+					continue;
+				}
+				final PooledConnection pooledConnection = createConnection();
+				pooledConnection.enqueue();
+				availableConnections.offerLast( pooledConnection );
 			}
 		}
 
@@ -338,12 +563,20 @@ public class DriverManagerConnectionProviderImpl
 			return connectionCreator.getUrl();
 		}
 
+		public ConnectionPoolStatistics getStatistics() {
+			return statistics;
+		}
+
 		public static class Builder {
 			private final ConnectionCreator connectionCreator;
 			private boolean autoCommit;
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout = 30_000L;
+			private int maxWaiting = -1;
+			private long idleTimeout = 600L;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -365,12 +598,114 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param acquisitionTimeout in TimeUnit.MILLISECONDS
+			 */
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			/**
+			 * @param maxWaiting The maximum number of threads allowed to wait for a Connection; negative for no limit
+			 */
+			public Builder maxWaiting(int maxWaiting) {
+				this.maxWaiting = maxWaiting;
+				return this;
+			}
+
+			/**
+			 * @param idleTimeout in TimeUnit.SECONDS; zero to disable idle eviction
+			 */
+			public Builder idleTimeout(long idleTimeout) {
+				this.idleTimeout = idleTimeout;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold in TimeUnit.SECONDS; zero to disable leak detection
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public PooledConnections build() {
 				return new PooledConnections( this );
 			}
 		}
 	}
 
+	/**
+	 * A Connection managed by {@link PooledConnections}, along with its pooling state.
+	 * <p/>
+	 * An idle Connection is always either queued in {@link PooledConnections#availableConnections}
+	 * or about to be (re-)queued by the thread releasing it.  It may additionally be referenced by
+	 * the "last released" thread-local of the thread which released it, in which case whoever
+	 * successfully {@link #claim() claims} it first gets it; stale queue entries are simply
+	 * discarded by pollers.
+	 */
+	private static final class PooledConnection {
+		private static final int IDLE = 0;
+		private static final int IN_USE = 1;
+		private static final int REMOVED = 2;
+
+		private final Connection connection;
+		private final AtomicInteger state = new AtomicInteger( IDLE );
+		private final AtomicBoolean queued = new AtomicBoolean();
+		private final WeakReference<PooledConnection> reference = new WeakReference<>( this );
+
+		private volatile long releasedAt = System.nanoTime();
+		private volatile long acquiredAt;
+		private volatile Throwable acquisitionTrace;
+		private volatile boolean leakReported;
+
+		private PooledConnection(Connection connection) {
+			this.connection = connection;
+		}
+
+		boolean claim() {
+			return state.compareAndSet( IDLE, IN_USE );
+		}
+
+		boolean release() {
+			releasedAt = System.nanoTime();
+			acquisitionTrace = null;
+			return state.compareAndSet( IN_USE, IDLE );
+		}
+
+		boolean evict() {
+			return state.compareAndSet( IDLE, REMOVED );
+		}
+
+		void remove() {
+			state.set( REMOVED );
+		}
+
+		boolean isInUse() {
+			return state.get() == IN_USE;
+		}
+
+		void acquired(boolean traceAcquisition) {
+			acquiredAt = System.nanoTime();
+			leakReported = false;
+			if ( traceAcquisition ) {
+				acquisitionTrace = new Exception( "Connection acquisition stack trace" );
+			}
+		}
+
+		/**
+		 * @return {@code true} if the caller is responsible for adding this Connection to the queue
+		 */
+		boolean enqueue() {
+			return queued.compareAndSet( false, true );
+		}
+
+		void dequeued() {
+			queued.set( false );
+		}
+	}
+
 	private static class PoolState {
 
 		//Protecting any lifecycle state change:
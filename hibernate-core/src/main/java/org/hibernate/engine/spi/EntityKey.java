@@ -15,6 +15,10 @@ import java.util.Objects;
 import org.hibernate.AssertionFailure;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.Type;
 
 /**
  * Uniquely identifies of an entity instance in a particular Session by identifier.
@@ -24,7 +28,8 @@ import org.hibernate.pretty.MessageHelper;
  * Information used to determine uniqueness consists of the entity-name and the identifier value (see {@link #equals}).
  * <p/>
  * Performance considerations: lots of instances of this type are created at runtime. Make sure each one is as small as possible
- * by storing just the essential needed.
+ * by storing just the essential needed.  Integral ({@code long}, {@code int} or {@code short}) identifiers are also kept
+ * as a primitive, so that hashing and equality do not go through the identifier {@link Type}.
  *
  * @author Gavin King
  * @author Sanne Grinovero
@@ -35,6 +40,10 @@ public final class EntityKey implements Serializable {
 	private final int hashCode;
 	private final EntityPersister persister;
 
+	// the identifier value, when integral
+	private final boolean integralIdentifier;
+	private final long integralIdentifierValue;
+
 	/**
 	 * Construct a unique identifier for an entity class instance.
 	 * <p/>
@@ -51,14 +60,32 @@ public final class EntityKey implements Serializable {
 			throw new AssertionFailure( "null identifier" );
 		}
 		this.identifier = id;
+		this.integralIdentifier = isIntegral( id, persister.getIdentifierType() );
+		this.integralIdentifierValue = integralIdentifier ? ( (Number) id ).longValue() : 0L;
 		this.hashCode = generateHashCode();
 	}
 
+	private static boolean isIntegral(Object id, Type identifierType) {
+		// the standard types only, whose equality is the one of the (boxed) values
+		if ( id instanceof Long ) {
+			return identifierType instanceof LongType;
+		}
+		if ( id instanceof Integer ) {
+			return identifierType instanceof IntegerType;
+		}
+		if ( id instanceof Short ) {
+			return identifierType instanceof ShortType;
+		}
+		return false;
+	}
+
 	private int generateHashCode() {
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
-		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+		result = 37 * result + ( integralIdentifier
+				? Long.hashCode( integralIdentifierValue )
+				: persister.getIdentifierType().getHashCode( identifier, persister.getFactory() ) );
 		return result;
 	}
 
@@ -98,6 +125,9 @@ public final class EntityKey implements Serializable {
 	}
 
 	private boolean sameIdentifier(final EntityKey otherKey) {
+		if ( integralIdentifier && otherKey.integralIdentifier ) {
+			return integralIdentifierValue == otherKey.integralIdentifierValue;
+		}
 		return persister.getIdentifierType().isEqual( otherKey.identifier, this.identifier, persister.getFactory() );
 	}
 
@@ -53,6 +53,7 @@ import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.sql.exec.spi.TenantSchemaQualifier;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.Type;
 import org.hibernate.type.spi.TypeConfiguration;
@@ -225,6 +226,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getJdbcServices();
 	}
 
+	@Override
+	public TenantSchemaQualifier getTenantSchemaQualifier() {
+		return delegate.getTenantSchemaQualifier();
+	}
+
 	@Override
 	public Dialect getDialect() {
 		return delegate.getDialect();
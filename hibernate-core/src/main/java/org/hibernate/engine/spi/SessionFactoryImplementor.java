@@ -42,6 +42,7 @@ import org.hibernate.query.spi.QueryParameterBindingTypeResolver;
 import org.hibernate.query.sqm.spi.SqmCreationContext;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.exec.spi.TenantSchemaQualifier;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.spi.TypeConfiguration;
 
@@ -179,6 +180,17 @@ public interface SessionFactoryImplementor
 	 */
 	JdbcServices getJdbcServices();
 
+	/**
+	 * Get the qualifier of rendered SQL with the schema of the current tenant
+	 *
+	 * @return The qualifier, or {@code null} if tenant schema qualification is not enabled
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_TENANT_SCHEMA_QUALIFICATION
+	 */
+	default TenantSchemaQualifier getTenantSchemaQualifier() {
+		return null;
+	}
+
 	/**
 	 * Get the SQL dialect.
 	 * <p/>
@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -15,6 +17,10 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.Loadable;
 import org.hibernate.persister.entity.PropertyMapping;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.spi.LoadingEntityEntry;
 
 /**
  * @author Gavin King
@@ -34,6 +40,10 @@ public class SubselectFetch {
 	private final QueryParameters queryParameters;
 	private final Map namedParameterLocMap;
 
+	private final QuerySpec loadingSqlAst;
+	private final TableGroup ownerTableGroup;
+	private final JdbcParameterBindings loadingJdbcParameterBindings;
+
 	/**
 	 * Construct a SubselectFetch instance. The subselect fetch query fragment is generated by
 	 * {@link #createSubselectFetchQueryFragment}.
@@ -99,6 +109,37 @@ public class SubselectFetch {
 		this.alias = alias;
 
 		this.queryString = subselectFetchQueryFragment;
+
+		this.loadingSqlAst = null;
+		this.ownerTableGroup = null;
+		this.loadingJdbcParameterBindings = null;
+	}
+
+	/**
+	 * Construct a SubselectFetch instance based on the SQL AST of the query which loaded
+	 * the owners.  The restriction of that query is re-used (as a subquery) for loading
+	 * the subselect-fetched collections of all {@code resultingEntityKeys} at once.
+	 *
+	 * @param loadingSqlAst - the SQL AST of the query which loaded the owners;
+	 * @param ownerTableGroup - the root TableGroup of {@code loadingSqlAst} for the owners;
+	 * @param loadingJdbcParameterBindings - the parameter bindings used to execute {@code loadingSqlAst};
+	 * @param resultingEntityKeys - the {@link EntityKey} objects for the owners loaded by the query.
+	 */
+	public SubselectFetch(
+			QuerySpec loadingSqlAst,
+			TableGroup ownerTableGroup,
+			JdbcParameterBindings loadingJdbcParameterBindings,
+			Set<EntityKey> resultingEntityKeys) {
+		this.loadingSqlAst = loadingSqlAst;
+		this.ownerTableGroup = ownerTableGroup;
+		this.loadingJdbcParameterBindings = loadingJdbcParameterBindings;
+		this.resultingEntityKeys = resultingEntityKeys;
+
+		this.queryString = null;
+		this.alias = null;
+		this.loadable = null;
+		this.queryParameters = null;
+		this.namedParameterLocMap = null;
 	}
 
 	/**
@@ -182,6 +223,9 @@ public class SubselectFetch {
 
 	@Override
 	public String toString() {
+		if ( loadingSqlAst != null ) {
+			return "SubselectFetch(" + ownerTableGroup.getNavigablePath() + ')';
+		}
 		return "SubselectFetch(" + queryString + ')';
 	}
 
@@ -189,4 +233,92 @@ public class SubselectFetch {
 		return namedParameterLocMap;
 	}
 
+	/**
+	 * Whether this fetch is based on the SQL AST of the loading query, rather
+	 * than on its SQL string
+	 */
+	public boolean isSqlAstBased() {
+		return loadingSqlAst != null;
+	}
+
+	public QuerySpec getLoadingSqlAst() {
+		return loadingSqlAst;
+	}
+
+	public TableGroup getOwnerTableGroup() {
+		return ownerTableGroup;
+	}
+
+	public JdbcParameterBindings getLoadingJdbcParameterBindings() {
+		return loadingJdbcParameterBindings;
+	}
+
+	/**
+	 * Creates a handler registering a SubselectFetch, for each of the root TableGroups of
+	 * {@code loadingSqlAst}, with the entities loaded for that TableGroup.
+	 */
+	public static RegistrationHandler createRegistrationHandler(
+			BatchFetchQueue batchFetchQueue,
+			QuerySpec loadingSqlAst,
+			JdbcParameterBindings loadingJdbcParameterBindings) {
+		return new RegistrationHandler( batchFetchQueue, loadingSqlAst, loadingJdbcParameterBindings );
+	}
+
+	/**
+	 * Collects the entities loaded by a query and registers them with the
+	 * {@link BatchFetchQueue}.  Only entities loaded as the root of the query
+	 * and having subselect-fetched collections are registered.
+	 */
+	public static class RegistrationHandler {
+		private final BatchFetchQueue batchFetchQueue;
+		private final QuerySpec loadingSqlAst;
+		private final JdbcParameterBindings loadingJdbcParameterBindings;
+
+		private final Map<TableGroup, SubselectFetch> subselectFetches = new IdentityHashMap<>();
+
+		private RegistrationHandler(
+				BatchFetchQueue batchFetchQueue,
+				QuerySpec loadingSqlAst,
+				JdbcParameterBindings loadingJdbcParameterBindings) {
+			this.batchFetchQueue = batchFetchQueue;
+			this.loadingSqlAst = loadingSqlAst;
+			this.loadingJdbcParameterBindings = loadingJdbcParameterBindings;
+		}
+
+		public void addKey(EntityKey key, LoadingEntityEntry entry) {
+			if ( !entry.getDescriptor().hasSubselectLoadableCollections() ) {
+				return;
+			}
+
+			final TableGroup ownerTableGroup = resolveOwnerTableGroup( entry );
+			if ( ownerTableGroup == null ) {
+				// the entity was not loaded as a root of the query
+				return;
+			}
+
+			final SubselectFetch subselectFetch = subselectFetches.computeIfAbsent(
+					ownerTableGroup,
+					tableGroup -> new SubselectFetch(
+							loadingSqlAst,
+							tableGroup,
+							loadingJdbcParameterBindings,
+							new HashSet<>()
+					)
+			);
+
+			//noinspection unchecked
+			subselectFetch.getResult().add( key );
+			batchFetchQueue.addSubselect( key, subselectFetch );
+		}
+
+		private TableGroup resolveOwnerTableGroup(LoadingEntityEntry entry) {
+			for ( TableGroup root : loadingSqlAst.getFromClause().getRoots() ) {
+				if ( root.getNavigablePath().equals( entry.getEntityInitializer().getNavigablePath() ) ) {
+					return root;
+				}
+			}
+			return null;
+		}
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.graph.spi;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.graph.GraphSemantic;
+
+/**
+ * Canonical, immutable representation of an {@link AppliedGraph} - its semantic and
+ * the structure of its graph.  Two applied graphs defining the same attribute nodes
+ * and subgraphs under the same semantic have equal keys, whatever the order in which
+ * the nodes were added.
+ * <p/>
+ * Used to include the applied graph in the key of cached query plans.
+ */
+public final class AppliedGraphKey {
+	private static final Comparator<Map.Entry<Class<?>, ? extends SubGraphImplementor<?>>> SUBGRAPH_ORDER =
+			Comparator.comparing( entry -> entry.getKey().getName() );
+
+	/**
+	 * Build the key of the given applied graph
+	 *
+	 * @return The key, or {@code null} if no graph is applied
+	 */
+	public static AppliedGraphKey from(AppliedGraph appliedGraph) {
+		if ( appliedGraph == null || appliedGraph.getSemantic() == null ) {
+			return null;
+		}
+
+		final StringBuilder structure = new StringBuilder();
+		final RootGraphImplementor<?> graph = appliedGraph.getGraph();
+		if ( graph != null ) {
+			structure.append( graph.getGraphedType().getTypeName() );
+			renderGraph( graph, structure );
+		}
+
+		return new AppliedGraphKey( appliedGraph.getSemantic(), structure.toString() );
+	}
+
+	private static void renderGraph(GraphImplementor<?> graph, StringBuilder structure) {
+		final List<AttributeNodeImplementor<?>> attributeNodes = new ArrayList<>( graph.getAttributeNodeImplementors() );
+		attributeNodes.sort( Comparator.comparing( AttributeNodeImplementor::getAttributeName ) );
+
+		structure.append( '{' );
+		for ( int i = 0; i < attributeNodes.size(); i++ ) {
+			if ( i > 0 ) {
+				structure.append( ',' );
+			}
+			final AttributeNodeImplementor<?> attributeNode = attributeNodes.get( i );
+			structure.append( attributeNode.getAttributeName() );
+			renderSubGraphs( "", attributeNode.getSubGraphMap(), structure );
+			renderSubGraphs( "key", attributeNode.getKeySubGraphMap(), structure );
+		}
+		structure.append( '}' );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void renderSubGraphs(
+			String prefix,
+			Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphMap,
+			StringBuilder structure) {
+		if ( subGraphMap == null || subGraphMap.isEmpty() ) {
+			return;
+		}
+
+		final List<Map.Entry<Class<?>, ? extends SubGraphImplementor<?>>> subGraphs = new ArrayList( subGraphMap.entrySet() );
+		subGraphs.sort( SUBGRAPH_ORDER );
+
+		for ( Map.Entry<Class<?>, ? extends SubGraphImplementor<?>> entry : subGraphs ) {
+			structure.append( prefix ).append( '(' ).append( entry.getKey().getName() ).append( ')' );
+			renderGraph( entry.getValue(), structure );
+		}
+	}
+
+	private final GraphSemantic semantic;
+	private final String structure;
+
+	private AppliedGraphKey(GraphSemantic semantic, String structure) {
+		this.semantic = semantic;
+		this.structure = structure;
+	}
+
+	public GraphSemantic getSemantic() {
+		return semantic;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		final AppliedGraphKey that = (AppliedGraphKey) o;
+		return semantic == that.semantic
+				&& structure.equals( that.structure );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * semantic.hashCode() + structure.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "AppliedGraphKey(" + semantic.name() + " " + structure + ")";
+	}
+}
@@ -129,6 +129,7 @@ import org.hibernate.secure.spi.JaccService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 import org.hibernate.service.spi.SessionFactoryServiceRegistryFactory;
+import org.hibernate.sql.exec.spi.TenantSchemaQualifier;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tool.schema.spi.DelayedDropAction;
 import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
@@ -175,6 +176,7 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 
 	private final transient SessionFactoryServiceRegistry serviceRegistry;
 	private final transient JdbcServices jdbcServices;
+	private final transient TenantSchemaQualifier tenantSchemaQualifier;
 
 	private final transient SQLFunctionRegistry sqlFunctionRegistry;
 
@@ -227,6 +229,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		this.uuid = options.getUuid();
 
 		jdbcServices = serviceRegistry.getService( JdbcServices.class );
+		this.tenantSchemaQualifier = TenantSchemaQualifier.from(
+				bootMetamodel,
+				options,
+				jdbcServices.getJdbcEnvironment()
+		);
 
 		this.properties = new HashMap<>();
 		this.properties.putAll( serviceRegistry.getService( ConfigurationService.class ).getSettings() );
@@ -362,6 +369,10 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.temporarySessionOpenOptions = buildTemporarySessionOpenOptions();
 			this.fastSessionServices = new FastSessionServices( this );
 
+			if ( options.isNamedQueryPrecompilationEnabled() ) {
+				queryEngine.getNamedQueryRepository().precompileNamedQueries( this );
+			}
+
 			this.observer.sessionFactoryCreated( this );
 
 			SessionFactoryRegistry.INSTANCE.addSessionFactory(
@@ -608,6 +619,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return jdbcServices;
 	}
 
+	@Override
+	public TenantSchemaQualifier getTenantSchemaQualifier() {
+		return tenantSchemaQualifier;
+	}
+
 	public IdentifierGeneratorFactory getIdentifierGeneratorFactory() {
 		return null;
 	}
@@ -40,8 +40,8 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@Message(value = "Connection properties: %s", id = 10001001)
 	void connectionProperties(Properties connectionProps);
 
-	@LogMessage(level = WARN)
-	@Message(value = "Using Hibernate built-in connection pool (not for production use!)", id = 10001002)
+	@LogMessage(level = INFO)
+	@Message(value = "Using Hibernate built-in connection pool", id = 10001002)
 	void usingHibernateBuiltInConnectionPool();
 
 	@LogMessage(level = INFO)
@@ -70,4 +70,13 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Problem closing pooled connection", id = 10001009)
 	void unableToClosePooledConnection(@Cause SQLException e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Connection leak detection triggered: a pooled connection has been held for more than %s seconds; " +
+			"the stack trace shows where it was acquired", id = 10001010)
+	void connectionLeakDetected(long leakDetectionThreshold, @Cause Throwable acquisitionTrace);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Connection pool settings: acquisition timeout %s ms, max waiting threads %s, idle timeout %s s, leak detection threshold %s s", id = 10001011)
+	void connectionPoolSettings(long acquisitionTimeout, int maxWaiting, long idleTimeout, long leakDetectionThreshold);
 }
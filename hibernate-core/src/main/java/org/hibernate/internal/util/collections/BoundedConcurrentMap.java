@@ -0,0 +1,489 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A bounded {@link ConcurrentMap} whose reads never block.
+ * <p/>
+ * Unlike {@link BoundedConcurrentHashMap}, reads do not take a lock to maintain the eviction policy:
+ * they only record the accessed entry in one of a set of striped, lossy ring buffers.  Writes are
+ * recorded in a queue.  Both are replayed against the policy in batches by whichever thread manages
+ * to acquire the eviction lock without waiting, so eviction happens asynchronously with respect to
+ * the operations causing it and the map may briefly hold a few more entries than its maximum size.
+ * An access that does not fit in its buffer is simply dropped: the policy is a heuristic anyway.
+ * <p/>
+ * The policy is a segmented LRU: new entries enter a probation segment and are promoted to a protected
+ * segment when accessed again.  Entries are evicted from the probation segment first, so a burst of
+ * entries used only once does not flush the entries that are used repeatedly.
+ * <p/>
+ * Neither keys nor values may be {@code null}.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class BoundedConcurrentMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+	private static final int READ_BUFFER_COUNT = ceilingPowerOfTwo(
+			Math.min( 4 * Runtime.getRuntime().availableProcessors(), 64 )
+	);
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 4;
+
+	private static final double PROTECTED_PERCENTAGE = 0.8d;
+
+	private final int maximumSize;
+	private final int maximumProtectedSize;
+	private final BiConsumer<? super K, ? super V> evictionListener;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+
+	private final ReadBuffer<K, V>[] readBuffers;
+	private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	// guarded by the evictionLock
+	private final AccessOrderDeque<K, V> probationSegment = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+
+	/**
+	 * Creates a map holding up to (about) the given number of entries
+	 *
+	 * @param maximumSize The maximum number of entries
+	 */
+	public BoundedConcurrentMap(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	/**
+	 * Creates a map holding up to (about) the given number of entries, notifying the given listener
+	 * of the entries evicted to respect that bound.  The listener is called by whichever thread applies
+	 * the eviction policy while it holds the eviction lock, so it should be quick and not use the map.
+	 *
+	 * @param maximumSize The maximum number of entries
+	 * @param evictionListener Notified of each evicted entry, may be {@code null}
+	 */
+	public BoundedConcurrentMap(int maximumSize, BiConsumer<? super K, ? super V> evictionListener) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive : " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		this.maximumProtectedSize = (int) ( maximumSize * PROTECTED_PERCENTAGE );
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+
+		@SuppressWarnings("unchecked")
+		final ReadBuffer<K, V>[] readBuffers = (ReadBuffer<K, V>[]) new ReadBuffer<?, ?>[READ_BUFFER_COUNT];
+		this.readBuffers = readBuffers;
+		for ( int i = 0; i < READ_BUFFER_COUNT; i++ ) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private V put(K key, V value, boolean onlyIfAbsent) {
+		Objects.requireNonNull( key );
+		Objects.requireNonNull( value );
+
+		// nodes are immutable: an update replaces the node, so the policy never sees a half-updated entry
+		final Node<K, V> node = new Node<>( key, value );
+		while ( true ) {
+			final Node<K, V> prior = data.putIfAbsent( key, node );
+			if ( prior == null ) {
+				afterWrite( () -> onAdd( node ) );
+				return null;
+			}
+			if ( onlyIfAbsent ) {
+				afterRead( prior );
+				return prior.value;
+			}
+			if ( data.replace( key, prior, node ) ) {
+				afterWrite( () -> onReplace( prior, node ) );
+				return prior.value;
+			}
+			// the prior entry was concurrently removed or replaced: try again
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterWrite( () -> onRemove( node ) );
+		return node.value;
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		while ( true ) {
+			final Node<K, V> node = data.get( key );
+			if ( node == null || !node.value.equals( value ) ) {
+				return false;
+			}
+			if ( data.remove( key, node ) ) {
+				afterWrite( () -> onRemove( node ) );
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		Objects.requireNonNull( value );
+		final Node<K, V> node = new Node<>( key, value );
+		while ( true ) {
+			final Node<K, V> prior = data.get( key );
+			if ( prior == null ) {
+				return null;
+			}
+			if ( data.replace( key, prior, node ) ) {
+				afterWrite( () -> onReplace( prior, node ) );
+				return prior.value;
+			}
+		}
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull( newValue );
+		final Node<K, V> node = new Node<>( key, newValue );
+		while ( true ) {
+			final Node<K, V> prior = data.get( key );
+			if ( prior == null || !prior.value.equals( oldValue ) ) {
+				return false;
+			}
+			if ( data.replace( key, prior, node ) ) {
+				afterWrite( () -> onReplace( prior, node ) );
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		for ( Node<K, V> node : data.values() ) {
+			if ( data.remove( node.key, node ) ) {
+				writeBuffer.add( () -> onRemove( node ) );
+			}
+		}
+		tryDrain();
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				final Iterator<Node<K, V>> nodes = data.values().iterator();
+				return new Iterator<Entry<K, V>>() {
+					private Node<K, V> current;
+
+					@Override
+					public boolean hasNext() {
+						return nodes.hasNext();
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						current = nodes.next();
+						return new SimpleImmutableEntry<>( current.key, current.value );
+					}
+
+					@Override
+					public void remove() {
+						if ( current == null ) {
+							throw new IllegalStateException();
+						}
+						final Node<K, V> node = current;
+						current = null;
+						if ( data.remove( node.key, node ) ) {
+							afterWrite( () -> onRemove( node ) );
+						}
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return data.size();
+			}
+
+			@Override
+			public void clear() {
+				BoundedConcurrentMap.this.clear();
+			}
+		};
+	}
+
+
+	// recording ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private void afterRead(Node<K, V> node) {
+		if ( readBufferFor( Thread.currentThread() ).offer( node ) ) {
+			tryDrain();
+		}
+	}
+
+	private void afterWrite(Runnable task) {
+		writeBuffer.add( task );
+		tryDrain();
+	}
+
+	private ReadBuffer<K, V> readBufferFor(Thread thread) {
+		final long id = thread.getId();
+		final int hash = (int) ( ( id * 0x9E3779B97F4A7C15L ) >>> 32 );
+		return readBuffers[hash & ( READ_BUFFER_COUNT - 1 )];
+	}
+
+	/**
+	 * Applies the recorded reads and writes to the policy, unless another thread is already doing so.
+	 * Never blocks.
+	 */
+	private void tryDrain() {
+		do {
+			if ( !evictionLock.tryLock() ) {
+				// the thread holding the lock re-checks the write buffer after releasing it
+				return;
+			}
+			try {
+				for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+					readBuffer.drainTo( this::onAccess );
+				}
+				Runnable task;
+				while ( ( task = writeBuffer.poll() ) != null ) {
+					task.run();
+				}
+				evict();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		} while ( !writeBuffer.isEmpty() );
+	}
+
+
+	// policy (guarded by the evictionLock) ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private void onAccess(Node<K, V> node) {
+		if ( node.segment == Node.PROBATION ) {
+			probationSegment.remove( node );
+			protectedSegment.addLast( node );
+			node.segment = Node.PROTECTED;
+
+			if ( protectedSegment.size > maximumProtectedSize ) {
+				final Node<K, V> demoted = protectedSegment.first;
+				protectedSegment.remove( demoted );
+				probationSegment.addLast( demoted );
+				demoted.segment = Node.PROBATION;
+			}
+		}
+		else if ( node.segment == Node.PROTECTED ) {
+			protectedSegment.remove( node );
+			protectedSegment.addLast( node );
+		}
+		// otherwise the node was not added yet, or already removed
+	}
+
+	private void onAdd(Node<K, V> node) {
+		if ( node.removed ) {
+			// removed before its addition was applied
+			return;
+		}
+		probationSegment.addLast( node );
+		node.segment = Node.PROBATION;
+	}
+
+	private void onRemove(Node<K, V> node) {
+		if ( node.segment == Node.PROBATION ) {
+			probationSegment.remove( node );
+		}
+		else if ( node.segment == Node.PROTECTED ) {
+			protectedSegment.remove( node );
+		}
+		node.segment = Node.NONE;
+		node.removed = true;
+	}
+
+	private void onReplace(Node<K, V> prior, Node<K, V> node) {
+		onRemove( prior );
+		onAdd( node );
+	}
+
+	private void evict() {
+		while ( probationSegment.size + protectedSegment.size > maximumSize ) {
+			final Node<K, V> victim = probationSegment.first != null
+					? probationSegment.first
+					: protectedSegment.first;
+			onRemove( victim );
+			if ( data.remove( victim.key, victim ) && evictionListener != null ) {
+				evictionListener.accept( victim.key, victim.value );
+			}
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		return 1 << ( Integer.SIZE - Integer.numberOfLeadingZeros( value - 1 ) );
+	}
+
+	private static final class Node<K, V> {
+		private static final int NONE = 0;
+		private static final int PROBATION = 1;
+		private static final int PROTECTED = 2;
+
+		private final K key;
+		private final V value;
+
+		// guarded by the evictionLock
+		private int segment;
+		private boolean removed;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Intrusive doubly-linked list of nodes, least recently used first
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		private void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		private void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+	}
+
+	/**
+	 * Single-consumer ring buffer of accessed nodes.  Producers claim a slot with a CAS and give up
+	 * (dropping the access) when it fails or when the buffer is full.
+	 */
+	private static final class ReadBuffer<K, V> {
+		private final AtomicLong writeCounter = new AtomicLong();
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+
+		// only written while holding the evictionLock
+		private volatile long readCounter;
+
+		/**
+		 * @return {@code true} if the buffer should be drained
+		 */
+		private boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			final long size = tail - head;
+			if ( size >= READ_BUFFER_SIZE ) {
+				return true;
+			}
+			if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( (int) ( tail & ( READ_BUFFER_SIZE - 1 ) ), node );
+				return size + 1 == READ_BUFFER_DRAIN_THRESHOLD;
+			}
+			return false;
+		}
+
+		private void drainTo(Consumer<Node<K, V>> consumer) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			for ( ; head < tail; head++ ) {
+				final int index = (int) ( head & ( READ_BUFFER_SIZE - 1 ) );
+				final Node<K, V> node = buffer.get( index );
+				if ( node == null ) {
+					// the slot was claimed but its node is not published yet
+					break;
+				}
+				buffer.lazySet( index, null );
+				consumer.accept( node );
+			}
+			readCounter = head;
+		}
+	}
+}
@@ -22,24 +22,20 @@ public final class StreamCopier {
 	}
 
 	public static final int BUFFER_SIZE = 1024 * 4;
-	public static final byte[] BUFFER = new byte[ BUFFER_SIZE ];
 
 	public static long copy(InputStream from, OutputStream into) {
 		try {
+			// a buffer per copy: LOB streams can be large and slow to read, so copies must not serialize on a shared one
+			final byte[] buffer = new byte[ BUFFER_SIZE ];
 			long totalRead = 0;
 			while ( true ) {
-				synchronized ( BUFFER ) {
-					int amountRead = from.read( BUFFER );
-					if ( amountRead == -1 ) {
-						break;
-					}
-					into.write( BUFFER, 0, amountRead );
-					totalRead += amountRead;
-					if ( amountRead < BUFFER_SIZE ) {
-						// should mean there is no more data in the stream, no need for next read
-						break;
-					}
+				final int amountRead = from.read( buffer );
+				// a short read does not mean the end of the stream (JDBC LOB streams are commonly read in chunks)
+				if ( amountRead == -1 ) {
+					break;
 				}
+				into.write( buffer, 0, amountRead );
+				totalRead += amountRead;
 			}
 			return totalRead;
 		}
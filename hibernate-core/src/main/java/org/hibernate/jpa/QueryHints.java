@@ -18,6 +18,7 @@ import static org.hibernate.annotations.QueryHints.COMMENT;
 import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
 import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
 import static org.hibernate.annotations.QueryHints.FOLLOW_ON_LOCKING;
+import static org.hibernate.annotations.QueryHints.IN_CLAUSE_PARAMETER_EXPANSION;
 import static org.hibernate.annotations.QueryHints.NATIVE_LOCKMODE;
 import static org.hibernate.annotations.QueryHints.PASS_DISTINCT_THROUGH;
 import static org.hibernate.annotations.QueryHints.READ_ONLY;
@@ -111,6 +112,8 @@ public class QueryHints {
 
 	public static final String HINT_PASS_DISTINCT_THROUGH = PASS_DISTINCT_THROUGH;
 
+	public static final String HINT_IN_CLAUSE_PARAMETER_EXPANSION = IN_CLAUSE_PARAMETER_EXPANSION;
+
 	private static final Set<String> HINTS = buildHintsSet();
 
 	private static Set<String> buildHintsSet() {
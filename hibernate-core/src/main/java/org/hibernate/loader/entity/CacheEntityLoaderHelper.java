@@ -157,6 +157,10 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
+		if ( entry == null ) {
+			// the cached data could not be read (e.g. written for an incompatible entity schema)
+			return null;
+		}
 		if ( entry.isReferenceEntry() ) {
 			if ( event.getInstanceToLoad() != null ) {
 				throw new HibernateException(
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+
+import org.jboss.logging.Logger;
+
+/**
+ * CollectionLoader for batch fetching: the requested collection is loaded
+ * together with up to {@code batchSize - 1} other uninitialized collections of
+ * the same role queued in the {@link org.hibernate.engine.spi.BatchFetchQueue},
+ * using a single {@code in} restriction.
+ * <p/>
+ * The select for a given number of keys is built and translated once and
+ * re-used for subsequent batches of the same size.
+ */
+public class CollectionLoaderBatchKey extends CollectionLoaderSupport {
+	private static final Logger log = Logger.getLogger( CollectionLoaderBatchKey.class );
+
+	private final int batchSize;
+	private final ConcurrentMap<Integer, BatchLoadPlan> batchLoadPlans = new ConcurrentHashMap<>();
+
+	public CollectionLoaderBatchKey(
+			PluralAttributeMapping attributeMapping,
+			int batchSize,
+			SessionFactoryImplementor sessionFactory) {
+		super( attributeMapping, sessionFactory );
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	@Override
+	public PersistentCollection load(Object key, SharedSessionContractImplementor session) {
+		final Object[] batchKeys = session.getPersistenceContext()
+				.getBatchFetchQueue()
+				.getCollectionBatch( getLoadable().getCollectionDescriptor(), key, batchSize );
+		final Object[] keys = trimKeys( batchKeys );
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Batch loading collection [%s] : %s",
+					getLoadable().getCollectionDescriptor().getRole(),
+					Arrays.toString( keys )
+			);
+		}
+
+		final BatchLoadPlan loadPlan = batchLoadPlans.computeIfAbsent( keys.length, this::createLoadPlan );
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
+				loadPlan.sqlAstDescriptor.getJdbcParameters().size()
+		);
+		bindKeys( keys, loadPlan.sqlAstDescriptor.getJdbcParameters(), jdbcParameterBindings, session );
+
+		executeLoad( loadPlan.jdbcSelect, jdbcParameterBindings, session );
+
+		for ( int i = 1; i < keys.length; i++ ) {
+			initializeEmptyCollection( keys[i], session );
+		}
+		return initializeEmptyCollection( key, session );
+	}
+
+	private static Object[] trimKeys(Object[] batchKeys) {
+		// the batch is padded with nulls when fewer collections are queued than the batch size
+		int length = batchKeys.length;
+		while ( length > 1 && batchKeys[length - 1] == null ) {
+			length--;
+		}
+		return length == batchKeys.length ? batchKeys : Arrays.copyOf( batchKeys, length );
+	}
+
+	private BatchLoadPlan createLoadPlan(int numberOfKeys) {
+		final MetamodelSelectBuilderProcess.SqlAstDescriptor sqlAstDescriptor = MetamodelSelectBuilderProcess.createSelect(
+				getSessionFactory(),
+				getLoadable(),
+				null,
+				getLoadable().getKeyDescriptor(),
+				null,
+				numberOfKeys,
+				LoadQueryInfluencers.NONE,
+				LockOptions.NONE
+		);
+		return new BatchLoadPlan( sqlAstDescriptor, translate( sqlAstDescriptor.getSqlAst() ) );
+	}
+
+	private static class BatchLoadPlan {
+		private final MetamodelSelectBuilderProcess.SqlAstDescriptor sqlAstDescriptor;
+		private final JdbcSelect jdbcSelect;
+
+		private BatchLoadPlan(
+				MetamodelSelectBuilderProcess.SqlAstDescriptor sqlAstDescriptor,
+				JdbcSelect jdbcSelect) {
+			this.sqlAstDescriptor = sqlAstDescriptor;
+			this.jdbcSelect = jdbcSelect;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.internal;
+
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+
+/**
+ * CollectionLoader for loading a single collection by its key.  The SQL is
+ * built once and re-used for every load.
+ */
+public class CollectionLoaderSingleKey extends CollectionLoaderSupport {
+	private final MetamodelSelectBuilderProcess.SqlAstDescriptor sqlAstDescriptor;
+	private final JdbcSelect jdbcSelect;
+
+	public CollectionLoaderSingleKey(
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
+		super( attributeMapping, sessionFactory );
+
+		this.sqlAstDescriptor = MetamodelSelectBuilderProcess.createSelect(
+				sessionFactory,
+				attributeMapping,
+				null,
+				attributeMapping.getKeyDescriptor(),
+				null,
+				1,
+				LoadQueryInfluencers.NONE,
+				LockOptions.NONE
+		);
+		this.jdbcSelect = translate( sqlAstDescriptor.getSqlAst() );
+	}
+
+	@Override
+	public PersistentCollection load(Object key, SharedSessionContractImplementor session) {
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
+				sqlAstDescriptor.getJdbcParameters().size()
+		);
+		bindKeys( new Object[] { key }, sqlAstDescriptor.getJdbcParameters(), jdbcParameterBindings, session );
+
+		executeLoad( jdbcSelect, jdbcParameterBindings, session );
+
+		return initializeEmptyCollection( key, session );
+	}
+}
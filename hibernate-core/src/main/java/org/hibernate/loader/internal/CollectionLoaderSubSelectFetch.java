@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.internal;
+
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.type.CollectionType;
+
+/**
+ * CollectionLoader for subselect fetching: the collections of all the owners
+ * loaded by the same query are loaded at once, by restricting the collection key
+ * with the from-clause and restriction of that query used as a subquery.
+ * <p/>
+ * The select depends on the owner query and is therefore built for each
+ * {@link SubselectFetch}.
+ */
+public class CollectionLoaderSubSelectFetch extends CollectionLoaderSupport {
+	private final SubselectFetch subselect;
+
+	public CollectionLoaderSubSelectFetch(
+			PluralAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			SessionFactoryImplementor sessionFactory) {
+		super( attributeMapping, sessionFactory );
+		assert subselect.isSqlAstBased();
+		this.subselect = subselect;
+	}
+
+	@Override
+	public PersistentCollection load(Object key, SharedSessionContractImplementor session) {
+		final MetamodelSelectBuilderProcess.SqlAstDescriptor sqlAstDescriptor = MetamodelSelectBuilderProcess.createSubSelectFetchSelect(
+				getSessionFactory(),
+				getLoadable(),
+				subselect,
+				LoadQueryInfluencers.NONE,
+				LockOptions.NONE
+		);
+
+		executeLoad(
+				translate( sqlAstDescriptor.getSqlAst() ),
+				subselect.getLoadingJdbcParameterBindings(),
+				session
+		);
+
+		// initialize the collections of the owners for which the query returned no rows
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final CollectionType collectionType = getLoadable().getCollectionDescriptor().getCollectionType();
+		for ( Object resultingEntityKey : subselect.getResult() ) {
+			final Object owner = persistenceContext.getEntity( (EntityKey) resultingEntityKey );
+			if ( owner != null ) {
+				initializeEmptyCollection( collectionType.getKeyOfOwner( owner, session ), session );
+			}
+		}
+
+		return initializeEmptyCollection( key, session );
+	}
+}
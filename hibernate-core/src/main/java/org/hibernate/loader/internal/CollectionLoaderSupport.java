@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.internal;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.sql.ast.Clause;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.results.internal.LoadingCollectionEntryImpl;
+import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
+
+/**
+ * Common support for the SQL AST based {@link CollectionLoader} implementations
+ */
+public abstract class CollectionLoaderSupport implements CollectionLoader {
+	private final PluralAttributeMapping attributeMapping;
+	private final SessionFactoryImplementor sessionFactory;
+
+	protected CollectionLoaderSupport(
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
+		this.attributeMapping = attributeMapping;
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return attributeMapping;
+	}
+
+	protected SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	protected JdbcSelect translate(SelectStatement sqlAst) {
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		return jdbcServices.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory )
+				.translate( sqlAst );
+	}
+
+	/**
+	 * Bind the given collection keys to the given parameters, in order
+	 */
+	protected void bindKeys(
+			Object[] keys,
+			List<JdbcParameter> jdbcParameters,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		final Iterator<JdbcParameter> paramItr = jdbcParameters.iterator();
+
+		for ( Object key : keys ) {
+			attributeMapping.getKeyDescriptor().visitJdbcValues(
+					key,
+					Clause.WHERE,
+					(value, type) -> {
+						assert paramItr.hasNext();
+						final JdbcParameter parameter = paramItr.next();
+						jdbcParameterBindings.addBinding(
+								parameter,
+								new JdbcParameterBinding() {
+									@Override
+									public JdbcMapping getBindType() {
+										return type;
+									}
+
+									@Override
+									public Object getBindValue() {
+										return value;
+									}
+								}
+						);
+					},
+					session
+			);
+		}
+		assert !paramItr.hasNext();
+	}
+
+	protected void executeLoad(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		JdbcSelectExecutorStandardImpl.INSTANCE.list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				createExecutionContext( session ),
+				RowTransformerPassThruImpl.instance()
+		);
+	}
+
+	/**
+	 * Collections for which the load query returned no rows are not seen by the
+	 * result processing at all - initialize them as empty.
+	 */
+	protected PersistentCollection initializeEmptyCollection(Object key, SharedSessionContractImplementor session) {
+		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
+		final PersistentCollection collection = session.getPersistenceContext().getCollection( collectionKey );
+
+		if ( collection != null && !collection.wasInitialized() ) {
+			new LoadingCollectionEntryImpl(
+					attributeMapping.getCollectionDescriptor(),
+					null,
+					key,
+					collection
+			).finishLoading( createExecutionContext( session ) );
+		}
+
+		return collection;
+	}
+
+	private static ExecutionContext createExecutionContext(SharedSessionContractImplementor session) {
+		return new ExecutionContext() {
+			@Override
+			public SharedSessionContractImplementor getSession() {
+				return session;
+			}
+
+			@Override
+			public QueryOptions getQueryOptions() {
+				return QueryOptions.NONE;
+			}
+
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return QueryParameterBindings.NO_PARAM_BINDINGS;
+			}
+
+			@Override
+			public Callback getCallback() {
+				return null;
+			}
+		};
+	}
+}
@@ -17,10 +17,13 @@ import org.hibernate.engine.FetchStyle;
 import org.hibernate.engine.FetchTiming;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.loader.spi.Loadable;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.ComparisonOperator;
 import org.hibernate.query.NavigablePath;
 import org.hibernate.sql.ast.spi.SimpleFromClauseAccessImpl;
@@ -28,15 +31,18 @@ import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.ast.spi.SqlExpressionResolver;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.SqlTuple;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
+import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcParameter;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
 import org.hibernate.sql.results.spi.CircularFetchDetector;
 import org.hibernate.sql.results.spi.DomainResult;
 import org.hibernate.sql.results.spi.Fetch;
@@ -52,6 +58,8 @@ import org.jboss.logging.Logger;
 public class MetamodelSelectBuilderProcess {
 	private static final Logger log = Logger.getLogger( MetamodelSelectBuilderProcess.class );
 
+	private static final String SUBSELECT_ALIAS_STEM = "loading_";
+
 	public interface SqlAstDescriptor {
 		SelectStatement getSqlAst();
 		List<JdbcParameter> getJdbcParameters();
@@ -81,6 +89,36 @@ public class MetamodelSelectBuilderProcess {
 		return process.execute();
 	}
 
+	/**
+	 * Create a select for loading the collections of all the owners loaded by the query described
+	 * by the given {@link SubselectFetch}.  The collection key is restricted using the owner
+	 * query's from-clause and restriction as a subquery.
+	 *
+	 * The returned descriptor has no JDBC parameters of its own - execute it using
+	 * {@link SubselectFetch#getLoadingJdbcParameterBindings()}.
+	 */
+	@SuppressWarnings("WeakerAccess")
+	public static SqlAstDescriptor createSubSelectFetchSelect(
+			SessionFactoryImplementor sessionFactory,
+			PluralAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions) {
+		final MetamodelSelectBuilderProcess process = new MetamodelSelectBuilderProcess(
+				sessionFactory,
+				attributeMapping,
+				null,
+				attributeMapping.getKeyDescriptor(),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions,
+				subselect
+		);
+
+		return process.execute();
+	}
+
 	private final SqlAstCreationContext creationContext;
 	private final Loadable loadable;
 	private final List<ModelPart> partsToSelect;
@@ -89,6 +127,7 @@ public class MetamodelSelectBuilderProcess {
 	private final int numberOfKeysToLoad;
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
+	private final SubselectFetch subselect;
 
 
 	private MetamodelSelectBuilderProcess(
@@ -100,6 +139,29 @@ public class MetamodelSelectBuilderProcess {
 			int numberOfKeysToLoad,
 			LoadQueryInfluencers loadQueryInfluencers,
 			LockOptions lockOptions) {
+		this(
+				creationContext,
+				loadable,
+				partsToSelect,
+				restrictedPart,
+				domainResult,
+				numberOfKeysToLoad,
+				loadQueryInfluencers,
+				lockOptions,
+				null
+		);
+	}
+
+	private MetamodelSelectBuilderProcess(
+			SqlAstCreationContext creationContext,
+			Loadable loadable,
+			List<ModelPart> partsToSelect,
+			ModelPart restrictedPart,
+			DomainResult domainResult,
+			int numberOfKeysToLoad,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			SubselectFetch subselect) {
 		this.creationContext = creationContext;
 		this.loadable = loadable;
 		this.partsToSelect = partsToSelect;
@@ -108,6 +170,7 @@ public class MetamodelSelectBuilderProcess {
 		this.numberOfKeysToLoad = numberOfKeysToLoad;
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.lockOptions = lockOptions != null ? lockOptions : LockOptions.NONE;
+		this.subselect = subselect;
 	}
 
 	private SqlAstDescriptor execute() {
@@ -127,7 +190,9 @@ public class MetamodelSelectBuilderProcess {
 
 		final TableGroup rootTableGroup = loadable.createRootTableGroup(
 				rootNavigablePath,
-				null,
+				// the subquery re-uses the aliases of the owner query, which are all generated
+				// from single-letter stems - make sure the loaded table's alias differs
+				subselect == null ? null : SUBSELECT_ALIAS_STEM,
 				null,
 				lockOptions.getLockMode(),
 				sqlAstCreationState.getSqlAliasBaseManager(),
@@ -175,6 +240,20 @@ public class MetamodelSelectBuilderProcess {
 			domainResults = Collections.singletonList( domainResult );
 		}
 
+		if ( subselect != null ) {
+			applySubSelectRestriction(
+					rootQuerySpec,
+					rootTableGroup,
+					(ForeignKeyDescriptor) restrictedPart,
+					sqlAstCreationState
+			);
+
+			return new SqlAstDescriptorImpl(
+					new SelectStatement( rootQuerySpec, domainResults ),
+					Collections.emptyList()
+			);
+		}
+
 		final int numberOfKeyColumns = restrictedPart.getJdbcTypeCount(
 				creationContext.getDomainModel().getTypeConfiguration()
 		);
@@ -210,26 +289,36 @@ public class MetamodelSelectBuilderProcess {
 		final SqlExpressionResolver sqlExpressionResolver = sqlAstCreationState.getSqlExpressionResolver();
 
 		if ( numberOfKeyColumns == 1 ) {
-			assert keyPart instanceof BasicValuedModelPart;
-			final BasicValuedModelPart basicKeyPart = (BasicValuedModelPart) keyPart;
-
-			final JdbcMapping jdbcMapping = basicKeyPart.getJdbcMapping();
-
-			final String tableExpression = basicKeyPart.getContainingTableExpression();
-			final String columnExpression = basicKeyPart.getMappedColumnExpression();
-			final TableReference tableReference = rootTableGroup.resolveTableReference( tableExpression );
-			final ColumnReference columnRef = (ColumnReference) sqlExpressionResolver.resolveSqlExpression(
-					SqlExpressionResolver.createColumnReferenceKey( tableReference, columnExpression ),
-					p -> new ColumnReference(
-							tableReference,
-							columnExpression,
-							jdbcMapping,
-							creationContext.getSessionFactory()
-					)
-			);
+			final ColumnReference columnRef;
+			if ( keyPart instanceof ForeignKeyDescriptor ) {
+				columnRef = resolveKeyColumnReferences(
+						(ForeignKeyDescriptor) keyPart,
+						rootTableGroup,
+						sqlExpressionResolver
+				).get( 0 );
+			}
+			else {
+				assert keyPart instanceof BasicValuedModelPart;
+				final BasicValuedModelPart basicKeyPart = (BasicValuedModelPart) keyPart;
+
+				final JdbcMapping jdbcMapping = basicKeyPart.getJdbcMapping();
+
+				final String tableExpression = basicKeyPart.getContainingTableExpression();
+				final String columnExpression = basicKeyPart.getMappedColumnExpression();
+				final TableReference tableReference = rootTableGroup.resolveTableReference( tableExpression );
+				columnRef = (ColumnReference) sqlExpressionResolver.resolveSqlExpression(
+						SqlExpressionResolver.createColumnReferenceKey( tableReference, columnExpression ),
+						p -> new ColumnReference(
+								tableReference,
+								columnExpression,
+								jdbcMapping,
+								creationContext.getSessionFactory()
+						)
+				);
+			}
 
 			if ( numberOfKeysToLoad == 1 ) {
-				final JdbcParameter jdbcParameter = new JdbcParameterImpl( jdbcMapping );
+				final JdbcParameter jdbcParameter = new JdbcParameterImpl( columnRef.getJdbcMapping() );
 				jdbcParameterConsumer.accept( jdbcParameter );
 
 				rootQuerySpec.applyPredicate(
@@ -287,6 +376,85 @@ public class MetamodelSelectBuilderProcess {
 		}
 	}
 
+	private void applySubSelectRestriction(
+			QuerySpec rootQuerySpec,
+			TableGroup rootTableGroup,
+			ForeignKeyDescriptor fkDescriptor,
+			LoaderSqlAstCreationState sqlAstCreationState) {
+		final SqlExpressionResolver sqlExpressionResolver = sqlAstCreationState.getSqlExpressionResolver();
+
+		final List<ColumnReference> keyColumnReferences = resolveKeyColumnReferences(
+				fkDescriptor,
+				rootTableGroup,
+				sqlExpressionResolver
+		);
+		final Expression keyExpression = keyColumnReferences.size() == 1
+				? keyColumnReferences.get( 0 )
+				: new SqlTuple( keyColumnReferences, fkDescriptor );
+
+		rootQuerySpec.applyPredicate(
+				new InSubQueryPredicate( keyExpression, generateSubSelect( fkDescriptor ), false )
+		);
+	}
+
+	private QuerySpec generateSubSelect(ForeignKeyDescriptor fkDescriptor) {
+		final QuerySpec loadingSqlAst = subselect.getLoadingSqlAst();
+		final TableGroup ownerTableGroup = subselect.getOwnerTableGroup();
+
+		final QuerySpec subQuery = new QuerySpec( false );
+
+		// select the fk target column(s) of the owner
+		fkDescriptor.visitColumnMappings(
+				(referringTable, referringColumn, targetTable, targetColumn, jdbcMapping) -> {
+					final TableReference tableReference = ownerTableGroup.resolveTableReference( targetTable );
+					final int position = subQuery.getSelectClause().getSqlSelections().size();
+					subQuery.getSelectClause().addSqlSelection(
+							new SqlSelectionImpl(
+									position + 1,
+									position,
+									new ColumnReference(
+											tableReference,
+											targetColumn,
+											jdbcMapping,
+											creationContext.getSessionFactory()
+									),
+									jdbcMapping
+							)
+					);
+				}
+		);
+
+		// from the owner query's from-clause, restricted by its restriction
+		loadingSqlAst.getFromClause().visitRoots( subQuery.getFromClause()::addRoot );
+		subQuery.applyPredicate( loadingSqlAst.getWhereClauseRestrictions() );
+
+		return subQuery;
+	}
+
+	private List<ColumnReference> resolveKeyColumnReferences(
+			ForeignKeyDescriptor fkDescriptor,
+			TableGroup rootTableGroup,
+			SqlExpressionResolver sqlExpressionResolver) {
+		final List<ColumnReference> columnReferences = new ArrayList<>();
+		fkDescriptor.visitColumnMappings(
+				(referringTable, referringColumn, targetTable, targetColumn, jdbcMapping) -> {
+					final TableReference tableReference = rootTableGroup.resolveTableReference( referringTable );
+					columnReferences.add(
+							(ColumnReference) sqlExpressionResolver.resolveSqlExpression(
+									SqlExpressionResolver.createColumnReferenceKey( tableReference, referringColumn ),
+									p -> new ColumnReference(
+											tableReference,
+											referringColumn,
+											jdbcMapping,
+											creationContext.getSessionFactory()
+									)
+							)
+					);
+				}
+		);
+		return columnReferences;
+	}
+
 	private final CircularFetchDetector circularFetchDetector = new CircularFetchDetector();
 	private int fetchDepth = 0;
 
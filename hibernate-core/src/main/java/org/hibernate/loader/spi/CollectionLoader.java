@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.spi;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+/**
+ * Loader for initializing the elements of a {@link PersistentCollection}
+ * by its collection key.  Depending on the implementation, other collections
+ * of the same role may be initialized by the same SQL query.
+ */
+public interface CollectionLoader extends Loader {
+	@Override
+	PluralAttributeMapping getLoadable();
+
+	/**
+	 * Initialize the collection identified by the given key, returning it
+	 */
+	PersistentCollection load(Object key, SharedSessionContractImplementor session);
+}
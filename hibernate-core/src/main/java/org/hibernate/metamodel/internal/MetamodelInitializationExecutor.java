@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.metamodel.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs the independent steps of the runtime metamodel creation (persister instantiation,
+ * mapping model preparation of each entity hierarchy, ...) either serially on the calling
+ * thread or concurrently on a dedicated fork-join pool.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_METAMODEL_INITIALIZATION
+ */
+public class MetamodelInitializationExecutor implements AutoCloseable {
+	/**
+	 * Executor running all steps serially on the calling thread
+	 */
+	public static final MetamodelInitializationExecutor SERIAL = new MetamodelInitializationExecutor( null );
+
+	/**
+	 * Create an executor, concurrent when {@code parallel} is {@code true}
+	 */
+	public static MetamodelInitializationExecutor create(boolean parallel) {
+		return create( parallel, "hibernate-metamodel-initialization" );
+	}
+
+	/**
+	 * Create an executor, concurrent when {@code parallel} is {@code true}, naming
+	 * its threads with the given prefix
+	 */
+	public static MetamodelInitializationExecutor create(boolean parallel, String threadNamePrefix) {
+		if ( !parallel || Runtime.getRuntime().availableProcessors() == 1 ) {
+			return SERIAL;
+		}
+
+		// propagate the bootstrapping thread's context ClassLoader to the workers, as the threads
+		// of the common pool may not be able to see the application classes
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				Runtime.getRuntime().availableProcessors(),
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setName( threadNamePrefix + "-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		return new MetamodelInitializationExecutor( pool );
+	}
+
+	private final ForkJoinPool pool;
+
+	private MetamodelInitializationExecutor(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	public boolean isParallel() {
+		return pool != null;
+	}
+
+	/**
+	 * Apply the function to each of the items, returning the results in the iteration
+	 * order of the items.  If any of the applications fails, the first failure (in
+	 * iteration order) is propagated once all of them have completed.
+	 */
+	public <T, R> List<R> map(Collection<T> items, Function<T, R> function) {
+		final List<R> results = new ArrayList<>( items.size() );
+
+		if ( pool == null ) {
+			for ( T item : items ) {
+				results.add( function.apply( item ) );
+			}
+			return results;
+		}
+
+		final List<ForkJoinTask<R>> tasks = new ArrayList<>( items.size() );
+		for ( T item : items ) {
+			tasks.add( pool.submit( () -> function.apply( item ) ) );
+		}
+
+		RuntimeException failure = null;
+		for ( ForkJoinTask<R> task : tasks ) {
+			try {
+				results.add( task.join() );
+			}
+			catch (RuntimeException e) {
+				if ( failure == null ) {
+					failure = e;
+				}
+			}
+		}
+
+		if ( failure != null ) {
+			throw failure;
+		}
+
+		return results;
+	}
+
+	/**
+	 * Apply the function to each of the items, as {@link #map}, except that the items of the
+	 * same group are applied serially, in their iteration order - e.g. because they share
+	 * state which is not safe for concurrent use.  The groups are applied concurrently.
+	 */
+	public <T, K, R> List<R> mapGrouped(Collection<T> items, Function<T, K> grouping, Function<T, R> function) {
+		if ( pool == null ) {
+			return map( items, function );
+		}
+
+		final List<T> itemList = new ArrayList<>( items );
+		final Map<K, List<Integer>> itemIndexesByGroup = new LinkedHashMap<>();
+		for ( int i = 0; i < itemList.size(); i++ ) {
+			itemIndexesByGroup.computeIfAbsent( grouping.apply( itemList.get( i ) ), k -> new ArrayList<>() ).add( i );
+		}
+
+		// each slot is written by a single task, and read once all of them have completed
+		final Object[] results = new Object[ itemList.size() ];
+		forEach(
+				itemIndexesByGroup.values(),
+				itemIndexes -> {
+					for ( int index : itemIndexes ) {
+						results[index] = function.apply( itemList.get( index ) );
+					}
+				}
+		);
+
+		final List<R> resultList = new ArrayList<>( results.length );
+		for ( Object result : results ) {
+			//noinspection unchecked
+			resultList.add( (R) result );
+		}
+		return resultList;
+	}
+
+	/**
+	 * Apply the action to each of the items
+	 *
+	 * @see #map
+	 */
+	public <T> void forEach(Collection<T> items, Consumer<T> action) {
+		map(
+				items,
+				item -> {
+					action.accept( item );
+					return null;
+				}
+		);
+	}
+
+	@Override
+	public void close() {
+		if ( pool != null ) {
+			pool.shutdownNow();
+		}
+	}
+}
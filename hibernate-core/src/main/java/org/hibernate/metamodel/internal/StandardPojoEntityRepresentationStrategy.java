@@ -10,6 +10,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -19,6 +20,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.bytecode.internal.MethodHandleReflectionOptimizerImpl;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
@@ -233,7 +235,7 @@ public class StandardPojoEntityRepresentationStrategy implements EntityRepresent
 	private ReflectionOptimizer resolveReflectionOptimizer(
 			PersistentClass bootType,
 			BytecodeProvider bytecodeProvider,
-			@SuppressWarnings("unused") SessionFactoryImplementor sessionFactory) {
+			SessionFactoryImplementor sessionFactory) {
 		final Class javaTypeToReflect;
 		if ( proxyFactory != null ) {
 			assert proxyJtd != null;
@@ -246,6 +248,7 @@ public class StandardPojoEntityRepresentationStrategy implements EntityRepresent
 		final List<String> getterNames = new ArrayList<>();
 		final List<String> setterNames = new ArrayList<>();
 		final List<Class> getterTypes = new ArrayList<>();
+		final Map<String, PropertyAccess> orderedPropertyAccessMap = new LinkedHashMap<>();
 
 		boolean foundCustomAccessor = false;
 
@@ -258,6 +261,7 @@ public class StandardPojoEntityRepresentationStrategy implements EntityRepresent
 			final PropertyAccess propertyAccess = makePropertyAccess( property );
 
 			propertyAccessMap.put( property.getName(), propertyAccess );
+			orderedPropertyAccessMap.put( property.getName(), propertyAccess );
 
 			if ( ! (propertyAccess instanceof PropertyAccessBasicImpl) ) {
 				foundCustomAccessor = true;
@@ -271,8 +275,10 @@ public class StandardPojoEntityRepresentationStrategy implements EntityRepresent
 			i++;
 		}
 
+		// the (legacy) reflection optimizer takes precedence over the generated accessors, which are
+		// governed by their own setting - see AvailableSettings#USE_GENERATED_PROPERTY_ACCESSORS
 		if ( foundCustomAccessor || ! Environment.useReflectionOptimizer() ) {
-			return null;
+			return resolveGeneratedAccessOptimizer( orderedPropertyAccessMap, bytecodeProvider, sessionFactory );
 		}
 
 		return bytecodeProvider.getReflectionOptimizer(
@@ -283,6 +289,32 @@ public class StandardPojoEntityRepresentationStrategy implements EntityRepresent
 		);
 	}
 
+	private ReflectionOptimizer resolveGeneratedAccessOptimizer(
+			Map<String, PropertyAccess> orderedPropertyAccessMap,
+			BytecodeProvider bytecodeProvider,
+			SessionFactoryImplementor sessionFactory) {
+		// the state of enhanced entities may contain un-fetched attributes, which must be accessed individually
+		if ( isBytecodeEnhanced || !sessionFactory.getSessionFactoryOptions().isGeneratedPropertyAccessorsEnabled() ) {
+			return null;
+		}
+
+		final Class<?> mappedJavaType = mappedJtd.getJavaType();
+		try {
+			final ReflectionOptimizer generated = bytecodeProvider.getReflectionOptimizer(
+					mappedJavaType,
+					orderedPropertyAccessMap
+			);
+			if ( generated != null ) {
+				return generated;
+			}
+		}
+		catch (RuntimeException e) {
+			LOG.debugf( e, "Unable to generate the property accessor of entity `%s`", mappedJavaType.getName() );
+		}
+
+		return MethodHandleReflectionOptimizerImpl.from( mappedJavaType, orderedPropertyAccessMap );
+	}
+
 	private PropertyAccess makePropertyAccess(Property bootAttributeDescriptor) {
 		PropertyAccessStrategy strategy = null;
 
@@ -7,9 +7,11 @@
 package org.hibernate.metamodel.mapping.internal;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.metamodel.internal.MetamodelInitializationExecutor;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.entity.EntityPersister;
@@ -24,9 +26,21 @@ public class MappingModelCreationProcess {
 	public static void process(
 			Map<String,EntityPersister> entityPersisterMap,
 			RuntimeModelCreationContext creationContext) {
+		process( entityPersisterMap, creationContext, MetamodelInitializationExecutor.SERIAL );
+	}
+
+	/**
+	 * Triggers creation of the mapping model, preparing the mapping model of the different
+	 * entity hierarchies using the given executor
+	 */
+	public static void process(
+			Map<String,EntityPersister> entityPersisterMap,
+			RuntimeModelCreationContext creationContext,
+			MetamodelInitializationExecutor executor) {
 		final MappingModelCreationProcess process = new MappingModelCreationProcess(
 				entityPersisterMap,
-				creationContext
+				creationContext,
+				executor
 		);
 		process.execute();
 	}
@@ -35,13 +49,18 @@ public class MappingModelCreationProcess {
 
 	private final RuntimeModelCreationContext creationContext;
 
-	private String currentlyProcessingRole;
+	private final MetamodelInitializationExecutor executor;
+
+	// the role being processed by each thread, as hierarchies may be processed concurrently
+	private final ThreadLocal<String> currentlyProcessingRole = new ThreadLocal<>();
 
 	private MappingModelCreationProcess(
 			Map<String,EntityPersister> entityPersisterMap,
-			RuntimeModelCreationContext creationContext) {
+			RuntimeModelCreationContext creationContext,
+			MetamodelInitializationExecutor executor) {
 		this.entityPersisterMap = entityPersisterMap;
 		this.creationContext = creationContext;
+		this.executor = executor;
 	}
 
 	public RuntimeModelCreationContext getCreationContext() {
@@ -60,17 +79,28 @@ public class MappingModelCreationProcess {
 			entityPersister.linkWithSuperType( this );
 		}
 
-		for ( EntityPersister entityPersister : entityPersisterMap.values() ) {
-			currentlyProcessingRole = entityPersister.getEntityName();
-
-			entityPersister.prepareMappingModel( this );
-		}
+		// preparing the mapping model of an entity prepares its super types first, but only refers to
+		// the (not yet prepared) entities of other hierarchies - which makes the hierarchies independent
+		executor.forEach(
+				groupByHierarchy().values(),
+				hierarchy -> {
+					for ( EntityPersister entityPersister : hierarchy ) {
+						currentlyProcessingRole.set( entityPersister.getEntityName() );
+
+						entityPersister.prepareMappingModel( this );
+					}
+					currentlyProcessingRole.remove();
+				}
+		);
 
+		// finishing the initialization resolves foreign-keys, which may complete the mappings of
+		// other hierarchies : always done serially
 		for ( EntityPersister entityPersister : entityPersisterMap.values() ) {
-			currentlyProcessingRole = entityPersister.getEntityName();
+			currentlyProcessingRole.set( entityPersister.getEntityName() );
 
 			entityPersister.finishMappingModelInitialization( this );
 		}
+		currentlyProcessingRole.remove();
 
 		while ( postInitCallbacks != null && ! postInitCallbacks.isEmpty() ) {
 			// copy to avoid CCME
@@ -85,25 +115,35 @@ public class MappingModelCreationProcess {
 		}
 	}
 
+	private Map<String, List<EntityPersister>> groupByHierarchy() {
+		final Map<String, List<EntityPersister>> hierarchies = new LinkedHashMap<>();
+		for ( EntityPersister entityPersister : entityPersisterMap.values() ) {
+			hierarchies.computeIfAbsent( entityPersister.getRootEntityName(), k -> new ArrayList<>() )
+					.add( entityPersister );
+		}
+		return hierarchies;
+	}
+
 	public <T extends ModelPart> T processSubPart(
 			String localName,
 			SubPartMappingProducer<T> subPartMappingProducer) {
-		assert currentlyProcessingRole != null;
+		final String initialRole = currentlyProcessingRole.get();
+		assert initialRole != null;
 
-		final String initialRole = currentlyProcessingRole;
-		currentlyProcessingRole = currentlyProcessingRole + '#' + localName;
+		final String subPartRole = initialRole + '#' + localName;
+		currentlyProcessingRole.set( subPartRole );
 
 		try {
-			return subPartMappingProducer.produceSubMapping( currentlyProcessingRole, this );
+			return subPartMappingProducer.produceSubMapping( subPartRole, this );
 		}
 		finally {
-			currentlyProcessingRole = initialRole;
+			currentlyProcessingRole.set( initialRole );
 		}
 	}
 
 	private List<PostInitCallback> postInitCallbacks;
 
-	public void registerInitializationCallback(PostInitCallback callback) {
+	public synchronized void registerInitializationCallback(PostInitCallback callback) {
 		if ( postInitCallbacks == null ) {
 			postInitCallbacks = new ArrayList<>();
 		}
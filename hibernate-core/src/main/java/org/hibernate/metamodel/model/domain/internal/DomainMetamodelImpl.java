@@ -43,6 +43,7 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting;
+import org.hibernate.metamodel.internal.MetamodelInitializationExecutor;
 import org.hibernate.metamodel.mapping.MappingModelExpressable;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
 import org.hibernate.metamodel.model.domain.EmbeddableDomainType;
@@ -179,28 +180,34 @@ public class DomainMetamodelImpl implements DomainMetamodel, MetamodelImplemento
 
 		final JpaStaticMetaModelPopulationSetting jpaStaticMetaModelPopulationSetting = determineJpaMetaModelPopulationSetting( sessionFactory.getProperties() );
 
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
-		);
+		try ( MetamodelInitializationExecutor executor = MetamodelInitializationExecutor.create(
+				sessionFactory.getSessionFactoryOptions().isParallelMetamodelInitializationEnabled() ) ) {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					sessionFactory.getCache(),
+					persisterFactory,
+					runtimeModelCreationContext,
+					executor
+			);
 
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
-		);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					sessionFactory.getCache(),
+					persisterFactory,
+					runtimeModelCreationContext,
+					executor
+			);
 
 
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// after *all* persisters and named queries are registered
+			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+			// after *all* persisters and named queries are registered
 
-		MappingModelCreationProcess.process(
-				entityPersisterMap,
-				runtimeModelCreationContext
-		);
+			MappingModelCreationProcess.process(
+					entityPersisterMap,
+					runtimeModelCreationContext,
+					executor
+			);
+		}
 
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
 			persister.postInstantiate();
@@ -223,20 +230,32 @@ public class DomainMetamodelImpl implements DomainMetamodel, MetamodelImplemento
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
-			entityPersisterMap.put( model.getEntityName(), cp );
+			RuntimeModelCreationContext modelCreationContext,
+			MetamodelInitializationExecutor executor) {
+		// the persisters of different hierarchies are independent from each other and can be created
+		// concurrently.  The entities of a hierarchy share boot model values (the inherited properties,
+		// the identifier, ...) which are lazily resolved, so are created serially.  They are all
+		// registered (and validated) serially, in the order of the boot model
+		final List<EntityPersister> persisters = executor.mapGrouped(
+				entityBindings,
+				model -> model.getRootClass().getEntityName(),
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				}
+		);
+
+		for ( final EntityPersister cp : persisters ) {
+			entityPersisterMap.put( cp.getEntityName(), cp );
 
 			if ( cp.getConcreteProxyClass() != null
 					&& cp.getConcreteProxyClass().isInterface()
@@ -277,19 +296,29 @@ public class DomainMetamodelImpl implements DomainMetamodel, MetamodelImplemento
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
+			RuntimeModelCreationContext modelCreationContext,
+			MetamodelInitializationExecutor executor) {
+		// the key of a collection refers to the identifier (or property-ref) of its owner, so the
+		// collections of a hierarchy are created serially, like the entities
+		final List<CollectionPersister> persisters = executor.mapGrouped(
+				collectionBindings,
+				model -> model.getOwner().getRootClass().getEntityName(),
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				}
+		);
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
-			collectionPersisterMap.put( model.getRole(), persister );
+		for ( final CollectionPersister persister : persisters ) {
+			collectionPersisterMap.put( persister.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
 				String entityName = ( (org.hibernate.type.EntityType) indexType ).getAssociatedEntityName();
@@ -56,6 +56,10 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.loader.collection.CollectionInitializer;
+import org.hibernate.loader.internal.CollectionLoaderBatchKey;
+import org.hibernate.loader.internal.CollectionLoaderSingleKey;
+import org.hibernate.loader.internal.CollectionLoaderSubSelectFetch;
+import org.hibernate.loader.spi.CollectionLoader;
 import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Column;
@@ -67,6 +71,9 @@ import org.hibernate.mapping.Selectable;
 import org.hibernate.mapping.Table;
 import org.hibernate.mapping.Value;
 import org.hibernate.metadata.CollectionMetadata;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.ModelPartContainer;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.model.convert.spi.BasicValueConverter;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
@@ -212,6 +219,9 @@ public abstract class AbstractCollectionPersister
 	private final CollectionType collectionType;
 	private CollectionInitializer initializer;
 
+	private volatile PluralAttributeMapping attributeMapping;
+	private volatile CollectionLoader collectionLoader;
+
 	private final CacheEntryStructure cacheEntryStructure;
 
 	// dynamic filters for the collection
@@ -767,7 +777,57 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public void initialize(Object key, SharedSessionContractImplementor session) throws HibernateException {
-		getAppropriateInitializer( key, session ).initialize( key, session );
+		if ( queryLoaderName != null || isAffectedByEnabledFilters( session ) ) {
+			// user-specified loaders and filters are not (yet) handled by the SQL AST based loaders
+			getAppropriateInitializer( key, session ).initialize( key, session );
+		}
+		else {
+			determineLoaderToUse( key, session ).load( key, session );
+		}
+	}
+
+	protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContractImplementor session) {
+		if ( isSubselectLoadable() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final SubselectFetch subselect = persistenceContext.getBatchFetchQueue().getSubselect(
+					session.generateEntityKey( key, getOwnerEntityPersister() )
+			);
+			if ( subselect != null && subselect.isSqlAstBased() ) {
+				// Take care of any entities that might have
+				// been evicted!
+				subselect.getResult().removeIf( o -> !persistenceContext.containsEntity( (EntityKey) o ) );
+
+				return new CollectionLoaderSubSelectFetch( getAttributeMapping(), subselect, getFactory() );
+			}
+		}
+
+		return getCollectionLoader();
+	}
+
+	private CollectionLoader getCollectionLoader() {
+		if ( collectionLoader == null ) {
+			collectionLoader = batchSize > 1
+					? new CollectionLoaderBatchKey( getAttributeMapping(), batchSize, getFactory() )
+					: new CollectionLoaderSingleKey( getAttributeMapping(), getFactory() );
+		}
+		return collectionLoader;
+	}
+
+	/**
+	 * The mapping-model descriptor of this collection's attribute, resolved from its owner
+	 */
+	public PluralAttributeMapping getAttributeMapping() {
+		if ( attributeMapping == null ) {
+			final String ownerEntityName = getOwnerEntityPersister().getEntityName();
+			assert getRole().startsWith( ownerEntityName + '.' );
+
+			ModelPart part = getOwnerEntityPersister();
+			for ( String name : StringHelper.split( ".", getRole().substring( ownerEntityName.length() + 1 ) ) ) {
+				part = ( (ModelPartContainer) part ).findSubPart( name, null );
+			}
+			attributeMapping = (PluralAttributeMapping) part;
+		}
+		return attributeMapping;
 	}
 
 	protected CollectionInitializer getAppropriateInitializer(Object key, SharedSessionContractImplementor session) {
@@ -799,7 +859,7 @@ public abstract class AbstractCollectionPersister
 				session.generateEntityKey( key, getOwnerEntityPersister() )
 		);
 
-		if ( subselect == null ) {
+		if ( subselect == null || subselect.isSqlAstBased() ) {
 			return null;
 		}
 		else {
@@ -1995,7 +2055,12 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public boolean isAffectedByEnabledFilters(SharedSessionContractImplementor session) {
-		final Map<String, Filter> enabledFilters = session.getLoadQueryInfluencers().getEnabledFilters();
+		return isAffectedByEnabledFilters( session.getLoadQueryInfluencers() );
+	}
+
+	@Override
+	public boolean isAffectedByEnabledFilters(LoadQueryInfluencers influencers) {
+		final Map<String, Filter> enabledFilters = influencers.getEnabledFilters();
 		return filterHelper.isAffectedBy( enabledFilters ) ||
 				( isManyToMany() && manyToManyFilterHelper.isAffectedBy( enabledFilters ) );
 	}
@@ -19,6 +19,7 @@ import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.collection.spi.CollectionSemantics;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGenerator;
@@ -301,6 +302,14 @@ public interface CollectionPersister extends CollectionDefinition, TableReferenc
 
 	boolean isAffectedByEnabledFilters(SharedSessionContractImplementor session);
 
+	/**
+	 * Would loading this collection be affected by the filters enabled in
+	 * the given influencers?
+	 */
+	default boolean isAffectedByEnabledFilters(LoadQueryInfluencers influencers) {
+		return influencers.hasEnabledFilters();
+	}
+
 	/**
 	 * Generates the collection's key column aliases, based on the given
 	 * suffix.
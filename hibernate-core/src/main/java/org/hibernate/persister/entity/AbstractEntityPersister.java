@@ -58,6 +58,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -73,6 +74,9 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -1107,6 +1111,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -1461,7 +1469,9 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+				final Object initializedValue = cacheEntry == null
+						? LazyPropertyInitializer.UNFETCHED_PROPERTY
+						: initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
 					// interceptor.attributeInitialized(fieldName);
@@ -2960,6 +2970,13 @@ public abstract class AbstractEntityPersister
 	 * Generate the SQL that inserts a row
 	 */
 	protected String generateInsertString(boolean identityInsert, boolean[] includeProperty, int j) {
+		return generateInsertString( identityInsert, includeProperty, j, 1 );
+	}
+
+	/**
+	 * Generate the SQL that inserts the given number of rows, for multi-row inserts
+	 */
+	private String generateInsertString(boolean identityInsert, boolean[] includeProperty, int j, int rowCount) {
 
 		// todo : remove the identityInsert param and variations;
 		//   identity-insert strings are now generated from generateIdentityInsertString()
@@ -3038,7 +3055,7 @@ public abstract class AbstractEntityPersister
 			}
 		}
 
-		String result = insert.toStatementString();
+		String result = insert.toStatementString( rowCount );
 
 		// append the SQL to return the generated identifier
 		if ( j == 0 && identityInsert && useInsertSelectIdentity() ) { //TODO: suck into Insert
@@ -3399,6 +3416,30 @@ public abstract class AbstractEntityPersister
 
 	private BasicBatchKey inserBatchKey;
 
+	/**
+	 * Multi-row inserts are only used for the generated inserts of entities whose
+	 * row counts are checked the standard way
+	 */
+	private BasicBatchKey createInsertBatchKey(Expectation expectation) {
+		final int multiRowInsertSize = getFactory().getSessionFactoryOptions().getMultiRowInsertSize();
+		if ( multiRowInsertSize > 1
+				&& expectation == Expectations.BASIC
+				&& getFactory().getJdbcServices().getDialect().getMultiRowInsertMaxRows( 1 ) > 1 ) {
+			boolean multiRowInsertCapable = true;
+			for ( int j = 0; j < getTableSpan(); j++ ) {
+				if ( customSQLInsert[j] != null || isInsertCallable( j )
+						|| insertResultCheckStyles[j] != ExecuteUpdateResultCheckStyle.COUNT ) {
+					multiRowInsertCapable = false;
+					break;
+				}
+			}
+			if ( multiRowInsertCapable ) {
+				return new MultiRowInsertBatchKey( getEntityName() + "#INSERT", expectation, multiRowInsertSize );
+			}
+		}
+		return new BasicBatchKey( getEntityName() + "#INSERT", expectation );
+	}
+
 	/**
 	 * Perform an SQL INSERT.
 	 * <p/>
@@ -3439,13 +3480,18 @@ public abstract class AbstractEntityPersister
 						getIdentifierGenerator().supportsJdbcBatchInserts();
 
 		if ( useBatch && inserBatchKey == null ) {
-			inserBatchKey = new BasicBatchKey(
-					getEntityName() + "#INSERT",
-					expectation
-			);
+			inserBatchKey = createInsertBatchKey( expectation );
 		}
 		final boolean callable = isInsertCallable( j );
 
+		if ( useBatch && inserBatchKey instanceof MultiRowInsertBatchKey ) {
+			final Batch batch = session.getJdbcCoordinator().getBatch( inserBatchKey );
+			if ( batch instanceof MultiRowInsertBatch ) {
+				addToMultiRowInsert( (MultiRowInsertBatch) batch, id, fields, notNull, j, sql, session );
+				return;
+			}
+		}
+
 		try {
 			// Render the SQL query
 			final PreparedStatement insert;
@@ -3505,6 +3551,51 @@ public abstract class AbstractEntityPersister
 
 	}
 
+	/**
+	 * Add the row to a multi-row insert batch, which binds its values once it is executed
+	 */
+	private void addToMultiRowInsert(
+			final MultiRowInsertBatch batch,
+			final Object id,
+			final Object[] fields,
+			final boolean[] notNull,
+			final int j,
+			final String sql,
+			final SharedSessionContractImplementor session) {
+		// the state at the time the insert was issued, as for a single-row insert
+		final Object[] state = fields.clone();
+		batch.addRow(
+				sql,
+				rowCount -> generateInsertString( false, notNull, j, rowCount ),
+				getInsertParameterCount( notNull, j ),
+				(statement, position) -> dehydrate(
+						id,
+						state,
+						null,
+						notNull,
+						propertyColumnInsertable,
+						j,
+						statement,
+						session,
+						position,
+						false
+				)
+		);
+	}
+
+	/**
+	 * The number of parameters {@link #dehydrate} binds for an insert
+	 */
+	private int getInsertParameterCount(boolean[] includeProperty, int j) {
+		int count = getIdentifierColumnSpan();
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( includeProperty[i] && isPropertyOfTable( i, j ) ) {
+				count += ArrayHelper.countTrue( propertyColumnInsertable[i] );
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Perform an SQL UPDATE or SQL INSERT
 	 */
@@ -6075,6 +6166,32 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
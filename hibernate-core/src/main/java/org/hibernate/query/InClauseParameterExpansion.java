@@ -0,0 +1,69 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Defines how a multi-valued parameter used as the single element of an {@code IN} predicate
+ * (e.g. {@code where p.id in (:ids)}) is rendered into SQL.
+ *
+ * By default, the {@link #EXPAND} mode is used unless
+ * {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is enabled, in
+ * which case {@link #PAD} is used.  The mode can be changed per query using the
+ * {@link org.hibernate.annotations.QueryHints#IN_CLAUSE_PARAMETER_EXPANSION} hint.
+ */
+public enum InClauseParameterExpansion {
+	/**
+	 * Render one JDBC parameter per bound value, which produces a distinct SQL string
+	 * for each distinct number of bound values
+	 */
+	EXPAND,
+
+	/**
+	 * Render one JDBC parameter per bound value, padding the number of parameters up to the next
+	 * power of two by repeating the last value.  This limits the number of distinct SQL strings
+	 * (and therefore of statements to cache and plans to compile) to a logarithmic number.
+	 */
+	PAD,
+
+	/**
+	 * Bind all values as a single JDBC {@link java.sql.Array}, which renders the same SQL
+	 * whatever the number of bound values.  Only used for single-column parameters on databases
+	 * where {@link org.hibernate.dialect.Dialect#getInArrayPredicateTemplate(int)} is defined;
+	 * {@link #PAD} is used otherwise.
+	 */
+	ARRAY;
+
+	/**
+	 * Interpret the configured {@link InClauseParameterExpansion} value.
+	 * Valid values are either a {@link InClauseParameterExpansion} object or its String representation.
+	 * For string values, the matching is case insensitive.
+	 *
+	 * @param mode configured {@link InClauseParameterExpansion} representation
+	 * @return associated {@link InClauseParameterExpansion} object, or {@code null} if none was configured
+	 */
+	public static InClauseParameterExpansion interpret(Object mode) {
+		if ( mode == null ) {
+			return null;
+		}
+		else if ( mode instanceof InClauseParameterExpansion ) {
+			return (InClauseParameterExpansion) mode;
+		}
+		else if ( mode instanceof String ) {
+			for ( InClauseParameterExpansion value : values() ) {
+				if ( value.name().equalsIgnoreCase( ( (String) mode ).trim() ) ) {
+					return value;
+				}
+			}
+		}
+		throw new HibernateException(
+				"Unrecognized IN clause parameter expansion value : " + mode
+						+ ".  Supported values include 'expand', 'pad' and 'array'."
+		);
+	}
+}
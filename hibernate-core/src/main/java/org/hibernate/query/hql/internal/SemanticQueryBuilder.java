@@ -1229,7 +1229,12 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 				}
 
 				//noinspection unchecked
-				return new SqmInListPredicate( testExpression, listExpressions, creationContext.getNodeBuilder() );
+				return new SqmInListPredicate(
+						testExpression,
+						listExpressions,
+						ctx.NOT() != null,
+						creationContext.getNodeBuilder()
+				);
 			}
 			finally {
 				parameterDeclarationContextStack.pop();
@@ -1250,6 +1255,7 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 			return new SqmInSubQueryPredicate(
 					testExpression,
 					(SqmSubQuery) subQueryExpression,
+					ctx.NOT() != null,
 					creationContext.getNodeBuilder()
 			);
 		}
@@ -7,10 +7,16 @@
 package org.hibernate.query.internal;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.internal.MetamodelInitializationExecutor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.spi.NamedHqlQueryMemento;
@@ -19,6 +25,11 @@ import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
+import org.hibernate.query.sqm.SqmExpressable;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
 
 import org.jboss.logging.Logger;
 
@@ -185,6 +196,75 @@ public class NamedQueryRepositoryImpl implements NamedQueryRepository {
 	}
 
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Named query pre-compilation
+
+	@Override
+	public void precompileNamedQueries(SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getQueryEngine().getInterpretationCache().isEnabled() ) {
+			log.debugf( "Query plan cache is disabled - skipping pre-compilation of named HQL queries" );
+			return;
+		}
+
+		log.debugf( "Pre-compiling %s named HQL queries", hqlMementoMap.size() );
+
+		// each query is compiled using its own Session, the parsing also warms up the
+		// (shared) caches of the HQL parser.  Queries sharing a plan key (e.g. the same HQL
+		// registered under several names) only have that plan prepared once
+		final Set<QueryInterpretationCache.Key> preparedPlanKeys = ConcurrentHashMap.newKeySet();
+		try ( MetamodelInitializationExecutor executor = MetamodelInitializationExecutor.create(
+				hqlMementoMap.size() > 1,
+				"hibernate-named-query-precompilation"
+		) ) {
+			executor.forEach(
+					hqlMementoMap.values(),
+					hqlMemento -> precompileNamedQuery( hqlMemento, preparedPlanKeys, sessionFactory )
+			);
+		}
+	}
+
+	private static void precompileNamedQuery(
+			NamedHqlQueryMemento hqlMemento,
+			Set<QueryInterpretationCache.Key> preparedPlanKeys,
+			SessionFactoryImplementor sessionFactory) {
+		log.debugf( "Pre-compiling named HQL query: %s", hqlMemento.getRegistrationName() );
+
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			final QuerySqmImpl<?> query = (QuerySqmImpl<?>) hqlMemento.toQuery( session );
+			if ( !( query.getSqmStatement() instanceof SqmSelectStatement ) ) {
+				// no caching of non-select plans
+				return;
+			}
+
+			prepareSelectQueryPlan( query, preparedPlanKeys );
+
+			// plans are keyed by the result type too - also prepare the plan of the query
+			// typed as its single selection, e.g. `createNamedQuery( name, Entity.class )`
+			final List<SqmSelection> selections = ( (SqmSelectStatement<?>) query.getSqmStatement() ).getQuerySpec()
+					.getSelectClause()
+					.getSelections();
+			if ( selections.size() == 1 ) {
+				final SqmExpressable<?> selectionType = selections.get( 0 ).getNodeType();
+				if ( selectionType != null && selectionType.getExpressableJavaTypeDescriptor() != null ) {
+					final Class<?> resultType = selectionType.getExpressableJavaTypeDescriptor().getJavaType();
+					prepareSelectQueryPlan( (QuerySqmImpl<?>) hqlMemento.toQuery( session, resultType ), preparedPlanKeys );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			log.debugf( e, "Unable to pre-compile named HQL query: %s", hqlMemento.getRegistrationName() );
+		}
+	}
+
+	private static void prepareSelectQueryPlan(QuerySqmImpl<?> query, Set<QueryInterpretationCache.Key> preparedPlanKeys) {
+		// a plan which cannot be cached would be built again on execution anyway
+		final QueryInterpretationCache.Key planKey = SqmInterpretationsKey.generateFrom( query );
+		if ( planKey != null && preparedPlanKeys.add( planKey ) ) {
+			query.prepareSelectQueryPlan();
+		}
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
 
@@ -17,6 +17,7 @@ import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.sql.results.spi.JdbcValuesMapping;
 
 /**
  * @author Steve Ebersole
@@ -91,6 +92,15 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 		return creator.apply( queryString );
 	}
 
+	@Override
+	public JdbcValuesMapping getUndefinedJdbcValuesMapping(String sql) {
+		return null;
+	}
+
+	@Override
+	public void cacheUndefinedJdbcValuesMapping(String sql, JdbcValuesMapping mapping) {
+	}
+
 	@Override
 	public boolean isEnabled() {
 		return false;
@@ -9,7 +9,7 @@ package org.hibernate.query.internal;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedConcurrentMap;
 import org.hibernate.query.QueryLogger;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
@@ -21,6 +21,7 @@ import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.sql.results.spi.JdbcValuesMapping;
 
 import org.jboss.logging.Logger;
 
@@ -48,17 +49,19 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedConcurrentMap<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<String, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedConcurrentMap<String, HqlInterpretation> hqlInterpretationCache;
+	private final BoundedConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedConcurrentMap<String, JdbcValuesMapping> undefinedJdbcValuesMappingCache;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount) {
 		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
 
-		queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		queryPlanCache = new BoundedConcurrentMap<>( maxQueryPlanCount );
+		hqlInterpretationCache = new BoundedConcurrentMap<>( maxQueryPlanCount );
+		nativeQueryParamCache = new BoundedConcurrentMap<>( maxQueryPlanCount );
+		undefinedJdbcValuesMappingCache = new BoundedConcurrentMap<>( maxQueryPlanCount );
 	}
 
 	@Override
@@ -146,6 +149,18 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		);
 	}
 
+	@Override
+	public JdbcValuesMapping getUndefinedJdbcValuesMapping(String sql) {
+		log.tracef( "QueryPlan#getUndefinedJdbcValuesMapping(%s)", sql );
+		return undefinedJdbcValuesMappingCache.get( sql );
+	}
+
+	@Override
+	public void cacheUndefinedJdbcValuesMapping(String sql, JdbcValuesMapping mapping) {
+		log.debugf( "Caching JdbcValuesMapping discovered from JDBC metadata - %s", sql );
+		undefinedJdbcValuesMappingCache.put( sql, mapping );
+	}
+
 	@Override
 	public boolean isEnabled() {
 		return true;
@@ -155,5 +170,6 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	public void close() {
 		// todo (6.0) : clear maps/caches and LOG
 		queryPlanCache.clear();
+		undefinedJdbcValuesMappingCache.clear();
 	}
 }
@@ -17,6 +17,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.query.InClauseParameterExpansion;
 import org.hibernate.query.Limit;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -30,6 +31,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private FlushMode flushMode;
 	private String comment;
 	private List<String> databaseHints;
+	private InClauseParameterExpansion inClauseParameterExpansion;
 
 	// only valid for (non-native) select queries
 	private final Limit limit = new Limit();
@@ -87,6 +89,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		databaseHints.add( hint );
 	}
 
+	@Override
+	public InClauseParameterExpansion getInClauseParameterExpansion() {
+		return inClauseParameterExpansion;
+	}
+
+	@Override
+	public void setInClauseParameterExpansion(InClauseParameterExpansion expansion) {
+		this.inClauseParameterExpansion = expansion;
+	}
+
 	@Override
 	public void setTupleTransformer(TupleTransformer transformer) {
 		this.tupleTransformer = transformer;
@@ -11,6 +11,7 @@ import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.query.hql.spi.NamedHqlQueryMemento;
 import org.hibernate.query.spi.QueryEngine;
@@ -59,6 +60,14 @@ public interface NamedQueryRepository {
 
 	Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache);
 
+	/**
+	 * Build the plans of the named HQL queries into the query plan cache.  Failures
+	 * are only logged - they will surface again when executing the query.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_PRECOMPILE_NAMED_QUERIES
+	 */
+	void precompileNamedQueries(SessionFactoryImplementor sessionFactory);
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// shut down
@@ -57,6 +57,7 @@ import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.InClauseParameterExpansion;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.ResultListTransformer;
@@ -82,6 +83,7 @@ import static org.hibernate.jpa.QueryHints.HINT_FETCHGRAPH;
 import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.QueryHints.HINT_FOLLOW_ON_LOCKING;
+import static org.hibernate.jpa.QueryHints.HINT_IN_CLAUSE_PARAMETER_EXPANSION;
 import static org.hibernate.jpa.QueryHints.HINT_LOADGRAPH;
 import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 import static org.hibernate.jpa.QueryHints.HINT_TIMEOUT;
@@ -426,6 +428,8 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 		if ( isReadOnly() ) {
 			hints.put( HINT_READONLY, true );
 		}
+
+		putIfNotNull( hints, HINT_IN_CLAUSE_PARAMETER_EXPANSION, getQueryOptions().getInClauseParameterExpansion() );
 	}
 
 	protected void putIfNotNull(Map<String, Object> hints, String hintName, Enum hintValue) {
@@ -522,6 +526,9 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 			else if ( HINT_FOLLOW_ON_LOCKING.equals( hintName ) ) {
 				applied = applyFollowOnLockingHint( ConfigurationHelper.getBoolean( value ) );
 			}
+			else if ( HINT_IN_CLAUSE_PARAMETER_EXPANSION.equals( hintName ) ) {
+				applied = applyInClauseParameterExpansionHint( InClauseParameterExpansion.interpret( value ) );
+			}
 			else {
 				log.ignoringUnrecognizedQueryHint( hintName );
 			}
@@ -717,6 +724,17 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 		return true;
 	}
 
+	/**
+	 * Apply the IN clause parameter expansion hint.
+	 *
+	 * @param expansion The expansion mode to use for multi-valued parameters.
+	 */
+	@SuppressWarnings("WeakerAccess")
+	protected boolean applyInClauseParameterExpansionHint(InClauseParameterExpansion expansion) {
+		getQueryOptions().setInClauseParameterExpansion( expansion );
+		return true;
+	}
+
 
 
 
@@ -12,6 +12,7 @@ import java.util.function.Supplier;
 import org.hibernate.Incubating;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.sql.results.spi.JdbcValuesMapping;
 
 /**
  * Cache for various parts of translating or interpreting queries.
@@ -35,6 +36,15 @@ public interface QueryInterpretationCache {
 
 	ParameterInterpretation resolveNativeQueryParameters(String queryString, Function<String, ParameterInterpretation> creator);
 
+	/**
+	 * Access to the mapping previously discovered from the JDBC metadata of the results
+	 * of a native query defining no result mapping.
+	 *
+	 * @see org.hibernate.sql.results.internal.JdbcValuesMappingProducerUndefined
+	 */
+	JdbcValuesMapping getUndefinedJdbcValuesMapping(String sql);
+	void cacheUndefinedJdbcValuesMapping(String sql, JdbcValuesMapping mapping);
+
 	boolean isEnabled();
 
 	/**
@@ -18,6 +18,7 @@ import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.annotations.Cache;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.query.InClauseParameterExpansion;
 import org.hibernate.query.Limit;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -122,6 +123,14 @@ public interface QueryOptions {
 	 */
 	List<String> getDatabaseHints();
 
+	/**
+	 * How multi-valued parameters used in {@code IN} predicates should be rendered.
+	 * {@code null} indicates to use the SessionFactory-level setting.
+	 */
+	default InClauseParameterExpansion getInClauseParameterExpansion() {
+		return null;
+	}
+
 	/**
 	 * The fetch size to be applied to the JDBC query.
 	 *
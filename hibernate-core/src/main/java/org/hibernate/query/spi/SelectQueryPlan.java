@@ -33,6 +33,18 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
  */
 @Incubating
 public interface SelectQueryPlan<R> extends QueryPlan {
+	/**
+	 * Eagerly build whatever the plan would otherwise build on its first
+	 * execution (SQL AST, JdbcSelect, ...) - e.g. to pre-compile named queries
+	 * at startup.  No-op by default.
+	 * <p/>
+	 * A cached plan is shared, so this may be called concurrently with other
+	 * calls to it and with executions of the plan; implementations must publish
+	 * what they build safely.
+	 */
+	default void prepare(ExecutionContext executionContext) {
+	}
+
 	/**
 	 * Perform (execute) the query returning a List
 	 */
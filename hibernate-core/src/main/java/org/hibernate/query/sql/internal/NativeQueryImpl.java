@@ -50,7 +50,6 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.model.domain.AllowableParameterType;
 import org.hibernate.metamodel.model.domain.BasicDomainType;
-import org.hibernate.query.Limit;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
@@ -81,6 +80,8 @@ import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sql.spi.SelectInterpretationsKey;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.internal.JdbcValuesMappingProducerUndefined;
+import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.transform.ResultTransformer;
@@ -360,23 +361,30 @@ public class NativeQueryImpl<R>
 	}
 
 	private JdbcValuesMappingProducer getJdbcValuesMappingProducer() {
+		prepareQueryReturnsIfNecessary();
+		if ( queryReturns == null || queryReturns.isEmpty() ) {
+			// the user passed just the query string and no mappings
+			return new JdbcValuesMappingProducerUndefined( sqlString );
+		}
+
 		// todo (6.0) - need to resolve SqlSelections as well as resolving ResultBuilders and FetchBuilders into QueryResult trees
-		// 		also need to account for the edge case where the user passed just the
-		//		query string and no mappings (see ResultSetMappingUndefinedImpl)
 		throw new NotYetImplementedFor6Exception(  );
 	}
 
 	private RowTransformer resolveRowTransformer() {
-		// todo (6.0) - need to resolve the RowTransformer to use, if one.
+		if ( queryOptions.getTupleTransformer() != null ) {
+			// todo (6.0) - need the result aliases, which may only be known from the JDBC metadata
+			throw new NotYetImplementedFor6Exception(  );
+		}
+
 		// todo (6.0) - what about ResultListTransformer?
-		throw new NotYetImplementedFor6Exception(  );
+		// a single scalar per row, or an Object[] of scalars
+		return RowTransformerPassThruImpl.instance();
 	}
 
 	private SelectInterpretationsKey generateSelectInterpretationsKey(JdbcValuesMappingProducer resultSetMapping) {
-		if ( !isCacheable( this ) ) {
-			return null;
-		}
-
+		// NOTE : a limit does not prevent caching the plan - it is applied by the
+		//		Dialect's LimitHandler when the JdbcSelect is executed
 		return new SelectInterpretationsKey(
 				getQueryString(),
 				resultSetMapping,
@@ -385,19 +393,6 @@ public class NativeQueryImpl<R>
 		);
 	}
 
-	@SuppressWarnings("RedundantIfStatement")
-	private static boolean isCacheable(NativeQueryImpl query) {
-		if ( hasLimit( query.getQueryOptions().getLimit() ) ) {
-			return false;
-		}
-
-		return true;
-	}
-
-	private static boolean hasLimit(Limit limit) {
-		return limit.getFirstRow() != null || limit.getMaxRows() != null;
-	}
-
 	private NativeSelectQueryDefinition<R> generateSelectQueryDefinition() {
 		return new NativeSelectQueryDefinition() {
 			@Override
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.sql.internal;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -53,21 +54,25 @@ public class NativeSelectQueryPlanImpl<R> implements NativeSelectQueryPlan<R> {
 
 	@Override
 	public List<R> performList(ExecutionContext executionContext) {
-		throw new NotYetImplementedFor6Exception( getClass() );
+		if ( parameterList != null && !parameterList.isEmpty() ) {
+			// todo (6.0) : need to resolve the JdbcParameterBinders (see `#resolveJdbcParameterBinders` below)
+			//		as well as to adjust the SQL for named and ordinal parameters
+			throw new NotYetImplementedFor6Exception( getClass() );
+		}
 
-//		final List<JdbcParameterBinder> jdbcParameterBinders = resolveJdbcParameterBinders( executionContext );
-//
-//		final JdbcSelect jdbcSelect = new JdbcSelectImpl(
-//				sql,
-//				jdbcParameterBinders,
-//				resultSetMapping,
-//				affectedTableNames
-//		);
-//
-//		// todo (6.0) : need to make this swappable (see note in executor class)
-//		final JdbcSelectExecutor executor = JdbcSelectExecutorStandardImpl.INSTANCE;
-//
-//		return executor.list( jdbcSelect, JdbcParameterBindings.NO_BINDINGS, executionContext, rowTransformer );
+		final JdbcSelect jdbcSelect = new JdbcSelect(
+				sql,
+				Collections.emptyList(),
+				resultSetMapping,
+				affectedTableNames
+		);
+
+		final JdbcSelectExecutor executor = executionContext.getSession()
+				.getFactory()
+				.getJdbcServices()
+				.getJdbcSelectExecutor();
+
+		return executor.list( jdbcSelect, JdbcParameterBindings.NO_BINDINGS, executionContext, rowTransformer );
 	}
 //
 //	private List<JdbcParameterBinder> resolveJdbcParameterBinders(ExecutionContext executionContext) {
@@ -25,6 +25,13 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		this.aggregatedQueryPlans = aggregatedQueryPlans;
 	}
 
+	@Override
+	public void prepare(ExecutionContext executionContext) {
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			aggregatedQueryPlan.prepare( executionContext );
+		}
+	}
+
 	@Override
 	public List<R> performList(ExecutionContext executionContext) {
 		final List<R> overallResults = new ArrayList<R>();
@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Queryable;
+import org.hibernate.query.sqm.mutation.internal.MatchingIdSelectionHelper;
+import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+
+/**
+ * Coordinates the second-level cache cleanup for the single-table SQM UPDATE and DELETE
+ * query plans.
+ * <p/>
+ * By default the whole region of the mutated entity is evicted.  With
+ * {@link org.hibernate.cfg.AvailableSettings#TARGETED_BULK_EVICTION_LIMIT} the ids
+ * matching the restriction of the statement are selected before it is executed, and
+ * only their entries are evicted - unless more rows than the limit match.  The selected
+ * rows are locked ({@link LockMode#PESSIMISTIC_WRITE}), so that they cannot be changed
+ * by other transactions before the statement is executed; where the Dialect cannot lock
+ * them as part of the selection, the region is evicted.
+ */
+final class BulkOperationCacheCleanup {
+	private BulkOperationCacheCleanup() {
+	}
+
+	/**
+	 * Must be called before the statement is executed, as it may select the affected ids
+	 */
+	static void coordinateSharedCacheCleanup(
+			SqmDeleteOrUpdateStatement<?> sqmStatement,
+			DomainParameterXref domainParameterXref,
+			ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final EntityPersister entityDescriptor = factory.getDomainModel().findEntityDescriptor(
+				sqmStatement.getTarget().getModel().getHibernateEntityName()
+		);
+
+		final BulkOperationCleanupAction action = createCleanupAction(
+				(Queryable) entityDescriptor,
+				sqmStatement,
+				domainParameterXref,
+				executionContext
+		);
+
+		if ( session.isEventSource() ) {
+			( (EventSource) session ).getActionQueue().addAction( action );
+		}
+		else {
+			action.getAfterTransactionCompletionProcess().doAfterTransactionCompletion( true, session );
+		}
+	}
+
+	private static BulkOperationCleanupAction createCleanupAction(
+			Queryable entityDescriptor,
+			SqmDeleteOrUpdateStatement<?> sqmStatement,
+			DomainParameterXref domainParameterXref,
+			ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final int limit = session.getFactory().getSessionFactoryOptions().getTargetedBulkEvictionLimit();
+
+		if ( limit > 0
+				&& entityDescriptor.canWriteToCache()
+				&& !entityDescriptor.getIdentifierType().isComponentType()
+				&& canLockMatchingIds( session.getFactory().getJdbcServices().getDialect() ) ) {
+			// select one more row than the limit, to know whether it is exceeded
+			final List<Object> rows = MatchingIdSelectionHelper.selectMatchingIds(
+					sqmStatement,
+					domainParameterXref,
+					executionContext,
+					limit + 1,
+					new LockOptions( LockMode.PESSIMISTIC_WRITE )
+			);
+
+			if ( rows.size() <= limit ) {
+				final List<Object> ids = new ArrayList<>( rows.size() );
+				for ( Object row : rows ) {
+					ids.add( row instanceof Object[] ? ( (Object[]) row )[0] : row );
+				}
+				return new BulkOperationCleanupAction( session, entityDescriptor, ids );
+			}
+		}
+
+		return new BulkOperationCleanupAction( session, entityDescriptor );
+	}
+
+	private static boolean canLockMatchingIds(Dialect dialect) {
+		return !dialect.getForUpdateString( LockMode.PESSIMISTIC_WRITE ).isEmpty()
+				&& !dialect.useFollowOnLocking( (QueryParameters) null );
+	}
+}
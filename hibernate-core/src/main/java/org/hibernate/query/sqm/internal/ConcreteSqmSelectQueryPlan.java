@@ -16,12 +16,17 @@ import org.hibernate.NotYetImplementedFor6Exception;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.streams.StingArrayCollector;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.Limit;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -33,7 +38,10 @@ import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -43,6 +51,7 @@ import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleElementImpl;
+import org.hibernate.sql.results.spi.LoadingEntityEntry;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 /**
@@ -59,9 +68,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	private final RowTransformer<R> rowTransformer;
 
-	private JdbcSelect jdbcSelect;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter, List<JdbcParameter>>> jdbcParamsXref;
+	// the translation, built on first use - the plan may be used by several threads at once
+	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
 	@SuppressWarnings("WeakerAccess")
 	public ConcreteSqmSelectQueryPlan(
@@ -79,12 +87,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		etc - because those all cause the plan to not be cached.  The
+		//		multi-valued parameter expansion is part of the plan's key instead -
+		//		see `SqmInterpretationsKey`
 	}
 
 	@SuppressWarnings("unchecked")
@@ -154,64 +159,115 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	@Override
-	public List<R> performList(ExecutionContext executionContext) {
-		final SharedSessionContractImplementor session = executionContext.getSession();
+	public void prepare(ExecutionContext executionContext) {
+		resolveCacheableSqmInterpretation( executionContext );
+	}
 
-		if ( jdbcSelect == null ) {
-			// todo (6.0) : for cases where we have no "load query influencers" we could use a cached SQL AST
-			//		- this is similar to the plan for loaders
+	private CacheableSqmInterpretation resolveCacheableSqmInterpretation(ExecutionContext executionContext) {
+		CacheableSqmInterpretation interpretation = cacheableSqmInterpretation;
+		if ( interpretation == null ) {
+			synchronized ( this ) {
+				interpretation = cacheableSqmInterpretation;
+				if ( interpretation == null ) {
+					interpretation = buildCacheableSqmInterpretation( executionContext );
+					cacheableSqmInterpretation = interpretation;
+				}
+			}
+		}
+		return interpretation;
+	}
 
-			final SessionFactoryImplementor sessionFactory = session.getFactory();
-			final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+	private CacheableSqmInterpretation buildCacheableSqmInterpretation(ExecutionContext executionContext) {
+		// todo (6.0) : for cases where we have no "load query influencers" we could use a cached SQL AST
+		//		- this is similar to the plan for loaders
 
-			final SqmTranslatorFactory sqmTranslatorFactory = queryEngine.getSqmTranslatorFactory();
+		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 
-			final SqmSelectTranslator sqmConverter = sqmTranslatorFactory.createSelectTranslator(
-					executionContext.getQueryOptions(),
-					domainParameterXref,
-					executionContext.getQueryParameterBindings(),
-					executionContext.getLoadQueryInfluencers(),
-					sessionFactory
-			);
+		final SqmTranslatorFactory sqmTranslatorFactory = queryEngine.getSqmTranslatorFactory();
 
-			tableGroupAccess = sqmConverter.getFromClauseAccess();
+		// the multi-valued parameter expansions are part of the translation, and kept with it
+		final DomainParameterXref domainParameterXref = this.domainParameterXref.copy();
 
-			final SqmSelectTranslation interpretation = sqmConverter.translate( sqm );
+		final SqmSelectTranslator sqmConverter = sqmTranslatorFactory.createSelectTranslator(
+				executionContext.getQueryOptions(),
+				domainParameterXref,
+				executionContext.getQueryParameterBindings(),
+				executionContext.getLoadQueryInfluencers(),
+				sessionFactory
+		);
 
-			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+		final FromClauseAccess tableGroupAccess = sqmConverter.getFromClauseAccess();
 
-			jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory )
-					.translate( interpretation.getSqlAst() );
+		final SqmSelectTranslation interpretation = sqmConverter.translate( sqm );
 
-			this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-					domainParameterXref,
-					interpretation::getJdbcParamsBySqmParam
-			);
-		}
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
+		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory )
+				.translate( interpretation.getSqlAst() );
+
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter, List<JdbcParameter>>> jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
+				domainParameterXref,
+				interpretation::getJdbcParamsBySqmParam
+		);
+
+		return new CacheableSqmInterpretation(
+				interpretation.getSqlAst().getQuerySpec(),
+				jdbcSelect,
+				tableGroupAccess,
+				domainParameterXref,
+				jdbcParamsXref
+		);
+	}
+
+	@Override
+	public List<R> performList(ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+
+		final CacheableSqmInterpretation interpretation = resolveCacheableSqmInterpretation( executionContext );
 
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
+				interpretation.domainParameterXref,
+				interpretation.jdbcParamsXref,
 				session.getFactory().getDomainModel(),
-				tableGroupAccess::findTableGroup,
+				interpretation.tableGroupAccess::findTableGroup,
 				session
 		);
 
-		try {
-			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-					jdbcSelect,
-					jdbcParameterBindings,
-					executionContext,
-					rowTransformer
-			);
+		return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+				interpretation.jdbcSelect,
+				jdbcParameterBindings,
+				resolveExecutionContext( executionContext, interpretation.sqlAstQuerySpec, jdbcParameterBindings ),
+				rowTransformer
+		);
+	}
+
+	private ExecutionContext resolveExecutionContext(
+			ExecutionContext executionContext,
+			QuerySpec sqlAstQuerySpec,
+			JdbcParameterBindings jdbcParameterBindings) {
+		// the restriction of a query applying a limit or offset does not describe the
+		// loaded entities, so it cannot be re-used to subselect-fetch their collections
+		final Limit limit = executionContext.getQueryOptions().getLimit();
+		if ( limit != null && ( limit.getFirstRow() != null || limit.getMaxRows() != null ) ) {
+			return executionContext;
 		}
-		finally {
-			domainParameterXref.clearExpansions();
+		if ( sqlAstQuerySpec.getLimitClauseExpression() != null
+				|| sqlAstQuerySpec.getOffsetClauseExpression() != null ) {
+			return executionContext;
 		}
+
+		return new SubselectFetchExecutionContext(
+				executionContext,
+				SubselectFetch.createRegistrationHandler(
+						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+						sqlAstQuerySpec,
+						jdbcParameterBindings
+				)
+		);
 	}
 
 	@Override
@@ -251,4 +307,77 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 //			domainParameterXref.clearExpansions();
 //		}
 	}
+
+	/**
+	 * The translation of the SQM statement, published as a whole so that a thread using the
+	 * plan never sees a partially built translation
+	 */
+	private static class CacheableSqmInterpretation {
+		private final QuerySpec sqlAstQuerySpec;
+		private final JdbcSelect jdbcSelect;
+		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter, List<JdbcParameter>>> jdbcParamsXref;
+
+		private CacheableSqmInterpretation(
+				QuerySpec sqlAstQuerySpec,
+				JdbcSelect jdbcSelect,
+				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter, List<JdbcParameter>>> jdbcParamsXref) {
+			this.sqlAstQuerySpec = sqlAstQuerySpec;
+			this.jdbcSelect = jdbcSelect;
+			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
+			this.jdbcParamsXref = jdbcParamsXref;
+		}
+	}
+
+	private static class SubselectFetchExecutionContext implements ExecutionContext {
+		private final ExecutionContext executionContext;
+		private final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
+
+		private SubselectFetchExecutionContext(
+				ExecutionContext executionContext,
+				SubselectFetch.RegistrationHandler subSelectFetchKeyHandler) {
+			this.executionContext = executionContext;
+			this.subSelectFetchKeyHandler = subSelectFetchKeyHandler;
+		}
+
+		@Override
+		public SharedSessionContractImplementor getSession() {
+			return executionContext.getSession();
+		}
+
+		@Override
+		public QueryOptions getQueryOptions() {
+			return executionContext.getQueryOptions();
+		}
+
+		@Override
+		public LoadQueryInfluencers getLoadQueryInfluencers() {
+			return executionContext.getLoadQueryInfluencers();
+		}
+
+		@Override
+		public QueryParameterBindings getQueryParameterBindings() {
+			return executionContext.getQueryParameterBindings();
+		}
+
+		@Override
+		public Callback getCallback() {
+			return executionContext.getCallback();
+		}
+
+		@Override
+		public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+			subSelectFetchKeyHandler.addKey( entityKey, entry );
+			executionContext.registerLoadingEntityEntry( entityKey, entry );
+		}
+
+		@Override
+		public void afterStatement(LogicalConnectionImplementor logicalConnection) {
+			executionContext.afterStatement( logicalConnection );
+		}
+	}
 }
@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.spi.LoadingEntityEntry;
+
+/**
+ * SelectQueryPlan of a criteria query, cached by {@link SqmStatementFingerprint} and
+ * so shared by all the structurally equal criteria queries.
+ * <p/>
+ * The plan refers to the criteria parameters of the query it was built for.  Other
+ * queries use it through {@link #forParameters}, which matches their own parameters
+ * with the plan's ones by position.
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	public CriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, List<JpaCriteriaParameter<?>> parameters) {
+		this.delegate = delegate;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Access to this plan for a query defining the given parameters
+	 *
+	 * @param queryParameters The criteria parameters of the query, in the
+	 * order defined by its {@link SqmStatementFingerprint}
+	 */
+	public SelectQueryPlan<R> forParameters(List<JpaCriteriaParameter<?>> queryParameters) {
+		assert queryParameters.size() == parameters.size();
+
+		boolean sameParameters = true;
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( parameters.get( i ) != queryParameters.get( i ) ) {
+				sameParameters = false;
+				break;
+			}
+		}
+
+		if ( sameParameters ) {
+			return delegate;
+		}
+
+		final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref = new IdentityHashMap<>();
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			parameterXref.put( parameters.get( i ), queryParameters.get( i ) );
+		}
+
+		return new SelectQueryPlan<R>() {
+			@Override
+			public List<R> performList(ExecutionContext executionContext) {
+				return delegate.performList( new ParameterMappingExecutionContext( executionContext, parameterXref ) );
+			}
+
+			@Override
+			public ScrollableResultsImplementor<R> performScroll(
+					ScrollMode scrollMode,
+					ExecutionContext executionContext) {
+				return delegate.performScroll(
+						scrollMode,
+						new ParameterMappingExecutionContext( executionContext, parameterXref )
+				);
+			}
+		};
+	}
+
+	@Override
+	public void prepare(ExecutionContext executionContext) {
+		delegate.prepare( executionContext );
+	}
+
+	@Override
+	public List<R> performList(ExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, ExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	/**
+	 * ExecutionContext exposing the bindings of the query parameters as bindings of
+	 * the corresponding plan parameters
+	 */
+	private static class ParameterMappingExecutionContext implements ExecutionContext, QueryParameterBindings {
+		private final ExecutionContext executionContext;
+		private final QueryParameterBindings queryParameterBindings;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref;
+
+		private ParameterMappingExecutionContext(
+				ExecutionContext executionContext,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref) {
+			this.executionContext = executionContext;
+			this.queryParameterBindings = executionContext.getQueryParameterBindings();
+			this.parameterXref = parameterXref;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> planParameter) {
+			final QueryParameterImplementor<?> queryParameter = parameterXref.get( planParameter );
+			return queryParameter == null ? planParameter : (QueryParameterImplementor<P>) queryParameter;
+		}
+
+		@Override
+		public SharedSessionContractImplementor getSession() {
+			return executionContext.getSession();
+		}
+
+		@Override
+		public QueryOptions getQueryOptions() {
+			return executionContext.getQueryOptions();
+		}
+
+		@Override
+		public LoadQueryInfluencers getLoadQueryInfluencers() {
+			return executionContext.getLoadQueryInfluencers();
+		}
+
+		@Override
+		public QueryParameterBindings getQueryParameterBindings() {
+			return this;
+		}
+
+		@Override
+		public Callback getCallback() {
+			return executionContext.getCallback();
+		}
+
+		@Override
+		public CollectionKey getCollectionKey() {
+			return executionContext.getCollectionKey();
+		}
+
+		@Override
+		public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+			executionContext.registerLoadingEntityEntry( entityKey, entry );
+		}
+
+		@Override
+		public void afterStatement(LogicalConnectionImplementor logicalConnection) {
+			executionContext.afterStatement( logicalConnection );
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return queryParameterBindings.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return queryParameterBindings.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return queryParameterBindings.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return queryParameterBindings.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			queryParameterBindings.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return queryParameterBindings.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento() {
+			return queryParameterBindings.generateQueryKeyMemento();
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			parameterXref.forEach(
+					(planParameter, queryParameter) -> action.accept(
+							planParameter,
+							queryParameterBindings.getBinding( queryParameter )
+					)
+			);
+		}
+	}
+}
@@ -155,6 +155,7 @@ public class DomainParameterXref {
 	private final Map<SqmParameter, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter,List<SqmParameter>> expansions;
+	private Set<SqmParameter> arrayBindings;
 
 	/**
 	 * @implSpec Constructor is defined as public for
@@ -245,7 +246,41 @@ public class DomainParameterXref {
 		return sqmParameters == null ? Collections.emptyList() : sqmParameters;
 	}
 
+	/**
+	 * Mark the given (multi-valued) SqmParameter as being bound as a single JDBC array
+	 * rather than expanded
+	 */
+	public void addArrayBinding(SqmParameter sqmParameter) {
+		SqmTreeTransformationLogger.LOGGER.debugf( "Adding domain-param array binding : %s", sqmParameter );
+
+		if ( arrayBindings == null ) {
+			arrayBindings = Collections.newSetFromMap( new IdentityHashMap<>() );
+		}
+
+		arrayBindings.add( sqmParameter );
+	}
+
+	public boolean isArrayBinding(SqmParameter sqmParameter) {
+		return arrayBindings != null && arrayBindings.contains( sqmParameter );
+	}
+
+	/**
+	 * A copy of this xref recording its own expansions and array bindings, so that
+	 * those of a (cached) query plan are kept for as long as that plan is used
+	 */
+	public DomainParameterXref copy() {
+		return new DomainParameterXref(
+				sqmParamsByQueryParam,
+				new IdentityHashMap<>( queryParamBySqmParam ),
+				parameterResolutions
+		);
+	}
+
 	public void clearExpansions() {
+		if ( arrayBindings != null ) {
+			arrayBindings.clear();
+		}
+
 		if ( expansions == null ) {
 			return;
 		}
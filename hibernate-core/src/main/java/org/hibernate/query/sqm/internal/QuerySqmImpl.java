@@ -36,6 +36,7 @@ import org.hibernate.query.internal.QueryOptionsImpl;
 import org.hibernate.query.internal.QueryParameterBindingsImpl;
 import org.hibernate.query.spi.AbstractQuery;
 import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -66,9 +67,11 @@ import org.hibernate.type.BasicType;
 public class QuerySqmImpl<R>
 		extends AbstractQuery<R>
 		implements HqlQueryImplementor<R>, ExecutionContext {
+	private static final String CRITERIA_HQL_STRING = "<criteria>";
 
 	private final String hqlString;
 	private final SqmStatement sqmStatement;
+	private final SqmStatementFingerprint criteriaFingerprint;
 	private final Class resultType;
 
 	private final ParameterMetadataImplementor parameterMetadata;
@@ -89,9 +92,17 @@ public class QuerySqmImpl<R>
 
 		this.hqlString = memento.getHqlString();
 
-		final SessionFactoryImplementor factory = producer.getFactory();
+		final QueryEngine queryEngine = producer.getFactory().getQueryEngine();
 
-		this.sqmStatement = factory.getQueryEngine().getHqlTranslator().translate( hqlString );
+		// share the interpretation with the ad-hoc HQL queries - the cached query plans
+		// refer to the parameters of the interpretation they were built from
+		final HqlInterpretation hqlInterpretation = queryEngine.getInterpretationCache().resolveHqlInterpretation(
+				hqlString,
+				s -> queryEngine.getHqlTranslator().translate( s )
+		);
+
+		this.sqmStatement = hqlInterpretation.getSqmStatement();
+		this.criteriaFingerprint = null;
 
 		if ( resultType != null ) {
 			if ( sqmStatement instanceof SqmDmlStatement ) {
@@ -100,14 +111,8 @@ public class QuerySqmImpl<R>
 		}
 		this.resultType = resultType;
 
-		if ( sqmStatement.getSqmParameters().isEmpty() ) {
-			this.domainParameterXref = DomainParameterXref.empty();
-			this.parameterMetadata = ParameterMetadataImpl.EMPTY;
-		}
-		else {
-			this.domainParameterXref = DomainParameterXref.from( sqmStatement );
-			this.parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
-		}
+		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
+		this.parameterMetadata = hqlInterpretation.getParameterMetadata();
 
 		this.parameterBindings = QueryParameterBindingsImpl.from( parameterMetadata, producer.getFactory() );
 
@@ -154,6 +159,7 @@ public class QuerySqmImpl<R>
 		this.resultType = resultType;
 
 		this.sqmStatement = hqlInterpretation.getSqmStatement();
+		this.criteriaFingerprint = null;
 
 		if ( resultType != null ) {
 			SqmUtil.verifyIsSelectStatement( sqmStatement );
@@ -187,8 +193,9 @@ public class QuerySqmImpl<R>
 			}
 		}
 
-		this.hqlString = "<criteria>";
+		this.hqlString = CRITERIA_HQL_STRING;
 		this.sqmStatement = sqmStatement;
+		this.criteriaFingerprint = SqmStatementFingerprint.from( sqmStatement );
 		this.resultType = resultType;
 
 		this.domainParameterXref = DomainParameterXref.from( sqmStatement );
@@ -285,6 +292,22 @@ public class QuerySqmImpl<R>
 		return hqlString;
 	}
 
+	/**
+	 * Is this query built from a criteria?
+	 */
+	public boolean isCriteria() {
+		return CRITERIA_HQL_STRING.equals( hqlString );
+	}
+
+	/**
+	 * The structural fingerprint of the criteria this query is built from, or
+	 * {@code null} if this is not a criteria query or if its structure is not
+	 * supported by {@link SqmStatementFingerprint}
+	 */
+	public SqmStatementFingerprint getCriteriaFingerprint() {
+		return criteriaFingerprint;
+	}
+
 	public DomainParameterXref getDomainParameterXref() {
 		return domainParameterXref;
 	}
@@ -413,6 +436,15 @@ public class QuerySqmImpl<R>
 		return resolveSelectQueryPlan().performList( this );
 	}
 
+	/**
+	 * Build the plan of this select query, and put it in the query plan cache if
+	 * possible, as would otherwise be done on its first execution
+	 */
+	public void prepareSelectQueryPlan() {
+		SqmUtil.verifyIsSelectStatement( getSqmStatement() );
+		resolveSelectQueryPlan().prepare( this );
+	}
+
 	private boolean requiresTxn(LockMode lockMode) {
 		return lockMode != null && lockMode.greaterThan( LockMode.READ );
 	}
@@ -427,7 +459,20 @@ public class QuerySqmImpl<R>
 
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.generateFrom( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
+			final QueryInterpretationCache interpretationCache = getSession().getFactory()
+					.getQueryEngine()
+					.getInterpretationCache();
+
+			if ( isCriteria() ) {
+				// the plan may have been built for another, structurally equal, criteria query
+				final CriteriaSelectQueryPlan<R> queryPlan = (CriteriaSelectQueryPlan<R>) interpretationCache.resolveSelectQueryPlan(
+						cacheKey,
+						() -> new CriteriaSelectQueryPlan<>( buildSelectQueryPlan(), criteriaFingerprint.getParameters() )
+				);
+				return queryPlan.forParameters( criteriaFingerprint.getParameters() );
+			}
+
+			return interpretationCache.resolveSelectQueryPlan(
 					cacheKey,
 					this::buildSelectQueryPlan
 			);
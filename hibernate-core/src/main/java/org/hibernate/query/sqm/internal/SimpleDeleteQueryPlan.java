@@ -90,6 +90,8 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				executionContext.getSession()
 		);
 
+		BulkOperationCacheCleanup.coordinateSharedCacheCleanup( sqmDelete, domainParameterXref, executionContext );
+
 		return jdbcServices.getJdbcMutationExecutor().execute(
 				jdbcDelete,
 				jdbcParameterBindings,
@@ -90,6 +90,8 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 				executionContext.getSession()
 		);
 
+		BulkOperationCacheCleanup.coordinateSharedCacheCleanup( sqmUpdate, domainParameterXref, executionContext );
+
 		return jdbcServices.getJdbcMutationExecutor().execute(
 				jdbcUpdate,
 				jdbcParameterBindings,
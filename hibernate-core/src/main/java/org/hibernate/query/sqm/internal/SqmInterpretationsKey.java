@@ -6,14 +6,22 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
-import org.hibernate.query.Limit;
-import org.hibernate.query.QueryParameter;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.AppliedGraphKey;
+import org.hibernate.query.InClauseParameterExpansion;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterImplementor;
 
 /**
  * @author Steve Ebersole
@@ -25,11 +33,80 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return null;
 		}
 
+		final Map<Object, Integer> multiValuedParameterCounts = resolveMultiValuedParameterCounts( query );
 		return new SqmInterpretationsKey(
-				query.getQueryString(),
+				query.isCriteria() ? query.getCriteriaFingerprint() : query.getQueryString(),
 				query.getResultType(),
-				query.getQueryOptions()
+				query.getQueryOptions(),
+				AppliedGraphKey.from( resolveAppliedGraph( query ) ),
+				multiValuedParameterCounts == null
+						? null
+						: SqmUtil.resolveInClauseParameterExpansion( query.getQueryOptions(), query.getSessionFactory() ),
+				multiValuedParameterCounts
+		);
+	}
+
+	/**
+	 * The number of JDBC parameters each multi-valued parameter is rendered as, by parameter
+	 * name or position (or index, for a criteria query), or {@code null} if there are no
+	 * multi-valued bindings.  Lists of different sizes share a plan when padded to the same size.
+	 * <p/>
+	 * Array bindings are keyed by their padded size as well, since whether a parameter can be
+	 * bound as an array (or is padded instead) is only known when translating the query.
+	 */
+	private static Map<Object, Integer> resolveMultiValuedParameterCounts(QuerySqmImpl<?> query) {
+		if ( !query.getQueryParameterBindings().hasAnyMultiValuedBindings() ) {
+			return null;
+		}
+
+		final InClauseParameterExpansion expansion = SqmUtil.resolveInClauseParameterExpansion(
+				query.getQueryOptions(),
+				query.getSessionFactory()
 		);
+		final Dialect dialect = query.getSessionFactory().getJdbcServices().getDialect();
+
+		final Map<Object, Integer> counts = new HashMap<>();
+		if ( query.isCriteria() ) {
+			final List<? extends QueryParameterImplementor<?>> parameters = query.getCriteriaFingerprint().getParameters();
+			for ( int i = 0; i < parameters.size(); i++ ) {
+				addMultiValuedParameterCount( counts, i, parameters.get( i ), query, expansion, dialect );
+			}
+		}
+		else {
+			for ( QueryParameterImplementor<?> parameter : query.getDomainParameterXref().getQueryParameters() ) {
+				final Object identifier = parameter.getName() != null ? parameter.getName() : parameter.getPosition();
+				addMultiValuedParameterCount( counts, identifier, parameter, query, expansion, dialect );
+			}
+		}
+		return counts;
+	}
+
+	private static void addMultiValuedParameterCount(
+			Map<Object, Integer> counts,
+			Object identifier,
+			QueryParameterImplementor<?> parameter,
+			QuerySqmImpl<?> query,
+			InClauseParameterExpansion expansion,
+			Dialect dialect) {
+		final QueryParameterBinding<?> binding = query.getQueryParameterBindings().getBinding( parameter );
+		if ( binding.isMultiValued() ) {
+			counts.put(
+					identifier,
+					SqmUtil.determineInClauseParameterCount( binding.getBindValues().size(), expansion, dialect )
+			);
+		}
+	}
+
+	/**
+	 * The graph applied when translating the query - the one applied to the query
+	 * itself, or else the session's effective graph
+	 */
+	static AppliedGraph resolveAppliedGraph(QuerySqmImpl<?> query) {
+		final AppliedGraph queryGraph = query.getQueryOptions().getAppliedGraph();
+		if ( queryGraph != null && queryGraph.getSemantic() != null ) {
+			return queryGraph;
+		}
+		return query.getSession().getLoadQueryInfluencers().getEffectiveEntityGraph();
 	}
 
 	@SuppressWarnings("WeakerAccess")
@@ -45,24 +122,22 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	private static boolean isCacheable(QuerySqmImpl<?> query) {
 		assert query.getQueryOptions().getAppliedGraph() != null;
 
-		if ( query.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
-			// At the moment we cannot cache query plan if there is an
-			// EntityGraph enabled.
-			return false;
-		}
+		// NOTE : an applied EntityGraph does not prevent caching the plan - its
+		//		structure and semantic are part of the key.  See `AppliedGraphKey`
 
-		if ( query.getQueryParameterBindings().hasAnyMultiValuedBindings()
-				|| query.getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding ) ) {
-			// cannot cache query plans if there are multi-valued param bindings
-			// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-			//		- the expansion is done per-execution based on the "static" SQM
+		if ( query.isCriteria() && query.getCriteriaFingerprint() == null ) {
+			// criteria queries have no query string, and are identified by their structure
+			// instead - see SqmStatementFingerprint
 			return false;
 		}
 
-		if ( hasLimit( query.getQueryOptions().getLimit() ) ) {
-			// cannot cache query plans if there is a limit defined
-			return false;
-		}
+		// NOTE : multi-valued parameter bindings do not prevent caching the plan - the
+		//		number of JDBC parameters they are rendered as is part of the key
+
+
+		// NOTE : a limit (first-row/max-rows) does not prevent caching the plan - it
+		//		is applied by the Dialect's LimitHandler, as JDBC parameters, when the
+		//		(cached) JdbcSelect is executed.  See `DeferredResultSetAccess`
 
 		if ( definesLocking( query.getQueryOptions().getLockOptions() ) ) {
 			// cannot cache query plans if it defines locking
@@ -72,29 +147,35 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		return true;
 	}
 
-	private static boolean hasLimit(Limit limit) {
-		return limit.getFirstRow() != null || limit.getMaxRows() != null;
-	}
-
 	private static boolean definesLocking(LockOptions lockOptions) {
 		final LockMode mostRestrictiveLockMode = lockOptions.findGreatestLockMode();
 		return mostRestrictiveLockMode.greaterThan( LockMode.READ );
 	}
 
 
-	private final String query;
+	// the HQL string, or the SqmStatementFingerprint of a criteria query
+	private final Object query;
 	private final Class resultType;
 	private final TupleTransformer tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
+	private final AppliedGraphKey appliedGraph;
+	private final InClauseParameterExpansion inClauseParameterExpansion;
+	private final Map<Object, Integer> multiValuedParameterCounts;
 
 	private SqmInterpretationsKey(
-			String query,
+			Object query,
 			Class resultType,
-			QueryOptions queryOptions) {
+			QueryOptions queryOptions,
+			AppliedGraphKey appliedGraph,
+			InClauseParameterExpansion inClauseParameterExpansion,
+			Map<Object, Integer> multiValuedParameterCounts) {
 		this.query = query;
 		this.resultType = resultType;
 		this.tupleTransformer = queryOptions.getTupleTransformer();
 		this.resultListTransformer = queryOptions.getResultListTransformer();
+		this.appliedGraph = appliedGraph;
+		this.inClauseParameterExpansion = inClauseParameterExpansion;
+		this.multiValuedParameterCounts = multiValuedParameterCounts;
 	}
 
 	@Override
@@ -110,7 +191,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		return query.equals( that.query )
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
-				&& areEqual( resultListTransformer, that.resultListTransformer );
+				&& areEqual( resultListTransformer, that.resultListTransformer )
+				&& areEqual( appliedGraph, that.appliedGraph )
+				&& inClauseParameterExpansion == that.inClauseParameterExpansion
+				&& areEqual( multiValuedParameterCounts, that.multiValuedParameterCounts );
 	}
 
 	private <T> boolean areEqual(T o1, T o2) {
@@ -128,6 +212,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		result = 31 * result + ( resultType != null ? resultType.hashCode() : 0 );
 		result = 31 * result + ( tupleTransformer != null ? tupleTransformer.hashCode() : 0 );
 		result = 31 * result + ( resultListTransformer != null ? resultListTransformer.hashCode() : 0 );
+		result = 31 * result + ( appliedGraph != null ? appliedGraph.hashCode() : 0 );
+		result = 31 * result + ( inClauseParameterExpansion != null ? inClauseParameterExpansion.hashCode() : 0 );
+		result = 31 * result + ( multiValuedParameterCounts != null ? multiValuedParameterCounts.hashCode() : 0 );
 		return result;
 	}
 }
@@ -0,0 +1,856 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.function.SqmCastTarget;
+import org.hibernate.query.sqm.function.SqmDistinct;
+import org.hibernate.query.sqm.function.SqmExtractUnit;
+import org.hibernate.query.sqm.function.SqmFunction;
+import org.hibernate.query.sqm.function.SqmStar;
+import org.hibernate.query.sqm.function.SqmTrimSpecification;
+import org.hibernate.query.sqm.produce.function.internal.SelfRenderingSqmFunction;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.SqmTypedNode;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteConsumer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmMaxElementPath;
+import org.hibernate.query.sqm.tree.domain.SqmMaxIndexPath;
+import org.hibernate.query.sqm.tree.domain.SqmMinElementPath;
+import org.hibernate.query.sqm.tree.domain.SqmMinIndexPath;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPathEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmRestrictedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmQualifiedJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.predicate.SqmAndPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmOrPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmGroupByClause;
+import org.hibernate.query.sqm.tree.select.SqmHavingClause;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Structural identity of an SQM select statement, used as query plan cache key for
+ * criteria queries which, unlike HQL queries, have no query string.
+ * <p/>
+ * Two statements have equal fingerprints when they have the same structure, the same
+ * literal values and the same node types - the (generated or explicit) aliases of
+ * their from-elements are ignored.  Criteria parameters are identified by the order
+ * in which they are first referenced, which is exposed by {@link #getParameters()}
+ * so that the bindings of a query can be matched with the parameters of a plan built
+ * for another, structurally equal, query.
+ * <p/>
+ * Only the most common constructs are supported : the fingerprint of a statement
+ * using anything else (sub-queries, treats, ...) is {@code null}, and the statement
+ * is not cached.
+ */
+public final class SqmStatementFingerprint {
+	private static final Logger log = Logger.getLogger( SqmStatementFingerprint.class );
+
+	/**
+	 * Generate the fingerprint of the given statement
+	 *
+	 * @return The fingerprint, or {@code null} if the statement cannot be fingerprinted
+	 */
+	public static SqmStatementFingerprint from(SqmStatement<?> statement) {
+		if ( !( statement instanceof SqmSelectStatement ) ) {
+			return null;
+		}
+
+		final Walker walker = new Walker();
+		try {
+			walker.visitSelectStatement( (SqmSelectStatement<?>) statement );
+		}
+		catch (NotFingerprintableException e) {
+			log.debugf( "Unable to fingerprint SQM statement : %s", e.getMessage() );
+			return null;
+		}
+
+		return new SqmStatementFingerprint(
+				walker.structure.toString(),
+				walker.values.toArray(),
+				walker.parameters
+		);
+	}
+
+	private final String structure;
+	private final Object[] values;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final int hashCode;
+
+	private SqmStatementFingerprint(String structure, Object[] values, List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.values = values;
+		this.parameters = Collections.unmodifiableList( parameters );
+		this.hashCode = 31 * structure.hashCode() + Arrays.deepHashCode( values );
+	}
+
+	/**
+	 * The criteria parameters of the statement, in the order they are first referenced
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		final SqmStatementFingerprint that = (SqmStatementFingerprint) o;
+		return hashCode == that.hashCode
+				&& structure.equals( that.structure )
+				&& Arrays.deepEquals( values, that.values );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return structure;
+	}
+
+	private static class NotFingerprintableException extends RuntimeException {
+		private NotFingerprintableException(String message) {
+			super( message, null, false, false );
+		}
+	}
+
+	/**
+	 * Renders the structure of the tree into a String, collecting the literal values and
+	 * node types which are compared by equality rather than rendered.
+	 */
+	private static class Walker implements SemanticQueryWalker<Object> {
+		private final StringBuilder structure = new StringBuilder();
+		private final List<Object> values = new ArrayList<>();
+
+		private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterPositions = new IdentityHashMap<>();
+		private final Map<SqmFrom<?, ?>, Integer> fromPositions = new IdentityHashMap<>();
+
+		private Object unsupported(Object node) {
+			throw new NotFingerprintableException( "Unsupported SQM node : " + node );
+		}
+
+		private void append(String token) {
+			structure.append( token ).append( ' ' );
+		}
+
+		private void appendValue(Object value) {
+			structure.append( '$' ).append( values.size() ).append( ' ' );
+			values.add( value );
+		}
+
+		private void visit(SqmVisitableNode node) {
+			if ( node == null ) {
+				append( "-" );
+			}
+			else {
+				node.accept( this );
+			}
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// statements
+
+		@Override
+		public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+			append( "select-statement" );
+			return visitQuerySpec( statement.getQuerySpec() );
+		}
+
+		@Override
+		public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+			return unsupported( statement );
+		}
+
+		@Override
+		public Object visitSetClause(SqmSetClause setClause) {
+			return unsupported( setClause );
+		}
+
+		@Override
+		public Object visitAssignment(SqmAssignment assignment) {
+			return unsupported( assignment );
+		}
+
+		@Override
+		public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+			return unsupported( statement );
+		}
+
+		@Override
+		public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+			return unsupported( statement );
+		}
+
+		@Override
+		public Object visitCteStatement(SqmCteStatement sqmCteStatement) {
+			return unsupported( sqmCteStatement );
+		}
+
+		@Override
+		public Object visitCteConsumer(SqmCteConsumer consumer) {
+			return unsupported( consumer );
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// query spec
+
+		@Override
+		public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+			append( "(" );
+			visitFromClause( querySpec.getFromClause() );
+			visitSelectClause( querySpec.getSelectClause() );
+			visitWhereClause( querySpec.getWhereClause() );
+			if ( querySpec.getGroupByClause() != null ) {
+				visitGroupByClause( querySpec.getGroupByClause() );
+			}
+			if ( querySpec.getHavingClause() != null ) {
+				visitHavingClause( querySpec.getHavingClause() );
+			}
+			visitOrderByClause( querySpec.getOrderByClause() );
+			visitOffsetExpression( querySpec.getOffsetExpression() );
+			visitLimitExpression( querySpec.getLimitExpression() );
+			append( ")" );
+			return querySpec;
+		}
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			append( "from" );
+			fromClause.visitRoots(
+					root -> {
+						append( "root" );
+						append( root.getEntityName() );
+						declareFrom( root );
+					}
+			);
+			return fromClause;
+		}
+
+		private void declareFrom(SqmFrom<?, ?> sqmFrom) {
+			append( "#" + fromPositions.size() );
+			fromPositions.put( sqmFrom, fromPositions.size() );
+			sqmFrom.visitSqmJoins( this::declareJoin );
+		}
+
+		private void declareJoin(SqmJoin<?, ?> sqmJoin) {
+			append( "join" );
+			append( sqmJoin.getSqmJoinType().name() );
+			if ( sqmJoin instanceof SqmAttributeJoin ) {
+				final SqmAttributeJoin<?, ?> attributeJoin = (SqmAttributeJoin<?, ?>) sqmJoin;
+				append( attributeJoin.getReferencedPathSource().getPathName() );
+				append( attributeJoin.isFetched() ? "fetch" : "-" );
+			}
+			else if ( sqmJoin instanceof SqmEntityJoin ) {
+				append( ( (SqmEntityJoin<?>) sqmJoin ).getEntityName() );
+			}
+			else if ( sqmJoin instanceof SqmCrossJoin ) {
+				append( ( (SqmCrossJoin<?>) sqmJoin ).getEntityName() );
+			}
+			else {
+				unsupported( sqmJoin );
+			}
+
+			declareFrom( sqmJoin );
+
+			if ( sqmJoin instanceof SqmQualifiedJoin ) {
+				final SqmPredicate joinPredicate = ( (SqmQualifiedJoin<?, ?>) sqmJoin ).getJoinPredicate();
+				append( "on" );
+				visit( joinPredicate );
+			}
+		}
+
+		@Override
+		public Object visitSelectClause(SqmSelectClause selectClause) {
+			append( selectClause.isDistinct() ? "select-distinct" : "select" );
+			for ( SqmSelection selection : selectClause.getSelections() ) {
+				visitSelection( selection );
+			}
+			return selectClause;
+		}
+
+		@Override
+		public Object visitSelection(SqmSelection selection) {
+			// the aliases of the selections are part of the result (Tuple)
+			append( "selection" );
+			append( String.valueOf( selection.getAlias() ) );
+			selection.getSelectableNode().accept( this );
+			return selection;
+		}
+
+		@Override
+		public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+			append( "new" );
+			append( sqmDynamicInstantiation.getInstantiationTarget().getNature().name() );
+			append( sqmDynamicInstantiation.getInstantiationTarget().getJavaType().getName() );
+			append( "(" );
+			for ( SqmDynamicInstantiationArgument<?> argument : sqmDynamicInstantiation.getArguments() ) {
+				append( String.valueOf( argument.getAlias() ) );
+				argument.getSelectableNode().accept( this );
+			}
+			append( ")" );
+			return sqmDynamicInstantiation;
+		}
+
+		@Override
+		public Object visitWhereClause(SqmWhereClause whereClause) {
+			append( "where" );
+			if ( whereClause != null ) {
+				visit( whereClause.getPredicate() );
+			}
+			return whereClause;
+		}
+
+		@Override
+		public Object visitGroupByClause(SqmGroupByClause clause) {
+			append( "group-by" );
+			clause.visitGroupings( this::visitGrouping );
+			return clause;
+		}
+
+		@Override
+		public Object visitGrouping(SqmGroupByClause.SqmGrouping grouping) {
+			grouping.getExpression().accept( this );
+			append( String.valueOf( grouping.getCollation() ) );
+			return grouping;
+		}
+
+		@Override
+		public Object visitHavingClause(SqmHavingClause clause) {
+			append( "having" );
+			visit( clause.getPredicate() );
+			return clause;
+		}
+
+		@Override
+		public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+			append( "order-by" );
+			if ( orderByClause != null && orderByClause.getSortSpecifications() != null ) {
+				for ( SqmSortSpecification sortSpecification : orderByClause.getSortSpecifications() ) {
+					visitSortSpecification( sortSpecification );
+				}
+			}
+			return orderByClause;
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			sortSpecification.getSortExpression().accept( this );
+			append( String.valueOf( sortSpecification.getSortOrder() ) );
+			append( String.valueOf( sortSpecification.getNullPrecedence() ) );
+			append( String.valueOf( sortSpecification.getCollation() ) );
+			return sortSpecification;
+		}
+
+		@Override
+		public Object visitOffsetExpression(SqmExpression<?> expression) {
+			append( "offset" );
+			visit( expression );
+			return expression;
+		}
+
+		@Override
+		public Object visitLimitExpression(SqmExpression<?> expression) {
+			append( "limit" );
+			visit( expression );
+			return expression;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// from-element and path references
+
+		private Object visitFromReference(SqmFrom<?, ?> sqmFrom) {
+			final Integer position = fromPositions.get( sqmFrom );
+			if ( position == null ) {
+				// e.g. correlated from-element
+				return unsupported( sqmFrom );
+			}
+			append( "#" + position );
+			return sqmFrom;
+		}
+
+		private Object visitPath(SqmPath<?> path) {
+			if ( path instanceof SqmFrom ) {
+				return visitFromReference( (SqmFrom<?, ?>) path );
+			}
+			if ( path.getLhs() == null ) {
+				return unsupported( path );
+			}
+			visitPath( path.getLhs() );
+			append( "." + path.getReferencedPathSource().getPathName() );
+			return path;
+		}
+
+		@Override
+		public Object visitRootPath(SqmRoot<?> sqmRoot) {
+			return visitFromReference( sqmRoot );
+		}
+
+		@Override
+		public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+			return visitFromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+			return visitFromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+			return visitFromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath path) {
+			return unsupported( path );
+		}
+
+		@Override
+		public Object visitMaxElementPath(SqmMaxElementPath path) {
+			return unsupported( path );
+		}
+
+		@Override
+		public Object visitMinElementPath(SqmMinElementPath path) {
+			return unsupported( path );
+		}
+
+		@Override
+		public Object visitMaxIndexPath(SqmMaxIndexPath path) {
+			return unsupported( path );
+		}
+
+		@Override
+		public Object visitMinIndexPath(SqmMinIndexPath path) {
+			return unsupported( path );
+		}
+
+		@Override
+		public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+			return unsupported( sqmTreatedPath );
+		}
+
+		@Override
+		public Object visitCorrelation(SqmCorrelation correlation) {
+			return unsupported( correlation );
+		}
+
+		@Override
+		public Object visitMapEntryFunction(SqmMapEntryReference function) {
+			return unsupported( function );
+		}
+
+		@Override
+		public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+			append( "size" );
+			return visitPath( function.getPluralPath() );
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// expressions
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			append( "literal" );
+			appendValue( literal.getLiteralValue() );
+			appendValue( literal.getNodeType() );
+			return literal;
+		}
+
+		@Override
+		public Object visitEnumLiteral(SqmEnumLiteral sqmEnumLiteral) {
+			append( "enum" );
+			appendValue( sqmEnumLiteral.getEnumValue() );
+			return sqmEnumLiteral;
+		}
+
+		@Override
+		public Object visitFieldLiteral(SqmFieldLiteral sqmFieldLiteral) {
+			append( "field" );
+			appendValue( sqmFieldLiteral.getValue() );
+			appendValue( sqmFieldLiteral.getNodeType() );
+			return sqmFieldLiteral;
+		}
+
+		@Override
+		public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+			append( "entity-type" );
+			appendValue( expression.getNodeType() );
+			return expression;
+		}
+
+		@Override
+		public Object visitSqmPathEntityTypeExpression(SqmPathEntityType<?> expression) {
+			return unsupported( expression );
+		}
+
+		@Override
+		public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+			return unsupported( expression );
+		}
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			Integer position = parameterPositions.get( expression );
+			if ( position == null ) {
+				position = parameters.size();
+				parameters.add( expression );
+				parameterPositions.put( expression, position );
+			}
+			append( "?" + position );
+			append( expression.allowsMultiValuedBinding() ? "multi-valued" : "-" );
+			appendValue( expression.getAnticipatedType() );
+			return expression;
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			// the QueryParameters of positional and named parameters are specific to the query
+			return unsupported( expression );
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			return unsupported( expression );
+		}
+
+		@Override
+		public Object visitTuple(SqmTuple<?> sqmTuple) {
+			append( "tuple(" );
+			for ( SqmExpression<?> expression : sqmTuple.getGroupedExpressions() ) {
+				expression.accept( this );
+			}
+			append( ")" );
+			return sqmTuple;
+		}
+
+		@Override
+		public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+			append( expression.getOperation().name() );
+			expression.getOperand().accept( this );
+			return expression;
+		}
+
+		@Override
+		public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+			append( expression.getOperator().name() + "(" );
+			expression.getLeftHandOperand().accept( this );
+			expression.getRightHandOperand().accept( this );
+			append( ")" );
+			appendValue( expression.getNodeType() );
+			return expression;
+		}
+
+		@Override
+		public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+			append( "case" );
+			expression.getFixture().accept( this );
+			for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+				append( "when" );
+				whenFragment.getCheckValue().accept( this );
+				append( "then" );
+				whenFragment.getResult().accept( this );
+			}
+			append( "else" );
+			visit( expression.getOtherwise() );
+			append( "end" );
+			return expression;
+		}
+
+		@Override
+		public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+			append( "case" );
+			for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+				append( "when" );
+				whenFragment.getPredicate().accept( this );
+				append( "then" );
+				whenFragment.getResult().accept( this );
+			}
+			append( "else" );
+			visit( expression.getOtherwise() );
+			append( "end" );
+			return expression;
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> sqmFunction) {
+			if ( !( sqmFunction instanceof SelfRenderingSqmFunction ) ) {
+				return unsupported( sqmFunction );
+			}
+
+			final SelfRenderingSqmFunction<?> function = (SelfRenderingSqmFunction<?>) sqmFunction;
+			append( function.getFunctionName() + "(" );
+			for ( SqmTypedNode<?> argument : function.getArguments() ) {
+				if ( !( argument instanceof SqmVisitableNode ) ) {
+					return unsupported( argument );
+				}
+				( (SqmVisitableNode) argument ).accept( this );
+			}
+			append( ")" );
+			appendValue( function.getNodeType() );
+			return sqmFunction;
+		}
+
+		@Override
+		public Object visitExtractUnit(SqmExtractUnit extractUnit) {
+			append( "unit" );
+			append( extractUnit.getUnitName() );
+			return extractUnit;
+		}
+
+		@Override
+		public Object visitCastTarget(SqmCastTarget sqmCastTarget) {
+			append( "cast-target" );
+			appendValue( sqmCastTarget.getType() );
+			return sqmCastTarget;
+		}
+
+		@Override
+		public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+			append( "trim" );
+			append( trimSpecification.getSpecification().name() );
+			return trimSpecification;
+		}
+
+		@Override
+		public Object visitDistinct(SqmDistinct distinct) {
+			append( "distinct" );
+			return distinct.getExpression().accept( this );
+		}
+
+		@Override
+		public Object visitStar(SqmStar sqmStar) {
+			append( "*" );
+			return sqmStar;
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			return unsupported( expression );
+		}
+
+		@Override
+		public Object visitRestrictedSubQueryExpression(SqmRestrictedSubQueryExpression<?> sqmRestrictedSubQueryExpression) {
+			return unsupported( sqmRestrictedSubQueryExpression );
+		}
+
+		@Override
+		public Object visitFullyQualifiedClass(Class<?> namedClass) {
+			return unsupported( namedClass );
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// predicates
+
+		@Override
+		public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+			append( "(" );
+			predicate.getSubPredicate().accept( this );
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitAndPredicate(SqmAndPredicate predicate) {
+			append( "and(" );
+			predicate.getLeftHandPredicate().accept( this );
+			predicate.getRightHandPredicate().accept( this );
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitOrPredicate(SqmOrPredicate predicate) {
+			append( "or(" );
+			predicate.getLeftHandPredicate().accept( this );
+			predicate.getRightHandPredicate().accept( this );
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+			append( "not(" );
+			predicate.getWrappedPredicate().accept( this );
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+			append( predicate.getSqmOperator().name() + "(" );
+			predicate.getLeftHandExpression().accept( this );
+			predicate.getRightHandExpression().accept( this );
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+			append( predicate.isNegated() ? "not-empty" : "empty" );
+			predicate.getPluralPath().accept( this );
+			return predicate;
+		}
+
+		@Override
+		public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+			append( predicate.isNegated() ? "not-null" : "null" );
+			predicate.getExpression().accept( this );
+			return predicate;
+		}
+
+		@Override
+		public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+			append( predicate.isNegated() ? "not-between(" : "between(" );
+			predicate.getExpression().accept( this );
+			predicate.getLowerBound().accept( this );
+			predicate.getUpperBound().accept( this );
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitLikePredicate(SqmLikePredicate predicate) {
+			append( predicate.isNegated() ? "not-like(" : "like(" );
+			predicate.getMatchExpression().accept( this );
+			predicate.getPattern().accept( this );
+			visit( predicate.getEscapeCharacter() );
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+			append( predicate.isNegated() ? "not-member-of" : "member-of" );
+			predicate.getPluralPath().accept( this );
+			return predicate;
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			append( predicate.isNegated() ? "not-in(" : "in(" );
+			predicate.getTestExpression().accept( this );
+			for ( SqmExpression<?> expression : predicate.getListExpressions() ) {
+				expression.accept( this );
+			}
+			append( ")" );
+			return predicate;
+		}
+
+		@Override
+		public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+			return unsupported( predicate );
+		}
+
+		@Override
+		public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+			append( predicate.isNegated() ? "not-boolean" : "boolean" );
+			predicate.getBooleanExpression().accept( this );
+			return predicate;
+		}
+	}
+}
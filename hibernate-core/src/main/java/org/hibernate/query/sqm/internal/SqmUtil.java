@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.Bindable;
@@ -24,7 +25,9 @@ import org.hibernate.metamodel.mapping.MappingModelExpressable;
 import org.hibernate.metamodel.model.domain.AllowableParameterType;
 import org.hibernate.metamodel.spi.DomainMetamodel;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.InClauseParameterExpansion;
 import org.hibernate.query.NavigablePath;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
@@ -153,6 +156,45 @@ public class SqmUtil {
 //		);
 //	}
 
+	/**
+	 * The {@link InClauseParameterExpansion} applied to the multi-valued parameters of a query
+	 */
+	public static InClauseParameterExpansion resolveInClauseParameterExpansion(
+			QueryOptions queryOptions,
+			SessionFactoryImplementor sessionFactory) {
+		final InClauseParameterExpansion expansion = queryOptions.getInClauseParameterExpansion();
+		if ( expansion != null ) {
+			return expansion;
+		}
+
+		return sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+				? InClauseParameterExpansion.PAD
+				: InClauseParameterExpansion.EXPAND;
+	}
+
+	/**
+	 * Determine the number of JDBC parameters to render for a multi-valued parameter.  When padding,
+	 * that is the next power of two (bounded by the Dialect's IN-list limit) so that lists of similar
+	 * sizes share the same SQL.
+	 */
+	public static int determineInClauseParameterCount(
+			int valueCount,
+			InClauseParameterExpansion expansion,
+			Dialect dialect) {
+		if ( expansion == InClauseParameterExpansion.EXPAND || valueCount < 2 ) {
+			return valueCount;
+		}
+
+		final int paddedCount = Integer.highestOneBit( valueCount - 1 ) << 1;
+
+		final int inExpressionCountLimit = dialect.getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 && paddedCount > inExpressionCountLimit ) {
+			return Math.max( valueCount, inExpressionCountLimit );
+		}
+
+		return paddedCount;
+	}
+
 	public static JdbcParameterBindings createJdbcParameterBindings(
 			QueryParameterBindings domainParamBindings,
 			DomainParameterXref domainParameterXref,
@@ -160,6 +202,32 @@ public class SqmUtil {
 			DomainMetamodel domainModel,
 			Function<NavigablePath, TableGroup> tableGroupLocator,
 			SharedSessionContractImplementor session) {
+		return createJdbcParameterBindings(
+				domainParamBindings,
+				domainParameterXref,
+				jdbcParamXref,
+				domainModel,
+				tableGroupLocator,
+				session,
+				false
+		);
+	}
+
+	/**
+	 * Variant of {@link #createJdbcParameterBindings(QueryParameterBindings, DomainParameterXref, Map, DomainMetamodel, Function, SharedSessionContractImplementor)}
+	 * for statements translating only part of the SQM statement, e.g. the selection of the ids matching the
+	 * restriction of an UPDATE, which does not contain its SET clause parameters.
+	 *
+	 * @param partialTranslation Whether to skip the parameters which are not part of the translated statement
+	 */
+	public static JdbcParameterBindings createJdbcParameterBindings(
+			QueryParameterBindings domainParamBindings,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter, List<JdbcParameter>>> jdbcParamXref,
+			DomainMetamodel domainModel,
+			Function<NavigablePath, TableGroup> tableGroupLocator,
+			SharedSessionContractImplementor session,
+			boolean partialTranslation) {
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
 				domainParameterXref.getSqmParameterCount()
 		);
@@ -178,7 +246,12 @@ public class SqmUtil {
 
 			final Map<SqmParameter, List<JdbcParameter>> jdbcParamMap = jdbcParamXref.get( queryParam );
 			for ( SqmParameter sqmParameter : sqmParameters ) {
-				final List<JdbcParameter> jdbcParams = jdbcParamMap.get( sqmParameter );
+				final List<JdbcParameter> jdbcParams = partialTranslation && jdbcParamMap == null
+						? null
+						: jdbcParamMap.get( sqmParameter );
+				if ( partialTranslation && jdbcParams == null ) {
+					continue;
+				}
 
 				if ( ! domainParamBinding.isBound() ) {
 					final MappingModelExpressable mappingExpressable = SqmMappingModelHelper.resolveMappingModelExpressable(
@@ -213,21 +286,34 @@ public class SqmUtil {
 							session.getFactory().getTypeConfiguration()
 					);
 				}
+				else if ( domainParamBinding.isMultiValued() && domainParameterXref.isArrayBinding( sqmParameter ) ) {
+					// all values are bound as a single array
+					createArrayValueBinding(
+							jdbcParameterBindings,
+							parameterType,
+							jdbcParams,
+							domainParamBinding.getBindValues(),
+							session
+					);
+				}
 				else if ( domainParamBinding.isMultiValued() ) {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
 					final Iterator<?> valueItr = bindValues.iterator();
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
-					createValueBindings( jdbcParameterBindings, parameterType, jdbcParams, valueItr.next(), session );
+					Object bindValue = valueItr.next();
+					createValueBindings( jdbcParameterBindings, parameterType, jdbcParams, bindValue, session );
 
 					// an then one for each of the expansions
 					final List<SqmParameter> expansions = domainParameterXref.getExpansions( sqmParameter );
-					assert expansions.size() == bindValues.size() - 1;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final SqmParameter expansionSqmParam = expansions.get( expansionPosition++ );
+					assert expansions.size() >= bindValues.size() - 1;
+					for ( SqmParameter expansionSqmParam : expansions ) {
+						// any expansions beyond the number of values are padding - re-bind the last value
+						if ( valueItr.hasNext() ) {
+							bindValue = valueItr.next();
+						}
 						final List<JdbcParameter> expansionJdbcParams = jdbcParamMap.get( expansionSqmParam );
-						createValueBindings( jdbcParameterBindings, parameterType, expansionJdbcParams, valueItr.next(), session );
+						createValueBindings( jdbcParameterBindings, parameterType, expansionJdbcParams, bindValue, session );
 					}
 				}
 				else {
@@ -280,6 +366,50 @@ public class SqmUtil {
 		);
 	}
 
+	private static void createArrayValueBinding(
+			JdbcParameterBindings jdbcParameterBindings,
+			AllowableParameterType<?> parameterType,
+			List<JdbcParameter> jdbcParams,
+			Collection<?> bindValues,
+			SharedSessionContractImplementor session) {
+		assert jdbcParams.size() == 1;
+
+		final MappingModelExpressable mappingExpressable = session.getFactory()
+				.getDomainModel()
+				.resolveMappingExpressable( parameterType );
+
+		final Object[] jdbcValues = new Object[ bindValues.size() ];
+		final JdbcMapping[] elementJdbcMapping = new JdbcMapping[1];
+		int position = 0;
+		for ( Object bindValue : bindValues ) {
+			final int valuePosition = position++;
+			mappingExpressable.visitJdbcValues(
+					bindValue,
+					Clause.IRRELEVANT,
+					(jdbcValue, jdbcType) -> {
+						jdbcValues[valuePosition] = jdbcValue;
+						elementJdbcMapping[0] = jdbcType;
+					},
+					session
+			);
+		}
+
+		jdbcParameterBindings.addBinding(
+				jdbcParams.get( 0 ),
+				new JdbcParameterBinding() {
+					@Override
+					public JdbcMapping getBindType() {
+						return elementJdbcMapping[0];
+					}
+
+					@Override
+					public Object getBindValue() {
+						return jdbcValues;
+					}
+				}
+		);
+	}
+
 	public static AllowableParameterType determineParameterType(
 			QueryParameterBinding<?> binding,
 			QueryParameterImplementor<?> parameter,
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -25,6 +26,7 @@ import org.hibernate.sql.ast.SqlAstSelectTranslator;
 import org.hibernate.sql.ast.spi.SqlExpressionResolver;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.QueryLiteral;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
@@ -37,6 +39,7 @@ import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 import org.hibernate.sql.results.internal.domain.basic.BasicResult;
 import org.hibernate.sql.results.spi.DomainResult;
+import org.hibernate.type.StandardBasicTypes;
 
 import org.jboss.logging.Logger;
 
@@ -89,8 +92,8 @@ public class MatchingIdSelectionHelper {
 					);
 					idSelectionQuery.getSelectClause().addSqlSelection(
 							new SqlSelectionImpl(
-									position,
 									position + 1,
+									position,
 									expression,
 									jdbcMapping
 							)
@@ -147,8 +150,8 @@ public class MatchingIdSelectionHelper {
 					);
 					idSelectionQuery.getSelectClause().addSqlSelection(
 							new SqlSelectionImpl(
-									position,
 									position + 1,
+									position,
 									expression,
 									jdbcMapping
 							)
@@ -169,6 +172,20 @@ public class MatchingIdSelectionHelper {
 			SqmDeleteOrUpdateStatement sqmMutationStatement,
 			DomainParameterXref domainParameterXref,
 			ExecutionContext executionContext) {
+		return selectMatchingIds( sqmMutationStatement, domainParameterXref, executionContext, -1, null );
+	}
+
+	/**
+	 * Selection of at most {@code maxRows} ids matching the restriction of the DELETE
+	 * or UPDATE SQM query, or of all of them if {@code maxRows} is negative, optionally
+	 * locking the selected rows
+	 */
+	public static List<Object> selectMatchingIds(
+			SqmDeleteOrUpdateStatement sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			ExecutionContext executionContext,
+			int maxRows,
+			LockOptions lockOptions) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 
 		final EntityMappingType entityDescriptor = factory.getDomainModel()
@@ -205,13 +222,31 @@ public class MatchingIdSelectionHelper {
 				factory
 		);
 
+		if ( maxRows >= 0 ) {
+			matchingIdSelection.getQuerySpec().setLimitClauseExpression(
+					new QueryLiteral( maxRows, StandardBasicTypes.INTEGER )
+			);
+		}
 
 		final JdbcServices jdbcServices = factory.getJdbcServices();
 		final SqlAstSelectTranslator sqlAstSelectTranslator = jdbcServices.getJdbcEnvironment()
 				.getSqlAstTranslatorFactory()
 				.buildSelectTranslator( factory );
 
-		final JdbcSelect idSelectJdbcOperation = sqlAstSelectTranslator.translate( matchingIdSelection );
+		JdbcSelect idSelectJdbcOperation = sqlAstSelectTranslator.translate( matchingIdSelection );
+		if ( lockOptions != null ) {
+			// the SQL AST does not render locks yet
+			idSelectJdbcOperation = new JdbcSelect(
+					jdbcServices.getDialect().applyLocksToSql(
+							idSelectJdbcOperation.getSql(),
+							lockOptions,
+							Collections.emptyMap()
+					),
+					idSelectJdbcOperation.getParameterBinders(),
+					idSelectJdbcOperation.getJdbcValuesMappingProducer(),
+					idSelectJdbcOperation.getAffectedTableNames()
+			);
+		}
 
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
@@ -219,7 +254,9 @@ public class MatchingIdSelectionHelper {
 				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmConverter ),
 				factory.getDomainModel(),
 				navigablePath -> sqmConverter.getMutatingTableGroup(),
-				executionContext.getSession()
+				executionContext.getSession(),
+				// the SET clause parameters of an UPDATE are not part of the selection
+				true
 		);
 
 		return jdbcServices.getJdbcSelectExecutor().list(
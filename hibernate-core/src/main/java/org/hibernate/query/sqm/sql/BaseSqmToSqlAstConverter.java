@@ -21,6 +21,7 @@ import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.BasicValuedMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.MappingModelExpressable;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.model.domain.AllowableParameterType;
@@ -28,6 +29,7 @@ import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.metamodel.model.domain.internal.EmbeddedSqmPathSource;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.BinaryArithmeticOperator;
+import org.hibernate.query.InClauseParameterExpansion;
 import org.hibernate.query.NavigablePath;
 import org.hibernate.query.UnaryArithmeticOperator;
 import org.hibernate.query.spi.QueryOptions;
@@ -40,6 +42,7 @@ import org.hibernate.query.sqm.SqmPathSource;
 import org.hibernate.query.sqm.function.SqmFunction;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmMappingModelHelper;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
 import org.hibernate.query.sqm.spi.JdbcParameterBySqmParameterAccess;
 import org.hibernate.query.sqm.sql.internal.BasicValuedPathInterpretation;
@@ -124,6 +127,7 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.predicate.BetweenPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -135,12 +139,14 @@ import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectClause;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.sql.exec.internal.JdbcArrayParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
 import org.hibernate.sql.exec.spi.JdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameters;
 import org.hibernate.sql.results.spi.Fetch;
 import org.hibernate.sql.results.spi.FetchParent;
+import org.hibernate.type.spi.TypeConfiguration;
 
 import org.jboss.logging.Logger;
 
@@ -1639,11 +1645,11 @@ public abstract class BaseSqmToSqlAstConverter
 	}
 
 	@Override
-	public InListPredicate visitInListPredicate(SqmInListPredicate<?> predicate) {
+	public Predicate visitInListPredicate(SqmInListPredicate<?> predicate) {
 		// special case:
 		//		if there is just a single element and it is an SqmParameter
 		//		and the corresponding QueryParameter binding is multi-valued...
-		//		lets expand the SQL AST for each bind value
+		//		lets expand the SQL AST for each bind value (or bind them as an array)
 		if ( predicate.getListExpressions().size() == 1 ) {
 			final SqmExpression sqmExpression = predicate.getListExpressions().get( 0 );
 			if ( sqmExpression instanceof SqmParameter ) {
@@ -1652,22 +1658,43 @@ public abstract class BaseSqmToSqlAstConverter
 				final QueryParameterBinding domainParamBinding = domainParameterBindings.getBinding( domainParam );
 
 				if ( domainParamBinding.isMultiValued() ) {
-					final InListPredicate inListPredicate = new InListPredicate(
-							(Expression) predicate.getTestExpression().accept( this )
+					final Expression testExpression = (Expression) predicate.getTestExpression().accept( this );
+					final InClauseParameterExpansion expansion = SqmUtil.resolveInClauseParameterExpansion(
+							queryOptions,
+							getCreationContext().getSessionFactory()
 					);
 
 					inferableTypeAccessStack.push(
 							() -> determineValueMapping( predicate.getTestExpression() ) );
 
 					try {
-						boolean first = true;
-						for ( Object bindValue : domainParamBinding.getBindValues() ) {
+						if ( expansion == InClauseParameterExpansion.ARRAY ) {
+							final InArrayPredicate inArrayPredicate = createInArrayPredicate(
+									testExpression,
+									sqmParameter,
+									predicate.isNegated()
+							);
+							if ( inArrayPredicate != null ) {
+								return inArrayPredicate;
+							}
+						}
+
+						final InListPredicate inListPredicate = new InListPredicate(
+								testExpression,
+								predicate.isNegated()
+						);
+
+						final int parameterCount = SqmUtil.determineInClauseParameterCount(
+								domainParamBinding.getBindValues().size(),
+								expansion,
+								getCreationContext().getSessionFactory().getJdbcServices().getDialect()
+						);
+						for ( int i = 0; i < parameterCount; i++ ) {
 							final SqmParameter sqmParamToConsume;
-							// for each bind value do the following:
+							// for each bind value (and each padding slot) do the following:
 							//		1) create a pseudo-SqmParameter (though re-use the original for the first value)
-							if ( first ) {
+							if ( i == 0 ) {
 								sqmParamToConsume = sqmParameter;
-								first = false;
 							}
 							else {
 								sqmParamToConsume = sqmParameter.copy();
@@ -1676,12 +1703,12 @@ public abstract class BaseSqmToSqlAstConverter
 
 							inListPredicate.addExpression( consumeSqmParameter( sqmParamToConsume ) );
 						}
+
+						return inListPredicate;
 					}
 					finally {
 						inferableTypeAccessStack.pop();
 					}
-
-					return inListPredicate;
 				}
 			}
 		}
@@ -1699,6 +1726,40 @@ public abstract class BaseSqmToSqlAstConverter
 		return inPredicate;
 	}
 
+	/**
+	 * Create a predicate binding all the values of the multi-valued parameter as a single JDBC
+	 * array, or return {@code null} if that is not supported for the parameter's type.
+	 */
+	private InArrayPredicate createInArrayPredicate(
+			Expression testExpression,
+			SqmParameter<?> sqmParameter,
+			boolean negated) {
+		final TypeConfiguration typeConfiguration = getCreationContext().getDomainModel().getTypeConfiguration();
+		final MappingModelExpressable<?> valueMapping = determineValueMapping( sqmParameter );
+		if ( valueMapping.getJdbcTypeCount( typeConfiguration ) != 1 ) {
+			return null;
+		}
+
+		final JdbcMapping elementJdbcMapping = valueMapping.getJdbcMappings( typeConfiguration ).get( 0 );
+		final String template = getCreationContext().getSessionFactory()
+				.getJdbcServices()
+				.getDialect()
+				.getInArrayPredicateTemplate( elementJdbcMapping.getSqlTypeDescriptor().getSqlType() );
+		if ( template == null ) {
+			return null;
+		}
+
+		final JdbcParameter arrayParameter = new JdbcArrayParameterImpl( elementJdbcMapping );
+		final List<JdbcParameter> jdbcParametersForSqm = new ArrayList<>( 1 );
+		jdbcParametersForSqm.add( arrayParameter );
+
+		this.jdbcParameters.addParameters( jdbcParametersForSqm );
+		this.jdbcParamsBySqmParam.put( sqmParameter, jdbcParametersForSqm );
+		domainParameterXref.addArrayBinding( sqmParameter );
+
+		return new InArrayPredicate( testExpression, arrayParameter, elementJdbcMapping, negated );
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate predicate) {
 		return new InSubQueryPredicate(
@@ -92,7 +92,11 @@ public class StandardSqmSelectTranslator
 		super( creationContext, queryOptions, domainParameterXref, domainParameterBindings );
 		this.fetchInfluencers = fetchInfluencers;
 
-		if ( fetchInfluencers != null ) {
+		if ( queryOptions.getAppliedGraph() != null && queryOptions.getAppliedGraph().getSemantic() != null ) {
+			// a graph applied to the query takes precedence over the session's one
+			currentJpaGraphNode = queryOptions.getAppliedGraph().getGraph();
+		}
+		else if ( fetchInfluencers != null ) {
 			if ( fetchInfluencers.getEffectiveEntityGraph().getSemantic() != null ) {
 				currentJpaGraphNode = fetchInfluencers.getEffectiveEntityGraph().getGraph();
 			}
@@ -89,13 +89,32 @@ public class Insert {
 	}
 
 	public String toStatementString() {
-		StringBuilder buf = new StringBuilder( columns.size()*15 + tableName.length() + 10 );
+		return toStatementString( 1 );
+	}
+
+	/**
+	 * Render the statement inserting the given number of rows, i.e. with as many values tuples
+	 *
+	 * @param rowCount The number of rows
+	 *
+	 * @return The statement
+	 */
+	public String toStatementString(int rowCount) {
+		StringBuilder buf = new StringBuilder( ( columns.size()*15 ) * rowCount + tableName.length() + 10 );
 		if ( comment != null ) {
 			buf.append( "/* " ).append( comment ).append( " */ " );
 		}
 		buf.append("insert into ")
 			.append(tableName);
 		if ( columns.size()==0 ) {
+			if ( rowCount > 1 ) {
+				throw new MappingException(
+						String.format(
+								"The INSERT statement for table [%s] contains no column, and cannot insert multiple rows",
+								tableName
+						)
+				);
+			}
 			if ( dialect.supportsNoColumnsInsert() ) {
 				buf.append( ' ' ).append( dialect.getNoColumnsInsertString() );
 			}
@@ -118,15 +137,21 @@ public class Insert {
 					buf.append( ", " );
 				}
 			}
-			buf.append(") values (");
-			iter = columns.values().iterator();
-			while ( iter.hasNext() ) {
-				buf.append( iter.next() );
-				if ( iter.hasNext() ) {
+			buf.append(") values ");
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( i > 0 ) {
 					buf.append( ", " );
 				}
+				buf.append( '(' );
+				iter = columns.values().iterator();
+				while ( iter.hasNext() ) {
+					buf.append( iter.next() );
+					if ( iter.hasNext() ) {
+						buf.append( ", " );
+					}
+				}
+				buf.append( ')' );
 			}
-			buf.append(')');
 		}
 		return buf.toString();
 	}
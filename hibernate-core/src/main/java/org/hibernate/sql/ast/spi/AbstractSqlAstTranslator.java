@@ -28,6 +28,12 @@ public abstract class AbstractSqlAstTranslator
 		super( sessionFactory );
 	}
 
+	protected AbstractSqlAstTranslator(
+			SessionFactoryImplementor sessionFactory,
+			SqlAstTranslationSizeEstimator sizeEstimator) {
+		super( sessionFactory, sizeEstimator );
+	}
+
 	@Override
 	public void visitAssignment(Assignment assignment) {
 		throw new SqlTreeCreationException ( "Encountered unexpected assignment clause" );
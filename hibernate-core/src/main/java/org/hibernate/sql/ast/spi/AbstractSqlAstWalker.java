@@ -43,6 +43,7 @@ import org.hibernate.sql.ast.tree.predicate.BetweenPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -57,6 +58,7 @@ import org.hibernate.sql.ast.tree.select.SortSpecification;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
 import org.hibernate.sql.exec.spi.JdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.TenantSchemaQualifier;
 import org.hibernate.sql.results.internal.EmptySqlSelection;
 import org.hibernate.type.descriptor.sql.SqlTypeDescriptorIndicators;
 import org.hibernate.type.spi.TypeConfiguration;
@@ -78,28 +80,61 @@ public abstract class AbstractSqlAstWalker
 	// pre-req state
 	private final SessionFactoryImplementor sessionFactory;
 	private final SqlAppender sqlAppender = this::appendSql;
+	private final SqlAstTranslationSizeEstimator sizeEstimator;
 
 	// In-flight state
-	private final StringBuilder sqlBuffer = new StringBuilder();
-	private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
+	private final StringBuilder sqlBuffer;
+	private final List<JdbcParameterBinder> parameterBinders;
+
+	// the rendered SQL, cached until the buffer changes again
+	private String sql;
 
 	private final JdbcParametersImpl jdbcParameters = new JdbcParametersImpl();
 
 	private final Stack<Clause> clauseStack = new StandardStack<>();
 
 	private final Dialect dialect;
+	private final TenantSchemaQualifier tenantSchemaQualifier;
 
 	@SuppressWarnings("WeakerAccess")
 	protected AbstractSqlAstWalker(SessionFactoryImplementor sessionFactory) {
+		this( sessionFactory, null );
+	}
+
+	/**
+	 * @param sizeEstimator Used to pre-size the SQL buffer and parameter-binder list based on
+	 * previous translations; may be {@code null}
+	 */
+	@SuppressWarnings("WeakerAccess")
+	protected AbstractSqlAstWalker(
+			SessionFactoryImplementor sessionFactory,
+			SqlAstTranslationSizeEstimator sizeEstimator) {
 		this.sessionFactory = sessionFactory;
 		this.dialect = sessionFactory.getJdbcServices().getDialect();
+		this.tenantSchemaQualifier = sessionFactory.getTenantSchemaQualifier();
+		this.sizeEstimator = sizeEstimator;
+
+		if ( sizeEstimator == null ) {
+			this.sqlBuffer = new StringBuilder( SqlAstTranslationSizeEstimator.DEFAULT_SQL_LENGTH );
+			this.parameterBinders = new ArrayList<>( SqlAstTranslationSizeEstimator.DEFAULT_PARAMETER_COUNT );
+		}
+		else {
+			this.sqlBuffer = new StringBuilder( sizeEstimator.getSqlLength() );
+			this.parameterBinders = new ArrayList<>( sizeEstimator.getParameterCount() );
+		}
 	}
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// for tests, for now
 	public String getSql() {
-		return sqlBuffer.toString();
+		if ( sql == null ) {
+			sql = sqlBuffer.toString();
+			if ( sizeEstimator != null ) {
+				sizeEstimator.translated( sql.length(), parameterBinders.size() );
+			}
+		}
+		return sql;
 	}
 
 	@SuppressWarnings("WeakerAccess")
@@ -116,11 +151,13 @@ public abstract class AbstractSqlAstWalker
 
 	@SuppressWarnings("WeakerAccess")
 	protected void appendSql(String fragment) {
+		sql = null;
 		sqlBuffer.append( fragment );
 	}
 
 	@SuppressWarnings("WeakerAccess")
 	protected void appendSql(char fragment) {
+		sql = null;
 		sqlBuffer.append( fragment );
 	}
 
@@ -177,7 +214,7 @@ public abstract class AbstractSqlAstWalker
 		visitLimitOffsetClause( querySpec );
 
 		if ( !querySpec.isRoot() ) {
-			appendSql( ")" );
+			appendSql( ')' );
 		}
 	}
 
@@ -330,7 +367,7 @@ public abstract class AbstractSqlAstWalker
 
 	@SuppressWarnings("WeakerAccess")
 	protected void renderTableReference(TableReference tableReference) {
-		sqlAppender.appendSql( tableReference.getTableExpression() );
+		renderTableExpression( tableReference.getTableExpression() );
 
 		final String identificationVariable = tableReference.getIdentificationVariable();
 		if ( identificationVariable != null ) {
@@ -339,6 +376,17 @@ public abstract class AbstractSqlAstWalker
 		}
 	}
 
+	/**
+	 * Render the name of a table, leaving a placeholder for the schema of the
+	 * current tenant if needed - see {@link TenantSchemaQualifier}
+	 */
+	protected void renderTableExpression(String tableExpression) {
+		if ( tenantSchemaQualifier != null && tenantSchemaQualifier.isTenantTable( tableExpression ) ) {
+			sqlAppender.appendSql( TenantSchemaQualifier.SCHEMA_PLACEHOLDER );
+		}
+		sqlAppender.appendSql( tableExpression );
+	}
+
 	@SuppressWarnings("WeakerAccess")
 	protected void renderTableReferenceJoins(TableGroup tableGroup) {
 		final List<TableReferenceJoin> joins = tableGroup.getTableReferenceJoins();
@@ -420,7 +468,7 @@ public abstract class AbstractSqlAstWalker
 	public void visitColumnReference(ColumnReference columnReference) {
 		if ( columnReference.getQualifier() != null ) {
 			appendSql( columnReference.getQualifier() );
-			appendSql( "." );
+			appendSql( '.' );
 		}
 		appendSql( columnReference.getColumnExpression() );
 	}
@@ -767,6 +815,7 @@ public abstract class AbstractSqlAstWalker
 
 	@Override
 	public void visitCaseSearchedExpression(CaseSearchedExpression caseSearchedExpression) {
+		sql = null;
 		dialect.getCaseExpressionWalker().visitCaseSearchedExpression( caseSearchedExpression, sqlBuffer, this );
 	}
 
@@ -800,7 +849,7 @@ public abstract class AbstractSqlAstWalker
 
 		// todo (6.0) : ? wrap in cast function call if the literal occurs in SELECT (?based on Dialect?)
 
-		appendSql( "?" );
+		appendSql( '?' );
 	}
 
 //	@Override
@@ -951,6 +1000,41 @@ public abstract class AbstractSqlAstWalker
 		appendSql( CLOSE_PARENTHESIS );
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		final JdbcParameter arrayParameter = inArrayPredicate.getArrayParameter();
+		final String template = dialect.getInArrayPredicateTemplate(
+				inArrayPredicate.getElementJdbcMapping().getSqlTypeDescriptor().getSqlType()
+		);
+
+		if ( inArrayPredicate.isNegated() ) {
+			appendSql( "not (" );
+		}
+
+		// render the template, substituting `?1` and `?2`
+		int position = 0;
+		int placeholder;
+		while ( ( placeholder = template.indexOf( '?', position ) ) >= 0 ) {
+			appendSql( template.substring( position, placeholder ) );
+			final char index = template.charAt( placeholder + 1 );
+			if ( index == '1' ) {
+				inArrayPredicate.getTestExpression().accept( this );
+			}
+			else if ( index == '2' ) {
+				arrayParameter.accept( this );
+			}
+			else {
+				throw new IllegalStateException( "Unexpected placeholder in IN array predicate template : " + template );
+			}
+			position = placeholder + 2;
+		}
+		appendSql( template.substring( position ) );
+
+		if ( inArrayPredicate.isNegated() ) {
+			appendSql( CLOSE_PARENTHESIS );
+		}
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 		inSubQueryPredicate.getTestExpression().accept( this );
@@ -1001,7 +1085,7 @@ public abstract class AbstractSqlAstWalker
 
 		appendSql( "not (" );
 		negatedPredicate.getPredicate().accept( this );
-		appendSql( ")" );
+		appendSql( ')' );
 	}
 
 	@Override
@@ -1032,9 +1116,9 @@ public abstract class AbstractSqlAstWalker
 //		}
 //
 		comparisonPredicate.getLeftHandExpression().accept( this );
-		appendSql( " " );
+		appendSql( ' ' );
 		appendSql( comparisonPredicate.getOperator().sqlText() );
-		appendSql( " " );
+		appendSql( ' ' );
 		comparisonPredicate.getRightHandExpression().accept( this );
 	}
 
@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.ast.spi;
+
+/**
+ * Keeps track of the size of the SQL and of the number of parameters rendered by
+ * previous translations, so that subsequent translators can pre-size their SQL
+ * buffer and parameter-binder list instead of growing (and copying) them
+ * repeatedly while rendering.
+ * <p/>
+ * The estimate grows immediately to the largest size seen and decays slowly
+ * afterwards.  It is only a hint, so concurrent updates are deliberately not
+ * synchronized.
+ *
+ * @see AbstractSqlAstWalker
+ */
+public class SqlAstTranslationSizeEstimator {
+	public static final int DEFAULT_SQL_LENGTH = 256;
+	public static final int DEFAULT_PARAMETER_COUNT = 8;
+
+	// do not let a single huge statement pin large buffers for every translation
+	private static final int MAX_SQL_LENGTH = 64 * 1024;
+	private static final int MAX_PARAMETER_COUNT = 1024;
+
+	private volatile int sqlLength = DEFAULT_SQL_LENGTH;
+	private volatile int parameterCount = DEFAULT_PARAMETER_COUNT;
+
+	public int getSqlLength() {
+		return sqlLength;
+	}
+
+	public int getParameterCount() {
+		return parameterCount;
+	}
+
+	/**
+	 * Callback about a translation having been completed
+	 *
+	 * @param renderedSqlLength The length of the rendered SQL
+	 * @param renderedParameterCount The number of parameter binders collected
+	 */
+	public void translated(int renderedSqlLength, int renderedParameterCount) {
+		sqlLength = estimate( sqlLength, renderedSqlLength, DEFAULT_SQL_LENGTH, MAX_SQL_LENGTH );
+		parameterCount = estimate( parameterCount, renderedParameterCount, DEFAULT_PARAMETER_COUNT, MAX_PARAMETER_COUNT );
+	}
+
+	private static int estimate(int current, int rendered, int min, int max) {
+		if ( rendered >= current ) {
+			return Math.min( rendered, max );
+		}
+		return Math.max( current - Math.max( ( current - rendered ) >> 4, 1 ), min );
+	}
+}
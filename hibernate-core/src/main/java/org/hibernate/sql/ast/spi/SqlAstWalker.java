@@ -29,6 +29,7 @@ import org.hibernate.sql.ast.tree.predicate.BetweenPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -114,6 +115,8 @@ public interface SqlAstWalker {
 
 	void visitInListPredicate(InListPredicate inListPredicate);
 
+	void visitInArrayPredicate(InArrayPredicate inArrayPredicate);
+
 	void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate);
 
 	void visitJunction(Junction junction);
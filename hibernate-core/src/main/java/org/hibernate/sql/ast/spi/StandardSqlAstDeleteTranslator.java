@@ -26,10 +26,16 @@ public class StandardSqlAstDeleteTranslator extends AbstractSqlAstTranslator imp
 		super( sessionFactory );
 	}
 
+	public StandardSqlAstDeleteTranslator(
+			SessionFactoryImplementor sessionFactory,
+			SqlAstTranslationSizeEstimator sizeEstimator) {
+		super( sessionFactory, sizeEstimator );
+	}
+
 	@Override
 	public JdbcDelete translate(DeleteStatement sqlAst) {
 		appendSql( "delete from " );
-		appendSql( sqlAst.getTargetTable().getTableExpression() );
+		renderTableExpression( sqlAst.getTargetTable().getTableExpression() );
 
 		if ( sqlAst.getRestriction() != null ) {
 			appendSql( " where " );
@@ -49,7 +55,7 @@ public class StandardSqlAstDeleteTranslator extends AbstractSqlAstTranslator imp
 
 			@Override
 			public Set<String> getAffectedTableNames() {
-				return getAffectedTableNames();
+				return StandardSqlAstDeleteTranslator.this.getAffectedTableNames();
 			}
 		};
 	}
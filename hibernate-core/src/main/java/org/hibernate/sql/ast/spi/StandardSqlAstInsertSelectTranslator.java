@@ -29,10 +29,16 @@ public class StandardSqlAstInsertSelectTranslator
 		super( sessionFactory );
 	}
 
+	public StandardSqlAstInsertSelectTranslator(
+			SessionFactoryImplementor sessionFactory,
+			SqlAstTranslationSizeEstimator sizeEstimator) {
+		super( sessionFactory, sizeEstimator );
+	}
+
 	@Override
 	public JdbcInsert translate(InsertSelectStatement sqlAst) {
 		appendSql( "insert into " );
-		appendSql( sqlAst.getTargetTable().getTableExpression() );
+		renderTableExpression( sqlAst.getTargetTable().getTableExpression() );
 
 		appendSql( " (" );
 		boolean firstPass = true;
@@ -35,6 +35,12 @@ public class StandardSqlAstSelectTranslator
 		super( sessionFactory );
 	}
 
+	public StandardSqlAstSelectTranslator(
+			SessionFactoryImplementor sessionFactory,
+			SqlAstTranslationSizeEstimator sizeEstimator) {
+		super( sessionFactory, sizeEstimator );
+	}
+
 	@Override
 	public JdbcSelect translate(CteStatement sqlAst) {
 		assert sqlAst.getCteConsumer() instanceof QuerySpec;
@@ -17,23 +17,29 @@ import org.hibernate.sql.ast.SqlAstUpdateTranslator;
  * @author Steve Ebersole
  */
 public class StandardSqlAstTranslatorFactory implements SqlAstTranslatorFactory {
+	// statement kinds render quite differently sized SQL, so keep separate estimates
+	private final SqlAstTranslationSizeEstimator selectSizeEstimator = new SqlAstTranslationSizeEstimator();
+	private final SqlAstTranslationSizeEstimator deleteSizeEstimator = new SqlAstTranslationSizeEstimator();
+	private final SqlAstTranslationSizeEstimator insertSizeEstimator = new SqlAstTranslationSizeEstimator();
+	private final SqlAstTranslationSizeEstimator updateSizeEstimator = new SqlAstTranslationSizeEstimator();
+
 	@Override
 	public SqlAstSelectTranslator buildSelectTranslator(SessionFactoryImplementor sessionFactory) {
-		return new StandardSqlAstSelectTranslator( sessionFactory);
+		return new StandardSqlAstSelectTranslator( sessionFactory, selectSizeEstimator );
 	}
 
 	@Override
 	public SqlAstDeleteTranslator buildDeleteTranslator(SessionFactoryImplementor sessionFactory) {
-		return new StandardSqlAstDeleteTranslator( sessionFactory );
+		return new StandardSqlAstDeleteTranslator( sessionFactory, deleteSizeEstimator );
 	}
 
 	@Override
 	public SqlAstInsertSelectTranslator buildInsertTranslator(SessionFactoryImplementor sessionFactory) {
-		return new StandardSqlAstInsertSelectTranslator( sessionFactory );
+		return new StandardSqlAstInsertSelectTranslator( sessionFactory, insertSizeEstimator );
 	}
 
 	@Override
 	public SqlAstUpdateTranslator buildUpdateTranslator(SessionFactoryImplementor sessionFactory) {
-		return new StandardSqlAstUpdateTranslator( sessionFactory );
+		return new StandardSqlAstUpdateTranslator( sessionFactory, updateSizeEstimator );
 	}
 }
@@ -29,7 +29,13 @@ public class StandardSqlAstUpdateTranslator
 	private final Dialect dialect;
 
 	public StandardSqlAstUpdateTranslator(SessionFactoryImplementor sessionFactory) {
-		super( sessionFactory );
+		this( sessionFactory, null );
+	}
+
+	public StandardSqlAstUpdateTranslator(
+			SessionFactoryImplementor sessionFactory,
+			SqlAstTranslationSizeEstimator sizeEstimator) {
+		super( sessionFactory, sizeEstimator );
 
 		// todo (6.0) : use the Dialect to determine how to handle column references
 		//		- specifically should they use the table-alias, the table-expression
@@ -44,7 +50,7 @@ public class StandardSqlAstUpdateTranslator
 		updatingTableAlias = sqlAst.getTargetTable().getIdentificationVariable();
 
 		appendSql( "update " );
-		appendSql( sqlAst.getTargetTable().getTableExpression() );
+		renderTableExpression( sqlAst.getTargetTable().getTableExpression() );
 
 		appendSql( " set " );
 		boolean firstPass = true;
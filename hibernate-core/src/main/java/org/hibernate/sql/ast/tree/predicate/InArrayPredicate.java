@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.ast.tree.predicate;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.ast.spi.SqlAstWalker;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.exec.spi.JdbcParameter;
+
+/**
+ * An {@code IN} predicate whose values are bound as a single JDBC array parameter.
+ *
+ * @see org.hibernate.dialect.Dialect#getInArrayPredicateTemplate(int)
+ * @see org.hibernate.query.InClauseParameterExpansion#ARRAY
+ */
+public class InArrayPredicate implements Predicate {
+	private final Expression testExpression;
+	private final JdbcParameter arrayParameter;
+	private final JdbcMapping elementJdbcMapping;
+	private final boolean negated;
+
+	public InArrayPredicate(
+			Expression testExpression,
+			JdbcParameter arrayParameter,
+			JdbcMapping elementJdbcMapping,
+			boolean negated) {
+		this.testExpression = testExpression;
+		this.arrayParameter = arrayParameter;
+		this.elementJdbcMapping = elementJdbcMapping;
+		this.negated = negated;
+	}
+
+	public Expression getTestExpression() {
+		return testExpression;
+	}
+
+	public JdbcParameter getArrayParameter() {
+		return arrayParameter;
+	}
+
+	public JdbcMapping getElementJdbcMapping() {
+		return elementJdbcMapping;
+	}
+
+	public boolean isNegated() {
+		return negated;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return false;
+	}
+
+	@Override
+	public void accept(SqlAstWalker sqlTreeWalker) {
+		sqlTreeWalker.visitInArrayPredicate( this );
+	}
+}
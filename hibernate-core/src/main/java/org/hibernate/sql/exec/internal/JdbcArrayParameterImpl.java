@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.ast.spi.SqlAstWalker;
+import org.hibernate.sql.exec.ExecutionException;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+
+/**
+ * A JDBC parameter binding all the values of a multi-valued query parameter as a single
+ * JDBC {@link java.sql.Array}.  The bind value is expected to be an {@code Object[]} of
+ * the (domain) element values, the {@link #getJdbcMapping() JdbcMapping} describes the
+ * array elements.
+ *
+ * @see org.hibernate.sql.ast.tree.predicate.InArrayPredicate
+ */
+public class JdbcArrayParameterImpl extends AbstractJdbcParameter {
+	public JdbcArrayParameterImpl(JdbcMapping elementJdbcMapping) {
+		super( elementJdbcMapping );
+	}
+
+	@Override
+	public void accept(SqlAstWalker sqlTreeWalker) {
+		sqlTreeWalker.visitParameter( this );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void bindParameterValue(
+			PreparedStatement statement,
+			int startPosition,
+			JdbcParameterBindings jdbcParamBindings,
+			ExecutionContext executionContext) throws SQLException {
+		final JdbcParameterBinding binding = jdbcParamBindings.getBinding( this );
+		if ( binding == null ) {
+			throw new ExecutionException( "JDBC parameter value not bound - " + this );
+		}
+
+		final JdbcMapping elementJdbcMapping = binding.getBindType() == null
+				? getJdbcMapping()
+				: binding.getBindType();
+		final SharedSessionContractImplementor session = executionContext.getSession();
+
+		final JavaTypeDescriptor elementJavaTypeDescriptor = elementJdbcMapping.getJavaTypeDescriptor();
+		final Class<?> jdbcJavaType = elementJdbcMapping.getSqlTypeDescriptor()
+				.getJdbcRecommendedJavaTypeMapping( session.getFactory().getTypeConfiguration() )
+				.getJavaType();
+
+		final Object[] values = (Object[]) binding.getBindValue();
+		final Object[] jdbcValues = new Object[ values.length ];
+		for ( int i = 0; i < values.length; i++ ) {
+			jdbcValues[i] = elementJavaTypeDescriptor.unwrap( values[i], jdbcJavaType, session );
+		}
+
+		session.getJdbcServices().getDialect().bindArrayParameter(
+				statement,
+				startPosition,
+				jdbcValues,
+				elementJdbcMapping.getSqlTypeDescriptor().getSqlType()
+		);
+	}
+}
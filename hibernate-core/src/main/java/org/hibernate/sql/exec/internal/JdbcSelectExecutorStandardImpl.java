@@ -148,6 +148,21 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				)
 		);
 
+		try {
+			return executeQuery( jdbcValues, executionContext, rowTransformer, resultsConsumer );
+		}
+		catch (RuntimeException | Error e) {
+			// the results of the failed query will not be cached: let the sessions waiting for them execute it
+			releaseQueryResultsLoad( jdbcSelect, executionContext );
+			throw e;
+		}
+	}
+
+	private <T, R> T executeQuery(
+			JdbcValues jdbcValues,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T,R> resultsConsumer) {
 		/*
 		 * Processing options effectively are only used for entity loading.  Here we don't need these values.
 		 */
@@ -210,6 +225,25 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		return result;
 	}
 
+	private void releaseQueryResultsLoad(JdbcSelect jdbcSelect, ExecutionContext executionContext) {
+		final CacheMode cacheMode = JdbcExecHelper.resolveCacheMode( executionContext );
+		if ( executionContext.getSession().getFactory().getSessionFactoryOptions().isQueryCacheEnabled()
+				&& cacheMode.isGetEnabled() && cacheMode.isPutEnabled() ) {
+			executionContext.getSession().getFactory()
+					.getCache()
+					.getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() )
+					.releaseLoad(
+							QueryKey.from(
+									jdbcSelect.getSql(),
+									executionContext.getQueryOptions().getLimit(),
+									executionContext.getQueryParameterBindings(),
+									executionContext.getSession()
+							),
+							executionContext.getSession()
+					);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private JdbcValues resolveJdbcValuesSource(
 			JdbcSelect jdbcSelect,
@@ -251,6 +285,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
 					//		atm we do not even collect querySpaces, but we need to
 					jdbcSelect.getAffectedTableNames(),
+					cacheMode.isPutEnabled(),
 					executionContext.getSession()
 			);
 
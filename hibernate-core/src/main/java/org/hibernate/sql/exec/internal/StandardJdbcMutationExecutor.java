@@ -12,6 +12,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcDelete;
@@ -19,6 +20,7 @@ import org.hibernate.sql.exec.spi.JdbcMutation;
 import org.hibernate.sql.exec.spi.JdbcMutationExecutor;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.TenantSchemaQualifier;
 
 /**
  * @author Steve Ebersole
@@ -42,7 +44,7 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 
 		final JdbcServices jdbcServices = executionContext.getSession().getJdbcServices();
 
-		final String sql = jdbcMutation.getSql();
+		final String sql = resolveSql( jdbcMutation, executionContext );
 		try {
 			// prepare the query
 			final PreparedStatement preparedStatement = statementCreator.apply( sql );
@@ -88,4 +90,15 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 			executionContext.afterStatement( logicalConnection );
 		}
 	}
+
+	private static String resolveSql(JdbcMutation jdbcMutation, ExecutionContext executionContext) {
+		final String sql = jdbcMutation.getSql();
+		if ( !TenantSchemaQualifier.isTenantQualified( sql ) ) {
+			return sql;
+		}
+
+		// mutations are not cached, so their tenant variant is not either
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return session.getFactory().getTenantSchemaQualifier().qualify( sql, session.getTenantIdentifier() );
+	}
 }
@@ -7,11 +7,13 @@
 package org.hibernate.sql.exec.spi;
 
 import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.results.spi.LoadingEntityEntry;
 
 /**
  * @author Steve Ebersole
@@ -36,6 +38,14 @@ public interface ExecutionContext {
 		return null;
 	}
 
+	/**
+	 * Hook called when an entity instance is first created while processing the
+	 * results, e.g. to support subselect fetching of its collections.
+	 */
+	default void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+		// by default do nothing
+	}
+
 	/**
 	 * Hook to allow delaying calls to {@link LogicalConnectionImplementor#afterStatement()}.
 	 * Mainly used in the case of batching and multi-table mutations
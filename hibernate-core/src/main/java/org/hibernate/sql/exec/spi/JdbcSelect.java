@@ -8,6 +8,8 @@ package org.hibernate.sql.exec.spi;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.sql.results.spi.JdbcValuesMappingProducer;
 
@@ -22,6 +24,12 @@ public class JdbcSelect implements JdbcOperation {
 	private final JdbcValuesMappingProducer jdbcValuesMappingProducer;
 	private final Set<String> affectedTableNames;
 
+	// the maximum number of tenants whose SQL is kept, any other tenant's SQL is qualified per execution
+	private static final int MAX_TENANT_SQL_VARIANTS = 16;
+
+	// the SQL qualified with the schema of each tenant, if the SQL references tenant tables
+	private final ConcurrentMap<String, String> tenantSqlVariants;
+
 	public JdbcSelect(
 			String sql,
 			List<JdbcParameterBinder> parameterBinders,
@@ -31,6 +39,7 @@ public class JdbcSelect implements JdbcOperation {
 		this.parameterBinders = parameterBinders;
 		this.jdbcValuesMappingProducer = jdbcValuesMappingProducer;
 		this.affectedTableNames = affectedTableNames;
+		this.tenantSqlVariants = TenantSchemaQualifier.isTenantQualified( sql ) ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -38,6 +47,38 @@ public class JdbcSelect implements JdbcOperation {
 		return sql;
 	}
 
+	/**
+	 * The SQL to execute in the given context, which is the {@link #getSql() SQL}
+	 * qualified with the schema of the current tenant if needed
+	 *
+	 * @see TenantSchemaQualifier
+	 */
+	public String getSql(ExecutionContext executionContext) {
+		if ( tenantSqlVariants == null ) {
+			return sql;
+		}
+
+		final String tenantIdentifier = executionContext.getSession().getTenantIdentifier();
+		final TenantSchemaQualifier tenantSchemaQualifier = executionContext.getSession()
+				.getFactory()
+				.getTenantSchemaQualifier();
+		if ( tenantIdentifier == null ) {
+			return tenantSchemaQualifier.qualify( sql, null );
+		}
+
+		final String tenantSql = tenantSqlVariants.get( tenantIdentifier );
+		if ( tenantSql != null ) {
+			return tenantSql;
+		}
+
+		final String qualifiedSql = tenantSchemaQualifier.qualify( sql, tenantIdentifier );
+		if ( tenantSqlVariants.size() < MAX_TENANT_SQL_VARIANTS ) {
+			final String existing = tenantSqlVariants.putIfAbsent( tenantIdentifier, qualifiedSql );
+			return existing == null ? qualifiedSql : existing;
+		}
+		return qualifiedSql;
+	}
+
 	@Override
 	public List<JdbcParameterBinder> getParameterBinders() {
 		return parameterBinders;
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.boot.model.relational.QualifiedTableName;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.internal.util.collections.BoundedConcurrentMap;
+import org.hibernate.mapping.Table;
+
+/**
+ * Qualifies the tables referenced by rendered SQL with the schema of the current tenant,
+ * when using {@link MultiTenancyStrategy#SCHEMA} with
+ * {@link org.hibernate.cfg.AvailableSettings#MULTI_TENANT_SCHEMA_QUALIFICATION} enabled.
+ * <p/>
+ * The SQL AST translators render {@link #SCHEMA_PLACEHOLDER} in front of each table mapped
+ * without an explicit schema or catalog, so that the rendered SQL can still be cached
+ * independently of the tenant.  At execution the placeholder is replaced by the schema named
+ * by the tenant identifier - see {@link JdbcSelect#getSql(ExecutionContext)}.  Tenant identifiers
+ * which are not plain SQL identifiers (e.g. {@code tenant-1}) are rendered quoted, and so must
+ * match the name of their schema exactly.
+ * <p/>
+ * Only SQL rendered from the SQL AST is qualified: the SQL generated by the persisters to insert,
+ * update and delete entities is not, and still relies on the schema of the Connection.
+ */
+public class TenantSchemaQualifier {
+	/**
+	 * Placeholder rendered in front of the tenant-qualified tables
+	 */
+	public static final String SCHEMA_PLACEHOLDER = "{h-tenant-schema}";
+
+	private static final Pattern SCHEMA_NAME_PATTERN = Pattern.compile( "[A-Za-z_][A-Za-z0-9_$]*" );
+
+	private static final int MAX_CACHED_TENANTS = 1024;
+
+	/**
+	 * Build the qualifier for the given mappings
+	 *
+	 * @return The qualifier, or {@code null} if tenant schema qualification is not enabled
+	 */
+	public static TenantSchemaQualifier from(
+			MetadataImplementor metadata,
+			SessionFactoryOptions options,
+			JdbcEnvironment jdbcEnvironment) {
+		if ( options.getMultiTenancyStrategy() != MultiTenancyStrategy.SCHEMA
+				|| !options.isMultiTenantSchemaQualificationEnabled() ) {
+			return null;
+		}
+
+		final Set<String> tableExpressions = new HashSet<>();
+		for ( Table table : metadata.collectTableMappings() ) {
+			final QualifiedTableName tableName = table.getQualifiedTableName();
+			if ( tableName == null || table.getSubselect() != null ) {
+				continue;
+			}
+
+			if ( tableName.getSchemaName() != null || tableName.getCatalogName() != null ) {
+				// the mapping explicitly chose where the table lives
+				continue;
+			}
+
+			tableExpressions.add(
+					jdbcEnvironment.getQualifiedObjectNameFormatter().format( tableName, jdbcEnvironment.getDialect() )
+			);
+		}
+
+		return new TenantSchemaQualifier( tableExpressions, jdbcEnvironment );
+	}
+
+	private final Set<String> tableExpressions;
+	private final JdbcEnvironment jdbcEnvironment;
+
+	private final ConcurrentMap<String, String> schemaPrefixByTenant = new BoundedConcurrentMap<>( MAX_CACHED_TENANTS );
+
+	public TenantSchemaQualifier(Set<String> tableExpressions, JdbcEnvironment jdbcEnvironment) {
+		this.tableExpressions = tableExpressions;
+		this.jdbcEnvironment = jdbcEnvironment;
+	}
+
+	/**
+	 * Should the given table expression be qualified with the tenant schema?
+	 */
+	public boolean isTenantTable(String tableExpression) {
+		return tableExpressions.contains( tableExpression );
+	}
+
+	/**
+	 * Does the given SQL contain tables to be qualified with the tenant schema?
+	 */
+	public static boolean isTenantQualified(String sql) {
+		return sql.contains( SCHEMA_PLACEHOLDER );
+	}
+
+	/**
+	 * Replace the schema placeholders of the given SQL with the schema of the given tenant.
+	 * The tables are left unqualified if there is no tenant.
+	 */
+	public String qualify(String sql, String tenantIdentifier) {
+		final String schemaPrefix = tenantIdentifier == null
+				? ""
+				: schemaPrefixByTenant.computeIfAbsent( tenantIdentifier, this::renderSchemaPrefix );
+		return sql.replace( SCHEMA_PLACEHOLDER, schemaPrefix );
+	}
+
+	private String renderSchemaPrefix(String tenantIdentifier) {
+		final Dialect dialect = jdbcEnvironment.getDialect();
+		final boolean quoted = !SCHEMA_NAME_PATTERN.matcher( tenantIdentifier ).matches();
+		if ( quoted
+				&& ( tenantIdentifier.isEmpty()
+				|| tenantIdentifier.indexOf( dialect.openQuote() ) >= 0
+				|| tenantIdentifier.indexOf( dialect.closeQuote() ) >= 0 ) ) {
+			throw new HibernateException(
+					"Tenant identifier [" + tenantIdentifier + "] cannot be used to qualify tables as a schema name"
+			);
+		}
+
+		return jdbcEnvironment.getIdentifierHelper()
+				.toIdentifier( tenantIdentifier, quoted )
+				.render( dialect ) + '.';
+	}
+}
@@ -17,6 +17,7 @@ import org.hibernate.sql.results.spi.RowProcessingState;
  */
 public abstract class AbstractJdbcValues implements JdbcValues {
 	private final QueryCachePutManager queryCachePutManager;
+	private boolean exhausted;
 
 	public AbstractJdbcValues(QueryCachePutManager queryCachePutManager) {
 		if ( queryCachePutManager == null ) {
@@ -30,14 +31,24 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 		if ( getCurrentRowValuesArray() != null ) {
 			queryCachePutManager.registerJdbcRow( getCurrentRowValuesArray() );
 		}
-		return processNext( rowProcessingState );
+		final boolean hasNext = processNext( rowProcessingState );
+		if ( !hasNext ) {
+			exhausted = true;
+		}
+		return hasNext;
 	}
 
 	protected abstract boolean processNext(RowProcessingState rowProcessingState);
 
 	@Override
 	public final void finishUp() {
-		queryCachePutManager.finishUp();
+		// only complete results may be cached
+		if ( exhausted ) {
+			queryCachePutManager.finishUp();
+		}
+		else {
+			queryCachePutManager.abandon();
+		}
 		release();
 	}
 
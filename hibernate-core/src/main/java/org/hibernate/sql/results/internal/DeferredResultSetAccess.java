@@ -11,9 +11,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.function.Function;
 
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.query.Limit;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -23,6 +29,15 @@ import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.jboss.logging.Logger;
 
 /**
+ * ResultSetAccess deferring the execution of the query until the ResultSet is
+ * first accessed.
+ * <p/>
+ * The paging limits of the query ({@link QueryOptions#getLimit()}) are applied
+ * here through the Dialect's {@link LimitHandler} rather than being rendered into
+ * the SQL AST.  The handler renders them as JDBC parameters, so the translated
+ * {@link JdbcSelect} does not depend on the actual limit values and can be
+ * cached and shared by all executions of the query.
+ *
  * @author Steve Ebersole
  */
 public class DeferredResultSetAccess extends AbstractResultSetAccess {
@@ -65,7 +80,9 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 		final JdbcServices jdbcServices = getPersistenceContext().getFactory().getServiceRegistry().getService( JdbcServices.class );
 
-		final String sql = jdbcSelect.getSql();
+		final RowSelection rowSelection = resolveRowSelection( executionContext.getQueryOptions() );
+		final LimitHandler limitHandler = resolveLimitHandler( rowSelection );
+		final String sql = limitHandler.processSql( jdbcSelect.getSql( executionContext ), rowSelection );
 
 		try {
 			log.tracef( "Executing query to retrieve ResultSet : %s", sql );
@@ -82,12 +99,14 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				}
 			}
 
-			// todo : limit/offset
-
-
 			// bind parameters
 			// 		todo : validate that all query parameters were bound?
 			int paramBindingPosition = 1;
+			paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery(
+					rowSelection,
+					preparedStatement,
+					paramBindingPosition
+			);
 			for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
 				parameterBinder.bindParameterValue(
 						preparedStatement,
@@ -96,6 +115,8 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 						executionContext
 				);
 			}
+			limitHandler.bindLimitParametersAtEndOfQuery( rowSelection, preparedStatement, paramBindingPosition );
+			limitHandler.setMaxRows( rowSelection, preparedStatement );
 
 			executionContext.getSession().getEventListenerManager().jdbcExecuteStatementStart();
 			try {
@@ -106,6 +127,10 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			}
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
 
+			if ( !limitHandler.supportsLimitOffset() || !LimitHelper.useLimit( limitHandler, rowSelection ) ) {
+				// the first row could not be applied by the limit clause
+				advance( rowSelection );
+			}
 		}
 		catch (SQLException e) {
 			throw jdbcServices.getSqlExceptionHelper().convert(
@@ -118,6 +143,33 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private static RowSelection resolveRowSelection(QueryOptions queryOptions) {
+		if ( queryOptions == null || !queryOptions.hasLimit() ) {
+			return null;
+		}
+
+		final Limit limit = queryOptions.getLimit();
+		final RowSelection rowSelection = new RowSelection();
+		rowSelection.setFirstRow( limit.getFirstRow() );
+		rowSelection.setMaxRows( limit.getMaxRows() );
+		return rowSelection;
+	}
+
+	private LimitHandler resolveLimitHandler(RowSelection rowSelection) {
+		final LimitHandler limitHandler = getFactory().getJdbcServices().getDialect().getLimitHandler();
+		return LimitHelper.useLimit( limitHandler, rowSelection ) ? limitHandler : NoopLimitHandler.INSTANCE;
+	}
+
+	private void advance(RowSelection rowSelection) throws SQLException {
+		// the statement is forward-only, so step through the skipped rows
+		final int firstRow = LimitHelper.getFirstRow( rowSelection );
+		for ( int i = 0; i < firstRow; i++ ) {
+			if ( !resultSet.next() ) {
+				return;
+			}
+		}
+	}
+
 	@Override
 	public void release() {
 		if ( resultSet != null ) {
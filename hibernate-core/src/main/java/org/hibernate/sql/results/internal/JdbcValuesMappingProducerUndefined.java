@@ -6,103 +6,157 @@
  */
 package org.hibernate.sql.results.internal;
 
-import org.hibernate.NotYetImplementedFor6Exception;
+import java.util.List;
+
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.sql.ast.spi.SqlAstWalker;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.internal.domain.basic.BasicResult;
+import org.hibernate.sql.results.spi.DomainResult;
 import org.hibernate.sql.results.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.spi.JdbcValuesMetadata;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+import org.hibernate.type.spi.TypeConfiguration;
 
 import org.jboss.logging.Logger;
 
 /**
  * ResultSetMappingDescriptor implementation for cases where we have
  * no mapping info - everything will be discovered
+ * <p/>
+ * Discovering the mapping requires the {@link java.sql.ResultSetMetaData}, which
+ * is expensive to access with some drivers.  So the discovered mapping is cached
+ * (see {@link QueryInterpretationCache#getUndefinedJdbcValuesMapping}) by SQL
+ * string and re-used as long as the number of columns and their JDBC types are
+ * unchanged.
  *
  * @author Steve Ebersole
  */
 public class JdbcValuesMappingProducerUndefined implements JdbcValuesMappingProducer {
 	private static final Logger log = Logger.getLogger( JdbcValuesMappingProducerUndefined.class );
 
+	private final String sql;
+
+	public JdbcValuesMappingProducerUndefined(String sql) {
+		this.sql = sql;
+	}
+
 	@SuppressWarnings("WeakerAccess")
 	public static JdbcValuesMapping resolveStatic(
 			JdbcValuesMetadata jdbcResultsMetadata,
 			SessionFactoryImplementor sessionFactory) {
-		throw new NotYetImplementedFor6Exception( JdbcValuesMappingProducerUndefined.class );
-//		final int columnCount = jdbcResultsMetadata.getColumnCount();
-//
-//		final HashSet<SqlSelection> sqlSelections = new HashSet<>( columnCount );
-//		final List<DomainResult> domainResults = CollectionHelper.arrayList( columnCount );
-//
-//		final TypeConfiguration typeConfiguration = sessionFactory.getMetamodel().getTypeConfiguration();
-//
-//		for ( int columnPosition = 0; columnPosition < columnCount; columnPosition++ ) {
-//			final String columnName = jdbcResultsMetadata.resolveColumnName( columnPosition );
-//			log.tracef( "Discovering JDBC result column metadata [%s (%s)]", columnName, columnPosition );
-//
-//			final SqlTypeDescriptor sqlTypeDescriptor = jdbcResultsMetadata.resolveSqlTypeDescriptor( columnPosition );
-//			final JavaTypeDescriptor javaTypeDescriptor = sqlTypeDescriptor.getJdbcRecommendedJavaTypeMapping( typeConfiguration );
-//
-//			log.debugf( "Discovered JDBC result column metadata [%s (%s)] : %s, %s ", columnName, columnPosition, sqlTypeDescriptor, javaTypeDescriptor );
-//
-//			final SqlSelection sqlSelection = new SqlSelectionImpl(
-//					columnPosition,
-//					columnName,
-//					javaTypeDescriptor,
-//					sqlTypeDescriptor,
-//					typeConfiguration
-//			);
-//			sqlSelections.add( sqlSelection );
-//
-//			domainResults.add(
-//					new ResolvedScalarDomainResult(
-//							sqlSelection,
-//							columnName,
-//							javaTypeDescriptor
-//					)
-//			);
-//		}
-//
-//		return new StandardResultSetMapping( sqlSelections, domainResults );
+		final int columnCount = jdbcResultsMetadata.getColumnCount();
+
+		final List<SqlSelection> sqlSelections = CollectionHelper.arrayList( columnCount );
+		final List<DomainResult> domainResults = CollectionHelper.arrayList( columnCount );
+
+		final TypeConfiguration typeConfiguration = sessionFactory.getTypeConfiguration();
+
+		for ( int columnPosition = 1; columnPosition <= columnCount; columnPosition++ ) {
+			final String columnName = jdbcResultsMetadata.resolveColumnName( columnPosition );
+			log.tracef( "Discovering JDBC result column metadata [%s (%s)]", columnName, columnPosition );
+
+			final SqlTypeDescriptor sqlTypeDescriptor = jdbcResultsMetadata.resolveSqlTypeDescriptor( columnPosition );
+			final JavaTypeDescriptor<?> javaTypeDescriptor = sqlTypeDescriptor.getJdbcRecommendedJavaTypeMapping( typeConfiguration );
+			final BasicType<?> jdbcMapping = typeConfiguration.getBasicTypeRegistry().resolve(
+					javaTypeDescriptor,
+					sqlTypeDescriptor
+			);
+
+			log.debugf( "Discovered JDBC result column metadata [%s (%s)] : %s, %s ", columnName, columnPosition, sqlTypeDescriptor, javaTypeDescriptor );
+
+			sqlSelections.add( new DiscoveredSqlSelection( columnPosition - 1, jdbcMapping ) );
+			//noinspection unchecked
+			domainResults.add( new BasicResult( columnPosition - 1, columnName, javaTypeDescriptor ) );
+		}
+
+		return new StandardJdbcValuesMapping( sqlSelections, domainResults );
 	}
 
 	@Override
 	public JdbcValuesMapping resolve(
 			JdbcValuesMetadata jdbcResultsMetadata,
 			SessionFactoryImplementor sessionFactory) {
-		return resolveStatic( jdbcResultsMetadata, sessionFactory );
+		final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+
+		final JdbcValuesMapping cached = interpretationCache.getUndefinedJdbcValuesMapping( sql );
+		if ( cached != null && isCompatible( cached, jdbcResultsMetadata ) ) {
+			return cached;
+		}
+
+		final JdbcValuesMapping resolved = resolveStatic( jdbcResultsMetadata, sessionFactory );
+		interpretationCache.cacheUndefinedJdbcValuesMapping( sql, resolved );
+		return resolved;
+	}
+
+	/**
+	 * Cheap validation of a previously discovered mapping : the columns of a given SQL
+	 * query may only change if the schema changed, in which case their number or their
+	 * types are expected to change as well
+	 */
+	private static boolean isCompatible(JdbcValuesMapping cached, JdbcValuesMetadata jdbcResultsMetadata) {
+		final List<SqlSelection> sqlSelections = cached.getSqlSelections();
+		if ( sqlSelections.size() != jdbcResultsMetadata.getColumnCount() ) {
+			return false;
+		}
+
+		for ( int i = 0; i < sqlSelections.size(); i++ ) {
+			final DiscoveredSqlSelection sqlSelection = (DiscoveredSqlSelection) sqlSelections.get( i );
+			final int sqlType = jdbcResultsMetadata.resolveSqlTypeDescriptor( sqlSelection.getJdbcResultSetIndex() )
+					.getSqlType();
+			if ( sqlType != sqlSelection.jdbcMapping.getSqlTypeDescriptor().getSqlType() ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		return sql.equals( ( (JdbcValuesMappingProducerUndefined) o ).sql );
+	}
+
+	@Override
+	public int hashCode() {
+		return sql.hashCode();
 	}
 
-//	private static class SqlSelectionImpl implements SqlSelection {
-//		private final int valuesArrayPosition;
-//		private JdbcValueExtractor jdbcValueExtractor;
-//
-//		@SuppressWarnings("unchecked")
-//		public SqlSelectionImpl(
-//				int columnPosition,
-//				String columnName,
-//				JavaTypeDescriptor javaTypeDescriptor,
-//				SqlTypeDescriptor sqlTypeDescriptor,
-//				TypeConfiguration typeConfiguration) {
-//			log.tracef( "Creating SqlSelection for auto-discovered column : %s (%s)", columnName, columnPosition );
-//			this.valuesArrayPosition = columnPosition - 1;
-//
-//			this.jdbcValueExtractor = sqlTypeDescriptor.getSqlExpressableType( javaTypeDescriptor, typeConfiguration )
-//					.getJdbcValueExtractor();
-//		}
-//
-//		@Override
-//		public JdbcValueExtractor getJdbcValueExtractor() {
-//			return jdbcValueExtractor;
-//		}
-//
-//		@Override
-//		public int getValuesArrayPosition() {
-//			return valuesArrayPosition;
-//		}
-//
-//		@Override
-//		public void accept(SqlAstWalker interpreter) {
-//			throw new UnsupportedOperationException();
-//		}
-//	}
+	private static class DiscoveredSqlSelection implements SqlSelection {
+		private final int valuesArrayPosition;
+		private final JdbcMapping jdbcMapping;
+
+		private DiscoveredSqlSelection(int valuesArrayPosition, JdbcMapping jdbcMapping) {
+			this.valuesArrayPosition = valuesArrayPosition;
+			this.jdbcMapping = jdbcMapping;
+		}
+
+		@Override
+		public ValueExtractor getJdbcValueExtractor() {
+			return jdbcMapping.getJdbcValueExtractor();
+		}
+
+		@Override
+		public int getValuesArrayPosition() {
+			return valuesArrayPosition;
+		}
+
+		@Override
+		public void accept(SqlAstWalker interpreter) {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
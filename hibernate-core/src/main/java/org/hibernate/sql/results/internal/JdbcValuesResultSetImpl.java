@@ -91,7 +91,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					.getCache()
 					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
 
-			return new QueryCachePutManagerEnabledImpl( queryCache, queryCacheKey );
+			return new QueryCachePutManagerEnabledImpl( queryCache, queryCacheKey, executionContext.getSession() );
 		}
 		else {
 			return QueryCachePutManagerDisabledImpl.INSTANCE;
@@ -100,10 +100,10 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		if ( numberOfRowsToProcess != -1 && position > numberOfRowsToProcess ) {
+		if ( numberOfRowsToProcess != -1 && position + 1 >= numberOfRowsToProcess ) {
 			// numberOfRowsToProcess != -1 means we had some limit, and
-			//		position > numberOfRowsToProcess means we have exceeded the
-			// 		number of limited rows
+			//		position + 1 >= numberOfRowsToProcess means we already
+			// 		processed the number of limited rows
 			return false;
 		}
 
@@ -96,6 +96,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		}
 
 		loadingEntityMap.put( entityKey, loadingEntry );
+		executionContext.registerLoadingEntityEntry( entityKey, loadingEntry );
 	}
 
 	@Override
@@ -36,7 +36,6 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final int assemblerCount;
 	private final Callback callback;
 
-	private final Object[] resultRow;
 
 	@SuppressWarnings("WeakerAccess")
 	public StandardRowReader(
@@ -50,8 +49,6 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 		this.assemblerCount = resultAssemblers.size();
 		this.callback = callback;
-
-		this.resultRow = new Object[assemblerCount];
 	}
 
 	@Override
@@ -81,6 +78,8 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 		coordinateInitializers( rowProcessingState, options );
 
+		// a new array for each row : the (pass-through) row transformer may return it as the row result
+		final Object[] resultRow = new Object[assemblerCount];
 		for ( int i = 0; i < assemblerCount; i++ ) {
 			resultRow[i] = resultAssemblers.get( i ).assemble( rowProcessingState, options );
 		}
@@ -13,4 +13,10 @@ public interface QueryCachePutManager {
 	void registerJdbcRow(Object[] values);
 
 	void finishUp();
+
+	/**
+	 * Called instead of {@link #finishUp} when the results were not completely
+	 * read, e.g. because processing them failed, so they must not be cached.
+	 */
+	void abandon();
 }
@@ -29,4 +29,8 @@ public class QueryCachePutManagerDisabledImpl implements QueryCachePutManager {
 	public void finishUp() {
 
 	}
+
+	@Override
+	public void abandon() {
+	}
 }
@@ -7,10 +7,12 @@
 package org.hibernate.sql.results.internal.caching;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
  * QueryCachePutManager implementation for cases where we will be putting
@@ -21,12 +23,17 @@ import org.hibernate.cache.spi.QueryResultsCache;
 public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final QueryResultsCache queryCache;
 	private final QueryKey queryKey;
+	private final SharedSessionContractImplementor session;
 
 	private List<Object[]> dataToCache;
 
-	public QueryCachePutManagerEnabledImpl(QueryResultsCache queryCache, QueryKey queryKey) {
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			QueryKey queryKey,
+			SharedSessionContractImplementor session) {
 		this.queryCache = queryCache;
 		this.queryKey = queryKey;
+		this.session = session;
 	}
 
 	@Override
@@ -34,16 +41,19 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		if ( dataToCache == null ) {
 			dataToCache = new ArrayList<>();
 		}
-		dataToCache.add( values );
+		// the JdbcValues reuse the same array for every row
+		dataToCache.add( values.clone() );
 	}
 
 	@Override
 	public void finishUp() {
-		queryCache.put(
-				queryKey,
-				dataToCache,
-				// todo (6.0) : needs access to Session to pass along to cache call
-				null
-		);
+		queryCache.put( queryKey, dataToCache == null ? Collections.emptyList() : dataToCache, session );
+	}
+
+	@Override
+	public void abandon() {
+		if ( queryKey != null ) {
+			queryCache.releaseLoad( queryKey, session );
+		}
 	}
 }
@@ -0,0 +1,319 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal.domain.collection;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.metamodel.mapping.CollectionIdentifierDescriptor;
+import org.hibernate.metamodel.mapping.CollectionPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.query.NavigablePath;
+import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.results.internal.LoadingCollectionEntryImpl;
+import org.hibernate.sql.results.internal.domain.AbstractFetchParentAccess;
+import org.hibernate.sql.results.spi.AssemblerCreationState;
+import org.hibernate.sql.results.spi.CollectionInitializer;
+import org.hibernate.sql.results.spi.DomainResult;
+import org.hibernate.sql.results.spi.DomainResultAssembler;
+import org.hibernate.sql.results.spi.DomainResultCreationState;
+import org.hibernate.sql.results.spi.Fetch;
+import org.hibernate.sql.results.spi.FetchParent;
+import org.hibernate.sql.results.spi.FetchParentAccess;
+import org.hibernate.sql.results.spi.FetchableContainer;
+import org.hibernate.sql.results.spi.Initializer;
+import org.hibernate.sql.results.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.LoadingCollectionEntry;
+import org.hibernate.sql.results.spi.RowProcessingState;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+
+/**
+ * DomainResult for a collection being loaded as the root of a query, as
+ * opposed to being fetched from its owner.  Used by the collection loaders.
+ * <p/>
+ * Unlike {@link EagerCollectionFetch}, there is no parent from which to
+ * determine the collection key; it is read from the foreign-key column(s) of
+ * each row, which allows a single query to initialize multiple collections of
+ * the same role.
+ */
+public class CollectionDomainResult implements DomainResult<Object>, FetchParent {
+	private final NavigablePath loadingPath;
+	private final PluralAttributeMapping loadingAttribute;
+	private final String resultVariable;
+
+	private final DomainResult<?> fkResult;
+	private final DomainResult<?> identifierResult;
+
+	private final Fetch elementFetch;
+	private final Fetch indexFetch;
+	private final List<Fetch> fetches;
+
+	public CollectionDomainResult(
+			NavigablePath loadingPath,
+			PluralAttributeMapping loadingAttribute,
+			String resultVariable,
+			TableGroup tableGroup,
+			DomainResultCreationState creationState) {
+		this.loadingPath = loadingPath;
+		this.loadingAttribute = loadingAttribute;
+		this.resultVariable = resultVariable;
+
+		this.fkResult = loadingAttribute.getKeyDescriptor().createDomainResult( loadingPath, tableGroup, creationState );
+
+		final CollectionIdentifierDescriptor identifierDescriptor = loadingAttribute.getIdentifierDescriptor();
+		if ( identifierDescriptor == null ) {
+			this.identifierResult = null;
+		}
+		else {
+			this.identifierResult = identifierDescriptor.createDomainResult( loadingPath, tableGroup, creationState );
+		}
+
+		fetches = creationState.visitFetches( this );
+		if ( loadingAttribute.getIndexDescriptor() != null ) {
+			assert fetches.size() == 2;
+			indexFetch = fetches.get( 0 );
+			elementFetch = fetches.get( 1 );
+		}
+		else {
+			assert fetches.size() == 1;
+			indexFetch = null;
+			elementFetch = fetches.get( 0 );
+		}
+	}
+
+	@Override
+	public String getResultVariable() {
+		return resultVariable;
+	}
+
+	@Override
+	public DomainResultAssembler<Object> createResultAssembler(
+			Consumer<Initializer> initializerCollector,
+			AssemblerCreationState creationState) {
+		final InitializerImpl initializer = new InitializerImpl(
+				loadingPath,
+				loadingAttribute,
+				fkResult,
+				elementFetch,
+				indexFetch,
+				identifierResult,
+				initializerCollector,
+				creationState
+		);
+
+		initializerCollector.accept( initializer );
+
+		return new DomainResultAssembler<Object>() {
+			@Override
+			public Object assemble(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+				return initializer.getCollectionInstance();
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public JavaTypeDescriptor<Object> getAssembledJavaTypeDescriptor() {
+				return loadingAttribute.getJavaTypeDescriptor();
+			}
+		};
+	}
+
+	@Override
+	public JavaTypeDescriptor<?> getResultJavaTypeDescriptor() {
+		return loadingAttribute.getJavaTypeDescriptor();
+	}
+
+	@Override
+	public NavigablePath getNavigablePath() {
+		return loadingPath;
+	}
+
+	@Override
+	public FetchableContainer getReferencedMappingContainer() {
+		return loadingAttribute;
+	}
+
+	@Override
+	public PluralAttributeMapping getReferencedMappingType() {
+		return loadingAttribute;
+	}
+
+	@Override
+	public List<Fetch> getFetches() {
+		return fetches;
+	}
+
+	@Override
+	public Fetch findFetch(String fetchableName) {
+		if ( CollectionPart.Nature.ELEMENT.getName().equals( fetchableName ) ) {
+			return elementFetch;
+		}
+		else if ( CollectionPart.Nature.INDEX.getName().equals( fetchableName ) ) {
+			return indexFetch;
+		}
+		else {
+			throw new IllegalArgumentException(
+					"Unknown fetchable [" + loadingAttribute.getCollectionDescriptor().getRole() +
+							" -> " + fetchableName + "]"
+			);
+		}
+	}
+
+	/**
+	 * Initializes the collection identified by the key read from the current
+	 * row.  Acts as the parent access of the element and index fetches, the
+	 * collection owner being the "parent instance".
+	 */
+	private static class InitializerImpl extends AbstractFetchParentAccess implements CollectionInitializer {
+		private final NavigablePath loadingPath;
+		private final PluralAttributeMapping loadingAttribute;
+
+		private final DomainResultAssembler<?> fkAssembler;
+		private final DomainResultAssembler<?> elementAssembler;
+		private final DomainResultAssembler<?> indexAssembler;
+		private final DomainResultAssembler<?> identifierAssembler;
+
+		private CollectionKey collectionKey;
+		private PersistentCollection instance;
+		private boolean managing;
+
+		private InitializerImpl(
+				NavigablePath loadingPath,
+				PluralAttributeMapping loadingAttribute,
+				DomainResult<?> fkResult,
+				Fetch elementFetch,
+				Fetch indexFetch,
+				DomainResult<?> identifierResult,
+				Consumer<Initializer> collector,
+				AssemblerCreationState creationState) {
+			this.loadingPath = loadingPath;
+			this.loadingAttribute = loadingAttribute;
+
+			this.fkAssembler = fkResult.createResultAssembler( collector, creationState );
+			this.elementAssembler = elementFetch.createAssembler( this, collector, creationState );
+			this.indexAssembler = indexFetch == null
+					? null
+					: indexFetch.createAssembler( this, collector, creationState );
+			this.identifierAssembler = identifierResult == null
+					? null
+					: identifierResult.createResultAssembler( collector, creationState );
+		}
+
+		@Override
+		public CollectionPersister getInitializingCollectionDescriptor() {
+			return loadingAttribute.getCollectionDescriptor();
+		}
+
+		@Override
+		public PersistentCollection getCollectionInstance() {
+			return instance;
+		}
+
+		@Override
+		public NavigablePath getNavigablePath() {
+			return loadingPath;
+		}
+
+		@Override
+		public void resolveKey(RowProcessingState rowProcessingState) {
+			if ( collectionKey != null ) {
+				// already resolved
+				return;
+			}
+
+			final Object fkValue = fkAssembler.assemble( rowProcessingState );
+			assert fkValue != null;
+
+			collectionKey = new CollectionKey( getInitializingCollectionDescriptor(), fkValue );
+		}
+
+		@Override
+		public void resolveInstance(RowProcessingState rowProcessingState) {
+			if ( instance != null ) {
+				// already resolved
+				return;
+			}
+
+			final PersistenceContext persistenceContext = rowProcessingState.getSession().getPersistenceContext();
+
+			final LoadingCollectionEntry existingEntry = persistenceContext.getLoadContexts()
+					.findLoadingCollectionEntry( collectionKey );
+			if ( existingEntry != null ) {
+				instance = existingEntry.getCollectionInstance();
+				managing = existingEntry.getInitializer() == this;
+			}
+			else {
+				final PersistentCollection registeredInstance = persistenceContext.getCollection( collectionKey );
+				if ( registeredInstance != null && !registeredInstance.wasInitialized() ) {
+					instance = registeredInstance;
+					managing = true;
+					rowProcessingState.getJdbcValuesSourceProcessingState().registerLoadingCollection(
+							collectionKey,
+							new LoadingCollectionEntryImpl(
+									getInitializingCollectionDescriptor(),
+									this,
+									collectionKey.getKey(),
+									registeredInstance
+							)
+					);
+				}
+				else {
+					// either already initialized, or no longer referenced by the Session (evicted owner) -
+					// nothing to do for this collection
+					instance = registeredInstance;
+					managing = false;
+				}
+			}
+
+			if ( instance != null ) {
+				notifyParentResolutionListeners( instance.getOwner() );
+			}
+		}
+
+		@Override
+		public void initializeInstance(RowProcessingState rowProcessingState) {
+			if ( !managing ) {
+				return;
+			}
+
+			instance.readFrom(
+					rowProcessingState,
+					elementAssembler,
+					indexAssembler,
+					identifierAssembler,
+					instance.getOwner()
+			);
+		}
+
+		@Override
+		public void finishUpRow(RowProcessingState rowProcessingState) {
+			collectionKey = null;
+			instance = null;
+			managing = false;
+
+			clearParentResolutionListeners();
+		}
+
+		@Override
+		public FetchParentAccess findFirstEntityDescriptorAccess() {
+			return this;
+		}
+
+		@Override
+		public Object getParentKey() {
+			return collectionKey == null ? null : collectionKey.getKey();
+		}
+
+		@Override
+		public Object getFetchParentInstance() {
+			return instance == null ? null : instance.getOwner();
+		}
+	}
+}
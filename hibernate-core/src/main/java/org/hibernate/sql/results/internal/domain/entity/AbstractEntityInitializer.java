@@ -448,6 +448,11 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 		// todo (6.0): do we really need this check ?
 		if ( persistenceContext.containsEntity( entityKey ) ) {
+			if ( !session.isEventSource() ) {
+				// a StatelessSession keeps no EntityEntry - the entity was initialized
+				// by a previous row of this load
+				return;
+			}
 			Status status = persistenceContext.getEntry( persistenceContext.getEntity( entityKey ) )
 					.getStatus();
 			if ( status == Status.DELETED || status == Status.GONE ) {
@@ -494,6 +499,20 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			version = null;
 		}
 
+		final SessionFactoryImplementor factory = session.getFactory();
+
+		if ( !session.isEventSource() ) {
+			// the entities loaded by a StatelessSession are not managed: no EntityEntry, and
+			// so no snapshot of the loaded state - its persistence context only maintains
+			// their identity during the load
+			putInSecondLevelCache( version, session, persistenceContext );
+			concreteDescriptor.afterInitialize( entityInstance, session );
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				factory.getStatistics().loadEntity( concreteDescriptor.getEntityName() );
+			}
+			return;
+		}
+
 		final EntityEntry entityEntry = persistenceContext.addEntry(
 				entityInstance,
 				Status.LOADING,
@@ -507,7 +526,69 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 				false
 		);
 
+		putInSecondLevelCache( version, session, persistenceContext );
+
+		if ( entityDescriptor.getNaturalIdMapping() != null ) {
+			persistenceContext.getNaturalIdHelper().cacheNaturalIdCrossReferenceFromLoad(
+					entityDescriptor,
+					entityIdentifier,
+					persistenceContext
+							.getNaturalIdHelper().extractNaturalIdValues( resolvedEntityState, entityDescriptor )
+			);
+		}
+
+		boolean isReallyReadOnly = isReadOnly( rowProcessingState, session );
+		if ( ! concreteDescriptor.isMutable() ) {
+			isReallyReadOnly = true;
+		}
+		else {
+			final Object proxy = persistenceContext.getProxy( entityKey );
+			if ( proxy != null ) {
+				// there is already a proxy for this impl
+				// only set the status to read-only if the proxy is read-only
+				isReallyReadOnly = ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly();
+			}
+		}
+		if ( isReallyReadOnly ) {
+			//no need to take a snapshot - this is a
+			//performance optimization, but not really
+			//important, except for entities with huge
+			//mutable property values
+			persistenceContext.setEntryStatus( entityEntry, Status.READ_ONLY );
+		}
+		else {
+			//take a snapshot
+			TypeHelper.deepCopy(
+					concreteDescriptor,
+					resolvedEntityState,
+					resolvedEntityState,
+					attributeMapping -> attributeMapping.getAttributeMetadataAccess().resolveAttributeMetadata( concreteDescriptor ).isUpdatable()
+			);
+			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
+		}
+
+		concreteDescriptor.afterInitialize( entityInstance, session );
+
+		if ( EntityLoadingLogger.DEBUG_ENABLED ) {
+			EntityLoadingLogger.INSTANCE.debugf(
+					"Done materializing entityInstance : %s",
+					toLoggableString( getNavigablePath(), entityIdentifier )
+			);
+		}
+
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			factory.getStatistics().loadEntity( concreteDescriptor.getEntityName() );
+		}
+
+		postLoad( rowProcessingState );
+	}
+
+	private void putInSecondLevelCache(
+			Object version,
+			SharedSessionContractImplementor session,
+			PersistenceContext persistenceContext) {
 		final SessionFactoryImplementor factory = session.getFactory();
+		final Serializable entityIdentifier = entityKey.getIdentifier();
 		final EntityDataAccess cacheAccess = concreteDescriptor.getCacheAccessStrategy();
 		if ( cacheAccess != null && session.getCacheMode().isPutEnabled() ) {
 
@@ -563,60 +644,6 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 				}
 			}
 		}
-
-		if ( entityDescriptor.getNaturalIdMapping() != null ) {
-			persistenceContext.getNaturalIdHelper().cacheNaturalIdCrossReferenceFromLoad(
-					entityDescriptor,
-					entityIdentifier,
-					persistenceContext
-							.getNaturalIdHelper().extractNaturalIdValues( resolvedEntityState, entityDescriptor )
-			);
-		}
-
-		boolean isReallyReadOnly = isReadOnly( rowProcessingState, session );
-		if ( ! concreteDescriptor.isMutable() ) {
-			isReallyReadOnly = true;
-		}
-		else {
-			final Object proxy = persistenceContext.getProxy( entityKey );
-			if ( proxy != null ) {
-				// there is already a proxy for this impl
-				// only set the status to read-only if the proxy is read-only
-				isReallyReadOnly = ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly();
-			}
-		}
-		if ( isReallyReadOnly ) {
-			//no need to take a snapshot - this is a
-			//performance optimization, but not really
-			//important, except for entities with huge
-			//mutable property values
-			persistenceContext.setEntryStatus( entityEntry, Status.READ_ONLY );
-		}
-		else {
-			//take a snapshot
-			TypeHelper.deepCopy(
-					concreteDescriptor,
-					resolvedEntityState,
-					resolvedEntityState,
-					attributeMapping -> attributeMapping.getAttributeMetadataAccess().resolveAttributeMetadata( concreteDescriptor ).isUpdatable()
-			);
-			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
-		}
-
-		concreteDescriptor.afterInitialize( entityInstance, session );
-
-		if ( EntityLoadingLogger.DEBUG_ENABLED ) {
-			EntityLoadingLogger.INSTANCE.debugf(
-					"Done materializing entityInstance : %s",
-					toLoggableString( getNavigablePath(), entityIdentifier )
-			);
-		}
-
-		if ( factory.getStatistics().isStatisticsEnabled() ) {
-			factory.getStatistics().loadEntity( concreteDescriptor.getEntityName() );
-		}
-
-		postLoad( rowProcessingState );
 	}
 
 	private boolean isReadOnly(
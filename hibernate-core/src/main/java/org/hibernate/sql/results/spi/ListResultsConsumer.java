@@ -8,8 +8,12 @@ package org.hibernate.sql.results.spi;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.results.internal.JdbcValuesSourceProcessingStateStandardImpl;
@@ -37,8 +41,15 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		if ( !session.isEventSource() ) {
+			// track the load, so that a StatelessSession does not clear the entities of
+			// this result while a nested load is in progress (see below)
+			persistenceContext.beforeLoad();
+		}
+
 		try {
-			session.getPersistenceContext().getLoadContexts().register( jdbcValuesSourceProcessingState );
+			persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
 
 			boolean uniqueRows = false;
 			final Class<R> resultJavaType = rowReader.getResultJavaType();
@@ -50,18 +61,13 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 			}
 
 			final List<R> results = new ArrayList<>();
+			// the same entity is always the same instance within a load
+			final Set<R> uniqueResults = uniqueRows ? Collections.newSetFromMap( new IdentityHashMap<>() ) : null;
 
 			while ( rowProcessingState.next() ) {
 				final R row = rowReader.readRow( rowProcessingState, processingOptions );
 
-				boolean add = true;
-				if ( uniqueRows ) {
-					if ( results.contains( row ) ) {
-						add = false;
-					}
-				}
-
-				if ( add ) {
+				if ( uniqueResults == null || uniqueResults.add( row ) ) {
 					results.add( row );
 				}
 
@@ -79,6 +85,15 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 			rowReader.finishUp( jdbcValuesSourceProcessingState );
 			jdbcValuesSourceProcessingState.finishUp();
 			jdbcValues.finishUp();
+
+			if ( !session.isEventSource() ) {
+				persistenceContext.afterLoad();
+				if ( persistenceContext.isLoadFinished() ) {
+					// the entities loaded by a StatelessSession are detached - its (temporary)
+					// persistence context only maintains their identity during the load
+					persistenceContext.clear();
+				}
+			}
 		}
 	}
 }
@@ -73,4 +73,18 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The number of elements the cache provider evicted from the region because of
+	 * its size bounds or expiration policy.
+	 *
+	 * This is an optional value contingent upon the underlying cache provider
+	 * providing extended stats support via
+	 * {@link org.hibernate.cache.spi.ExtendedStatisticsSupport}.  If the provider
+	 * does not support extended stats, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 */
+	default long getEvictionCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Statistics of Hibernate's built-in connection pool
+ * ({@link org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl}).
+ * <p/>
+ * All times are expressed in microseconds.
+ */
+public interface ConnectionPoolStatistics extends Serializable {
+	/**
+	 * The number of Connections successfully acquired from the pool
+	 */
+	long getAcquisitionCount();
+
+	/**
+	 * The number of Connection requests which failed because no Connection
+	 * became available within the configured acquisition timeout, or because
+	 * too many threads were already waiting
+	 */
+	long getAcquisitionTimeoutCount();
+
+	/**
+	 * The longest time a caller had to wait to acquire a Connection
+	 */
+	long getAcquisitionMaxTime();
+
+	/**
+	 * The cumulative time callers had to wait to acquire Connections
+	 */
+	long getAcquisitionTotalTime();
+
+	/**
+	 * The (inclusive) upper bounds of the buckets of {@link #getAcquisitionTimeHistogram()}.
+	 * The histogram holds one more bucket than there are bounds, collecting all
+	 * acquisitions slower than the last bound.
+	 */
+	long[] getAcquisitionTimeHistogramBounds();
+
+	/**
+	 * The number of Connection acquisitions per wait-time bucket, see
+	 * {@link #getAcquisitionTimeHistogramBounds()}
+	 */
+	long[] getAcquisitionTimeHistogram();
+
+	/**
+	 * The number of Connections currently handed out by the pool
+	 */
+	int getActiveConnectionCount();
+
+	/**
+	 * The number of Connections currently idle in the pool
+	 */
+	int getIdleConnectionCount();
+
+	/**
+	 * The number of threads currently waiting for a Connection
+	 */
+	int getPendingAcquisitionCount();
+
+	/**
+	 * The number of idle Connections closed because they exceeded the idle timeout
+	 */
+	long getIdleEvictionCount();
+
+	/**
+	 * The number of Connections reported as potential leaks because they were held
+	 * longer than the leak-detection threshold
+	 */
+	long getLeakCount();
+}
@@ -386,4 +386,14 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Statistics of Hibernate's built-in connection pool
+	 *
+	 * @return The pool statistics, or {@code null} if the built-in
+	 * connection pool is not in use
+	 */
+	default ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return null;
+	}
 }
@@ -0,0 +1,252 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.hibernate.stat.ConnectionPoolStatistics;
+
+/**
+ * Statistics of Hibernate's built-in connection pool.  The counters are owned
+ * by the pool itself, which lives in the service registry and may therefore be
+ * shared by several SessionFactories.  Each {@link StatisticsImpl} exposes its own
+ * {@link #openView() view} of them, which the pool updates along with its own
+ * counters, so that clearing the statistics of one SessionFactory does not affect
+ * the others.
+ * <p/>
+ * The connection counts are read from the live pool, and are reported as {@code 0}
+ * by a deserialized copy.
+ */
+public class ConnectionPoolStatisticsImpl implements ConnectionPoolStatistics {
+	/**
+	 * Upper bounds (in microseconds) of the acquisition wait-time histogram buckets
+	 */
+	private static final long[] HISTOGRAM_BOUNDS = new long[] {
+			10L,
+			50L,
+			100L,
+			500L,
+			1_000L,
+			5_000L,
+			10_000L,
+			50_000L,
+			100_000L,
+			500_000L,
+			1_000_000L,
+			5_000_000L,
+			10_000_000L
+	};
+
+	// the gauges read the live pool, and are therefore not available on a deserialized copy
+	private final transient IntSupplier activeCount;
+	private final transient IntSupplier idleCount;
+	private final transient IntSupplier pendingCount;
+
+	private final LongAdder acquisitionCount = new LongAdder();
+	private final LongAdder acquisitionTimeoutCount = new LongAdder();
+	private final LongAdder acquisitionTotalTime = new LongAdder();
+	private final AtomicLong acquisitionMaxTime = new AtomicLong();
+	private final LongAdder[] acquisitionTimeHistogram;
+
+	private final LongAdder idleEvictionCount = new LongAdder();
+	private final LongAdder leakCount = new LongAdder();
+
+	// the views of the SessionFactories using the pool, or the pool statistics viewed
+	private final transient List<ConnectionPoolStatisticsImpl> views = new CopyOnWriteArrayList<>();
+	private final transient ConnectionPoolStatisticsImpl viewed;
+
+	public ConnectionPoolStatisticsImpl(IntSupplier activeCount, IntSupplier idleCount, IntSupplier pendingCount) {
+		this( activeCount, idleCount, pendingCount, null );
+	}
+
+	private ConnectionPoolStatisticsImpl(
+			IntSupplier activeCount,
+			IntSupplier idleCount,
+			IntSupplier pendingCount,
+			ConnectionPoolStatisticsImpl viewed) {
+		this.viewed = viewed;
+		this.activeCount = activeCount;
+		this.idleCount = idleCount;
+		this.pendingCount = pendingCount;
+
+		this.acquisitionTimeHistogram = new LongAdder[ HISTOGRAM_BOUNDS.length + 1 ];
+		for ( int i = 0; i < acquisitionTimeHistogram.length; i++ ) {
+			acquisitionTimeHistogram[i] = new LongAdder();
+		}
+	}
+
+	@Override
+	public long getAcquisitionCount() {
+		return acquisitionCount.sum();
+	}
+
+	@Override
+	public long getAcquisitionTimeoutCount() {
+		return acquisitionTimeoutCount.sum();
+	}
+
+	@Override
+	public long getAcquisitionMaxTime() {
+		return acquisitionMaxTime.get();
+	}
+
+	@Override
+	public long getAcquisitionTotalTime() {
+		return acquisitionTotalTime.sum();
+	}
+
+	@Override
+	public long[] getAcquisitionTimeHistogramBounds() {
+		return HISTOGRAM_BOUNDS.clone();
+	}
+
+	@Override
+	public long[] getAcquisitionTimeHistogram() {
+		final long[] histogram = new long[ acquisitionTimeHistogram.length ];
+		for ( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] = acquisitionTimeHistogram[i].sum();
+		}
+		return histogram;
+	}
+
+	@Override
+	public int getActiveConnectionCount() {
+		return gauge( activeCount );
+	}
+
+	@Override
+	public int getIdleConnectionCount() {
+		return gauge( idleCount );
+	}
+
+	@Override
+	public int getPendingAcquisitionCount() {
+		return gauge( pendingCount );
+	}
+
+	@Override
+	public long getIdleEvictionCount() {
+		return idleEvictionCount.sum();
+	}
+
+	@Override
+	public long getLeakCount() {
+		return leakCount.sum();
+	}
+
+	/**
+	 * Open a view of these statistics, which counts from now on and can be
+	 * {@link #clear() cleared} independently.  The view must be
+	 * {@link #closeView() closed} once no longer used.
+	 */
+	public ConnectionPoolStatisticsImpl openView() {
+		final ConnectionPoolStatisticsImpl view = new ConnectionPoolStatisticsImpl(
+				activeCount,
+				idleCount,
+				pendingCount,
+				this
+		);
+		views.add( view );
+		return view;
+	}
+
+	/**
+	 * Stop updating this view
+	 */
+	public void closeView() {
+		if ( viewed != null ) {
+			viewed.views.remove( this );
+		}
+	}
+
+	/**
+	 * Callback about a Connection having been acquired from the pool
+	 *
+	 * @param microseconds The time the caller had to wait for the Connection
+	 */
+	public void connectionAcquired(long microseconds) {
+		for ( ConnectionPoolStatisticsImpl view : views ) {
+			view.connectionAcquired( microseconds );
+		}
+
+		acquisitionCount.increment();
+		acquisitionTotalTime.add( microseconds );
+		acquisitionTimeHistogram[ bucket( microseconds ) ].increment();
+
+		//noinspection StatementWithEmptyBody
+		for ( long old = acquisitionMaxTime.get();
+				microseconds > old && !acquisitionMaxTime.compareAndSet( old, microseconds );
+				old = acquisitionMaxTime.get() ) {
+			// nothing to do here given the odd loop structure...
+		}
+	}
+
+	public void acquisitionTimedOut() {
+		for ( ConnectionPoolStatisticsImpl view : views ) {
+			view.acquisitionTimedOut();
+		}
+		acquisitionTimeoutCount.increment();
+	}
+
+	public void idleConnectionEvicted() {
+		for ( ConnectionPoolStatisticsImpl view : views ) {
+			view.idleConnectionEvicted();
+		}
+		idleEvictionCount.increment();
+	}
+
+	public void leakDetected() {
+		for ( ConnectionPoolStatisticsImpl view : views ) {
+			view.leakDetected();
+		}
+		leakCount.increment();
+	}
+
+	/**
+	 * Reset the counters of this view
+	 */
+	public void clear() {
+		acquisitionCount.reset();
+		acquisitionTimeoutCount.reset();
+		acquisitionTotalTime.reset();
+		acquisitionMaxTime.set( 0L );
+		for ( LongAdder bucket : acquisitionTimeHistogram ) {
+			bucket.reset();
+		}
+		idleEvictionCount.reset();
+		leakCount.reset();
+	}
+
+	private static int gauge(IntSupplier supplier) {
+		return supplier == null ? 0 : supplier.getAsInt();
+	}
+
+	private static int bucket(long microseconds) {
+		for ( int i = 0; i < HISTOGRAM_BOUNDS.length; i++ ) {
+			if ( microseconds <= HISTOGRAM_BOUNDS[i] ) {
+				return i;
+			}
+		}
+		return HISTOGRAM_BOUNDS.length;
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionPoolStatistics"
+				+ "[acquisitionCount=" + acquisitionCount
+				+ ",acquisitionTimeoutCount=" + acquisitionTimeoutCount
+				+ ",acquisitionMaxTime=" + acquisitionMaxTime
+				+ ",acquisitionTotalTime=" + acquisitionTotalTime
+				+ ",idleEvictionCount=" + idleEvictionCount
+				+ ",leakCount=" + leakCount
+				+ ']';
+	}
+}
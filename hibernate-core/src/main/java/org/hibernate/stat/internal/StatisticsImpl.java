@@ -15,6 +15,8 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
@@ -22,6 +24,9 @@ import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.ConnectionPoolStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -34,7 +39,7 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
  * @author Sanne Grinovero
  */
 @SuppressWarnings({ "unchecked" })
-public class StatisticsImpl implements StatisticsImplementor, Service, Manageable {
+public class StatisticsImpl implements StatisticsImplementor, Service, Manageable, Stoppable {
 
 	private static final CoreMessageLogger LOG = messageLogger( StatisticsImpl.class );
 
@@ -43,6 +48,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final String cacheRegionPrefix;
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final ServiceRegistryImplementor serviceRegistry;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile long startTime;
@@ -113,14 +119,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final StatsNamedContainer<DeprecatedNaturalIdCacheStatisticsImpl> deprecatedNaturalIdStatsMap = new StatsNamedContainer();
 
+	/**
+	 * The view of this SessionFactory on the statistics of the built-in connection pool,
+	 * if one is in use
+	 */
+	private final ConnectionPoolStatisticsImpl connectionPoolStatistics;
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.queryStatsMap = new StatsNamedContainer(
 				sessionFactory != null ?
 					sessionFactoryOptions.getQueryStatisticsMaxSize() :
-					Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE,
-				20
+					Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
 		clear();
 		metamodel = sessionFactory.getMetamodel();
@@ -128,6 +139,33 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		cacheRegionPrefix = sessionFactoryOptions.getCacheRegionPrefix();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		serviceRegistry = sessionFactory.getServiceRegistry();
+		connectionPoolStatistics = openConnectionPoolStatisticsView( serviceRegistry );
+	}
+
+	private static ConnectionPoolStatisticsImpl openConnectionPoolStatisticsView(ServiceRegistryImplementor serviceRegistry) {
+		if ( serviceRegistry == null ) {
+			return null;
+		}
+		final ConnectionProvider connectionProvider = serviceRegistry.getService( ConnectionProvider.class );
+		if ( connectionProvider == null
+				|| !connectionProvider.isUnwrappableAs( DriverManagerConnectionProviderImpl.class ) ) {
+			return null;
+		}
+		final ConnectionPoolStatistics poolStatistics = connectionProvider.unwrap( DriverManagerConnectionProviderImpl.class )
+				.getConnectionPoolStatistics();
+		if ( !( poolStatistics instanceof ConnectionPoolStatisticsImpl ) ) {
+			return null;
+		}
+		// the pool may be shared with other SessionFactories
+		return ( (ConnectionPoolStatisticsImpl) poolStatistics ).openView();
+	}
+
+	@Override
+	public void stop() {
+		if ( connectionPoolStatistics != null ) {
+			connectionPoolStatistics.closeView();
+		}
 	}
 
 	/**
@@ -192,6 +230,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		if ( connectionPoolStatistics != null ) {
+			connectionPoolStatistics.clear();
+		}
+
 		startTime = System.currentTimeMillis();
 	}
 
@@ -820,6 +862,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		);
 	}
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Connection pool stats
+
+	@Override
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return connectionPoolStatistics;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Session/misc stats
 
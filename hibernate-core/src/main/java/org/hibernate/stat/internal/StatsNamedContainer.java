@@ -10,7 +10,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedConcurrentMap;
 
 /**
  * Decorates a ConcurrentHashMap implementation to make sure the methods are being
@@ -28,10 +28,10 @@ final class StatsNamedContainer<V> {
 	private final ConcurrentMap<String,V> map;
 
 	/**
-	 * Creates a bounded container - based on BoundedConcurrentHashMap
+	 * Creates a bounded container - based on BoundedConcurrentMap
 	 */
-	StatsNamedContainer(int capacity, int concurrencyLevel) {
-		this.map = new BoundedConcurrentHashMap( capacity, concurrencyLevel, BoundedConcurrentHashMap.Eviction.LRU );
+	StatsNamedContainer(int capacity) {
+		this.map = new BoundedConcurrentMap<>( capacity );
 	}
 
 	/**
@@ -97,8 +97,8 @@ public class ClobTypeDescriptor extends AbstractTypeDescriptor<Clob> {
 					return (X) ( (ClobImplementer) value ).getUnderlyingStream();
 				}
 				else {
-					// otherwise we need to build a CharacterStream...
-					return (X) new CharacterStreamImpl( DataHelper.extractString( value.getCharacterStream() ) );
+					// otherwise we need to build a CharacterStream, streaming from the Clob rather than reading it into memory
+					return (X) new CharacterStreamImpl( value.getCharacterStream(), value.length() );
 				}
 			}
 			else if (Clob.class.isAssignableFrom( type )) {
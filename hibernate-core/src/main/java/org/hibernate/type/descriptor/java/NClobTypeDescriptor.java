@@ -97,8 +97,8 @@ public class NClobTypeDescriptor extends AbstractTypeDescriptor<NClob> {
 					return (X) ( (NClobImplementer) value ).getUnderlyingStream();
 				}
 				else {
-					// otherwise we need to build a BinaryStream...
-					return (X) new CharacterStreamImpl( DataHelper.extractString( value.getCharacterStream() ) );
+					// otherwise we need to build a CharacterStream, streaming from the NClob rather than reading it into memory
+					return (X) new CharacterStreamImpl( value.getCharacterStream(), value.length() );
 				}
 			}
 			else if (NClob.class.isAssignableFrom( type )) {
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.connection;
+
+import java.sql.Connection;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.stat.ConnectionPoolStatistics;
+import org.hibernate.stat.internal.ConnectionPoolStatisticsImpl;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DriverManagerConnectionProviderPoolTest extends BaseUnitTestCase {
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@Before
+	public void setUp() {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pool" );
+		properties.put( AvailableSettings.POOL_SIZE, "2" );
+		properties.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "200" );
+		connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( properties );
+	}
+
+	@After
+	public void tearDown() {
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testSameThreadReacquiresReleasedConnection() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection[] second = new Connection[1];
+		runInOtherThread( () -> second[0] = connectionProvider.getConnection() );
+
+		// the other thread releases its Connection last, so plain LIFO ordering would hand that one out
+		connectionProvider.closeConnection( first );
+		runInOtherThread( () -> connectionProvider.closeConnection( second[0] ) );
+
+		final Connection reacquired = connectionProvider.getConnection();
+		try {
+			assertSame( first, reacquired );
+		}
+		finally {
+			connectionProvider.closeConnection( reacquired );
+		}
+	}
+
+	private static void runInOtherThread(SqlAction action) throws Exception {
+		final Exception[] failure = new Exception[1];
+		final Thread thread = new Thread( () -> {
+			try {
+				action.run();
+			}
+			catch (Exception e) {
+				failure[0] = e;
+			}
+		} );
+		thread.start();
+		thread.join();
+		if ( failure[0] != null ) {
+			throw failure[0];
+		}
+	}
+
+	private interface SqlAction {
+		void run() throws Exception;
+	}
+
+	@Test
+	public void testAcquisitionTimesOutWhenExhausted() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		try {
+			connectionProvider.getConnection();
+			fail( "Expecting the exhausted pool to time out" );
+		}
+		catch (HibernateException expected) {
+		}
+		finally {
+			connectionProvider.closeConnection( first );
+			connectionProvider.closeConnection( second );
+		}
+
+		final ConnectionPoolStatistics statistics = connectionProvider.getConnectionPoolStatistics();
+		assertEquals( 2, statistics.getAcquisitionCount() );
+		assertEquals( 1, statistics.getAcquisitionTimeoutCount() );
+		assertEquals( 0, statistics.getActiveConnectionCount() );
+	}
+
+	@Test
+	public void testWaitingThreadReceivesReleasedConnection() throws Exception {
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final CountDownLatch acquired = new CountDownLatch( 1 );
+		final Thread waiter = new Thread( () -> {
+			try {
+				final Connection connection = connectionProvider.getConnection();
+				acquired.countDown();
+				connectionProvider.closeConnection( connection );
+			}
+			catch (Exception ignore) {
+			}
+		} );
+		waiter.start();
+
+		connectionProvider.closeConnection( first );
+		assertTrue( acquired.await( 5, TimeUnit.SECONDS ) );
+		waiter.join();
+		connectionProvider.closeConnection( second );
+
+		final ConnectionPoolStatistics statistics = connectionProvider.getConnectionPoolStatistics();
+		assertEquals( 3, statistics.getAcquisitionCount() );
+		long histogramTotal = 0;
+		for ( long count : statistics.getAcquisitionTimeHistogram() ) {
+			histogramTotal += count;
+		}
+		assertEquals( 3, histogramTotal );
+		assertEquals(
+				statistics.getAcquisitionTimeHistogramBounds().length + 1,
+				statistics.getAcquisitionTimeHistogram().length
+		);
+	}
+
+	@Test
+	public void testStatisticsViewsAreClearedIndependently() throws Exception {
+		final ConnectionPoolStatisticsImpl poolStatistics =
+				(ConnectionPoolStatisticsImpl) connectionProvider.getConnectionPoolStatistics();
+		final ConnectionPoolStatisticsImpl firstView = poolStatistics.openView();
+		final ConnectionPoolStatisticsImpl secondView = poolStatistics.openView();
+
+		connectionProvider.closeConnection( connectionProvider.getConnection() );
+		firstView.clear();
+		connectionProvider.closeConnection( connectionProvider.getConnection() );
+
+		assertEquals( 1, firstView.getAcquisitionCount() );
+		assertEquals( 2, secondView.getAcquisitionCount() );
+		assertEquals( 2, poolStatistics.getAcquisitionCount() );
+
+		// a closed view is no longer updated
+		secondView.closeView();
+		connectionProvider.closeConnection( connectionProvider.getConnection() );
+
+		assertEquals( 2, firstView.getAcquisitionCount() );
+		assertEquals( 2, secondView.getAcquisitionCount() );
+		assertEquals( 3, poolStatistics.getAcquisitionCount() );
+		firstView.closeView();
+	}
+}
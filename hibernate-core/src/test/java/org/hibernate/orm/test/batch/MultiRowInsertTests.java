@@ -0,0 +1,232 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Tests for grouping batched entity inserts into multi-row inserts
+ */
+@DomainModel( annotatedClasses = MultiRowInsertTests.Item.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.MULTI_ROW_INSERT_SIZE, value = "4" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.CONNECTION_PROVIDER, value = "org.hibernate.orm.test.batch.MultiRowInsertTests$BatchRowCountingConnectionProvider" )
+		}
+)
+@SessionFactory( exportSchema = true, statementInspectorClass = SQLStatementInspector.class )
+public class MultiRowInsertTests {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "delete Item" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testRowsAreGroupedInPowerOfTwoStatements(SessionFactoryScope scope) {
+		SQLStatementInspector.extract( scope ).clear();
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 7; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+
+		assertThat(
+				SQLStatementInspector.extract( scope ).getSqlQueries( "insert" ).stream().map( MultiRowInsertTests::rowCount ).collect( Collectors.toList() ),
+				contains( 4, 2, 1 )
+		);
+
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createQuery( "select i from Item i order by i.id", Item.class ).list();
+					assertThat( items, hasSize( 7 ) );
+					for ( int i = 0; i < items.size(); i++ ) {
+						assertThat( items.get( i ).getId(), is( i + 1 ) );
+						assertThat( items.get( i ).getName(), is( "item " + ( i + 1 ) ) );
+						// the write expression of the column is part of each values tuple
+						assertThat( items.get( i ).getDescription(), is( "no values" ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testRowsAreExecutedAtBatchSize(SessionFactoryScope scope) {
+		connectionProvider( scope ).clear();
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 13; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+
+		// the first 10 rows as 4 + 4 (one JDBC batch) and 2, then the remaining 3 as 2 and 1
+		assertThat( connectionProvider( scope ).getBatchRowCounts(), contains( 8, 2, 2, 1 ) );
+
+		scope.inTransaction(
+				session -> assertThat(
+						session.createQuery( "select i from Item i", Item.class ).list(),
+						hasSize( 13 )
+				)
+		);
+	}
+
+	private static int rowCount(String insert) {
+		return insert.split( "\\), \\(" ).length;
+	}
+
+	private static BatchRowCountingConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (BatchRowCountingConnectionProvider) scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+	}
+
+	/**
+	 * Records the number of rows inserted by each {@link PreparedStatement#executeBatch()}
+	 */
+	public static class BatchRowCountingConnectionProvider extends ConnectionProviderDelegate {
+		private final List<Integer> batchRowCounts = new ArrayList<>();
+		private final Map<Connection, Connection> connections = new HashMap<>();
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			final Connection counting = (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						final Object result = invoke( method, connection, args );
+						if ( method.getName().equals( "prepareStatement" ) ) {
+							return countingStatement( (PreparedStatement) result, (String) args[0] );
+						}
+						return result;
+					}
+			);
+			connections.put( counting, connection );
+			return counting;
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( connections.remove( connection ) );
+		}
+
+		private PreparedStatement countingStatement(PreparedStatement statement, String sql) {
+			final int[] addedRows = new int[1];
+			return (PreparedStatement) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { PreparedStatement.class },
+					(proxy, method, args) -> {
+						switch ( method.getName() ) {
+							case "addBatch":
+								addedRows[0] += rowCount( sql );
+								break;
+							case "executeBatch":
+								batchRowCounts.add( addedRows[0] );
+								addedRows[0] = 0;
+								break;
+						}
+						return invoke( method, statement, args );
+					}
+			);
+		}
+
+		private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+			try {
+				return method.invoke( target, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		public List<Integer> getBatchRowCounts() {
+			return batchRowCounts;
+		}
+
+		public void clear() {
+			batchRowCounts.clear();
+		}
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		private Integer id;
+		private String name;
+		private String description;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@ColumnTransformer( write = "coalesce(?, 'no values')" )
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+	}
+}
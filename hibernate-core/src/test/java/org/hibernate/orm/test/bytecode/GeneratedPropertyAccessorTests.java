@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bytecode;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.bytecode.internal.MethodHandleReflectionOptimizerImpl;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.cfg.AvailableSettings#USE_GENERATED_PROPERTY_ACCESSORS}
+ */
+@DomainModel(
+		annotatedClasses = {
+				GeneratedPropertyAccessorTests.FieldAccessEntity.class,
+				GeneratedPropertyAccessorTests.PrivateFieldAccessEntity.class
+		}
+)
+@ServiceRegistry
+@SessionFactory( exportSchema = true )
+public class GeneratedPropertyAccessorTests {
+
+	@Test
+	public void testGeneratedAccessor(SessionFactoryScope scope) {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = resolveAccessOptimizer( scope, FieldAccessEntity.class );
+		assertThat( accessOptimizer, notNullValue() );
+		assertThat( accessOptimizer, not( instanceOf( MethodHandleReflectionOptimizerImpl.class ) ) );
+
+		final FieldAccessEntity entity = new FieldAccessEntity();
+		accessOptimizer.setPropertyValues( entity, new Object[] { 3, "name" } );
+		assertThat( entity.counter, is( 3 ) );
+		assertThat( entity.name, is( "name" ) );
+
+		final Object[] values = accessOptimizer.getPropertyValues( entity );
+		assertThat( values[0], is( 3 ) );
+		assertThat( values[1], is( "name" ) );
+
+		scope.inTransaction( session -> session.persist( new FieldAccessEntity( 1, 5, "first" ) ) );
+		scope.inTransaction(
+				session -> {
+					final FieldAccessEntity loaded = session.get( FieldAccessEntity.class, 1 );
+					assertThat( loaded.counter, is( 5 ) );
+					assertThat( loaded.name, is( "first" ) );
+					session.remove( loaded );
+				}
+		);
+	}
+
+	@Test
+	public void testMethodHandleAccessor(SessionFactoryScope scope) {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = resolveAccessOptimizer( scope, PrivateFieldAccessEntity.class );
+		assertThat( accessOptimizer, instanceOf( MethodHandleReflectionOptimizerImpl.class ) );
+
+		final PrivateFieldAccessEntity entity = new PrivateFieldAccessEntity();
+		accessOptimizer.setPropertyValues( entity, new Object[] { "name" } );
+		assertThat( accessOptimizer.getPropertyValues( entity )[0], is( "name" ) );
+
+		scope.inTransaction( session -> session.persist( new PrivateFieldAccessEntity( 1, "first" ) ) );
+		scope.inTransaction(
+				session -> {
+					final PrivateFieldAccessEntity loaded = session.get( PrivateFieldAccessEntity.class, 1 );
+					assertThat( accessOptimizer.getPropertyValues( loaded )[0], is( "first" ) );
+					session.remove( loaded );
+				}
+		);
+	}
+
+	private static ReflectionOptimizer.AccessOptimizer resolveAccessOptimizer(
+			SessionFactoryScope scope,
+			Class<?> entityClass) {
+		final EntityPersister entityDescriptor = scope.getSessionFactory()
+				.getDomainModel()
+				.findEntityDescriptor( entityClass );
+		final ReflectionOptimizer reflectionOptimizer = entityDescriptor.getRepresentationStrategy()
+				.getReflectionOptimizer();
+		assertThat( reflectionOptimizer, notNullValue() );
+		return reflectionOptimizer.getAccessOptimizer();
+	}
+
+	@Entity( name = "FieldAccessEntity" )
+	@Table( name = "field_access_entity" )
+	public static class FieldAccessEntity {
+		@Id
+		Integer id;
+		int counter;
+		String name;
+
+		public FieldAccessEntity() {
+		}
+
+		public FieldAccessEntity(Integer id, int counter, String name) {
+			this.id = id;
+			this.counter = counter;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "PrivateFieldAccessEntity" )
+	@Table( name = "private_field_access_entity" )
+	public static class PrivateFieldAccessEntity {
+		@Id
+		private Integer id;
+		private String name;
+
+		public PrivateFieldAccessEntity() {
+		}
+
+		public PrivateFieldAccessEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Tests for {@link LocalRegionFactory}
+ */
+@DomainModel( annotatedClasses = { LocalRegionFactoryTests.ReadWriteItem.class, LocalRegionFactoryTests.TransactionalItem.class } )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.LocalRegionFactory" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.LOCAL_CACHE_MAX_ENTRIES, value = "8" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@SessionFactory( exportSchema = true )
+public class LocalRegionFactoryTests {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete ReadWriteItem" ).executeUpdate();
+					session.createQuery( "delete TransactionalItem" ).executeUpdate();
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntitiesAreCached(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new ReadWriteItem( 1, "first" ) );
+					session.persist( new TransactionalItem( 1, "first" ) );
+				}
+		);
+
+		assertThat( isCached( scope, ReadWriteItem.class, 1 ), is( true ) );
+		assertThat( isCached( scope, TransactionalItem.class, 1 ), is( true ) );
+		assertThat( isCached( scope, ReadWriteItem.class, 2 ), is( false ) );
+
+		final CacheRegionStatistics statistics = scope.getSessionFactory()
+				.getStatistics()
+				.getDomainDataRegionStatistics( ReadWriteItem.class.getName() );
+		assertThat( statistics.getElementCountInMemory(), is( 1L ) );
+		assertThat( statistics.getEvictionCount(), is( 0L ) );
+	}
+
+	@Test
+	public void testRegionSizeIsBounded(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 50; i++ ) {
+						session.persist( new ReadWriteItem( i, "item " + i ) );
+					}
+				}
+		);
+
+		final CacheRegionStatistics statistics = scope.getSessionFactory()
+				.getStatistics()
+				.getDomainDataRegionStatistics( ReadWriteItem.class.getName() );
+		assertThat( statistics.getElementCountInMemory(), lessThanOrEqualTo( 8L ) );
+		assertThat( statistics.getEvictionCount(), greaterThan( 0L ) );
+		assertThat( isCached( scope, ReadWriteItem.class, 50 ), is( true ) );
+	}
+
+	private static boolean isCached(SessionFactoryScope scope, Class<?> entityClass, Integer id) {
+		return scope.fromSession(
+				session -> {
+					final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( entityClass );
+					final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+					final Object cacheKey = cacheAccess.generateCacheKey( id, persister, session.getFactory(), null );
+					return cacheAccess.get( session, cacheKey ) != null;
+				}
+		);
+	}
+
+	@Entity( name = "ReadWriteItem" )
+	@Table( name = "read_write_item" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class ReadWriteItem {
+		@Id
+		private Integer id;
+		private String name;
+
+		public ReadWriteItem() {
+		}
+
+		public ReadWriteItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "TransactionalItem" )
+	@Table( name = "transactional_item" )
+	@Cache( usage = CacheConcurrencyStrategy.TRANSACTIONAL )
+	public static class TransactionalItem {
+		@Id
+		private Integer id;
+		private String name;
+
+		public TransactionalItem() {
+		}
+
+		public TransactionalItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
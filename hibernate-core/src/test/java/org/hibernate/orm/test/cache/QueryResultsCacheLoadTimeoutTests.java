@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for the coordination of concurrent query cache misses enabled by
+ * {@link AvailableSettings#QUERY_CACHE_LOAD_TIMEOUT}
+ */
+@DomainModel
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.LocalRegionFactory" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.QUERY_CACHE_LOAD_TIMEOUT, value = "1000" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.QUERY_CACHE_SERVE_STALE_WHILE_LOADING, value = "false" )
+		}
+)
+@SessionFactory
+public class QueryResultsCacheLoadTimeoutTests {
+	private static final QueryKey.ParameterBindingsMemento NO_PARAMETERS = new QueryKey.ParameterBindingsMemento() {
+	};
+	private static final QueryKey KEY = new QueryKey( "select t.id from t", NO_PARAMETERS, null, null, null, null );
+	private static final String[] SPACES = new String[] { "t" };
+	private static final List<Object[]> RESULTS = Collections.singletonList( new Object[] { 1 } );
+
+	@AfterEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testConcurrentMissWaitsForLoadingSession(SessionFactoryScope scope) throws Exception {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		scope.inSession(
+				session -> {
+					// the first miss makes this session the one loading the results
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+
+					final CompletableFuture<List> concurrentGet = CompletableFuture.supplyAsync(
+							() -> scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) )
+					);
+					queryCache.put( KEY, RESULTS, session );
+
+					try {
+						final List results = concurrentGet.get( 5, TimeUnit.SECONDS );
+						assertThat( results.size(), is( 1 ) );
+					}
+					catch (Exception e) {
+						throw new RuntimeException( e );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testWaitTimesOutWithoutPut(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		scope.inSession(
+				session -> {
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+
+					final long start = System.nanoTime();
+					final List results = scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) );
+					final long waited = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+
+					assertThat( results, nullValue() );
+					assertThat( waited >= 900, is( true ) );
+
+					// the abandoned load no longer makes others wait
+					final long restart = System.nanoTime();
+					assertThat(
+							scope.fromSession(
+									other -> {
+										final List otherResults = queryCache.get( KEY, SPACES, other );
+										queryCache.releaseLoad( KEY, other );
+										return otherResults;
+									}
+							),
+							nullValue()
+					);
+					assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - restart ) < 900, is( true ) );
+
+					queryCache.put( KEY, RESULTS, session );
+				}
+		);
+	}
+
+	@Test
+	public void testMissWithoutPutDoesNotMakeOthersWait(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		scope.inSession(
+				session -> {
+					// e.g. CacheMode.GET: this session will not put the results it loads
+					assertThat( queryCache.get( KEY, Collections.singleton( "t" ), false, session ), nullValue() );
+
+					final long start = System.nanoTime();
+					assertThat( scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) ), nullValue() );
+					assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) < 900, is( true ) );
+
+					// the other session is now the one loading the results, which only it can release
+					queryCache.releaseLoad( KEY, session );
+					final long restart = System.nanoTime();
+					assertThat( scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) ), nullValue() );
+					assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - restart ) >= 900, is( true ) );
+				}
+		);
+	}
+
+	@Test
+	public void testReleasedLoadDoesNotMakeOthersWait(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		scope.inSession(
+				session -> {
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+
+					final CompletableFuture<List> concurrentGet = CompletableFuture.supplyAsync(
+							() -> scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) )
+					);
+
+					// e.g. the query failed
+					sleep( 100 );
+					final long start = System.nanoTime();
+					queryCache.releaseLoad( KEY, session );
+
+					try {
+						assertThat( concurrentGet.get( 5, TimeUnit.SECONDS ), nullValue() );
+					}
+					catch (Exception e) {
+						throw new RuntimeException( e );
+					}
+					assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) < 900, is( true ) );
+				}
+		);
+	}
+
+	@Test
+	public void testRepeatedMissOfLoadingSessionDoesNotWait(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		scope.inSession(
+				session -> {
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+
+					// e.g. the same query executed again before the results of the first execution were put
+					final long start = System.nanoTime();
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+					assertThat( queryCache.get( KEY, Collections.singleton( "t" ), false, session ), nullValue() );
+					assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) < 900, is( true ) );
+
+					queryCache.put( KEY, RESULTS, session );
+					assertThat( queryCache.get( KEY, SPACES, session ).size(), is( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testPutOnlyCompletesOwnLoad(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		scope.inSession(
+				session -> {
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+
+					// a session which did not wait (CacheMode.PUT, ...) puts the results, and they are then
+					// evicted, before the loading session puts its own
+					scope.inSession( other -> queryCache.put( KEY, RESULTS, other ) );
+					scope.getSessionFactory().getCache().evictQueryRegions();
+
+					final long start = System.nanoTime();
+					assertThat( scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) ), nullValue() );
+					assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) >= 900, is( true ) );
+
+					queryCache.releaseLoad( KEY, session );
+				}
+		);
+	}
+
+	@Test
+	public void testStaleResultsAreReloadedOnce(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+
+		scope.inSession( session -> queryCache.put( KEY, RESULTS, session ) );
+		scope.inSession( session -> scope.getSessionFactory().getCache().getTimestampsCache().invalidate( SPACES, session ) );
+
+		scope.inSession(
+				session -> {
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+
+					final CompletableFuture<List> concurrentGet = CompletableFuture.supplyAsync(
+							() -> scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) )
+					);
+
+					// give the concurrent miss time to start waiting, then load
+					sleep( 100 );
+					assertThat( concurrentGet.isDone(), is( false ) );
+					queryCache.put( KEY, RESULTS, session );
+
+					try {
+						assertThat( concurrentGet.get( 5, TimeUnit.SECONDS ).size(), is( 1 ) );
+					}
+					catch (Exception e) {
+						throw new RuntimeException( e );
+					}
+				}
+		);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep( millis );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
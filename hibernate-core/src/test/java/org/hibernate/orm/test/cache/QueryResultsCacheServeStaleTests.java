@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_CACHE_SERVE_STALE_WHILE_LOADING}
+ */
+@DomainModel
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.LocalRegionFactory" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.QUERY_CACHE_LOAD_TIMEOUT, value = "5000" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.QUERY_CACHE_SERVE_STALE_WHILE_LOADING, value = "true" )
+		}
+)
+@SessionFactory
+public class QueryResultsCacheServeStaleTests {
+	private static final QueryKey.ParameterBindingsMemento NO_PARAMETERS = new QueryKey.ParameterBindingsMemento() {
+	};
+	private static final QueryKey KEY = new QueryKey( "select t.id from t", NO_PARAMETERS, null, null, null, null );
+	private static final String[] SPACES = new String[] { "t" };
+
+	@Test
+	public void testStaleResultsServedWhileLoading(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final List<Object[]> staleResults = Collections.singletonList( new Object[] { 1 } );
+
+		scope.inSession( session -> queryCache.put( KEY, staleResults, session ) );
+		scope.inSession( session -> scope.getSessionFactory().getCache().getTimestampsCache().invalidate( SPACES, session ) );
+
+		scope.inSession(
+				session -> {
+					// this session reloads the results...
+					assertThat( queryCache.get( KEY, SPACES, session ), nullValue() );
+
+					// ... while others are served the stale results without waiting
+					final long start = System.nanoTime();
+					final List results = scope.fromSession( other -> queryCache.get( KEY, SPACES, other ) );
+					assertThat( results.size(), is( 1 ) );
+					assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) < 5000, is( true ) );
+
+					queryCache.put( KEY, Collections.emptyList(), session );
+				}
+		);
+
+		final List results = scope.fromSession( session -> queryCache.get( KEY, SPACES, session ) );
+		assertThat( results.size(), is( 0 ) );
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.loading;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Tests for initializing lazy collections through the SQL AST based collection loaders
+ */
+@DomainModel(
+		annotatedClasses = {
+				CollectionLoaderTests.Plain.class,
+				CollectionLoaderTests.Batched.class,
+				CollectionLoaderTests.SubSelected.class
+		}
+)
+@ServiceRegistry
+@SessionFactory( exportSchema = true, statementInspectorClass = SQLStatementInspector.class )
+public class CollectionLoaderTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new Plain( i, tags( i ) ) );
+						session.persist( new Batched( i, tags( i ) ) );
+						session.persist( new SubSelected( i, tags( i ) ) );
+					}
+					// owners without any element
+					session.persist( new Plain( 4, new ArrayList<>() ) );
+					session.persist( new Batched( 4, new ArrayList<>() ) );
+					session.persist( new SubSelected( 4, new ArrayList<>() ) );
+				}
+		);
+		SQLStatementInspector.extract( scope ).clear();
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.doWork(
+						connection -> {
+							try ( Statement statement = connection.createStatement() ) {
+								for ( String table : new String[] { "plain_tags", "batched_tags", "subselected_tags" } ) {
+									statement.executeUpdate( "delete from " + table );
+								}
+							}
+						}
+				)
+		);
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete Plain" ).executeUpdate();
+					session.createQuery( "delete Batched" ).executeUpdate();
+					session.createQuery( "delete SubSelected" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testSingleKeyLoading(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Plain> owners = session.createQuery( "select p from Plain p order by p.id", Plain.class ).list();
+					assertThat( owners, hasSize( 4 ) );
+					SQLStatementInspector.extract( scope ).clear();
+
+					assertThat( owners.get( 1 ).getTags(), containsInAnyOrder( "tag 2-1", "tag 2-2" ) );
+					assertThat( Hibernate.isInitialized( owners.get( 0 ).getTags() ), is( false ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ), hasSize( 1 ) );
+
+					assertThat( owners.get( 3 ).getTags(), is( empty() ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ), hasSize( 2 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testBatchLoading(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Batched> owners = session.createQuery( "select b from Batched b order by b.id", Batched.class ).list();
+					assertThat( owners, hasSize( 4 ) );
+					SQLStatementInspector.extract( scope ).clear();
+
+					assertThat( owners.get( 0 ).getTags(), containsInAnyOrder( "tag 1-1" ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ), hasSize( 1 ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ).get( 0 ), containsString( "in (?, ?, ?, ?)" ) );
+
+					for ( Batched owner : owners ) {
+						assertThat( Hibernate.isInitialized( owner.getTags() ), is( true ) );
+					}
+					assertThat( owners.get( 2 ).getTags(), containsInAnyOrder( "tag 3-1", "tag 3-2", "tag 3-3" ) );
+					assertThat( owners.get( 3 ).getTags(), is( empty() ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ), hasSize( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testSubSelectLoading(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<SubSelected> owners = session.createQuery(
+							"select s from SubSelected s where s.id > :id order by s.id",
+							SubSelected.class
+					).setParameter( "id", 1 ).list();
+					assertThat( owners, hasSize( 3 ) );
+					SQLStatementInspector.extract( scope ).clear();
+
+					assertThat( owners.get( 0 ).getTags(), containsInAnyOrder( "tag 2-1", "tag 2-2" ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ), hasSize( 1 ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ).get( 0 ), containsString( "(select " ) );
+
+					for ( SubSelected owner : owners ) {
+						assertThat( Hibernate.isInitialized( owner.getTags() ), is( true ) );
+					}
+					assertThat( owners.get( 1 ).getTags(), containsInAnyOrder( "tag 3-1", "tag 3-2", "tag 3-3" ) );
+					assertThat( owners.get( 2 ).getTags(), is( empty() ) );
+					assertThat( SQLStatementInspector.extract( scope ).getSqlQueries( "select" ), hasSize( 1 ) );
+
+					// not loaded by the query, so not part of the subselect
+					final SubSelected first = session.get( SubSelected.class, 1 );
+					assertThat( Hibernate.isInitialized( first.getTags() ), is( false ) );
+					assertThat( first.getTags(), containsInAnyOrder( "tag 1-1" ) );
+				}
+		);
+	}
+
+	private static List<String> tags(int ownerId) {
+		final List<String> tags = new ArrayList<>();
+		for ( int i = 1; i <= ownerId; i++ ) {
+			tags.add( "tag " + ownerId + "-" + i );
+		}
+		return tags;
+	}
+
+	@Entity( name = "Plain" )
+	public static class Plain {
+		private Integer id;
+		private List<String> tags;
+
+		public Plain() {
+		}
+
+		public Plain(Integer id, List<String> tags) {
+			this.id = id;
+			this.tags = tags;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@ElementCollection
+		@CollectionTable( name = "plain_tags" )
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	@Entity( name = "Batched" )
+	public static class Batched {
+		private Integer id;
+		private List<String> tags;
+
+		public Batched() {
+		}
+
+		public Batched(Integer id, List<String> tags) {
+			this.id = id;
+			this.tags = tags;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@ElementCollection
+		@CollectionTable( name = "batched_tags" )
+		@BatchSize( size = 10 )
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	@Entity( name = "SubSelected" )
+	public static class SubSelected {
+		private Integer id;
+		private List<String> tags;
+
+		public SubSelected() {
+		}
+
+		public SubSelected(Integer id, List<String> tags) {
+			this.id = id;
+			this.tags = tags;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@ElementCollection
+		@CollectionTable( name = "subselected_tags" )
+		@Fetch( FetchMode.SUBSELECT )
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+}
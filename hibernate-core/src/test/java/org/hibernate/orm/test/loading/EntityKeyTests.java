@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.loading;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link EntityKey} of entities with integral identifiers
+ */
+@DomainModel( standardModels = StandardDomainModel.GAMBIT )
+@ServiceRegistry
+@SessionFactory( exportSchema = true )
+public class EntityKeyTests {
+
+	@Test
+	@SuppressWarnings("UnnecessaryBoxing")
+	public void testIntegralIdentifier(SessionFactoryScope scope) {
+		final EntityPersister entityDescriptor = scope.getSessionFactory()
+				.getDomainModel()
+				.findEntityDescriptor( BasicEntity.class );
+
+		// distinct boxes
+		final EntityKey key = new EntityKey( new Integer( 1000 ), entityDescriptor );
+		final EntityKey sameKey = new EntityKey( new Integer( 1000 ), entityDescriptor );
+		assertThat( key, is( sameKey ) );
+		assertThat( key.hashCode(), is( sameKey.hashCode() ) );
+
+		assertThat( key, not( new EntityKey( 1001, entityDescriptor ) ) );
+	}
+
+	@Test
+	@SuppressWarnings("UnnecessaryBoxing")
+	public void testIntegralIdentifierIsNotHashedThroughType(SessionFactoryScope scope) {
+		final EntityPersister entityDescriptor = scope.getSessionFactory()
+				.getDomainModel()
+				.findEntityDescriptor( BasicEntity.class );
+		final List<String> invokedMethods = new ArrayList<>();
+		final EntityPersister recordingDescriptor = recording( entityDescriptor, invokedMethods );
+
+		final EntityKey key = new EntityKey( new Integer( 1000 ), recordingDescriptor );
+		final EntityKey sameKey = new EntityKey( new Integer( 1000 ), recordingDescriptor );
+		assertThat( key, is( sameKey ) );
+		assertThat( key.hashCode(), is( new EntityKey( 1000, entityDescriptor ).hashCode() ) );
+
+		// Type#getHashCode and Type#isEqual need the factory, the primitive fast path does not
+		assertThat( invokedMethods, hasItem( "getIdentifierType" ) );
+		assertThat( invokedMethods, not( hasItem( "getFactory" ) ) );
+
+		// while other identifiers still go through the identifier type
+		invokedMethods.clear();
+		assertThat( new EntityKey( 1000L, recordingDescriptor ), is( new EntityKey( 1000L, recordingDescriptor ) ) );
+		assertThat( invokedMethods, hasItem( "getFactory" ) );
+	}
+
+	private static EntityPersister recording(EntityPersister entityDescriptor, List<String> invokedMethods) {
+		return (EntityPersister) Proxy.newProxyInstance(
+				EntityPersister.class.getClassLoader(),
+				new Class[] { EntityPersister.class },
+				(proxy, method, args) -> {
+					invokedMethods.add( method.getName() );
+					try {
+						return method.invoke( entityDescriptor, args );
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testPersistenceContextLookup(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final BasicEntity entity = new BasicEntity( 1, "first" );
+					session.persist( entity );
+
+					final EntityPersister entityDescriptor = session.getEntityPersister( null, entity );
+					final Object managed = session.getPersistenceContext().getEntity(
+							session.generateEntityKey( 1, entityDescriptor )
+					);
+					assertThat( managed, sameInstance( entity ) );
+
+					assertThat( session.get( BasicEntity.class, 1 ), sameInstance( entity ) );
+					session.remove( entity );
+				}
+		);
+	}
+}
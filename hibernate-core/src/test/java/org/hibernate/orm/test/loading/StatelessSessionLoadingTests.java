@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.loading;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.domain.gambit.EntityWithManyToOneSelfReference;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+/**
+ * Tests for loading entities through a {@link StatelessSession}
+ */
+@DomainModel( standardModels = StandardDomainModel.GAMBIT )
+@ServiceRegistry
+@SessionFactory( exportSchema = true )
+public class StatelessSessionLoadingTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new BasicEntity( 1, "first" ) );
+					session.persist( new BasicEntity( 2, "second" ) );
+					session.persist( new BasicEntity( 3, "third" ) );
+
+					final EntityWithManyToOneSelfReference first = new EntityWithManyToOneSelfReference( 1, "first", 1 );
+					session.persist( first );
+					session.persist( new EntityWithManyToOneSelfReference( 2, "second", 2, first ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete BasicEntity" ).executeUpdate();
+					session.remove( session.get( EntityWithManyToOneSelfReference.class, 2 ) );
+					session.remove( session.get( EntityWithManyToOneSelfReference.class, 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testQueryResultsAreNotManaged(SessionFactoryScope scope) {
+		try ( StatelessSession statelessSession = scope.getSessionFactory().openStatelessSession() ) {
+			final List<BasicEntity> entities = statelessSession.createQuery( "select e from BasicEntity e", BasicEntity.class )
+					.list();
+			assertThat( entities.size(), is( 3 ) );
+
+			assertThat(
+					entities.stream().map( BasicEntity::getData ).collect( Collectors.toList() ),
+					containsInAnyOrder( "first", "second", "third" )
+			);
+
+			final PersistenceContext persistenceContext = ( (SharedSessionContractImplementor) statelessSession ).getPersistenceContext();
+			assertThat( persistenceContext.getNumberOfManagedEntities(), is( 0 ) );
+			assertThat( persistenceContext.getEntitiesByKey().isEmpty(), is( true ) );
+		}
+	}
+
+	@Test
+	public void testIdentityWithinQueryResults(SessionFactoryScope scope) {
+		try ( StatelessSession statelessSession = scope.getSessionFactory().openStatelessSession() ) {
+			final List<EntityWithManyToOneSelfReference> entities = statelessSession.createQuery(
+					"select e from EntityWithManyToOneSelfReference e",
+					EntityWithManyToOneSelfReference.class
+			).list();
+			assertThat( entities.size(), is( 2 ) );
+
+			final EntityWithManyToOneSelfReference first = entities.get( 0 ).getId() == 1 ? entities.get( 0 ) : entities.get( 1 );
+			final EntityWithManyToOneSelfReference second = entities.get( 0 ).getId() == 2 ? entities.get( 0 ) : entities.get( 1 );
+			assertThat( first.getOther(), nullValue() );
+			assertThat( second.getOther(), sameInstance( first ) );
+
+			assertThat( ( (SharedSessionContractImplementor) statelessSession ).getPersistenceContext().getEntitiesByKey().isEmpty(), is( true ) );
+		}
+	}
+
+	@Test
+	public void testDistinctEntityResults(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<BasicEntity> entities = session.createQuery(
+							"select e from BasicEntity e, BasicEntity e2",
+							BasicEntity.class
+					).list();
+					assertThat( entities.size(), is( 3 ) );
+					assertThat(
+							entities,
+							containsInAnyOrder(
+									session.get( BasicEntity.class, 1 ),
+									session.get( BasicEntity.class, 2 ),
+									session.get( BasicEntity.class, 3 )
+							)
+					);
+				}
+		);
+	}
+}
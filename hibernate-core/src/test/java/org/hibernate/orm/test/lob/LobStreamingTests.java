@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.lob;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Arrays;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.engine.jdbc.CharacterStream;
+import org.hibernate.internal.util.io.StreamCopier;
+import org.hibernate.type.descriptor.java.BlobTypeDescriptor;
+import org.hibernate.type.descriptor.java.ClobTypeDescriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for streaming LOB content without reading it into memory as a whole
+ */
+public class LobStreamingTests {
+	private static final int SIZE = 100_000;
+
+	@Test
+	public void testCopyDoesNotStopOnShortRead() {
+		final byte[] content = content();
+		final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+		final long copied = StreamCopier.copy( new ChunkedInputStream( content, 100 ), copy );
+
+		assertThat( copied, is( (long) SIZE ) );
+		assertThat( Arrays.equals( copy.toByteArray(), content ), is( true ) );
+	}
+
+	@Test
+	public void testForeignBlobIsUnwrappedAsStream() throws Exception {
+		final InputStream stream = new ByteArrayInputStream( content() );
+		final Blob blob = new SerialBlob( new byte[0] ) {
+			@Override
+			public InputStream getBinaryStream() {
+				return stream;
+			}
+
+			@Override
+			public long length() {
+				return SIZE;
+			}
+
+			@Override
+			public byte[] getBytes(long pos, int length) {
+				throw new AssertionError( "Blob content should not be read into memory" );
+			}
+		};
+
+		final BinaryStream binaryStream = BlobTypeDescriptor.INSTANCE.unwrap( blob, BinaryStream.class, null );
+
+		assertThat( binaryStream.getInputStream() == stream, is( true ) );
+		assertThat( binaryStream.getLength(), is( (long) SIZE ) );
+	}
+
+	@Test
+	public void testForeignClobIsUnwrappedAsStream() throws Exception {
+		final Reader reader = new StringReader( "streamed" );
+		final Clob clob = new SerialClob( new char[0] ) {
+			@Override
+			public Reader getCharacterStream() {
+				return reader;
+			}
+
+			@Override
+			public long length() {
+				return 8;
+			}
+
+			@Override
+			public String getSubString(long pos, int length) {
+				throw new AssertionError( "Clob content should not be read into memory" );
+			}
+		};
+
+		final CharacterStream characterStream = ClobTypeDescriptor.INSTANCE.unwrap( clob, CharacterStream.class, null );
+
+		assertThat( characterStream.asReader() == reader, is( true ) );
+		assertThat( characterStream.getLength(), is( 8L ) );
+	}
+
+	private static byte[] content() {
+		final byte[] content = new byte[SIZE];
+		for ( int i = 0; i < SIZE; i++ ) {
+			content[i] = (byte) i;
+		}
+		return content;
+	}
+
+	/**
+	 * Returns at most {@code chunkSize} bytes per read, like JDBC LOB streams commonly do
+	 */
+	private static class ChunkedInputStream extends ByteArrayInputStream {
+		private final int chunkSize;
+
+		private ChunkedInputStream(byte[] content, int chunkSize) {
+			super( content );
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read( b, off, Math.min( len, chunkSize ) );
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.metamodel.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.metamodel.internal.MetamodelInitializationExecutor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link MetamodelInitializationExecutor}
+ */
+public class MetamodelInitializationExecutorTests {
+
+	@Test
+	public void testGroupsAreAppliedSerially() {
+		final List<Integer> items = new ArrayList<>();
+		for ( int i = 0; i < 200; i++ ) {
+			items.add( i );
+		}
+
+		final ConcurrentHashMap<Integer, Boolean> groupsInProgress = new ConcurrentHashMap<>();
+		final AtomicBoolean overlap = new AtomicBoolean();
+
+		try ( MetamodelInitializationExecutor executor = MetamodelInitializationExecutor.create( true ) ) {
+			final List<String> results = executor.mapGrouped(
+					items,
+					item -> item % 4,
+					item -> {
+						if ( groupsInProgress.putIfAbsent( item % 4, Boolean.TRUE ) != null ) {
+							overlap.set( true );
+						}
+						try {
+							Thread.sleep( 1 );
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						groupsInProgress.remove( item % 4 );
+						return "#" + item;
+					}
+			);
+
+			assertThat( overlap.get(), is( false ) );
+
+			// in the order of the items, not of the groups
+			assertThat( results.size(), is( items.size() ) );
+			for ( int i = 0; i < items.size(); i++ ) {
+				assertThat( results.get( i ), is( "#" + i ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.metamodel.mapping;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.DomainMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link AvailableSettings#PARALLEL_METAMODEL_INITIALIZATION} with deep entity hierarchies,
+ * whose entities share the (lazily resolved) boot model values of their inherited properties
+ */
+public class ParallelInitializationHierarchyTests {
+	private static final int BUILD_COUNT = 25;
+
+	@Test
+	public void testRepeatedBuilds() {
+		for ( int i = 0; i < BUILD_COUNT; i++ ) {
+			buildAndVerify();
+		}
+	}
+
+	private static void buildAndVerify() {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.PARALLEL_METAMODEL_INITIALIZATION, "true" )
+				.build();
+		try {
+			final MetadataImplementor metadata = (MetadataImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Vehicle.class )
+					.addAnnotatedClass( Car.class )
+					.addAnnotatedClass( SportsCar.class )
+					.addAnnotatedClass( RaceCar.class )
+					.addAnnotatedClass( FormulaCar.class )
+					.addAnnotatedClass( Animal.class )
+					.addAnnotatedClass( Mammal.class )
+					.addAnnotatedClass( Dog.class )
+					.addAnnotatedClass( Puppy.class )
+					.addAnnotatedClass( ShowPuppy.class )
+					.buildMetadata();
+
+			try ( SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) metadata.buildSessionFactory() ) {
+				final DomainMetamodel domainModel = sessionFactory.getDomainModel();
+
+				metadata.getEntityBindings().forEach(
+						bootEntityDescriptor -> {
+							final EntityPersister entityDescriptor = domainModel.findEntityDescriptor( bootEntityDescriptor.getEntityName() );
+							assertThat( entityDescriptor, notNullValue() );
+							assertThat( entityDescriptor.getIdentifierMapping(), notNullValue() );
+							assertThat(
+									entityDescriptor.getNumberOfAttributeMappings(),
+									is( entityDescriptor.getPropertyNames().length )
+							);
+							entityDescriptor.visitAttributeMappings(
+									attributeMapping -> assertThat( attributeMapping.getMappedTypeDescriptor(), notNullValue() )
+							);
+						}
+				);
+
+				metadata.getCollectionBindings().forEach(
+						bootCollectionDescriptor -> assertThat(
+								domainModel.findCollectionDescriptor( bootCollectionDescriptor.getRole() ),
+								notNullValue()
+						)
+				);
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Entity( name = "Vehicle" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+		private Integer wheels;
+		@Embedded
+		private Registration registration;
+		@ElementCollection
+		private Set<String> owners = new HashSet<>();
+	}
+
+	@Entity( name = "Car" )
+	public static class Car extends Vehicle {
+		private Integer doors;
+		private String brand;
+	}
+
+	@Entity( name = "SportsCar" )
+	public static class SportsCar extends Car {
+		private Double topSpeed;
+		private Boolean convertible;
+	}
+
+	@Entity( name = "RaceCar" )
+	public static class RaceCar extends SportsCar {
+		private String team;
+		private Long races;
+		@ElementCollection
+		private Set<Integer> numbers = new HashSet<>();
+	}
+
+	@Entity( name = "FormulaCar" )
+	public static class FormulaCar extends RaceCar {
+		private String formula;
+		private Short season;
+	}
+
+	@Embeddable
+	public static class Registration {
+		private String plate;
+		private String country;
+	}
+
+	@Entity( name = "Animal" )
+	@Inheritance( strategy = InheritanceType.SINGLE_TABLE )
+	public static class Animal {
+		@Id
+		private Long id;
+		private String species;
+		private Integer legs;
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+	}
+
+	@Entity( name = "Mammal" )
+	public static class Mammal extends Animal {
+		private Boolean furry;
+	}
+
+	@Entity( name = "Dog" )
+	public static class Dog extends Mammal {
+		private String breed;
+		private Double weight;
+	}
+
+	@Entity( name = "Puppy" )
+	public static class Puppy extends Dog {
+		private Integer ageInWeeks;
+	}
+
+	@Entity( name = "ShowPuppy" )
+	public static class ShowPuppy extends Puppy {
+		private String pedigree;
+		private Integer awards;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.metamodel.mapping;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.spi.DomainMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.EntityWithManyToOneSelfReference;
+import org.hibernate.testing.orm.domain.gambit.EntityWithOneToMany;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#PARALLEL_METAMODEL_INITIALIZATION}
+ */
+@DomainModel(
+		standardModels = { StandardDomainModel.GAMBIT, StandardDomainModel.CONTACTS }
+)
+@ServiceRegistry(
+		settings = @ServiceRegistry.Setting(
+				name = AvailableSettings.PARALLEL_METAMODEL_INITIALIZATION,
+				value = "true"
+		)
+)
+@SessionFactory( exportSchema = true )
+public class ParallelInitializationTests {
+
+	@Test
+	public void testMappingModel(DomainModelScope domainModelScope, SessionFactoryScope scope) {
+		final DomainMetamodel domainModel = scope.getSessionFactory().getDomainModel();
+
+		domainModelScope.getDomainModel().getEntityBindings().forEach(
+				bootEntityDescriptor -> {
+					final EntityPersister entityDescriptor = domainModel.findEntityDescriptor( bootEntityDescriptor.getEntityName() );
+					assertThat( entityDescriptor, notNullValue() );
+					assertThat( entityDescriptor.getIdentifierMapping(), notNullValue() );
+					assertThat(
+							entityDescriptor.getNumberOfAttributeMappings(),
+							is( entityDescriptor.getPropertyNames().length )
+					);
+				}
+		);
+
+		domainModelScope.getDomainModel().getCollectionBindings().forEach(
+				bootCollectionDescriptor -> assertThat(
+						domainModel.findCollectionDescriptor( bootCollectionDescriptor.getRole() ),
+						notNullValue()
+				)
+		);
+	}
+
+	@Test
+	public void testQueries(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "select e from EntityWithOneToMany e" ).list();
+					session.createQuery( "select e from EntityWithManyToOneSelfReference e join e.other" ).list();
+					session.get( EntityWithOneToMany.class, 1 );
+					session.get( EntityWithManyToOneSelfReference.class, 1 );
+				}
+		);
+	}
+}
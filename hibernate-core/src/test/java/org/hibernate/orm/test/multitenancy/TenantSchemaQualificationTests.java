@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.multitenancy;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.AbstractMultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.sql.exec.spi.TenantSchemaQualifier;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for qualifying the rendered SQL with the schema of the current tenant
+ *
+ * @see AvailableSettings#MULTI_TENANT_SCHEMA_QUALIFICATION
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.MULTI_TENANT, value = "SCHEMA" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.MULTI_TENANT_SCHEMA_QUALIFICATION, value = "true" )
+		},
+		services = @ServiceRegistry.Service(
+				role = MultiTenantConnectionProvider.class,
+				impl = TenantSchemaQualificationTests.SharedConnectionProvider.class
+		)
+)
+@SessionFactory
+public class TenantSchemaQualificationTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		inTenant(
+				scope,
+				"TENANT_A",
+				session -> session.doWork(
+						connection -> {
+							try ( Statement statement = connection.createStatement() ) {
+								for ( String tenant : new String[] { "TENANT_A", "TENANT_B" } ) {
+									statement.execute( "create schema " + tenant );
+									statement.execute( "create table " + tenant + ".BasicEntity (id integer not null, data varchar(255), primary key (id))" );
+								}
+								statement.execute( "insert into TENANT_A.BasicEntity (id, data) values (1, 'a')" );
+								statement.execute( "insert into TENANT_B.BasicEntity (id, data) values (1, 'b')" );
+								statement.execute( "insert into TENANT_B.BasicEntity (id, data) values (2, 'b')" );
+							}
+						}
+				)
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		inTenant(
+				scope,
+				"TENANT_A",
+				session -> session.doWork(
+						connection -> {
+							try ( Statement statement = connection.createStatement() ) {
+								for ( String tenant : new String[] { "TENANT_A", "TENANT_B" } ) {
+									statement.execute( "drop table " + tenant + ".BasicEntity" );
+									statement.execute( "drop schema " + tenant );
+								}
+							}
+						}
+				)
+		);
+	}
+
+	@Test
+	public void testQueryPerTenant(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getTenantSchemaQualifier(), notNullValue() );
+
+		inTenant(
+				scope,
+				"TENANT_A",
+				session -> {
+					final List<BasicEntity> entities = session.createQuery( "select e from BasicEntity e", BasicEntity.class ).list();
+					assertThat( entities.size(), is( 1 ) );
+					assertThat( entities.get( 0 ).getData(), is( "a" ) );
+				}
+		);
+
+		// the same (cached) plan, executed for another tenant
+		inTenant(
+				scope,
+				"TENANT_B",
+				session -> {
+					final List<BasicEntity> entities = session.createQuery( "select e from BasicEntity e", BasicEntity.class ).list();
+					assertThat( entities.size(), is( 2 ) );
+					assertThat( entities.get( 0 ).getData(), is( "b" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testLoadingPerTenant(SessionFactoryScope scope) {
+		inTenant( scope, "TENANT_A", session -> assertThat( session.get( BasicEntity.class, 1 ).getData(), is( "a" ) ) );
+		inTenant( scope, "TENANT_B", session -> assertThat( session.get( BasicEntity.class, 1 ).getData(), is( "b" ) ) );
+	}
+
+	@Test
+	public void testQualification(SessionFactoryScope scope) {
+		final TenantSchemaQualifier qualifier = scope.getSessionFactory().getTenantSchemaQualifier();
+		assertThat( qualifier.isTenantTable( "BasicEntity" ), is( true ) );
+
+		final String sql = "select e.id from " + TenantSchemaQualifier.SCHEMA_PLACEHOLDER + "BasicEntity e";
+		assertThat( qualifier.qualify( sql, "TENANT_A" ), is( "select e.id from TENANT_A.BasicEntity e" ) );
+		assertThat( qualifier.qualify( sql, null ), is( "select e.id from BasicEntity e" ) );
+	}
+
+	@Test
+	public void testQualificationWithQuotedTenant(SessionFactoryScope scope) {
+		final TenantSchemaQualifier qualifier = scope.getSessionFactory().getTenantSchemaQualifier();
+		final Dialect dialect = scope.getSessionFactory().getJdbcServices().getDialect();
+
+		final String sql = "select e.id from " + TenantSchemaQualifier.SCHEMA_PLACEHOLDER + "BasicEntity e";
+		assertThat(
+				qualifier.qualify( sql, "tenant-1" ),
+				is( "select e.id from " + dialect.openQuote() + "tenant-1" + dialect.closeQuote() + ".BasicEntity e" )
+		);
+
+		try {
+			qualifier.qualify( sql, "tenant" + dialect.closeQuote() + ".x" );
+			fail( "Tenant identifier containing a quote should be rejected" );
+		}
+		catch (HibernateException expected) {
+			// expected
+		}
+	}
+
+	private static void inTenant(SessionFactoryScope scope, String tenant, Consumer<SessionImplementor> action) {
+		try ( SessionImplementor session = (SessionImplementor) scope.getSessionFactory()
+				.withOptions()
+				.tenantIdentifier( tenant )
+				.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				action.accept( session );
+				session.getTransaction().commit();
+			}
+			catch (RuntimeException e) {
+				session.getTransaction().rollback();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Hands out connections to the same database for all tenants, without switching their schema
+	 */
+	public static class SharedConnectionProvider extends AbstractMultiTenantConnectionProvider implements Stoppable {
+		private final DriverManagerConnectionProviderImpl connectionProvider = ConnectionProviderBuilder.buildConnectionProvider();
+
+		@Override
+		protected ConnectionProvider getAnyConnectionProvider() {
+			return connectionProvider;
+		}
+
+		@Override
+		protected ConnectionProvider selectConnectionProvider(String tenantIdentifier) {
+			return connectionProvider;
+		}
+
+		@Override
+		public void stop() {
+			connectionProvider.stop();
+		}
+	}
+}
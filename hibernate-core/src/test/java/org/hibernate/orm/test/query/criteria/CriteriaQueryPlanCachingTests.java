@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.internal.SqmStatementFingerprint;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+/**
+ * Tests for caching the plans of criteria queries by their structure
+ *
+ * @see SqmStatementFingerprint
+ */
+@DomainModel( standardModels = StandardDomainModel.GAMBIT )
+@ServiceRegistry
+@SessionFactory( exportSchema = true )
+public class CriteriaQueryPlanCachingTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new BasicEntity( 1, "first" ) );
+					session.persist( new BasicEntity( 2, "second" ) );
+					session.persist( new BasicEntity( 3, "third" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFingerprint(SessionFactoryScope scope) {
+		final CriteriaBuilder criteriaBuilder = scope.getSessionFactory().getCriteriaBuilder();
+
+		final SqmStatementFingerprint byParameter = SqmStatementFingerprint.from(
+				(SqmStatement<?>) byDataParameter( criteriaBuilder, criteriaBuilder.parameter( String.class ) )
+		);
+		assertThat( byParameter, notNullValue() );
+		assertThat( byParameter.getParameters().size(), is( 1 ) );
+
+		assertThat(
+				SqmStatementFingerprint.from(
+						(SqmStatement<?>) byDataParameter( criteriaBuilder, criteriaBuilder.parameter( String.class ) )
+				),
+				is( byParameter )
+		);
+
+		final SqmStatementFingerprint byLiteral = SqmStatementFingerprint.from(
+				(SqmStatement<?>) byDataLiteral( criteriaBuilder, "first" )
+		);
+		assertThat( byLiteral, notNullValue() );
+		assertThat( byLiteral, not( byParameter ) );
+		assertThat( SqmStatementFingerprint.from( (SqmStatement<?>) byDataLiteral( criteriaBuilder, "first" ) ), is( byLiteral ) );
+		assertThat( SqmStatementFingerprint.from( (SqmStatement<?>) byDataLiteral( criteriaBuilder, "second" ) ), not( byLiteral ) );
+	}
+
+	@Test
+	public void testPlanIsSharedByStructurallyEqualQueries(SessionFactoryScope scope) {
+		final CriteriaBuilder criteriaBuilder = scope.getSessionFactory().getCriteriaBuilder();
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+
+		scope.inTransaction(
+				session -> {
+					final ParameterExpression<String> firstParameter = criteriaBuilder.parameter( String.class );
+					final List<Integer> firstIds = session.createQuery( byDataParameter( criteriaBuilder, firstParameter ) )
+							.setParameter( firstParameter, "first" )
+							.list();
+					assertThat( firstIds, contains( 1 ) );
+
+					final int numberOfCachedQueryPlans = interpretationCache.getNumberOfCachedQueryPlans();
+
+					// a new, structurally equal, criteria using its own parameter
+					final ParameterExpression<String> secondParameter = criteriaBuilder.parameter( String.class );
+					final List<Integer> secondIds = session.createQuery( byDataParameter( criteriaBuilder, secondParameter ) )
+							.setParameter( secondParameter, "second" )
+							.list();
+					assertThat( secondIds, contains( 2 ) );
+
+					assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( numberOfCachedQueryPlans ) );
+				}
+		);
+	}
+
+	@Test
+	public void testDifferentLiteralsAreNotShared(SessionFactoryScope scope) {
+		final CriteriaBuilder criteriaBuilder = scope.getSessionFactory().getCriteriaBuilder();
+
+		scope.inTransaction(
+				session -> {
+					assertThat( session.createQuery( byDataLiteral( criteriaBuilder, "first" ) ).list(), contains( 1 ) );
+					assertThat( session.createQuery( byDataLiteral( criteriaBuilder, "third" ) ).list(), contains( 3 ) );
+
+					final CriteriaQuery<Integer> greater = criteriaBuilder.createQuery( Integer.class );
+					final Root<BasicEntity> root = greater.from( BasicEntity.class );
+					greater.select( root.get( "id" ) ).where( criteriaBuilder.gt( root.get( "id" ), 1 ) );
+					assertThat( session.createQuery( greater ).list(), containsInAnyOrder( 2, 3 ) );
+				}
+		);
+	}
+
+	private static CriteriaQuery<Integer> byDataParameter(
+			CriteriaBuilder criteriaBuilder,
+			ParameterExpression<String> parameter) {
+		final CriteriaQuery<Integer> criteria = criteriaBuilder.createQuery( Integer.class );
+		final Root<BasicEntity> root = criteria.from( BasicEntity.class );
+		criteria.select( root.get( "id" ) );
+		criteria.where( criteriaBuilder.equal( root.get( "data" ), parameter ) );
+		return criteria;
+	}
+
+	private static CriteriaQuery<Integer> byDataLiteral(CriteriaBuilder criteriaBuilder, String data) {
+		final CriteriaQuery<Integer> criteria = criteriaBuilder.createQuery( Integer.class );
+		final Root<BasicEntity> root = criteria.from( BasicEntity.class );
+		criteria.select( root.get( "id" ) );
+		criteria.where( criteriaBuilder.equal( root.get( "data" ), data ) );
+		return criteria;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.graph.spi.AppliedGraphKey;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.query.internal.QueryOptionsImpl;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.EntityWithLazyManyToOneSelfReference;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for caching the plans of queries executed with an applied EntityGraph
+ *
+ * @see AppliedGraphKey
+ */
+@DomainModel( standardModels = StandardDomainModel.GAMBIT )
+@ServiceRegistry
+@SessionFactory( exportSchema = true )
+public class EntityGraphQueryPlanCachingTests {
+	private static final String QUERY = "select e from EntityWithLazyManyToOneSelfReference e where e.id = :id";
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final EntityWithLazyManyToOneSelfReference first = new EntityWithLazyManyToOneSelfReference( 1, "first", 1 );
+					session.persist( first );
+					session.persist( new EntityWithLazyManyToOneSelfReference( 2, "second", 2, first ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.remove( session.get( EntityWithLazyManyToOneSelfReference.class, 2 ) );
+					session.remove( session.get( EntityWithLazyManyToOneSelfReference.class, 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testAppliedGraphKey(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final AppliedGraphKey fetchOther = key( otherGraph( session ), GraphSemantic.FETCH );
+					assertThat( key( otherGraph( session ), GraphSemantic.FETCH ), is( fetchOther ) );
+					assertThat( key( otherGraph( session ), GraphSemantic.LOAD ), not( fetchOther ) );
+
+					final RootGraph<EntityWithLazyManyToOneSelfReference> nameGraph = session.createEntityGraph(
+							EntityWithLazyManyToOneSelfReference.class
+					);
+					nameGraph.addAttributeNodes( "name" );
+					assertThat( key( nameGraph, GraphSemantic.FETCH ), not( fetchOther ) );
+
+					// the order in which the nodes are added does not matter
+					final RootGraph<EntityWithLazyManyToOneSelfReference> bothGraph = session.createEntityGraph(
+							EntityWithLazyManyToOneSelfReference.class
+					);
+					bothGraph.addAttributeNodes( "name", "other" );
+					final RootGraph<EntityWithLazyManyToOneSelfReference> reversedGraph = session.createEntityGraph(
+							EntityWithLazyManyToOneSelfReference.class
+					);
+					reversedGraph.addAttributeNodes( "other", "name" );
+					assertThat( key( reversedGraph, GraphSemantic.FETCH ), is( key( bothGraph, GraphSemantic.FETCH ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testPlanIsSharedByEqualGraphs(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+
+		scope.inTransaction(
+				session -> {
+					final EntityWithLazyManyToOneSelfReference second = session.createQuery( QUERY, EntityWithLazyManyToOneSelfReference.class )
+							.setParameter( "id", 2 )
+							.applyFetchGraph( otherGraph( session ) )
+							.uniqueResult();
+					assertThat( Hibernate.isInitialized( second.getOther() ), is( true ) );
+				}
+		);
+
+		final int numberOfCachedQueryPlans = interpretationCache.getNumberOfCachedQueryPlans();
+
+		scope.inTransaction(
+				session -> {
+					// a new, equal, graph
+					final EntityWithLazyManyToOneSelfReference second = session.createQuery( QUERY, EntityWithLazyManyToOneSelfReference.class )
+							.setParameter( "id", 2 )
+							.applyFetchGraph( otherGraph( session ) )
+							.uniqueResult();
+					assertThat( Hibernate.isInitialized( second.getOther() ), is( true ) );
+				}
+		);
+
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( numberOfCachedQueryPlans ) );
+
+		scope.inTransaction(
+				session -> {
+					// the same graph under another semantic
+					session.createQuery( QUERY, EntityWithLazyManyToOneSelfReference.class )
+							.setParameter( "id", 2 )
+							.applyLoadGraph( otherGraph( session ) )
+							.uniqueResult();
+				}
+		);
+
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( numberOfCachedQueryPlans + 1 ) );
+	}
+
+	private static RootGraph<EntityWithLazyManyToOneSelfReference> otherGraph(Session session) {
+		final RootGraph<EntityWithLazyManyToOneSelfReference> graph = session.createEntityGraph(
+				EntityWithLazyManyToOneSelfReference.class
+		);
+		graph.addAttributeNodes( "other" );
+		return graph;
+	}
+
+	private static AppliedGraphKey key(RootGraph<?> graph, GraphSemantic semantic) {
+		final QueryOptionsImpl queryOptions = new QueryOptionsImpl();
+		queryOptions.applyGraph( (RootGraphImplementor<?>) graph, semantic );
+		return AppliedGraphKey.from( queryOptions );
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.query.InClauseParameterExpansion;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Tests for the {@link InClauseParameterExpansion} modes
+ */
+@DomainModel( annotatedClasses = InClauseParameterExpansionTests.Item.class )
+@ServiceRegistry
+@SessionFactory( exportSchema = true, statementInspectorClass = SQLStatementInspector.class )
+public class InClauseParameterExpansionTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Item( i, "item #" + i ) );
+					}
+				}
+		);
+		SQLStatementInspector.extract( scope ).clear();
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testExpand(SessionFactoryScope scope) {
+		final List<Item> items = find( scope, InClauseParameterExpansion.EXPAND, false, 1, 2, 3 );
+		assertThat( items, hasSize( 3 ) );
+		assertThat( SQLStatementInspector.extract( scope ).getLastSqlQuery(), containsString( "in (?, ?, ?)" ) );
+	}
+
+	@Test
+	public void testPad(SessionFactoryScope scope) {
+		final List<Item> items = find( scope, InClauseParameterExpansion.PAD, false, 1, 2, 3 );
+		assertThat( items, hasSize( 3 ) );
+		assertThat( SQLStatementInspector.extract( scope ).getLastSqlQuery(), containsString( "in (?, ?, ?, ?)" ) );
+
+		find( scope, InClauseParameterExpansion.PAD, false, 1, 2, 3, 4, 5 );
+		assertThat( SQLStatementInspector.extract( scope ).getLastSqlQuery(), containsString( "in (?, ?, ?, ?, ?, ?, ?, ?)" ) );
+	}
+
+	@Test
+	public void testPaddedPlansAreCached(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+
+		assertThat( find( scope, InClauseParameterExpansion.PAD, false, 1, 2, 3, 4, 5 ), hasSize( 5 ) );
+		final int cachedPlans = interpretationCache.getNumberOfCachedQueryPlans();
+
+		// padded to the same number of parameters as 5 values
+		assertThat( find( scope, InClauseParameterExpansion.PAD, false, 1, 2, 3, 4, 5, 6, 7 ), hasSize( 7 ) );
+		assertThat( find( scope, InClauseParameterExpansion.PAD, false, 2, 4, 6, 8, 10, 1 ), hasSize( 6 ) );
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( cachedPlans ) );
+
+		// padded to 16 parameters
+		assertThat( find( scope, InClauseParameterExpansion.PAD, false, 1, 2, 3, 4, 5, 6, 7, 8, 9 ), hasSize( 9 ) );
+		assertThat( SQLStatementInspector.extract( scope ).getLastSqlQuery(), containsString( "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)" ) );
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( cachedPlans + 1 ) );
+
+		// a different mode is a different plan, even for the same number of parameters
+		assertThat( find( scope, InClauseParameterExpansion.EXPAND, false, 1, 2, 3, 4, 5, 6, 7, 8 ), hasSize( 8 ) );
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( cachedPlans + 2 ) );
+	}
+
+	@Test
+	public void testPadNegated(SessionFactoryScope scope) {
+		final List<Item> items = find( scope, InClauseParameterExpansion.PAD, true, 1, 2, 3 );
+		assertThat( items, hasSize( 7 ) );
+		assertThat( SQLStatementInspector.extract( scope ).getLastSqlQuery(), containsString( "not in (?, ?, ?, ?)" ) );
+	}
+
+	@Test
+	@RequiresDialect( H2Dialect.class )
+	@RequiresDialect( PostgreSQL81Dialect.class )
+	public void testArray(SessionFactoryScope scope) {
+		final List<Item> items = find( scope, InClauseParameterExpansion.ARRAY, false, 2, 4, 6, 8, 10 );
+		assertThat( items, hasSize( 5 ) );
+		assertThat( SQLStatementInspector.extract( scope ).getLastSqlQuery(), not( containsString( "?, ?" ) ) );
+
+		final List<Item> others = find( scope, InClauseParameterExpansion.ARRAY, true, 2, 4, 6, 8, 10 );
+		assertThat( others, hasSize( 5 ) );
+		assertThat( SQLStatementInspector.extract( scope ).getLastSqlQuery(), not( containsString( "?, ?" ) ) );
+	}
+
+	@Test
+	public void testPlanUsedConcurrently(SessionFactoryScope scope) throws Exception {
+		final int threadCount = 8;
+		final ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			for ( int round = 0; round < 20; round++ ) {
+				// a query not yet translated, so that all threads race to use its new plan
+				final String hql = "select i from Item i where i.id in (:ids) and i.id > " + ( -round );
+				final CyclicBarrier barrier = new CyclicBarrier( threadCount );
+				final List<Future<List<?>>> results = new ArrayList<>();
+				for ( int i = 0; i < threadCount; i++ ) {
+					final int first = 1 + i % 8;
+					results.add(
+							executor.submit(
+									() -> {
+										barrier.await( 10, TimeUnit.SECONDS );
+										return scope.fromTransaction(
+												session -> session.createQuery( hql )
+														.setParameterList( "ids", Arrays.asList( first, first + 1, first + 2 ) )
+														.list()
+										);
+									}
+							)
+					);
+				}
+				for ( Future<List<?>> result : results ) {
+					assertThat( result.get( 30, TimeUnit.SECONDS ), hasSize( 3 ) );
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Item> find(
+			SessionFactoryScope scope,
+			InClauseParameterExpansion expansion,
+			boolean negated,
+			Integer... ids) {
+		return scope.fromTransaction(
+				session -> session.createQuery( "select i from Item i where i.id " + ( negated ? "not in" : "in" ) + " (:ids)" )
+						.setParameterList( "ids", Arrays.asList( ids ) )
+						.setHint( QueryHints.IN_CLAUSE_PARAMETER_EXPANSION, expansion.name() )
+						.list()
+		);
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
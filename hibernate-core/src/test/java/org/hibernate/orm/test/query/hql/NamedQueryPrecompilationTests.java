@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_PLAN_CACHE_PRECOMPILE_NAMED_QUERIES}
+ */
+@DomainModel( annotatedClasses = NamedQueryPrecompilationTests.Book.class )
+@ServiceRegistry(
+		settings = @ServiceRegistry.Setting( name = AvailableSettings.QUERY_PLAN_CACHE_PRECOMPILE_NAMED_QUERIES, value = "true" )
+)
+@SessionFactory( exportSchema = true )
+public class NamedQueryPrecompilationTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Book( 1, "Dune" ) );
+					session.persist( new Book( 2, "Emma" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testNamedQueriesArePrecompiled(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+
+		final int numberOfCachedQueryPlans = interpretationCache.getNumberOfCachedQueryPlans();
+		// the untyped and typed plans of both distinct select queries
+		assertThat( numberOfCachedQueryPlans, is( 4 ) );
+
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createNamedQuery( "Book.all", Book.class ).list();
+					assertThat( books.size(), is( 2 ) );
+
+					final List<Book> sameBooks = session.createNamedQuery( "Book.list", Book.class ).list();
+					assertThat( sameBooks.size(), is( 2 ) );
+
+					final List<String> titles = session.createNamedQuery( "Book.titleById", String.class )
+							.setParameter( "id", 1 )
+							.list();
+					assertThat( titles, contains( "Dune" ) );
+
+					final List<?> untypedTitles = session.createNamedQuery( "Book.titleById" )
+							.setParameter( "id", 2 )
+							.list();
+					assertThat( untypedTitles, contains( "Emma" ) );
+				}
+		);
+
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( numberOfCachedQueryPlans ) );
+	}
+
+	@Test
+	public void testPrecompiledPlanIsSharedWithHql(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		final int numberOfCachedQueryPlans = interpretationCache.getNumberOfCachedQueryPlans();
+
+		scope.inTransaction(
+				session -> {
+					final List<String> titles = session.createQuery( "select b.title from Book b where b.id = :id", String.class )
+							.setParameter( "id", 2 )
+							.list();
+					assertThat( titles, contains( "Emma" ) );
+
+					final List<String> namedTitles = session.createNamedQuery( "Book.titleById", String.class )
+							.setParameter( "id", 1 )
+							.list();
+					assertThat( namedTitles, containsInAnyOrder( "Dune" ) );
+				}
+		);
+
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( numberOfCachedQueryPlans ) );
+	}
+
+	@Entity( name = "Book" )
+	@Table( name = "book" )
+	@NamedQueries( {
+			@NamedQuery( name = "Book.all", query = "select b from Book b" ),
+			@NamedQuery( name = "Book.list", query = "select b from Book b" ),
+			@NamedQuery( name = "Book.titleById", query = "select b.title from Book b where b.id = :id" ),
+			@NamedQuery( name = "Book.deleteAll", query = "delete Book" )
+	} )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -6,15 +6,22 @@
  */
 package org.hibernate.orm.test.query.hql;
 
+import java.util.List;
+
 import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
 
 import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
 import org.hibernate.testing.orm.junit.DomainModel;
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.SessionFactory;
 import org.hibernate.testing.orm.junit.SessionFactoryScope;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hibernate.orm.test.query.sqm.BaseSqmUnitTest.interpretSelect;
 
 /**
@@ -51,4 +58,51 @@ public class PagingTests {
 	public void testPagingOnSubQuery(SessionFactoryScope scope) {
 		interpretSelect( "select o from SimpleEntity o where o.someString = ( select oSub.someString from SimpleEntity oSub order by oSub.someString limit 1 )", scope.getSessionFactory() );
 	}
+
+	@Test
+	public void testPagingByQueryOptions(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 5; i++ ) {
+						session.persist( new BasicEntity( i, "entity " + i ) );
+					}
+				}
+		);
+
+		try {
+			scope.inTransaction(
+					session -> {
+						final String hql = "select e.id from BasicEntity e order by e.id";
+
+						final List<Integer> firstPage = session.createQuery( hql, Integer.class )
+								.setMaxResults( 2 )
+								.list();
+						assertThat( firstPage, contains( 1, 2 ) );
+
+						final int numberOfCachedQueryPlans = interpretationCache.getNumberOfCachedQueryPlans();
+
+						final List<Integer> secondPage = session.createQuery( hql, Integer.class )
+								.setFirstResult( 2 )
+								.setMaxResults( 2 )
+								.list();
+						assertThat( secondPage, contains( 3, 4 ) );
+
+						final List<Integer> lastPage = session.createQuery( hql, Integer.class )
+								.setFirstResult( 4 )
+								.list();
+						assertThat( lastPage, contains( 5 ) );
+
+						// the plan is cached independently of the limit values
+						assertThat( interpretationCache.getNumberOfCachedQueryPlans(), is( numberOfCachedQueryPlans ) );
+					}
+			);
+		}
+		finally {
+			scope.inTransaction( session -> session.createQuery( "delete BasicEntity" ).executeUpdate() );
+		}
+	}
 }
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.sql;
+
+import java.util.List;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.sql.results.spi.JdbcValuesMapping;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Tests for native queries defining no result mapping
+ */
+@DomainModel( standardModels = StandardDomainModel.GAMBIT )
+@ServiceRegistry
+@SessionFactory( exportSchema = true )
+public class NativeQueryUndefinedResultMappingTests {
+	private static final String SQL = "select id, data from BasicEntity order by id";
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new BasicEntity( 1, "first" ) );
+					session.persist( new BasicEntity( 2, "second" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testScalars(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Object[]> rows = session.createNativeQuery( SQL ).list();
+					assertThat( rows, hasSize( 2 ) );
+					assertThat( rows.get( 0 )[0], is( 1 ) );
+					assertThat( rows.get( 0 )[1], is( "first" ) );
+					assertThat( rows.get( 1 )[0], is( 2 ) );
+					assertThat( rows.get( 1 )[1], is( "second" ) );
+
+					final List<Object> datas = session.createNativeQuery( "select data from BasicEntity order by id" ).list();
+					assertThat( datas, hasSize( 2 ) );
+					assertThat( datas.get( 0 ), instanceOf( String.class ) );
+					assertThat( datas.get( 1 ), is( "second" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testMappingIsCached(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+
+		scope.inTransaction( session -> session.createNativeQuery( SQL ).list() );
+		final JdbcValuesMapping mapping = interpretationCache.getUndefinedJdbcValuesMapping( SQL );
+		assertThat( mapping, notNullValue() );
+		assertThat( mapping.getSqlSelections(), hasSize( 2 ) );
+
+		scope.inTransaction( session -> session.createNativeQuery( SQL ).list() );
+		assertThat( interpretationCache.getUndefinedJdbcValuesMapping( SQL ), sameInstance( mapping ) );
+	}
+}
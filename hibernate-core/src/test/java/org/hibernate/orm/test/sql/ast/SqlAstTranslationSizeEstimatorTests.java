@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.ast;
+
+import org.hibernate.sql.ast.spi.SqlAstTranslationSizeEstimator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+
+public class SqlAstTranslationSizeEstimatorTests {
+	@Test
+	public void testEstimateGrowsImmediately() {
+		final SqlAstTranslationSizeEstimator estimator = new SqlAstTranslationSizeEstimator();
+		assertThat( estimator.getSqlLength(), is( SqlAstTranslationSizeEstimator.DEFAULT_SQL_LENGTH ) );
+
+		estimator.translated( 1000, 20 );
+		assertThat( estimator.getSqlLength(), is( 1000 ) );
+		assertThat( estimator.getParameterCount(), is( 20 ) );
+	}
+
+	@Test
+	public void testEstimateDecaysSlowly() {
+		final SqlAstTranslationSizeEstimator estimator = new SqlAstTranslationSizeEstimator();
+		estimator.translated( 2000, 40 );
+		estimator.translated( 300, 2 );
+
+		assertThat( estimator.getSqlLength(), lessThan( 2000 ) );
+		assertThat( estimator.getSqlLength(), greaterThan( 1500 ) );
+
+		for ( int i = 0; i < 1000; i++ ) {
+			estimator.translated( 10, 0 );
+		}
+		assertThat( estimator.getSqlLength(), is( SqlAstTranslationSizeEstimator.DEFAULT_SQL_LENGTH ) );
+		assertThat( estimator.getParameterCount(), is( SqlAstTranslationSizeEstimator.DEFAULT_PARAMETER_COUNT ) );
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for the second-level cache eviction of single-table HQL UPDATE and DELETE statements
+ */
+@DomainModel( annotatedClasses = HqlBulkCacheEvictionTests.CachedItem.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.TARGETED_BULK_EVICTION_LIMIT, value = "2" )
+		}
+)
+@SessionFactory( exportSchema = true )
+public class HqlBulkCacheEvictionTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new CachedItem( 1, "first" ) );
+					session.persist( new CachedItem( 2, "second" ) );
+					session.persist( new CachedItem( 3, "third" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete CachedItem" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testUpdateEvictsAffectedEntries(SessionFactoryScope scope) {
+		assertCached( scope, true, true, true );
+
+		scope.inTransaction(
+				session -> {
+					final int rows = session.createQuery( "update CachedItem set name = :name where id = :id" )
+							.setParameter( "name", "updated" )
+							.setParameter( "id", 2 )
+							.executeUpdate();
+					assertThat( rows, is( 1 ) );
+				}
+		);
+
+		assertCached( scope, true, false, true );
+	}
+
+	@Test
+	public void testDeleteEvictsAffectedEntries(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final int rows = session.createQuery( "delete CachedItem where id < :id" )
+							.setParameter( "id", 3 )
+							.executeUpdate();
+					assertThat( rows, is( 2 ) );
+				}
+		);
+
+		assertCached( scope, false, false, true );
+	}
+
+	@Test
+	public void testRegionIsEvictedAboveLimit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new CachedItem( 4, "fourth" ) ) );
+		assertCached( scope, true, true, true, true );
+
+		scope.inTransaction(
+				session -> {
+					final int rows = session.createQuery( "update CachedItem set name = :name where id between 2 and 3" )
+							.setParameter( "name", "updated" )
+							.executeUpdate();
+					assertThat( rows, is( 2 ) );
+				}
+		);
+		assertCached( scope, true, false, false, true );
+
+		scope.inTransaction(
+				session -> {
+					final int rows = session.createQuery( "update CachedItem set name = :name where id > 1" )
+							.setParameter( "name", "updated" )
+							.executeUpdate();
+					assertThat( rows, is( 3 ) );
+				}
+		);
+		// the whole region, including the entry of the row which was not updated
+		assertCached( scope, false, false, false, false );
+	}
+
+	private static void assertCached(SessionFactoryScope scope, boolean... expected) {
+		for ( int i = 0; i < expected.length; i++ ) {
+			assertThat( "CachedItem#" + ( i + 1 ), isCached( scope, i + 1 ), is( expected[i] ) );
+		}
+	}
+
+	private static boolean isCached(SessionFactoryScope scope, Integer id) {
+		// the entries of read-write regions are replaced by locks when evicted, so check what can be read
+		return scope.fromSession(
+				session -> {
+					final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( CachedItem.class );
+					final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+					final Object cacheKey = cacheAccess.generateCacheKey( id, persister, session.getFactory(), null );
+					return cacheAccess.get( session, cacheKey ) != null;
+				}
+		);
+	}
+
+	@Entity( name = "CachedItem" )
+	@Table( name = "cached_item" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class CachedItem {
+		@Id
+		private Integer id;
+		private String name;
+
+		public CachedItem() {
+		}
+
+		public CachedItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedConcurrentMap;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import org.jboss.logging.Logger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Contention benchmark comparing {@link BoundedConcurrentMap} with the LIRS flavor of
+ * {@link BoundedConcurrentHashMap}, using the access pattern of the query plan cache: mostly
+ * reads of a skewed set of keys which almost all fit in the cache, plus occasional misses.
+ * <p/>
+ * Disabled as it runs for minutes: enable it locally, on a machine with many cores, and compare
+ * the logged throughputs.
+ */
+@Disabled( "Benchmark, to be run manually" )
+public class BoundedConcurrentMapContentionTests {
+	private static final Logger log = Logger.getLogger( BoundedConcurrentMapContentionTests.class );
+
+	private static final int CACHE_SIZE = 2048;
+	private static final int KEY_SPACE = 2560;
+	private static final int KEYS_MASK = 4095;
+	private static final long WARMUP_MILLIS = 2000;
+	private static final long MEASURE_MILLIS = 5000;
+
+	@Test
+	public void testContention() throws Exception {
+		final int maxThreads = Runtime.getRuntime().availableProcessors();
+
+		for ( int threads = 1; threads <= maxThreads; threads *= 2 ) {
+			final double lirs = run(
+					() -> new BoundedConcurrentHashMap<>( CACHE_SIZE, 20, BoundedConcurrentHashMap.Eviction.LIRS ),
+					threads
+			);
+			final double buffered = run( () -> new BoundedConcurrentMap<>( CACHE_SIZE ), threads );
+			log.infof(
+					"%3d threads : BoundedConcurrentHashMap(LIRS) %,12.0f ops/s   BoundedConcurrentMap %,12.0f ops/s   x%.2f",
+					threads,
+					lirs,
+					buffered,
+					buffered / lirs
+			);
+		}
+	}
+
+	private static double run(Supplier<Map<Integer, Integer>> mapSupplier, int threadCount) throws Exception {
+		final Map<Integer, Integer> map = mapSupplier.get();
+		final Integer[] keys = skewedKeys();
+		for ( int i = 0; i < CACHE_SIZE; i++ ) {
+			map.put( i, i );
+		}
+
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final AtomicBoolean measuring = new AtomicBoolean();
+		final AtomicBoolean done = new AtomicBoolean();
+		final LongAdder operations = new LongAdder();
+		final List<Thread> threads = new ArrayList<>();
+
+		for ( int t = 0; t < threadCount; t++ ) {
+			final Thread thread = new Thread(
+					() -> {
+						try {
+							start.await();
+						}
+						catch (InterruptedException e) {
+							return;
+						}
+						int index = ThreadLocalRandom.current().nextInt();
+						long count = 0;
+						while ( !done.get() ) {
+							final Integer key = keys[( index++ ) & KEYS_MASK];
+							if ( map.get( key ) == null ) {
+								map.put( key, key );
+							}
+							if ( ( ++count & 1023 ) == 0 && measuring.get() ) {
+								operations.add( 1024 );
+							}
+						}
+					}
+			);
+			threads.add( thread );
+			thread.start();
+		}
+
+		start.countDown();
+		Thread.sleep( WARMUP_MILLIS );
+		measuring.set( true );
+		Thread.sleep( MEASURE_MILLIS );
+		done.set( true );
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+
+		// the bound must hold under contention
+		assertThat( map.size(), lessThanOrEqualTo( CACHE_SIZE ) );
+		assertThat( operations.sum(), greaterThan( 0L ) );
+
+		return operations.sum() * 1000d / MEASURE_MILLIS;
+	}
+
+	/**
+	 * Zipf-like distribution over the key space
+	 */
+	private static Integer[] skewedKeys() {
+		final Integer[] keys = new Integer[KEYS_MASK + 1];
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		for ( int i = 0; i < keys.length; i++ ) {
+			final double u = random.nextDouble();
+			keys[i] = (int) ( KEY_SPACE * u * u * u );
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link BoundedConcurrentMap}
+ */
+public class BoundedConcurrentMapTests {
+	@Test
+	public void testBasicOperations() {
+		final BoundedConcurrentMap<String, Integer> map = new BoundedConcurrentMap<>( 10 );
+
+		assertThat( map.put( "a", 1 ), nullValue() );
+		assertThat( map.put( "a", 2 ), is( 1 ) );
+		assertThat( map.putIfAbsent( "a", 3 ), is( 2 ) );
+		assertThat( map.get( "a" ), is( 2 ) );
+
+		assertThat( map.replace( "b", 1 ), nullValue() );
+		assertThat( map.replace( "a", 2, 4 ), is( true ) );
+		assertThat( map.remove( "a", 2 ), is( false ) );
+		assertThat( map.remove( "a", 4 ), is( true ) );
+		assertThat( map.isEmpty(), is( true ) );
+
+		map.put( "c", 1 );
+		map.put( "d", 2 );
+		assertThat( map.keySet().size(), is( 2 ) );
+		map.clear();
+		assertThat( map.size(), is( 0 ) );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final BoundedConcurrentMap<Integer, Integer> map = new BoundedConcurrentMap<>( 100 );
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i );
+		}
+		assertThat( map.size(), is( 100 ) );
+		// least recently added entries go first
+		assertThat( map.get( 0 ), nullValue() );
+		assertThat( map.get( 999 ), is( 999 ) );
+	}
+
+	@Test
+	public void testEvictionListener() {
+		final List<Integer> evictedKeys = new ArrayList<>();
+		final BoundedConcurrentMap<Integer, Integer> map = new BoundedConcurrentMap<>(
+				10,
+				(key, value) -> evictedKeys.add( key )
+		);
+		for ( int i = 0; i < 15; i++ ) {
+			map.put( i, i );
+		}
+		// removals are not evictions
+		map.remove( 14 );
+		map.clear();
+
+		assertThat( evictedKeys.size(), is( 5 ) );
+		for ( int i = 0; i < 5; i++ ) {
+			assertThat( evictedKeys.get( i ), is( i ) );
+		}
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final BoundedConcurrentMap<Integer, Integer> map = new BoundedConcurrentMap<>( 100 );
+		for ( int i = 0; i < 10; i++ ) {
+			map.put( i, i );
+		}
+		// several reads, so the accesses are drained from the read buffers
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				map.get( i );
+			}
+		}
+
+		// a scan of keys used only once
+		for ( int i = 1000; i < 2000; i++ ) {
+			map.put( i, i );
+		}
+
+		assertThat( map.size(), is( 100 ) );
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( map.get( i ), notNullValue() );
+		}
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final int maximumSize = 64;
+		final BoundedConcurrentMap<Integer, Integer> map = new BoundedConcurrentMap<>( maximumSize );
+		final int threadCount = 8;
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final List<Thread> threads = new ArrayList<>();
+		final List<Throwable> failures = new ArrayList<>();
+
+		for ( int t = 0; t < threadCount; t++ ) {
+			final Thread thread = new Thread(
+					() -> {
+						try {
+							start.await();
+							final ThreadLocalRandom random = ThreadLocalRandom.current();
+							for ( int i = 0; i < 100_000; i++ ) {
+								final int key = random.nextInt( 256 );
+								final Integer value = map.get( key );
+								if ( value == null ) {
+									map.put( key, key );
+								}
+								else if ( value != key ) {
+									throw new AssertionError( "Unexpected value " + value + " for key " + key );
+								}
+								if ( i % 1000 == 0 ) {
+									map.remove( random.nextInt( 256 ) );
+								}
+							}
+						}
+						catch (Throwable e) {
+							synchronized ( failures ) {
+								failures.add( e );
+							}
+						}
+					}
+			);
+			threads.add( thread );
+			thread.start();
+		}
+
+		start.countDown();
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+
+		assertThat( failures.toString(), failures.isEmpty(), is( true ) );
+		// all pending writes are applied once the map is used again from a single thread
+		map.put( -1, -1 );
+		assertThat( map.size() <= maximumSize, is( true ) );
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompactCacheEntryTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class );
+		settings.put( AvailableSettings.USE_COMPACT_CACHE, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Test
+	public void testCompactCacheEntry() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		assertThat( persister.getCacheEntryStructure(), instanceOf( CompactCacheEntry.class ) );
+
+		inTransaction(
+				s -> s.save( new Product( 1L, "Widget", new BigDecimal( "12.50" ), LocalDate.of( 2020, 2, 29 ), Status.ACTIVE ) )
+		);
+
+		inSession(
+				s -> {
+					final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+					final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, sessionFactory(), null );
+					final Object cachedItem = cacheAccess.get( s, cacheKey );
+					assertThat( cachedItem, instanceOf( byte[].class ) );
+
+					final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure()
+							.destructure( cachedItem, sessionFactory() );
+					assertThat( entry.getSubclass(), is( Product.class.getName() ) );
+					assertArrayEquals(
+							new Serializable[] { LocalDate.of( 2020, 2, 29 ), "Widget", new BigDecimal( "12.50" ), Status.ACTIVE },
+							entry.getDisassembledState()
+					);
+
+					final byte[] serialized = SerializationHelper.serialize( entry.getDisassembledState() );
+					assertTrue( ( (byte[]) cachedItem ).length * 3 < serialized.length );
+
+					// entries written for another schema of the entity are ignored
+					final byte[] otherSchema = ( (byte[]) cachedItem ).clone();
+					otherSchema[1] ^= 0xFF;
+					assertThat( persister.getCacheEntryStructure().destructure( otherSchema, sessionFactory() ), nullValue() );
+				}
+		);
+
+		inTransaction(
+				s -> {
+					final Product product = s.get( Product.class, 1L );
+					assertThat( product, notNullValue() );
+					assertThat( product.getName(), is( "Widget" ) );
+					assertThat( product.getPrice(), is( new BigDecimal( "12.50" ) ) );
+					assertThat( product.getStatus(), is( Status.ACTIVE ) );
+				}
+		);
+
+		inTransaction( s -> s.createQuery( "delete Product" ).executeUpdate() );
+	}
+
+	public enum Status {
+		ACTIVE,
+		RETIRED
+	}
+
+	@Entity( name = "Product" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+		private BigDecimal price;
+		private LocalDate introduced;
+		@Enumerated( EnumType.STRING )
+		private Status status;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, BigDecimal price, LocalDate introduced, Status status) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.introduced = introduced;
+			this.status = status;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+	}
+}
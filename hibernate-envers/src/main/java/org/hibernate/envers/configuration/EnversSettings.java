@@ -109,6 +109,15 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_FIELD_NAME = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_field_name";
 
+	/**
+	 * Should the default audit strategy write audit rows directly through the insert SQL of the audit entities,
+	 * instead of saving them as entities of the session?  The rows then never become part of the persistence
+	 * context, and are inserted using JDBC batching when enabled.  Defaults to {@literal false}.
+	 *
+	 * @since 6.0
+	 */
+	String AUDIT_STRATEGY_USE_JDBC_WRITER = "org.hibernate.envers.audit_strategy_use_jdbc_writer";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
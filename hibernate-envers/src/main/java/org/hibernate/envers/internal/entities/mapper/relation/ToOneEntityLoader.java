@@ -11,8 +11,11 @@ import java.io.Serializable;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.persister.entity.EntityPersister;
 
+import static org.hibernate.envers.internal.tools.EntityTools.getTargetClassIfProxied;
+
 /**
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  */
@@ -36,6 +39,7 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			batchLoad( versionsReader, entityClass, entityName, entityId, revision, removed );
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -44,6 +48,46 @@ public final class ToOneEntityLoader {
 		}
 	}
 
+	/**
+	 * Loads the entity along with the entities referenced by other uninitialized proxies at the same revision,
+	 * up to the default batch fetch size, putting them into the first level cache.
+	 */
+	private static void batchLoad(
+			AuditReaderImplementor versionsReader,
+			Class<?> entityClass,
+			String entityName,
+			Object entityId,
+			Number revision,
+			boolean removed) {
+		final int batchSize = getBatchSize( versionsReader );
+		if ( batchSize <= 1 || versionsReader.getFirstLevelCache().contains( entityName, revision, entityId ) ) {
+			return;
+		}
+
+		final Object[] ids = versionsReader.getRelationBatchFetchQueue().getBatchLoadableEntityIds(
+				entityName,
+				revision,
+				removed,
+				entityId,
+				batchSize,
+				versionsReader.getFirstLevelCache()
+		);
+		if ( ids.length > 1 ) {
+			// The results are put into the cache by the entity instantiator called from the query
+			versionsReader.createQuery()
+					.forEntitiesAtRevision( getTargetClassIfProxied( entityClass ), entityName, revision, removed )
+					.add( AuditEntity.id().in( ids ) )
+					.getResultList();
+		}
+	}
+
+	private static int getBatchSize(AuditReaderImplementor versionsReader) {
+		return versionsReader.getSessionImplementor()
+				.getFactory()
+				.getSessionFactoryOptions()
+				.getDefaultBatchFetchSize();
+	}
+
 	/**
 	 * Creates proxy of referenced *-to-one entity.
 	 */
@@ -59,10 +103,21 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMetamodel()
 				.entityPersister( entityName );
-		return persister.createProxy(
+		final Object proxy = persister.createProxy(
 				(Serializable) entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
 		);
+		if ( getBatchSize( versionsReader ) > 1
+				&& enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null ) {
+			versionsReader.getRelationBatchFetchQueue().addBatchLoadableEntityId(
+					entityName,
+					revision,
+					removed,
+					entityId,
+					proxy
+			);
+		}
+		return proxy;
 	}
 
 	/**
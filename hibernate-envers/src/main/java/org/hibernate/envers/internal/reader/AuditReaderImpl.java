@@ -46,6 +46,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final RelationBatchFetchQueue relationBatchFetchQueue;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -57,6 +58,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		this.session = session;
 
 		firstLevelCache = new FirstLevelCache();
+		relationBatchFetchQueue = new RelationBatchFetchQueue();
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
 	}
 
@@ -81,6 +83,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return firstLevelCache;
 	}
 
+	@Override
+	public RelationBatchFetchQueue getRelationBatchFetchQueue() {
+		return relationBatchFetchQueue;
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
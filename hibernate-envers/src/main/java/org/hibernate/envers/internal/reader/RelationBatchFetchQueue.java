@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.envers.internal.tools.Triple;
+
+import static org.hibernate.envers.internal.tools.Tools.newHashMap;
+import static org.hibernate.envers.internal.tools.Triple.make;
+
+/**
+ * Tracks the ids of the historical entities referenced by uninitialized to-one proxies, versions reader-scoped,
+ * so that initializing one of the proxies can load the entities referenced by the others in the same query.
+ * The ids are grouped by entity name, revision and whether deletions are included, as only entities sharing
+ * these can be read by a single query.
+ * <p/>
+ * The proxies are only weakly referenced: the id of a proxy which was discarded without being initialized is
+ * no longer tracked, as the versions reader has no eviction or clearing of its own.
+ */
+public class RelationBatchFetchQueue {
+	private final Map<Triple<String, Number, Boolean>, Map<Object, PendingProxy>> pendingIds = newHashMap();
+	private final ReferenceQueue<Object> discardedProxies = new ReferenceQueue<>();
+
+	/**
+	 * Registers the id of an entity referenced by an uninitialized proxy.
+	 */
+	public void addBatchLoadableEntityId(String entityName, Number revision, boolean removed, Object id, Object proxy) {
+		removeDiscardedProxies();
+		final Triple<String, Number, Boolean> key = make( entityName, revision, removed );
+		pendingIds.computeIfAbsent( key, k -> new LinkedHashMap<>() )
+				.put( id, new PendingProxy( proxy, key, id, discardedProxies ) );
+	}
+
+	/**
+	 * Collects the ids to load along with the given one, which is always the first of the returned ids. The
+	 * returned ids are no longer tracked. Ids whose entity is already in the first level cache are skipped.
+	 *
+	 * @param batchSize maximum number of returned ids
+	 *
+	 * @return The ids to load
+	 */
+	public Object[] getBatchLoadableEntityIds(
+			String entityName,
+			Number revision,
+			boolean removed,
+			Object id,
+			int batchSize,
+			FirstLevelCache firstLevelCache) {
+		removeDiscardedProxies();
+		final List<Object> ids = new ArrayList<>();
+		ids.add( id );
+
+		final Triple<String, Number, Boolean> key = make( entityName, revision, removed );
+		final Map<Object, PendingProxy> pending = pendingIds.get( key );
+		if ( pending != null ) {
+			pending.remove( id );
+
+			final Iterator<Object> iterator = pending.keySet().iterator();
+			while ( iterator.hasNext() && ids.size() < batchSize ) {
+				final Object pendingId = iterator.next();
+				iterator.remove();
+				if ( !firstLevelCache.contains( entityName, revision, pendingId ) ) {
+					ids.add( pendingId );
+				}
+			}
+
+			if ( pending.isEmpty() ) {
+				pendingIds.remove( key );
+			}
+		}
+
+		return ids.toArray();
+	}
+
+	private void removeDiscardedProxies() {
+		PendingProxy discarded;
+		while ( ( discarded = (PendingProxy) discardedProxies.poll() ) != null ) {
+			final Map<Object, PendingProxy> pending = pendingIds.get( discarded.key );
+			// unless the id was since loaded, or registered again for another proxy
+			if ( pending != null && pending.remove( discarded.id, discarded ) && pending.isEmpty() ) {
+				pendingIds.remove( discarded.key );
+			}
+		}
+	}
+
+	private static class PendingProxy extends WeakReference<Object> {
+		private final Triple<String, Number, Boolean> key;
+		private final Object id;
+
+		private PendingProxy(
+				Object proxy,
+				Triple<String, Number, Boolean> key,
+				Object id,
+				ReferenceQueue<Object> discardedProxies) {
+			super( proxy, discardedProxies );
+			this.key = key;
+			this.id = id;
+		}
+	}
+}
@@ -125,6 +125,9 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
+
+		// the audit strategy may have written the audit rows directly, using JDBC batching
+		( (SessionImplementor) session ).getJdbcCoordinator().executeBatch();
 	}
 
 	public Object getCurrentRevisionData(Session session, boolean persist) {
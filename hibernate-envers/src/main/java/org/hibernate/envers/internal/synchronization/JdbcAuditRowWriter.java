@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Writes audit rows straight through the insert SQL of the audit entity persister, rather than saving
+ * them as entities of the session.  The audit data therefore never becomes part of the persistence context,
+ * and the inserts are added to the JDBC batch of their audit table when JDBC batching is enabled.
+ * <p>
+ * The revision entity is still saved through the session; it is inserted before the first audit row
+ * referencing it is written.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#AUDIT_STRATEGY_USE_JDBC_WRITER
+ */
+public class JdbcAuditRowWriter {
+	/**
+	 * Writes the given audit data.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param auditEntityName Name of the audit entity.
+	 * @param data Audit data to write.
+	 * @param revision Revision data the audit data refers to.
+	 */
+	public void write(Session session, String auditEntityName, Object data, Object revision) {
+		final SessionImplementor sessionImplementor = (SessionImplementor) session;
+		ensureRevisionInserted( sessionImplementor, revision );
+
+		final EntityPersister persister = sessionImplementor.getFactory()
+				.getMetamodel()
+				.entityPersister( auditEntityName );
+		final Object id = persister.getIdentifier( data, sessionImplementor );
+		final Object[] state = persister.getPropertyValues( data );
+
+		persister.insert( id, state, data, sessionImplementor );
+	}
+
+	private void ensureRevisionInserted(SessionImplementor session, Object revision) {
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( revision );
+		if ( entry != null && !entry.isExistsInDatabase() ) {
+			// the revision insert is still queued (e.g. sequence-generated revision numbers)
+			session.getActionQueue().executeInserts();
+		}
+	}
+}
@@ -6,7 +6,10 @@
  */
 package org.hibernate.envers.query.criteria;
 
+import java.util.Collection;
+
 import org.hibernate.envers.query.criteria.internal.IdentifierEqAuditExpression;
+import org.hibernate.envers.query.criteria.internal.IdentifierInAuditExpression;
 import org.hibernate.envers.query.internal.property.EntityPropertyName;
 import org.hibernate.envers.query.internal.property.PropertyNameGetter;
 
@@ -44,6 +47,22 @@ public class AuditId<T> extends AuditProperty<T> {
 		return new IdentifierEqAuditExpression( alias, id, false );
 	}
 
+	/**
+	 * Apply an "in" constraint
+	 */
+	@Override
+	public AuditCriterion in(T[] ids) {
+		return new IdentifierInAuditExpression( alias, ids );
+	}
+
+	/**
+	 * Apply an "in" constraint
+	 */
+	@Override
+	public AuditCriterion in(Collection ids) {
+		return new IdentifierInAuditExpression( alias, ids.toArray() );
+	}
+
 	// Projections
 
 	@Override
@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.query.criteria.internal;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+
+/**
+ * A criterion that expresses that the id of an entity is equal to one of the specified values.
+ */
+public class IdentifierInAuditExpression extends AbstractAtomicExpression {
+	private final Object[] ids;
+
+	public IdentifierInAuditExpression(String alias, Object[] ids) {
+		super( alias );
+		this.ids = ids;
+	}
+
+	@Override
+	protected void addToQuery(
+			EnversService enversService,
+			AuditReaderImplementor versionsReader,
+			String entityName,
+			String alias,
+			QueryBuilder qb,
+			Parameters parameters) {
+		final String prefix = enversService.getAuditEntitiesConfiguration().getOriginalIdPropName();
+		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+
+		// each id is matched as a group, so that composite ids compare all of their columns
+		final Parameters disjunction = parameters.addSubParameters( Parameters.OR );
+		for ( Object id : ids ) {
+			idMapper.addIdEqualsToQuery( disjunction.addSubParameters( Parameters.AND ), id, alias, prefix, true );
+		}
+	}
+}
@@ -7,15 +7,21 @@
 package org.hibernate.envers.strategy.internal;
 
 import org.hibernate.Session;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.envers.configuration.EnversSettings;
 import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.configuration.internal.GlobalConfiguration;
+import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.synchronization.JdbcAuditRowWriter;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
+import org.hibernate.service.ServiceRegistry;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS_DEF_AUD_STR;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
@@ -24,6 +30,9 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * Default implementation of the {@link org.hibernate.envers.strategy.spi.AuditStrategy} contract.
  * <p>
  * This strategy handles the persistence of audit entity data in a very simplistic way.
+ * <p>
+ * Unless {@link EnversSettings#AUDIT_STRATEGY_USE_JDBC_WRITER} is enabled, the audit data is saved
+ * as entities of the session.
  *
  * @author Adam Warski
  * @author Stephanie Pau
@@ -31,11 +40,27 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  */
 public class DefaultAuditStrategy implements AuditStrategy {
 	private final SessionCacheCleaner sessionCacheCleaner;
+	private JdbcAuditRowWriter jdbcAuditRowWriter;
 
 	public DefaultAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
 
+	@Override
+	public void postInitialize(
+			Class<?> revisionInfoClass,
+			PropertyData timestampData,
+			ServiceRegistry serviceRegistry) {
+		final boolean useJdbcWriter = serviceRegistry.getService( ConfigurationService.class ).getSetting(
+				EnversSettings.AUDIT_STRATEGY_USE_JDBC_WRITER,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		if ( useJdbcWriter ) {
+			jdbcAuditRowWriter = new JdbcAuditRowWriter();
+		}
+	}
+
 	@Override
 	public void perform(
 			Session session,
@@ -44,8 +69,14 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Object id,
 			Object data,
 			Object revision) {
-		session.save( auditEntitiesConfiguration.getAuditEntityName( entityName ), data );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		final String auditEntityName = auditEntitiesConfiguration.getAuditEntityName( entityName );
+		if ( jdbcAuditRowWriter != null ) {
+			jdbcAuditRowWriter.write( session, auditEntityName, data, revision );
+		}
+		else {
+			session.save( auditEntityName, data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
 	}
 
 	@Override
@@ -56,8 +87,18 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			AuditEntitiesConfiguration auditEntitiesConfiguration,
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision) {
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		if ( jdbcAuditRowWriter != null ) {
+			jdbcAuditRowWriter.write(
+					session,
+					persistentCollectionChangeData.getEntityName(),
+					persistentCollectionChangeData.getData(),
+					revision
+			);
+		}
+		else {
+			session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		}
 	}
 
 	/**
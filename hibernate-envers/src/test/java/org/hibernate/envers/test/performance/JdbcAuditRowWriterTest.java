@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.performance;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.envers.test.BaseEnversFunctionalTestCase;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests writing the audit rows of the default audit strategy through JDBC, without saving them in the session.
+ */
+public class JdbcAuditRowWriterTest extends BaseEnversFunctionalTestCase {
+	private static final String STR_AUDIT_ENTITY_NAME = "org.hibernate.envers.test.entities.StrTestEntity_AUD";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {StrTestEntity.class, SetRefEdEntity.class, SetRefIngEntity.class};
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+
+		settings.put( EnversSettings.AUDIT_STRATEGY_USE_JDBC_WRITER, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Test
+	public void testAuditRowsAreWritten() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		final StrTestEntity first = new StrTestEntity( "first" );
+		final StrTestEntity second = new StrTestEntity( "second" );
+		session.persist( first );
+		session.persist( second );
+		session.getTransaction().commit();
+
+		session.getTransaction().begin();
+		first.setStr( "first modified" );
+		session.getTransaction().commit();
+		session.close();
+
+		Assert.assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, first.getId() ) );
+		Assert.assertEquals( Arrays.asList( 1 ), getAuditReader().getRevisions( StrTestEntity.class, second.getId() ) );
+		Assert.assertEquals( "first", getAuditReader().find( StrTestEntity.class, first.getId(), 1 ).getStr() );
+		Assert.assertEquals( "first modified", getAuditReader().find( StrTestEntity.class, first.getId(), 2 ).getStr() );
+	}
+
+	@Test
+	public void testAuditRowsAreNotManaged() {
+		final boolean expectManaged = ValidityAuditStrategy.class.getName().equals( getAuditStrategy() );
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		session.persist( new StrTestEntity( "data" ) );
+		session.flush();
+
+		// runs after the audit process, but before the audit data is evicted from the session
+		( (SessionImplementor) session ).getActionQueue().registerProcess(
+				sessionImplementor -> Assert.assertEquals(
+						expectManaged,
+						containsEntityOf( sessionImplementor, STR_AUDIT_ENTITY_NAME )
+				)
+		);
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private static boolean containsEntityOf(SessionImplementor session, String entityName) {
+		for ( Map.Entry<Object, EntityEntry> entry : session.getPersistenceContext().reentrantSafeEntityEntries() ) {
+			if ( entityName.equals( entry.getValue().getEntityName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
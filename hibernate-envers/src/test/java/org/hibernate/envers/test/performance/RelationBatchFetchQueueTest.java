@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.performance;
+
+import java.lang.ref.WeakReference;
+
+import org.hibernate.envers.internal.reader.FirstLevelCache;
+import org.hibernate.envers.internal.reader.RelationBatchFetchQueue;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the tracking of the ids referenced by uninitialized audited to-one proxies.
+ */
+public class RelationBatchFetchQueueTest extends BaseUnitTestCase {
+	private static final String ENTITY_NAME = "Referenced";
+
+	@Test
+	public void testIdsAreBatchedPerEntityRevisionAndDeletionMode() {
+		final RelationBatchFetchQueue queue = new RelationBatchFetchQueue();
+		final Object[] proxies = { new Object(), new Object(), new Object(), new Object(), new Object() };
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, 1, proxies[0] );
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, 2, proxies[1] );
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, 3, proxies[2] );
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 2, false, 4, proxies[3] );
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, true, 5, proxies[4] );
+
+		final FirstLevelCache firstLevelCache = new FirstLevelCache();
+		Assert.assertArrayEquals(
+				new Object[] { 2, 1 },
+				queue.getBatchLoadableEntityIds( ENTITY_NAME, 1, false, 2, 2, firstLevelCache )
+		);
+		// the returned ids are no longer tracked
+		Assert.assertArrayEquals(
+				new Object[] { 3 },
+				queue.getBatchLoadableEntityIds( ENTITY_NAME, 1, false, 3, 2, firstLevelCache )
+		);
+		Assert.assertArrayEquals(
+				new Object[] { 4 },
+				queue.getBatchLoadableEntityIds( ENTITY_NAME, 2, false, 4, 2, firstLevelCache )
+		);
+		Assert.assertArrayEquals(
+				new Object[] { 5 },
+				queue.getBatchLoadableEntityIds( ENTITY_NAME, 1, true, 5, 2, firstLevelCache )
+		);
+	}
+
+	@Test
+	public void testCachedEntitiesAreSkipped() {
+		final RelationBatchFetchQueue queue = new RelationBatchFetchQueue();
+		final Object[] proxies = { new Object(), new Object(), new Object() };
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, 1, proxies[0] );
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, 2, proxies[1] );
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, 3, proxies[2] );
+
+		final FirstLevelCache firstLevelCache = new FirstLevelCache();
+		firstLevelCache.put( ENTITY_NAME, 1, 2, new Object() );
+		Assert.assertArrayEquals(
+				new Object[] { 1, 3 },
+				queue.getBatchLoadableEntityIds( ENTITY_NAME, 1, false, 1, 10, firstLevelCache )
+		);
+	}
+
+	@Test
+	public void testIdsOfDiscardedProxiesAreForgotten() throws InterruptedException {
+		final RelationBatchFetchQueue queue = new RelationBatchFetchQueue();
+		final Object initializedProxy = new Object();
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, 1, initializedProxy );
+		final WeakReference<Object> discardedProxy = addDiscardedProxy( queue, 2 );
+
+		for ( int i = 0; i < 50 && discardedProxy.get() != null; i++ ) {
+			System.gc();
+			Thread.sleep( 10 );
+		}
+		Assert.assertNull( "The discarded proxy was not garbage collected", discardedProxy.get() );
+
+		Assert.assertArrayEquals(
+				new Object[] { 1 },
+				queue.getBatchLoadableEntityIds( ENTITY_NAME, 1, false, 1, 10, new FirstLevelCache() )
+		);
+	}
+
+	private static WeakReference<Object> addDiscardedProxy(RelationBatchFetchQueue queue, Object id) {
+		final Object proxy = new Object();
+		queue.addBatchLoadableEntityId( ENTITY_NAME, 1, false, id, proxy );
+		return new WeakReference<>( proxy );
+	}
+}
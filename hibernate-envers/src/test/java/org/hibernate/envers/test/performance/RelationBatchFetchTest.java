@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.performance;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.FirstLevelCache;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.test.BaseEnversFunctionalTestCase;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests loading the audited to-one relations of historical entities in batches.
+ */
+public class RelationBatchFetchTest extends BaseEnversFunctionalTestCase {
+	private static final String REFERENCED_ENTITY_NAME = SetRefEdEntity.class.getName();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {SetRefEdEntity.class, SetRefIngEntity.class};
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+
+		settings.put( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "10" );
+	}
+
+	@Test
+	public void testReferencedEntitiesAreLoadedTogether() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		for ( int i = 1; i <= 3; i++ ) {
+			final SetRefEdEntity referenced = new SetRefEdEntity( i, "referenced " + i );
+			session.persist( referenced );
+			session.persist( new SetRefIngEntity( i, "referencing " + i, referenced ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+
+		final AuditReader auditReader = getAuditReader();
+		final Number revision = auditReader.getRevisions( SetRefIngEntity.class, 1 ).get( 0 );
+		final List<SetRefIngEntity> referencing = auditReader.createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, revision )
+				.getResultList();
+		Assert.assertEquals( 3, referencing.size() );
+
+		final FirstLevelCache firstLevelCache = ( (AuditReaderImplementor) auditReader ).getFirstLevelCache();
+		for ( int i = 1; i <= 3; i++ ) {
+			Assert.assertFalse( firstLevelCache.contains( REFERENCED_ENTITY_NAME, revision, i ) );
+		}
+
+		final SetRefEdEntity first = referencing.get( 0 ).getReference();
+		Hibernate.initialize( first );
+		Assert.assertEquals( "referenced " + first.getId(), first.getData() );
+
+		for ( int i = 1; i <= 3; i++ ) {
+			Assert.assertTrue( firstLevelCache.contains( REFERENCED_ENTITY_NAME, revision, i ) );
+		}
+		for ( SetRefIngEntity entity : referencing ) {
+			Assert.assertEquals( "referenced " + entity.getId(), entity.getReference().getData() );
+		}
+	}
+
+	@Test
+	public void testIdentifierInRestriction() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		session.persist( new SetRefEdEntity( 11, "a" ) );
+		session.persist( new SetRefEdEntity( 12, "b" ) );
+		session.persist( new SetRefEdEntity( 13, "c" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		final Number revision = getAuditReader().getRevisions( SetRefEdEntity.class, 11 ).get( 0 );
+		final List<SetRefEdEntity> entities = getAuditReader().createQuery()
+				.forEntitiesAtRevision( SetRefEdEntity.class, revision )
+				.add( AuditEntity.id().in( new Object[] {11, 13} ) )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		Assert.assertEquals( 2, entities.size() );
+		Assert.assertEquals( "a", entities.get( 0 ).getData() );
+		Assert.assertEquals( "c", entities.get( 1 ).getData() );
+	}
+}
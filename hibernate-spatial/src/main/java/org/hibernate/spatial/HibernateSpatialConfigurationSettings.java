@@ -27,6 +27,20 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Should the Postgis Dialects bind geometries as binary EWKB ({@code bytea}) instead of hex-encoded strings?
+	 * Defaults to {@code false}.
+	 * <p/>
+	 * Geometries are extracted from binary EWKB whenever the driver returns them in binary form: when the
+	 * column is read through {@code ST_AsEWKB}, or when the driver is configured to receive geometries in
+	 * binary form with the connection properties {@code datatype.geometry=}{@link
+	 * org.hibernate.spatial.dialect.postgis.PGGeometryBinaryObject org.hibernate.spatial.dialect.postgis.PGGeometryBinaryObject}
+	 * and {@code binaryTransferEnable=<oid>}, where {@code <oid>} is the result of
+	 * {@code select 'geometry'::regtype::oid} in the database.  The driver only receives results in binary
+	 * form for server-prepared statements, see its {@code prepareThreshold} property.
+	 */
+	public static final String POSTGIS_BINARY_TRANSFER = "hibernate.spatial.postgis.binary_transfer";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
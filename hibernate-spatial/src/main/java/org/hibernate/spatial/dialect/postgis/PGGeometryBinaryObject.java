@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial.dialect.postgis;
+
+import java.util.Arrays;
+
+import org.geolatte.geom.ByteBuffer;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+/**
+ * A Postgis geometry received by the driver in binary form, i.e. as EWKB, which
+ * {@link PGGeometryTypeDescriptor} decodes without going through its hex-encoded text.
+ * <p/>
+ * The driver only receives geometries in binary form once it is configured to, through the
+ * connection properties {@code datatype.geometry} (naming this class) and {@code binaryTransferEnable}
+ * (listing the oid of the geometry type in the database); see
+ * {@link org.hibernate.spatial.HibernateSpatialConfigurationSettings#POSTGIS_BINARY_TRANSFER}.
+ */
+public class PGGeometryBinaryObject extends PGobject implements PGBinaryObject {
+	private byte[] ewkb;
+
+	public PGGeometryBinaryObject() {
+		setType( "geometry" );
+	}
+
+	/**
+	 * The EWKB of the geometry, or {@code null} when it was received as text
+	 */
+	public byte[] getEwkb() {
+		return ewkb;
+	}
+
+	@Override
+	public void setByteValue(byte[] value, int offset) {
+		ewkb = Arrays.copyOfRange( value, offset, value.length );
+	}
+
+	@Override
+	public int lengthInBytes() {
+		return ewkb.length;
+	}
+
+	@Override
+	public void toBytes(byte[] bytes, int offset) {
+		System.arraycopy( ewkb, 0, bytes, offset, ewkb.length );
+	}
+
+	@Override
+	public String getValue() {
+		return ewkb == null ? super.getValue() : ByteBuffer.from( ewkb ).toString();
+	}
+}
@@ -42,13 +42,36 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 	/**
 	 * An instance of this class
 	 */
-	public static final PGGeometryTypeDescriptor INSTANCE = new PGGeometryTypeDescriptor();
+	public static final PGGeometryTypeDescriptor INSTANCE = new PGGeometryTypeDescriptor( false );
+
+	/**
+	 * An instance of this class binding geometries as binary EWKB
+	 */
+	public static final PGGeometryTypeDescriptor BINARY_INSTANCE = new PGGeometryTypeDescriptor( true );
+
+	private final boolean binaryTransfer;
+
+	protected PGGeometryTypeDescriptor(boolean binaryTransfer) {
+		this.binaryTransfer = binaryTransfer;
+	}
 
 	public static Geometry<?> toGeometry(Object object) {
 		if ( object == null ) {
 			return null;
 		}
 		ByteBuffer buffer = null;
+		if ( object instanceof byte[] ) {
+			// binary EWKB, e.g. when the column is read through ST_AsEWKB
+			buffer = ByteBuffer.from( (byte[]) object );
+			final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+			return decoder.decode( buffer );
+		}
+		if ( object instanceof PGGeometryBinaryObject && ( (PGGeometryBinaryObject) object ).getEwkb() != null ) {
+			// received in binary form by the driver
+			buffer = ByteBuffer.from( ( (PGGeometryBinaryObject) object ).getEwkb() );
+			final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+			return decoder.decode( buffer );
+		}
 		if ( object instanceof PGobject ) {
 			String pgValue = ( (PGobject) object ).getValue();
 
@@ -88,6 +111,11 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 					throws SQLException {
+				if ( binaryTransfer ) {
+					// Postgis implicitly casts bytea to geometry
+					st.setBytes( index, toEwkb( value, options ) );
+					return;
+				}
 				final PGobject obj = toPGobject( value, options );
 				st.setObject( index, obj );
 			}
@@ -95,6 +123,10 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 			@Override
 			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 					throws SQLException {
+				if ( binaryTransfer ) {
+					st.setBytes( name, toEwkb( value, options ) );
+					return;
+				}
 				final PGobject obj = toPGobject( value, options );
 				st.setObject( name, obj );
 			}
@@ -109,6 +141,12 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 				return obj;
 			}
 
+			private byte[] toEwkb(X value, WrapperOptions options) {
+				final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+				final Geometry geometry = getJavaDescriptor().unwrap( value, Geometry.class, options );
+				return encoder.encode( geometry, ByteOrder.NDR ).toByteArray();
+			}
+
 		};
 	}
 
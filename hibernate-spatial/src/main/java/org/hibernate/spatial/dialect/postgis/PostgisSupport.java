@@ -9,9 +9,12 @@ package org.hibernate.spatial.dialect.postgis;
 import java.io.Serializable;
 
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.spatial.GeolatteGeometryJavaTypeDescriptor;
 import org.hibernate.spatial.GeolatteGeometryType;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.JTSGeometryJavaTypeDescriptor;
 import org.hibernate.spatial.JTSGeometryType;
 import org.hibernate.spatial.SpatialAggregate;
@@ -28,8 +31,16 @@ public class PostgisSupport implements SpatialDialect, Serializable {
 	private PostgisFunctions postgisFunctions = new PostgisFunctions();
 
 	void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
-		typeContributions.contributeType( new GeolatteGeometryType( PGGeometryTypeDescriptor.INSTANCE ) );
-		typeContributions.contributeType( new JTSGeometryType( PGGeometryTypeDescriptor.INSTANCE ) );
+		final boolean binaryTransfer = serviceRegistry.getService( ConfigurationService.class ).getSetting(
+				HibernateSpatialConfigurationSettings.POSTGIS_BINARY_TRANSFER,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		final PGGeometryTypeDescriptor geometryTypeDescriptor = binaryTransfer
+				? PGGeometryTypeDescriptor.BINARY_INSTANCE
+				: PGGeometryTypeDescriptor.INSTANCE;
+		typeContributions.contributeType( new GeolatteGeometryType( geometryTypeDescriptor ) );
+		typeContributions.contributeType( new JTSGeometryType( geometryTypeDescriptor ) );
 
 		typeContributions.contributeJavaTypeDescriptor( GeolatteGeometryJavaTypeDescriptor.INSTANCE );
 		typeContributions.contributeJavaTypeDescriptor( JTSGeometryJavaTypeDescriptor.INSTANCE );
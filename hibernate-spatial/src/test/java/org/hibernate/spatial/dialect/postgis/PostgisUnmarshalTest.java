@@ -65,6 +65,28 @@ public class PostgisUnmarshalTest {
 		testCase( wkb, geom );
 	}
 
+	@Test
+	public void testBinaryWkbXDR() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.XDR ).toByteArray();
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( wkb ) );
+	}
+
+	@Test
+	public void testBinaryWkbNDR() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( wkb ) );
+	}
+
+	@Test
+	public void testBinaryObject() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		byte[] received = new byte[wkb.length + 2];
+		System.arraycopy( wkb, 0, received, 2, wkb.length );
+		PGGeometryBinaryObject pgo = new PGGeometryBinaryObject();
+		pgo.setByteValue( received, 2 );
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( pgo ) );
+	}
+
 
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.testing.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+
+/**
+ * A {@link StatementInspector} recording the SQL statements it inspects, to be
+ * named as the {@code statementInspectorClass} of a
+ * {@link org.hibernate.testing.orm.junit.SessionFactory}.  Safe for use by
+ * concurrent sessions.
+ */
+public class SQLStatementInspector implements StatementInspector {
+	private final List<String> sqlQueries = new ArrayList<>();
+
+	/**
+	 * The inspector of the SessionFactory of the given scope
+	 */
+	public static SQLStatementInspector extract(SessionFactoryScope scope) {
+		return (SQLStatementInspector) scope.getSessionFactory().getSessionFactoryOptions().getStatementInspector();
+	}
+
+	@Override
+	public synchronized String inspect(String sql) {
+		sqlQueries.add( sql );
+		return sql;
+	}
+
+	/**
+	 * The statements inspected since the last {@link #clear}, in order
+	 */
+	public synchronized List<String> getSqlQueries() {
+		return new ArrayList<>( sqlQueries );
+	}
+
+	/**
+	 * The statements inspected since the last {@link #clear} starting with the given
+	 * prefix (e.g. {@code "select"}), in order
+	 */
+	public synchronized List<String> getSqlQueries(String prefix) {
+		return sqlQueries.stream().filter( sql -> sql.startsWith( prefix ) ).collect( Collectors.toList() );
+	}
+
+	/**
+	 * The last statement inspected
+	 */
+	public synchronized String getLastSqlQuery() {
+		return sqlQueries.get( sqlQueries.size() - 1 );
+	}
+
+	public synchronized void clear() {
+		sqlQueries.clear();
+	}
+}